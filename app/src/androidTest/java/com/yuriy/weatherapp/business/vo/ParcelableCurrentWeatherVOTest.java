@@ -0,0 +1,177 @@
+package com.yuriy.weatherapp.business.vo;
+
+import android.os.Bundle;
+import android.os.Parcel;
+import android.test.AndroidTestCase;
+import android.util.Log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class ParcelableCurrentWeatherVOTest extends AndroidTestCase {
+
+    private static final String CLASS_NAME = ParcelableCurrentWeatherVOTest.class.getSimpleName();
+
+    private static final String KEY_WEATHER = "WEATHER";
+
+    private static final int BENCHMARK_ITERATIONS = 2000;
+
+    private CurrentWeatherVO mWeatherVO;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mWeatherVO = CurrentWeatherVO.getInstance();
+        mWeatherVO.setCoordVO(CoordVO.getInstance(51.51, -0.13));
+        mWeatherVO.setSysVO(SysVO.getInstance("GB", 1416814472, 1416845434));
+        mWeatherVO.addWeatherItem(WeatherItem.getInstance(500, "Rain", "light rain", "10d"));
+        mWeatherVO.addWeatherItem(WeatherItem.getInstance(701, "Mist", "mist", "50d"));
+        mWeatherVO.setMainVO(MainVO.getInstance(280.32, 81, 1012, 279.15, 281.15));
+        mWeatherVO.setWindVO(WindVO.getInstance(4.1, 80));
+        mWeatherVO.setRainVO(RainVO.getInstance(3));
+        mWeatherVO.setCloudsVO(CloudsVO.getInstance(90));
+        mWeatherVO.setDt(1416830000);
+        mWeatherVO.setCityId(2643743);
+        mWeatherVO.setCityName("London");
+    }
+
+    public void testParcelRoundTrip() {
+        final CurrentWeatherVO weatherVO = unparcel(parcel(mWeatherVO));
+
+        assertThat("City name should be same as original",
+                weatherVO.getCityName(), is("London"));
+        assertThat("City id should be same as original", weatherVO.getCityId(), is(2643743));
+        assertThat("Longitude should be same as original",
+                weatherVO.getCoordVO().getLon(), is(-0.13));
+        assertThat("Sunset should be same as original",
+                weatherVO.getSysVO().getSunset(), is(1416845434L));
+        assertThat("Weather items size should be same as original",
+                weatherVO.getWeatherItemsSize(), is(2));
+        assertThat("Weather icon should be same as original",
+                weatherVO.getWeatherItemAt(1).getIcon(), is("50d"));
+        assertThat("Temperature should be same as original",
+                weatherVO.getMainVO().getTemperature(), is(280.32));
+        assertThat("Wind direction should be same as original",
+                weatherVO.getWindVO().getDeg(), is(80.0));
+        assertThat("Rain should be same as original", weatherVO.getRainVO().get3h(), is(3));
+        assertThat("Cloudiness should be same as original",
+                weatherVO.getCloudsVO().getAll(), is(90.0));
+    }
+
+    public void testBundleRoundTrip() {
+        final Bundle bundle = new Bundle();
+        bundle.putParcelable(KEY_WEATHER, ParcelableCurrentWeatherVO.getInstance(mWeatherVO));
+        final Parcel parcel = Parcel.obtain();
+        parcel.writeBundle(bundle);
+        parcel.setDataPosition(0);
+        final Bundle restored = parcel.readBundle(getClass().getClassLoader());
+        parcel.recycle();
+
+        final CurrentWeatherVO weatherVO = ParcelableCurrentWeatherVO.getWeather(
+                restored.<ParcelableCurrentWeatherVO>getParcelable(KEY_WEATHER)
+        );
+        assertThat("City name should be same as original",
+                weatherVO.getCityName(), is("London"));
+    }
+
+    public void testNullWeather() {
+        assertThat("Null Weather should not be wrapped",
+                ParcelableCurrentWeatherVO.getInstance(null), nullValue());
+        assertThat("Null holder should not contain Weather",
+                ParcelableCurrentWeatherVO.getWeather(null), nullValue());
+    }
+
+    /**
+     * Compares size and time of the Parcelable path against the Serializable one, which
+     * Bundle.putSerializable uses. Results are printed into the log, time is not asserted
+     * as it depends on the device.
+     */
+    public void testParcelableBenchmark() throws IOException {
+        final int parcelSize = parcel(mWeatherVO).length;
+        final int serializedSize = serialize(mWeatherVO).length;
+
+        // Warm up both paths
+        for (int i = 0; i < BENCHMARK_ITERATIONS / 10; i++) {
+            unparcel(parcel(mWeatherVO));
+            serializeToParcel(mWeatherVO);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            unparcel(parcel(mWeatherVO));
+        }
+        final long parcelTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            serializeToParcel(mWeatherVO);
+        }
+        final long serializedTime = System.nanoTime() - start;
+
+        Log.i(CLASS_NAME, "Parcelable: " + parcelSize + " bytes, "
+                + (parcelTime / BENCHMARK_ITERATIONS) + " ns per round trip");
+        Log.i(CLASS_NAME, "Serializable: " + serializedSize + " bytes, "
+                + (serializedTime / BENCHMARK_ITERATIONS) + " ns per round trip");
+
+        assertThat("Parcel should be smaller than serialized form",
+                parcelSize, lessThan(serializedSize));
+    }
+
+    private static byte[] parcel(final CurrentWeatherVO weatherVO) {
+        final Parcel parcel = Parcel.obtain();
+        parcel.writeParcelable(ParcelableCurrentWeatherVO.getInstance(weatherVO), 0);
+        final byte[] bytes = parcel.marshall();
+        parcel.recycle();
+        return bytes;
+    }
+
+    private static CurrentWeatherVO unparcel(final byte[] bytes) {
+        final Parcel parcel = Parcel.obtain();
+        parcel.unmarshall(bytes, 0, bytes.length);
+        parcel.setDataPosition(0);
+        final ParcelableCurrentWeatherVO value = parcel.readParcelable(
+                ParcelableCurrentWeatherVO.class.getClassLoader()
+        );
+        parcel.recycle();
+        return ParcelableCurrentWeatherVO.getWeather(value);
+    }
+
+    /**
+     * Round trip of the current path: Parcel.writeSerializable is used by the
+     * Bundle.putSerializable.
+     */
+    private static CurrentWeatherVO serializeToParcel(final CurrentWeatherVO weatherVO) {
+        final Parcel parcel = Parcel.obtain();
+        parcel.writeSerializable(weatherVO);
+        final byte[] bytes = parcel.marshall();
+        parcel.recycle();
+
+        final Parcel source = Parcel.obtain();
+        source.unmarshall(bytes, 0, bytes.length);
+        source.setDataPosition(0);
+        final CurrentWeatherVO result = (CurrentWeatherVO) source.readSerializable();
+        source.recycle();
+        return result;
+    }
+
+    private static byte[] serialize(final CurrentWeatherVO weatherVO) throws IOException {
+        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        final ObjectOutputStream outputStream = new ObjectOutputStream(byteStream);
+        outputStream.writeObject(weatherVO);
+        outputStream.close();
+        return byteStream.toByteArray();
+    }
+}
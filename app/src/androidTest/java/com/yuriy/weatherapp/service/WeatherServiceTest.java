@@ -6,7 +6,13 @@ import android.os.Handler;
 import android.os.Message;
 import android.test.ServiceTestCase;
 
+import com.yuriy.weatherapp.net.UrlRequestParameters;
+
 import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -70,6 +76,46 @@ public class WeatherServiceTest extends ServiceTestCase<WeatherService> {
                 is(true));
     }
 
+    public void testIntentWithIconCreated() {
+        final Intent intent = WeatherService.makeDownloadWeatherDataIntent(
+                getSystemContext(), mUri, mHandler, 2, true
+        );
+
+        assertThat("Intent should request icon",
+                intent.getBooleanExtra(WeatherService.BUNDLE_KEY_WITH_ICON, false), is(true));
+        assertThat("Intent should not request icon by default",
+                mStartServiceIntent.getBooleanExtra(WeatherService.BUNDLE_KEY_WITH_ICON, true),
+                is(false));
+    }
+
+    public void testRefreshDashboardIntentCreated() {
+        final List<UrlRequestParameters> cities = new ArrayList<UrlRequestParameters>();
+        final UrlRequestParameters london = new UrlRequestParameters();
+        london.setCity("London");
+        london.setCountryAbbreviation("UK");
+        cities.add(london);
+        final UrlRequestParameters kiev = new UrlRequestParameters();
+        kiev.setCity("Kiev");
+        kiev.setCountryAbbreviation("UA");
+        cities.add(kiev);
+
+        final Intent intent = WeatherService.makeRefreshDashboardIntent(
+                getSystemContext(), cities, mHandler, 3, 5000
+        );
+        final String[] urls = intent.getStringArrayExtra(WeatherService.BUNDLE_KEY_URLS);
+
+        assertThat("Intent should request dashboard refresh",
+                intent.getStringExtra(WeatherService.BUNDLE_KEY_DOWNLOAD_ACTION),
+                is(WeatherService.BUNDLE_KEY_REFRESH_DASHBOARD));
+        assertThat("Intent should hold URL per city", urls.length, is(2));
+        assertThat("URLs should keep order of the cities",
+                urls[1].contains("Kiev"), is(true));
+        assertThat("Intent should hold parallelism",
+                intent.getIntExtra(WeatherService.BUNDLE_KEY_PARALLELISM, 0), is(3));
+        assertThat("Intent should hold timeout",
+                intent.getLongExtra(WeatherService.BUNDLE_KEY_TIMEOUT_MS, 0), is(5000L));
+    }
+
     /**
      * Tests the service's onCreate() method. Starts the service using startService(Intent)
      */
@@ -122,4 +168,23 @@ public class WeatherServiceTest extends ServiceTestCase<WeatherService> {
         assertThat("Celsius value should be:" + celsius,
                 WeatherService.kelvinToCelsius(kelvin), is(celsius));
     }
+
+    public void testConversionMatchesBigDecimalRounding() {
+        // Every hundredth of Kelvin of any realistic Temperature
+        for (int i = 15000; i <= 35000; i++) {
+            final double kelvin = i / 100.0;
+            final double celsius = new BigDecimal(kelvin - 273.15)
+                    .setScale(2, RoundingMode.HALF_UP).doubleValue();
+            final double fahrenheit = new BigDecimal(((kelvin - 273.15) * 9.0 / 5.0) + 32)
+                    .setScale(2, RoundingMode.HALF_UP).doubleValue();
+            if (Double.doubleToLongBits(WeatherService.kelvinToCelsius(kelvin))
+                    != Double.doubleToLongBits(celsius)) {
+                fail("Celsius value of " + kelvin + " should be:" + celsius);
+            }
+            if (Double.doubleToLongBits(WeatherService.kelvinToFahrenheit(kelvin))
+                    != Double.doubleToLongBits(fahrenheit)) {
+                fail("Fahrenheit value of " + kelvin + " should be:" + fahrenheit);
+            }
+        }
+    }
 }
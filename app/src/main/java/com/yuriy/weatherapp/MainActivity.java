@@ -3,13 +3,18 @@ package com.yuriy.weatherapp;
 import android.app.Activity;
 import android.app.DialogFragment;
 import android.app.ProgressDialog;
+import android.content.ComponentName;
+import android.content.Context;
 import android.content.Intent;
+import android.content.ServiceConnection;
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
 import android.net.Uri;
 import android.os.Bundle;
 import android.os.Handler;
+import android.os.IBinder;
+import android.os.Looper;
 import android.os.Message;
+import android.os.MessageQueue;
 import android.util.Log;
 import android.view.Menu;
 import android.view.MenuItem;
@@ -22,14 +27,22 @@ import android.widget.TextView;
 
 import com.yuriy.weatherapp.business.AppPreferencesManager;
 import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+import com.yuriy.weatherapp.business.vo.ParcelableCurrentWeatherVO;
 import com.yuriy.weatherapp.business.vo.TemperatureFormat;
+import com.yuriy.weatherapp.net.RateLimiter;
 import com.yuriy.weatherapp.net.UrlBuilder;
 import com.yuriy.weatherapp.net.UrlRequestParameters;
+import com.yuriy.weatherapp.service.WeatherListener;
 import com.yuriy.weatherapp.service.WeatherService;
+import com.yuriy.weatherapp.util.BundledIconAtlas;
+import com.yuriy.weatherapp.util.IconBitmapCache;
+import com.yuriy.weatherapp.util.PrefetchPolicy;
 
 import java.io.UnsupportedEncodingException;
 import java.lang.ref.WeakReference;
 import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.List;
 
 public class MainActivity extends Activity {
 
@@ -49,9 +62,14 @@ public class MainActivity extends Activity {
     private static final String KEY_CURRENT_WEATHER_VO = "CurrentWeatherVO";
 
     /**
-     * Key to store current Weather Icon in the {@link android.os.Bundle}
+     * Key to store id of the current Weather Icon in the {@link android.os.Bundle}
      */
-    private static final String KEY_CURRENT_WEATHER_ICON = "CurrentWeatherIcon";
+    private static final String KEY_CURRENT_WEATHER_ICON_ID = "CurrentWeatherIconId";
+
+    /**
+     * Message Id indicates that Weather Icon is decoded.
+     */
+    private static final int MSG_ICON_DECODED = 100;
 
     /**
      * Display progress of download
@@ -78,6 +96,74 @@ public class MainActivity extends Activity {
      */
     private Bitmap mCurrentWeatherConditionIcon;
 
+    /**
+     * Id of the current icon for the weather condition.
+     */
+    private String mCurrentWeatherConditionIconId = "";
+
+    /**
+     * Bitmap which is set to the icon view, it is released to the
+     * {@link com.yuriy.weatherapp.util.IconBitmapCache} when replaced.
+     */
+    private Bitmap mIconViewBitmap;
+
+    /**
+     * Whether Activity is destroyed, decoded icons which arrive after that are released
+     * instead of displayed.
+     */
+    private boolean mIsDestroyed;
+
+    /**
+     * Id of the latest weather data request, replies to the previous requests are ignored.
+     */
+    private int mWeatherRequestId;
+
+    /**
+     * Whether weather condition icon is being downloaded and the progress dialog is kept
+     * until it is received.
+     */
+    private boolean mIsWeatherConditionIconPending;
+
+    /**
+     * Binder of the bound {@link com.yuriy.weatherapp.service.WeatherService}, null while
+     * service is not connected.
+     */
+    private WeatherService.LocalBinder mWeatherServiceBinder;
+
+    /**
+     * Whether {@link com.yuriy.weatherapp.service.WeatherService} is bound.
+     */
+    private boolean mIsWeatherServiceBound;
+
+    /**
+     * Receives results of the requests made via the bound
+     * {@link com.yuriy.weatherapp.service.WeatherService}.
+     */
+    private WeatherListener mWeatherListener;
+
+    /**
+     * Prefetches weather of the all cities when UI Thread is idle after the first screen is
+     * painted, null when prefetch is done.
+     */
+    private PrefetchIdleHandler mPrefetchIdleHandler;
+
+    /**
+     * Connection to the {@link com.yuriy.weatherapp.service.WeatherService} of the same
+     * process, results are received by reference instead of the Bundle.
+     */
+    private final ServiceConnection mWeatherServiceConnection = new ServiceConnection() {
+
+        @Override
+        public void onServiceConnected(final ComponentName name, final IBinder service) {
+            mWeatherServiceBinder = (WeatherService.LocalBinder) service;
+        }
+
+        @Override
+        public void onServiceDisconnected(final ComponentName name) {
+            mWeatherServiceBinder = null;
+        }
+    };
+
     @Override
     protected void onCreate(final Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -93,6 +179,7 @@ public class MainActivity extends Activity {
 
         // Initialize the downloadHandler.
         mDownloadHandler = new DownloadHandler(this);
+        mWeatherListener = new DownloadListener(this);
 
         // Spinner with the cities list
         Spinner citiesSpinner = (Spinner) findViewById(R.id.cities_spinner_view);
@@ -134,6 +221,57 @@ public class MainActivity extends Activity {
                     public void onNothingSelected(AdapterView<?> parent) { }
                 }
         );
+
+        // Warm the weather cache of the all cities, so that switching city does not wait
+        // for the network. Runnable of the View is run after the first layout, idle handler
+        // is run when first frame is drawn and there is nothing else to do.
+        mPrefetchIdleHandler = new PrefetchIdleHandler(this);
+        citiesSpinner.post(new Runnable() {
+
+            @Override
+            public void run() {
+                if (mPrefetchIdleHandler != null) {
+                    Looper.myQueue().addIdleHandler(mPrefetchIdleHandler);
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void onStart() {
+        super.onStart();
+
+        // Requests are sent with Intent until service is connected
+        mIsWeatherServiceBound = bindService(
+                new Intent(this, WeatherService.class),
+                mWeatherServiceConnection,
+                Context.BIND_AUTO_CREATE
+        );
+    }
+
+    @Override
+    protected void onStop() {
+        if (mIsWeatherServiceBound) {
+            unbindService(mWeatherServiceConnection);
+            mIsWeatherServiceBound = false;
+        }
+        mWeatherServiceBinder = null;
+
+        super.onStop();
+    }
+
+    @Override
+    protected void onDestroy() {
+        if (mPrefetchIdleHandler != null) {
+            Looper.myQueue().removeIdleHandler(mPrefetchIdleHandler);
+            mPrefetchIdleHandler = null;
+        }
+
+        mIsDestroyed = true;
+        IconBitmapCache.getInstance().release(mIconViewBitmap);
+        mIconViewBitmap = null;
+
+        super.onDestroy();
     }
 
     @Override
@@ -143,9 +281,11 @@ public class MainActivity extends Activity {
         // Selected City
         outState.putString(KEY_SELECTED_CITY, mCurrentCity);
         // Current Weather VO
-        outState.putSerializable(KEY_CURRENT_WEATHER_VO, mCurrentWeatherVO);
-        // Current Weather Icon
-        outState.putParcelable(KEY_CURRENT_WEATHER_ICON, mCurrentWeatherConditionIcon);
+        outState.putParcelable(
+                KEY_CURRENT_WEATHER_VO, ParcelableCurrentWeatherVO.getInstance(mCurrentWeatherVO)
+        );
+        // Id of the current Weather Icon, decoded Icon itself is kept in the memory cache
+        outState.putString(KEY_CURRENT_WEATHER_ICON_ID, mCurrentWeatherConditionIconId);
 
         super.onSaveInstanceState(outState);
     }
@@ -190,14 +330,21 @@ public class MainActivity extends Activity {
             mCurrentCity = savedInstanceState.getString(KEY_SELECTED_CITY);
         }
 
-        // Restore current Weather Icon. Must be use before Weather VO when restore
-        if (savedInstanceState.containsKey(KEY_CURRENT_WEATHER_ICON)) {
-            displayWeatherIconImage((Bitmap) savedInstanceState.get(KEY_CURRENT_WEATHER_ICON));
+        // Restore current Weather Icon from the memory cache. Must be use before Weather VO
+        // when restore, Icon is requested again if it is not cached any more.
+        if (savedInstanceState.containsKey(KEY_CURRENT_WEATHER_ICON_ID)) {
+            final String iconId = savedInstanceState.getString(KEY_CURRENT_WEATHER_ICON_ID);
+            final Bitmap icon = IconBitmapCache.getInstance().acquire(iconId);
+            if (icon != null) {
+                displayWeatherIconImage(iconId, icon);
+            }
         }
 
         // Restore current Weather VO.
         if (savedInstanceState.containsKey(KEY_CURRENT_WEATHER_VO)) {
-            setCurrentWeatherVO((CurrentWeatherVO) savedInstanceState.get(KEY_CURRENT_WEATHER_VO));
+            final ParcelableCurrentWeatherVO weatherVO
+                    = savedInstanceState.getParcelable(KEY_CURRENT_WEATHER_VO);
+            setCurrentWeatherVO(ParcelableCurrentWeatherVO.getWeather(weatherVO), true);
 
             updateUI();
         }
@@ -212,20 +359,9 @@ public class MainActivity extends Activity {
      */
     private void downloadWeatherData(final String cityName, final int cityPosition) {
         final String[] countries = getResources().getStringArray(R.array.countries_array);
-        final String countryAbbreviation = countries[cityPosition];
-
         // Create URL request parameters holder and pass it to the URL builder.
-        final UrlRequestParameters parameters = new UrlRequestParameters();
-        // Set city name
-        try {
-            parameters.setCity(URLEncoder.encode(cityName, "UTF-8"));
-        } catch (UnsupportedEncodingException e) {
-            Log.w(CLASS_NAME, "Can not encode city:" + e.getMessage());
-        }
-        // Set country abbreviation
-        parameters.setCountryAbbreviation(countryAbbreviation);
-        // Set specific request key for the case where city is a value
-        parameters.setCityNameKey("q");
+        final UrlRequestParameters parameters
+                = makeRequestParameters(cityName, countries[cityPosition]);
 
         // Build URL
         // TODO : Probably it's better to shift this operation into WeatherService
@@ -236,18 +372,89 @@ public class MainActivity extends Activity {
 
         // Invalidate Icon
         mCurrentWeatherConditionIcon = null;
+        mCurrentWeatherConditionIconId = "";
+        mIsWeatherConditionIconPending = false;
+
+        // Previous request is superseded, its reply (if any) is ignored.
+        final int requestId = ++mWeatherRequestId;
+
+        // Service downloads the icon as soon as weather data is received, without
+        // the second request.
+        // Bound Service delivers downloaded data in the UI Thread by reference.
+        if (mWeatherServiceBinder != null) {
+            mWeatherServiceBinder.requestWeather(
+                    Uri.parse(url), requestId, mWeatherListener, mDownloadHandler, true
+            );
+            return;
+        }
 
         // Create an Intent to download weather data in the background via a Service.
         // The downloaded data is later displayed in the
         // UI Thread via the downloadHandler() method defined below.
         final Intent intent = WeatherService.makeDownloadWeatherDataIntent(this,
                 Uri.parse(url),
-                mDownloadHandler);
+                mDownloadHandler,
+                requestId,
+                true);
 
         // Start the DownloadService.
         startService(intent);
     }
 
+    /**
+     * Create URL request parameters holder of the provided City.
+     *
+     * @param cityName            Name of the City.
+     * @param countryAbbreviation Abbreviation of the country where City is located.
+     * @return {@link com.yuriy.weatherapp.net.UrlRequestParameters}.
+     */
+    private static UrlRequestParameters makeRequestParameters(final String cityName,
+                                                              final String countryAbbreviation) {
+        final UrlRequestParameters parameters = new UrlRequestParameters();
+        // Set city name
+        try {
+            parameters.setCity(URLEncoder.encode(cityName, "UTF-8"));
+        } catch (UnsupportedEncodingException e) {
+            Log.w(CLASS_NAME, "Can not encode city:" + e.getMessage());
+        }
+        // Set country abbreviation
+        parameters.setCountryAbbreviation(countryAbbreviation);
+        // Set specific request key for the case where city is a value
+        parameters.setCityNameKey("q");
+        return parameters;
+    }
+
+    /**
+     * Prefetch weather data of the all cities of the list into the cache of the
+     * {@link com.yuriy.weatherapp.service.WeatherService}, if network and battery state
+     * allow it. Cities are downloaded the same way as the selected City, so that the
+     * following selection is served from the cache.
+     *
+     * @return True if prefetch is done or is skipped, false if it has to be tried again
+     * when service is connected.
+     */
+    private boolean prefetchCities() {
+        if (mWeatherServiceBinder == null) {
+            return false;
+        }
+        if (!PrefetchPolicy.isPrefetchAllowed(this)) {
+            return true;
+        }
+        final String[] cities = getResources().getStringArray(R.array.cities_array);
+        final String[] countries = getResources().getStringArray(R.array.countries_array);
+        final List<UrlRequestParameters> parameters = new ArrayList<UrlRequestParameters>();
+        for (int i = 0; i < cities.length; i++) {
+            parameters.add(makeRequestParameters(cities[i], countries[i]));
+        }
+        Log.d(CLASS_NAME, "Prefetch weather of " + parameters.size() + " cities");
+        // Prefetch is shed when request budget is low, it is left for the user requests
+        mWeatherServiceBinder.refreshDashboard(
+                parameters, getResources().getInteger(R.integer.prefetch_parallelism), 0,
+                RateLimiter.Priority.BACKGROUND, mWeatherListener, mDownloadHandler
+        );
+        return true;
+    }
+
     /**
      * Helper method to start {@link android.app.IntentService} which will download weather
      * icon and return path to the saved image in case of success.
@@ -268,6 +475,15 @@ public class MainActivity extends Activity {
 
         // Inform the user that the download is starting.
         showDialog("Downloading weather icon");
+        mIsWeatherConditionIconPending = true;
+
+        // Bound Service delivers downloaded icon in the UI Thread by reference.
+        if (mWeatherServiceBinder != null) {
+            mWeatherServiceBinder.requestWeatherConditionIcon(
+                    Uri.parse(url), mWeatherListener, mDownloadHandler
+            );
+            return;
+        }
 
         // Create an Intent to download weather data in the background via a Service.
         // The downloaded data is later displayed in the
@@ -286,6 +502,8 @@ public class MainActivity extends Activity {
      * @param message The String to display.
      */
     private void showDialog(final String message) {
+        // Do not stack Dialogs when the next download starts before previous one is finished
+        dismissDialog();
         mProgressDialog = ProgressDialog.show(this, "Download", message, true);
     }
 
@@ -299,20 +517,120 @@ public class MainActivity extends Activity {
         mProgressDialog.dismiss();
     }
 
+    /**
+     * Handle weather data received from the {@link com.yuriy.weatherapp.service.WeatherService}.
+     *
+     * @param requestId Id of the request.
+     * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} or null if
+     *                  download is failed.
+     */
+    private void onWeatherReceived(final int requestId, final CurrentWeatherVO weatherVO) {
+        // Skip the reply to the request which is superseded by the newer one.
+        if (requestId != mWeatherRequestId) {
+            Log.d(CLASS_NAME, "Skip reply to the request:" + requestId);
+            return;
+        }
+
+        // Set Weather VO into Activity, icon is downloaded by the Service together with
+        // the data.
+        mIsWeatherConditionIconPending = setCurrentWeatherVO(weatherVO, false);
+
+        // Keep the progress dialog until the icon is received, so that weather and icon are
+        // displayed together.
+        if (mIsWeatherConditionIconPending) {
+            return;
+        }
+
+        // Stop displaying the progress dialog.
+        dismissDialog();
+
+        // See if the download success or not.
+        if (weatherVO == null) {
+            showDialog("Failed download weather");
+        }
+    }
+
+    /**
+     * Handle weather condition icon received from the
+     * {@link com.yuriy.weatherapp.service.WeatherService}.
+     *
+     * @param iconId   Id of the icon.
+     * @param pathname Path to the icon, empty if download is failed.
+     */
+    private void onWeatherConditionIconReceived(final String iconId, final String pathname) {
+        // Stop displaying the progress dialog, unless it belongs to the next download.
+        if (mIsWeatherConditionIconPending) {
+            mIsWeatherConditionIconPending = false;
+            dismissDialog();
+        }
+
+        // See if the download worked or not.
+        if (pathname.isEmpty()) {
+            return;
+        }
+
+        // Skip the image which is already displayed.
+        if (mCurrentWeatherConditionIcon != null
+                && iconId.equals(mCurrentWeatherConditionIconId)) {
+            return;
+        }
+
+        // Decode the image in background, it is displayed when decoded.
+        IconBitmapCache.getInstance().decode(iconId, pathname, mDownloadHandler, MSG_ICON_DECODED);
+    }
+
     /**
      * Set Weather VO received from the {@link com.yuriy.weatherapp.service.WeatherService}.
-     * @param value {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     * @param value        {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     * @param downloadIcon Whether to request icon which is not available locally, otherwise
+     *                     it is already requested together with the Weather.
+     * @return True if icon is downloaded and is displayed when received.
      */
-    private void setCurrentWeatherVO(final CurrentWeatherVO value) {
+    private boolean setCurrentWeatherVO(final CurrentWeatherVO value,
+                                        final boolean downloadIcon) {
         Log.d(CLASS_NAME, "Weather VO:" + value);
         mCurrentWeatherVO = value;
 
         // Update UI
         updateUI();
 
-        if (mCurrentWeatherConditionIcon == null) {
+        // Last known weather may be followed by the downloaded one with another condition
+        final String iconId = getIconId(mCurrentWeatherVO);
+        if (iconId.isEmpty()) {
+            return false;
+        }
+        if (mCurrentWeatherConditionIcon != null
+                && iconId.equals(mCurrentWeatherConditionIconId)) {
+            return false;
+        }
+        final Bitmap icon = IconBitmapCache.getInstance().acquire(iconId);
+        if (icon != null) {
+            displayWeatherIconImage(iconId, icon);
+            return false;
+        }
+        // Known icons are packaged with the Application, only unknown one is downloaded
+        final BundledIconAtlas atlas = BundledIconAtlas.getInstance(this);
+        if (atlas.contains(iconId)) {
+            IconBitmapCache.getInstance().decode(
+                    iconId, atlas, mDownloadHandler, MSG_ICON_DECODED
+            );
+            return false;
+        }
+        if (downloadIcon) {
             downloadWeatherIcon(mCurrentWeatherVO);
         }
+        return true;
+    }
+
+    /**
+     * @param weatherVO Weather VO, may be null.
+     * @return Id of the weather condition icon, empty if there is no one.
+     */
+    private static String getIconId(final CurrentWeatherVO weatherVO) {
+        if (weatherVO == null || weatherVO.getWeatherItemsSize() == 0) {
+            return "";
+        }
+        return String.valueOf(weatherVO.getWeatherItemAt(0).getIcon());
     }
 
     /**
@@ -346,16 +664,23 @@ public class MainActivity extends Activity {
     /**
      * Display a downloaded weather condition icon image.
      *
-     * @param image The bitmap image
+     * @param iconId Id of the icon.
+     * @param image  The bitmap image, acquired from the
+     *               {@link com.yuriy.weatherapp.util.IconBitmapCache}
      */
-    private void displayWeatherIconImage(final Bitmap image) {
+    private void displayWeatherIconImage(final String iconId, final Bitmap image) {
 
         mCurrentWeatherConditionIcon = image;
+        mCurrentWeatherConditionIconId = iconId;
 
         final ImageView iconView = (ImageView) findViewById(R.id.icon_view);
         if (iconView != null) {
             iconView.setImageBitmap(mCurrentWeatherConditionIcon);
         }
+
+        // Image is acquired from the cache, previous one may be re-used from now on
+        IconBitmapCache.getInstance().release(mIconViewBitmap);
+        mIconViewBitmap = image;
     }
 
     /**
@@ -389,44 +714,146 @@ public class MainActivity extends Activity {
 
             final MainActivity activity = mActivity.get();
 
-            // Bail out if the MainActivity is gone.
-            if (activity == null) {
+            // Bail out if the MainActivity is gone or destroyed (icon may be decoded while
+            // Activity is re-created), decoded image is not displayed.
+            if (activity == null || activity.mIsDestroyed) {
+                if (message.what == MSG_ICON_DECODED) {
+                    IconBitmapCache.getInstance().release((Bitmap) message.obj);
+                }
                 return;
             }
 
-            // Stop displaying the progress dialog.
-            activity.dismissDialog();
-
             // Get message Id
             final int what = message.what;
 
             switch (what) {
                 case WeatherService.ServiceHandler.MSG_DOWNLOAD_DATA:
-                    // Try to extract the currentWeatherVO from the message.
-                    final CurrentWeatherVO currentWeatherVO
-                            = WeatherService.getCurrentWeather(message);
-
-                    // See if the download success or not.
-                    if (currentWeatherVO == null)
-                        activity.showDialog("Failed download weather");
-
-                    // Set Weather VO into Activity
-                    activity.setCurrentWeatherVO(currentWeatherVO);
+                    // Extract the currentWeatherVO from the message.
+                    activity.onWeatherReceived(
+                            WeatherService.getRequestId(message),
+                            WeatherService.getCurrentWeather(message)
+                    );
                     break;
                 case WeatherService.ServiceHandler.MSG_DOWNLOAD_ICON:
-                    // Try to extract the pathname from the message.
-                    final String pathname = WeatherService.getWeatherIconPathName(message);
+                    // Extract the pathname from the message.
+                    activity.onWeatherConditionIconReceived(
+                            WeatherService.getWeatherIconId(message),
+                            WeatherService.getWeatherIconPathName(message)
+                    );
+                    break;
+                case MSG_ICON_DECODED:
+                    // Stop displaying the progress dialog, unless icon is still downloaded.
+                    if (!activity.mIsWeatherConditionIconPending) {
+                        activity.dismissDialog();
+                    }
+
+                    final Bitmap icon = (Bitmap) message.obj;
+                    final String iconId
+                            = message.getData().getString(IconBitmapCache.BUNDLE_KEY_ICON_ID);
 
-                    // See if the download worked or not.
-                    if (pathname == null)
+                    // Skip the image which is not actual any more.
+                    if (icon == null) {
+                        return;
+                    }
+                    if (!getIconId(activity.mCurrentWeatherVO).equals(iconId)) {
+                        IconBitmapCache.getInstance().release(icon);
                         return;
+                    }
 
                     // Display the image in the UI Thread.
-                    activity.displayWeatherIconImage(BitmapFactory.decodeFile(pathname));
+                    activity.displayWeatherIconImage(iconId, icon);
                     break;
                 default:
                     Log.d(CLASS_NAME, "Unknown message id received:" + what);
             }
         }
     }
+
+    /**
+     * {@link android.os.MessageQueue.IdleHandler} which prefetches weather of the all cities
+     * when UI Thread is idle. It is kept until prefetch is done, as service may be connected
+     * after the first screen is painted.
+     */
+    private static class PrefetchIdleHandler implements MessageQueue.IdleHandler {
+
+        /**
+         * Allows Activity to be garbage collected properly.
+         */
+        private final WeakReference<MainActivity> mActivity;
+
+        /**
+         * Constructor.
+         *
+         * @param activity The corresponding activity.
+         */
+        public PrefetchIdleHandler(final MainActivity activity) {
+            mActivity = new WeakReference<MainActivity>(activity);
+        }
+
+        @Override
+        public boolean queueIdle() {
+            final MainActivity activity = mActivity.get();
+            // Bail out if the MainActivity is gone.
+            if (activity == null || activity.isFinishing()) {
+                return false;
+            }
+            if (!activity.prefetchCities()) {
+                return true;
+            }
+            activity.mPrefetchIdleHandler = null;
+            return false;
+        }
+    }
+
+    /**
+     * Receives results of the requests made via the bound
+     * {@link com.yuriy.weatherapp.service.WeatherService}, in the UI Thread.
+     */
+    private static class DownloadListener implements WeatherListener {
+
+        /**
+         * Allows Activity to be garbage collected properly, listener is kept by the service
+         * until download is finished.
+         */
+        private final WeakReference<MainActivity> mActivity;
+
+        /**
+         * Constructor.
+         *
+         * @param activity The corresponding activity.
+         */
+        public DownloadListener(final MainActivity activity) {
+            mActivity = new WeakReference<MainActivity>(activity);
+        }
+
+        @Override
+        public void onWeather(final int requestId, final CurrentWeatherVO weatherVO) {
+            final MainActivity activity = mActivity.get();
+            // Bail out if the MainActivity is gone.
+            if (activity == null) {
+                return;
+            }
+            activity.onWeatherReceived(requestId, weatherVO);
+        }
+
+        @Override
+        public void onWeatherConditionIcon(final String iconId, final String pathname) {
+            final MainActivity activity = mActivity.get();
+            // Bail out if the MainActivity is gone.
+            if (activity == null) {
+                return;
+            }
+            activity.onWeatherConditionIconReceived(iconId, pathname);
+        }
+
+        @Override
+        public void onWeatherGroup(final List<CurrentWeatherVO> weatherVOs) {
+            // Activity does not request weather of the group of cities
+        }
+
+        @Override
+        public void onDashboardWeather(final int position, final CurrentWeatherVO weatherVO) {
+            // Prefetched weather only warms the cache of the service
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package com.yuriy.weatherapp;
+
+import android.app.Application;
+
+import com.yuriy.weatherapp.util.AndroidLogPrinter;
+import com.yuriy.weatherapp.util.AppLogger;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.WeatherApplication} is an Application class which performs
+ * initialization of the platform independent part of the Application.
+ */
+public class WeatherApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        // Route log messages of the core module into the Android log
+        AppLogger.setLogPrinter(new AndroidLogPrinter());
+    }
+}
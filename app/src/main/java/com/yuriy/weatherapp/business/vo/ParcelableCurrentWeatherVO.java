@@ -0,0 +1,174 @@
+package com.yuriy.weatherapp.business.vo;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.business.vo.ParcelableCurrentWeatherVO} is a
+ * {@link android.os.Parcelable} holder of the
+ * {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}, which is used to pass Weather
+ * with the {@link android.os.Bundle} instead of the reflection based Java serialization.
+ * Value Objects are platform independent, so they write their fields one by one into the
+ * {@link android.os.Parcel} via {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+ */
+public final class ParcelableCurrentWeatherVO implements Parcelable {
+
+    /**
+     * Creates {@link com.yuriy.weatherapp.business.vo.ParcelableCurrentWeatherVO} from the
+     * {@link android.os.Parcel}.
+     */
+    public static final Parcelable.Creator<ParcelableCurrentWeatherVO> CREATOR
+            = new Parcelable.Creator<ParcelableCurrentWeatherVO>() {
+
+        @Override
+        public ParcelableCurrentWeatherVO createFromParcel(final Parcel source) {
+            return new ParcelableCurrentWeatherVO(
+                    CurrentWeatherVO.readFrom(new ParcelValueReader(source))
+            );
+        }
+
+        @Override
+        public ParcelableCurrentWeatherVO[] newArray(final int size) {
+            return new ParcelableCurrentWeatherVO[size];
+        }
+    };
+
+    /**
+     * Weather.
+     */
+    private final CurrentWeatherVO mWeatherVO;
+
+    /**
+     * Private constructor, use {@link #getInstance(CurrentWeatherVO)}.
+     *
+     * @param weatherVO Weather.
+     */
+    private ParcelableCurrentWeatherVO(final CurrentWeatherVO weatherVO) {
+        mWeatherVO = weatherVO;
+    }
+
+    /**
+     * Factory method to wrap provided Weather.
+     *
+     * @param weatherVO Weather, may be null.
+     * @return Instance of the {@link ParcelableCurrentWeatherVO} or null if Weather is null.
+     */
+    public static ParcelableCurrentWeatherVO getInstance(final CurrentWeatherVO weatherVO) {
+        if (weatherVO == null) {
+            return null;
+        }
+        return new ParcelableCurrentWeatherVO(weatherVO);
+    }
+
+    /**
+     * Helper method to unwrap Weather.
+     *
+     * @param value Instance of the {@link ParcelableCurrentWeatherVO}, may be null.
+     * @return Weather or null if provided value is null.
+     */
+    public static CurrentWeatherVO getWeather(final ParcelableCurrentWeatherVO value) {
+        if (value == null) {
+            return null;
+        }
+        return value.mWeatherVO;
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(final Parcel dest, final int flags) {
+        mWeatherVO.writeTo(new ParcelValueWriter(dest));
+    }
+
+    /**
+     * Adapter of the {@link android.os.Parcel} to the
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     */
+    private static final class ParcelValueWriter implements ValueWriter {
+
+        /**
+         * Destination {@link android.os.Parcel}.
+         */
+        private final Parcel mParcel;
+
+        /**
+         * Constructor.
+         *
+         * @param parcel Destination {@link android.os.Parcel}.
+         */
+        private ParcelValueWriter(final Parcel parcel) {
+            mParcel = parcel;
+        }
+
+        @Override
+        public void writeInt(final int value) {
+            mParcel.writeInt(value);
+        }
+
+        @Override
+        public void writeLong(final long value) {
+            mParcel.writeLong(value);
+        }
+
+        @Override
+        public void writeDouble(final double value) {
+            mParcel.writeDouble(value);
+        }
+
+        @Override
+        public void writeString(final String value) {
+            mParcel.writeString(value);
+        }
+    }
+
+    /**
+     * Adapter of the {@link android.os.Parcel} to the
+     * {@link com.yuriy.weatherapp.business.vo.ValueReader}.
+     */
+    private static final class ParcelValueReader implements ValueReader {
+
+        /**
+         * Source {@link android.os.Parcel}.
+         */
+        private final Parcel mParcel;
+
+        /**
+         * Constructor.
+         *
+         * @param parcel Source {@link android.os.Parcel}.
+         */
+        private ParcelValueReader(final Parcel parcel) {
+            mParcel = parcel;
+        }
+
+        @Override
+        public int readInt() {
+            return mParcel.readInt();
+        }
+
+        @Override
+        public long readLong() {
+            return mParcel.readLong();
+        }
+
+        @Override
+        public double readDouble() {
+            return mParcel.readDouble();
+        }
+
+        @Override
+        public String readString() {
+            return mParcel.readString();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.yuriy.weatherapp.service;
+
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+
+import java.util.List;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.service.WeatherListener} receives results of the requests which
+ * are made via {@link com.yuriy.weatherapp.service.WeatherService.LocalBinder} by the clients
+ * of the same process. Results are delivered by reference, on the thread of the Handler which
+ * is provided with the request.
+ */
+public interface WeatherListener {
+
+    /**
+     * Called when weather data is received. May be called twice per request: with the last
+     * known weather data first and with the downloaded one then.
+     *
+     * @param requestId Id of the request.
+     * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} or null if
+     *                  download is failed.
+     */
+    public void onWeather(final int requestId, final CurrentWeatherVO weatherVO);
+
+    /**
+     * Called when weather condition icon is received.
+     *
+     * @param iconId   Id of the icon.
+     * @param pathname Path to the icon or empty string if download is failed.
+     */
+    public void onWeatherConditionIcon(final String iconId, final String pathname);
+
+    /**
+     * Called when weather data of the group of cities is received, once per group.
+     *
+     * @param weatherVOs {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} per city,
+     *                   empty if download is failed.
+     */
+    public void onWeatherGroup(final List<CurrentWeatherVO> weatherVOs);
+
+    /**
+     * Called when weather data of the dashboard city is received, once per city, in the
+     * order of completion.
+     *
+     * @param position  Position of the city in the dashboard.
+     * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} or null if
+     *                  download is failed or timed out.
+     */
+    public void onDashboardWeather(final int position, final CurrentWeatherVO weatherVO);
+}
@@ -6,28 +6,54 @@ import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
 import android.os.Bundle;
+import android.os.Binder;
 import android.os.Handler;
-import android.os.HandlerThread;
+import android.os.IBinder;
 import android.os.Looper;
 import android.os.Message;
 import android.os.Messenger;
 import android.os.RemoteException;
 import android.util.Log;
 
+import com.yuriy.weatherapp.R;
 import com.yuriy.weatherapp.api.APIServiceProvider;
 import com.yuriy.weatherapp.api.APIServiceProviderImpl;
+import com.yuriy.weatherapp.api.CachedWeatherReport;
+import com.yuriy.weatherapp.api.IconCache;
+import com.yuriy.weatherapp.api.WeatherCache;
 import com.yuriy.weatherapp.business.AppPreferencesManager;
 import com.yuriy.weatherapp.business.DataParser;
-import com.yuriy.weatherapp.business.JSONDataParserImpl;
+import com.yuriy.weatherapp.business.JSONStreamDataParserImpl;
+import com.yuriy.weatherapp.business.TemperatureConverter;
+import com.yuriy.weatherapp.business.TemperatureFormatter;
 import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
 import com.yuriy.weatherapp.business.vo.MainVO;
+import com.yuriy.weatherapp.business.vo.ParcelableCurrentWeatherVO;
 import com.yuriy.weatherapp.business.vo.TemperatureFormat;
+import com.yuriy.weatherapp.net.CacheValidator;
+import com.yuriy.weatherapp.net.CachedResponse;
+import com.yuriy.weatherapp.net.CancellationToken;
+import com.yuriy.weatherapp.net.DiskResponseCache;
+import com.yuriy.weatherapp.net.DownloadResult;
+import com.yuriy.weatherapp.net.DownloadExecutor;
 import com.yuriy.weatherapp.net.Downloader;
-import com.yuriy.weatherapp.net.HTTPDownloaderImpl;
-
+import com.yuriy.weatherapp.net.LatestRequests;
+import com.yuriy.weatherapp.net.ParallelismLimiter;
+import com.yuriy.weatherapp.net.PooledHTTPDownloaderImpl;
+import com.yuriy.weatherapp.net.RateLimitedDownloader;
+import com.yuriy.weatherapp.net.RateLimiter;
+import com.yuriy.weatherapp.net.SingleFlight;
+import com.yuriy.weatherapp.net.UrlBuilder;
+import com.yuriy.weatherapp.net.UrlRequestParameters;
+import com.yuriy.weatherapp.util.BundledIconAtlas;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Created by Yuriy Chernyshov
@@ -41,7 +67,11 @@ import java.math.RoundingMode;
  * (which is a type of URI) and a {@link android.os.Messenger}.
  * It downloads the weather data at the URL, stores it on the {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO},
  * then returns the reference to this object to the caller
- * using the supplied {@link android.os.Messenger}.
+ * using the supplied {@link android.os.Messenger}.<br>
+ * Clients of the same process bind to the service and make requests via
+ * {@link com.yuriy.weatherapp.service.WeatherService.LocalBinder}, results are delivered to
+ * the {@link com.yuriy.weatherapp.service.WeatherListener} by reference, without
+ * {@link android.os.Bundle} marshalling.
  */
 public class WeatherService extends IntentService {
 
@@ -64,6 +94,40 @@ public class WeatherService extends IntentService {
      */
     protected static final String BUNDLE_KEY_DOWNLOAD_WEATHER_ICON = "DOWNLOAD_WEATHER_ICON";
 
+    /**
+     * Key for the {@link android.os.Bundle} store to indicate that it is necessary to
+     * download weather data of the several cities from service.
+     */
+    protected static final String BUNDLE_KEY_DOWNLOAD_WEATHER_GROUP = "DOWNLOAD_WEATHER_GROUP";
+
+    /**
+     * Key for the {@link android.os.Bundle} store to indicate that it is necessary to
+     * refresh weather data of the dashboard of cities from service.
+     */
+    protected static final String BUNDLE_KEY_REFRESH_DASHBOARD = "REFRESH_DASHBOARD";
+
+    /**
+     * Key for the {@link android.os.Bundle} store to hold URLs of the dashboard cities
+     */
+    protected static final String BUNDLE_KEY_URLS = "URLS";
+
+    /**
+     * Key for the {@link android.os.Bundle} store to hold maximum number of the cities which
+     * are downloaded at the same time
+     */
+    protected static final String BUNDLE_KEY_PARALLELISM = "PARALLELISM";
+
+    /**
+     * Key for the {@link android.os.Bundle} store to hold time, in milliseconds, after which
+     * download of the city is given up
+     */
+    protected static final String BUNDLE_KEY_TIMEOUT_MS = "TIMEOUT_MS";
+
+    /**
+     * Key for the {@link android.os.Bundle} store to hold ids of the cities
+     */
+    protected static final String BUNDLE_KEY_CITY_IDS = "CITY_IDS";
+
     /**
      * Key for the {@link android.os.Bundle} store to indicate that it is necessary to
      * perform some download action.
@@ -76,17 +140,119 @@ public class WeatherService extends IntentService {
      */
     private static final String BUNDLE_KEY_WEATHER = "WEATHER";
 
+    /**
+     * Key for the {@link android.os.Bundle} store to hold a collection of the
+     * {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} of the several cities
+     */
+    private static final String BUNDLE_KEY_WEATHER_GROUP = "WEATHER_GROUP";
+
     /**
      * Key for the {@link android.os.Bundle} store to hold a path to the downloaded icon
      */
     private static final String BUNDLE_KEY_WEATHER_ICON = "WEATHER_ICON";
 
-    private static final double TEMP_CONVERSION_FRACTION = 273.15;
+    /**
+     * Key for the {@link android.os.Bundle} store to hold an id of the downloaded icon
+     */
+    private static final String BUNDLE_KEY_WEATHER_ICON_ID = "WEATHER_ICON_ID";
+
+    /**
+     * Key for the {@link android.os.Bundle} store to hold an id of the request which is
+     * assigned by the requester
+     */
+    private static final String BUNDLE_KEY_REQUEST_ID = "REQUEST_ID";
+
+    /**
+     * Id of the request which is made without one.
+     */
+    public static final int DEFAULT_REQUEST_ID = 0;
+
+    /**
+     * Key for the {@link android.os.Bundle} store to indicate that weather condition icon
+     * has to be downloaded together with the weather data
+     */
+    protected static final String BUNDLE_KEY_WITH_ICON = "WITH_ICON";
+
+    /**
+     * Downloader which is shared between all requests of the process, so that connections
+     * to the weather service are kept alive and re-used.
+     */
+    private static final Downloader DOWNLOADER = PooledHTTPDownloaderImpl.getDefaultInstance();
+
+    /**
+     * Process-wide rate limiter of the weather data requests, keeps them within the quota
+     * of the API key.
+     */
+    private static RateLimiter sDataRateLimiter;
+
+    /**
+     * Process-wide rate limiter of the weather condition icon requests.
+     */
+    private static RateLimiter sIconRateLimiter;
+
+    /**
+     * Process-wide cache of the previously received Weather together with validators
+     * of the response, per requested location.
+     */
+    private static final WeatherCache WEATHER_CACHE = WeatherCache.getDefaultInstance();
+
+    /**
+     * Name of the directory of the persistent responses cache.
+     */
+    private static final String RESPONSES_CACHE_DIRECTORY = "responses";
+
+    /**
+     * Persistent cache of the raw weather responses, per request URL. Survives process death.
+     */
+    private static DiskResponseCache sResponsesCache;
+
+    /**
+     * Name of the directory of the weather condition icons cache.
+     */
+    private static final String ICONS_CACHE_DIRECTORY = "icons";
+
+    /**
+     * Persistent cache of the weather condition icons, per icon id.
+     */
+    private static IconCache sIconCache;
+
+    /**
+     * Bounded pools of the download threads, separate for weather data and icons.
+     * Shared between all requests of the process, idle threads are terminated.
+     */
+    private static DownloadExecutor sDownloadExecutor;
+
+    /**
+     * Weather data downloads in flight, per requested location.
+     */
+    private static final SingleFlight<String, CurrentWeatherVO> WEATHER_FLIGHTS
+            = new SingleFlight<String, CurrentWeatherVO>();
+
+    /**
+     * Weather condition icon downloads in flight, per icon URI.
+     */
+    private static final SingleFlight<String, String> ICON_FLIGHTS
+            = new SingleFlight<String, String>();
+
+    /**
+     * Latest weather data requests per requester, previous request of the requester is
+     * superseded by the new one.
+     */
+    private static final LatestRequests<Object> WEATHER_REQUESTS
+            = new LatestRequests<Object>();
+
+    /**
+     * Latest weather condition icon requests per requester, previous request of the
+     * requester is superseded by the new one.
+     */
+    private static final LatestRequests<Object> ICON_REQUESTS
+            = new LatestRequests<Object>();
 
     /**
-     * Looper associated with the HandlerThread.
+     * Formats Temperature values for display, guarded by itself.
      */
-    private volatile Looper mServiceLooper;
+    private static final TemperatureFormatter TEMPERATURE_FORMATTER
+            = TemperatureFormatter.getInstance();
 
     /**
      * Processes Messages sent to it from onStartCommnand() that
@@ -94,23 +260,118 @@ public class WeatherService extends IntentService {
      */
     private volatile ServiceHandler mServiceHandler;
 
+    /**
+     * Binder which is returned to the clients of the same process.
+     */
+    private final IBinder mBinder = new LocalBinder();
+
     public WeatherService() {
         super("WeatherService");
     }
 
+    /**
+     * @param context Context of the Application.
+     * @return Persistent cache of the raw weather responses.
+     */
+    private static synchronized DiskResponseCache getResponsesCache(final Context context) {
+        if (sResponsesCache == null) {
+            sResponsesCache = new DiskResponseCache(
+                    new File(context.getFilesDir(), RESPONSES_CACHE_DIRECTORY),
+                    DiskResponseCache.DEFAULT_MAX_SIZE_BYTES
+            );
+        }
+        return sResponsesCache;
+    }
+
+    /**
+     * @param context Context of the Application.
+     * @return Persistent cache of the weather condition icons.
+     */
+    private static synchronized IconCache getIconCache(final Context context) {
+        if (sIconCache == null) {
+            // Clean up icons which were saved into the new file on every download
+            IconCache.deleteOrphanedFiles(context.getFilesDir());
+            sIconCache = new IconCache(
+                    new File(context.getFilesDir(), ICONS_CACHE_DIRECTORY),
+                    IconCache.DEFAULT_MAX_SIZE_BYTES
+            );
+        }
+        return sIconCache;
+    }
+
+    /**
+     * @param context Context of the Application.
+     * @return Executor of the downloads, configured with the tunables of the resources.
+     */
+    private static synchronized DownloadExecutor getDownloadExecutor(final Context context) {
+        if (sDownloadExecutor == null) {
+            sDownloadExecutor = new DownloadExecutor(
+                    context.getResources().getInteger(R.integer.download_data_pool_size),
+                    context.getResources().getInteger(R.integer.download_data_queue_depth),
+                    context.getResources().getInteger(R.integer.download_icon_pool_size),
+                    context.getResources().getInteger(R.integer.download_icon_queue_depth)
+            );
+        }
+        return sDownloadExecutor;
+    }
+
+    /**
+     * @param context Context of the Application.
+     * @param lane    Lane of the requests, it defines endpoint class of the requests.
+     * @return Rate limiter of the provided endpoint class, configured with the tunables of
+     * the resources.
+     */
+    private static synchronized RateLimiter getRateLimiter(final Context context,
+                                                           final DownloadExecutor.Lane lane) {
+        if (lane == DownloadExecutor.Lane.ICON) {
+            if (sIconRateLimiter == null) {
+                sIconRateLimiter = new RateLimiter(
+                        context.getResources().getInteger(R.integer.rate_limit_icon_per_minute),
+                        context.getResources().getInteger(R.integer.rate_limit_icon_burst),
+                        0,
+                        context.getResources().getInteger(R.integer.rate_limit_max_wait_ms)
+                );
+            }
+            return sIconRateLimiter;
+        }
+        if (sDataRateLimiter == null) {
+            sDataRateLimiter = new RateLimiter(
+                    context.getResources().getInteger(R.integer.rate_limit_data_per_minute),
+                    context.getResources().getInteger(R.integer.rate_limit_data_burst),
+                    context.getResources().getInteger(R.integer.rate_limit_data_user_reserve),
+                    context.getResources().getInteger(R.integer.rate_limit_max_wait_ms)
+            );
+        }
+        return sDataRateLimiter;
+    }
+
+    /**
+     * @param context  Context of the Application.
+     * @param lane     Lane of the requests, it defines endpoint class of the requests.
+     * @param priority Priority of the requests.
+     * @return Shared downloader which requests are limited by the rate limiter of the
+     * provided endpoint class.
+     */
+    private static Downloader getDownloader(final Context context,
+                                            final DownloadExecutor.Lane lane,
+                                            final RateLimiter.Priority priority) {
+        return new RateLimitedDownloader(DOWNLOADER, getRateLimiter(context, lane), priority);
+    }
+
     @Override
     public void onCreate() {
         super.onCreate();
 
-        // Create and start a background HandlerThread since by
-        // default a Service runs in the UI Thread, which we don't
-        // want to block.
-        final HandlerThread thread = new HandlerThread("WeatherServiceThread");
-        thread.start();
+        // Downloads are performed on the bounded pools of the background threads, one pool
+        // per kind of the download, so that slow icon download never delays weather data.
+        // Handler only dispatches Messages to the download threads, so it is bound to the
+        // main Looper.
+        mServiceHandler = new ServiceHandler(getMainLooper());
+    }
 
-        // Get the HandlerThread's Looper and use it for our Handler.
-        mServiceLooper = thread.getLooper();
-        mServiceHandler = new ServiceHandler(mServiceLooper);
+    @Override
+    public IBinder onBind(final Intent intent) {
+        return mBinder;
     }
 
     @Override
@@ -138,6 +399,12 @@ public class WeatherService extends IntentService {
         } else if (intent.getStringExtra(BUNDLE_KEY_DOWNLOAD_ACTION)
                 .equals(BUNDLE_KEY_DOWNLOAD_WEATHER_ICON)) {
             message = mServiceHandler.makeDownloadIconMessage(intent);
+        } else if (intent.getStringExtra(BUNDLE_KEY_DOWNLOAD_ACTION)
+                .equals(BUNDLE_KEY_DOWNLOAD_WEATHER_GROUP)) {
+            message = mServiceHandler.makeDownloadGroupMessage(intent);
+        } else if (intent.getStringExtra(BUNDLE_KEY_DOWNLOAD_ACTION)
+                .equals(BUNDLE_KEY_REFRESH_DASHBOARD)) {
+            message = mServiceHandler.makeRefreshDashboardMessage(intent);
         }
 
         if (message == null) {
@@ -152,10 +419,40 @@ public class WeatherService extends IntentService {
 
     /**
      * Factory method to make the desired {@link android.content.Intent}.
+     * Previous request of the same Handler is superseded by this one, reply contains
+     * {@link #DEFAULT_REQUEST_ID}.
      */
     public static Intent makeDownloadWeatherDataIntent(final Context context,
                                                        final Uri uri,
                                                        final Handler downloadHandler) {
+        return makeDownloadWeatherDataIntent(context, uri, downloadHandler, DEFAULT_REQUEST_ID);
+    }
+
+    /**
+     * Factory method to make the desired {@link android.content.Intent}.
+     * Previous request of the same Handler is superseded by this one, reply contains
+     * provided request Id, see {@link #getRequestId(android.os.Message)}.
+     */
+    public static Intent makeDownloadWeatherDataIntent(final Context context,
+                                                       final Uri uri,
+                                                       final Handler downloadHandler,
+                                                       final int requestId) {
+        return makeDownloadWeatherDataIntent(context, uri, downloadHandler, requestId, false);
+    }
+
+    /**
+     * Factory method to make the desired {@link android.content.Intent}.
+     * Previous request of the same Handler is superseded by this one, reply contains
+     * provided request Id, see {@link #getRequestId(android.os.Message)}.
+     * If icon is requested, download of the weather condition icon is started by the service
+     * as soon as weather data is received, icon is replied with the separate Message.
+     * Icons which are packaged with the Application are not downloaded.
+     */
+    public static Intent makeDownloadWeatherDataIntent(final Context context,
+                                                       final Uri uri,
+                                                       final Handler downloadHandler,
+                                                       final int requestId,
+                                                       final boolean withIcon) {
         // Create the Intent that's associated to the WeatherService class.
         final Intent intent = new Intent(context, WeatherService.class);
 
@@ -163,6 +460,8 @@ public class WeatherService extends IntentService {
         intent.setData(uri);
 
         intent.putExtra(BUNDLE_KEY_DOWNLOAD_ACTION, BUNDLE_KEY_DOWNLOAD_WEATHER_DATA);
+        intent.putExtra(BUNDLE_KEY_REQUEST_ID, requestId);
+        intent.putExtra(BUNDLE_KEY_WITH_ICON, withIcon);
 
         // Create and pass a Messenger as an "extra" so the
         // WeatherService can send back the pathname.
@@ -195,6 +494,70 @@ public class WeatherService extends IntentService {
         return intent;
     }
 
+    /**
+     * Factory method to make the desired {@link android.content.Intent}.
+     * Intent which describes that it is necessary to download weather data of the provided
+     * cities. Cities are downloaded by groups of up to
+     * {@link com.yuriy.weatherapp.net.UrlBuilder#MAX_GROUP_SIZE} with a single request per
+     * group, every group is replied as soon as it is downloaded, see
+     * {@link #getWeatherGroup(android.os.Message)}. Downloaded data is cached per city id.
+     */
+    public static Intent makeDownloadWeatherGroupIntent(final Context context,
+                                                        final int[] cityIds,
+                                                        final Handler downloadHandler) {
+        // Create the Intent that's associated to the WeatherService class.
+        final Intent intent = new Intent(context, WeatherService.class);
+
+        intent.putExtra(BUNDLE_KEY_DOWNLOAD_ACTION, BUNDLE_KEY_DOWNLOAD_WEATHER_GROUP);
+        intent.putExtra(BUNDLE_KEY_CITY_IDS, cityIds);
+
+        // Create and pass a Messenger as an "extra" so the
+        // WeatherService can send back the weather data.
+        if (downloadHandler != null) {
+            intent.putExtra(BUNDLE_KEY_MESSENGER, new Messenger(downloadHandler));
+        }
+        return intent;
+    }
+
+    /**
+     * Factory method to make the desired {@link android.content.Intent}.
+     * Intent which describes that it is necessary to refresh weather data of the dashboard
+     * of cities. Cities are downloaded concurrently, but not more than provided number at
+     * the same time. Every city is replied as soon as it is downloaded or its timeout
+     * elapsed, with its position in the provided list, see
+     * {@link #getDashboardPosition(android.os.Message)}.
+     *
+     * @param parallelism Maximum number of the cities which are downloaded at the same time,
+     *                    value of the resources is used if it is not positive.
+     * @param timeoutMs   Time, in milliseconds, after which download of the city is given up
+     *                    and the city is replied as failed, value of the resources is used
+     *                    if it is not positive.
+     */
+    public static Intent makeRefreshDashboardIntent(final Context context,
+                                                    final List<UrlRequestParameters> cities,
+                                                    final Handler downloadHandler,
+                                                    final int parallelism,
+                                                    final long timeoutMs) {
+        // Create the Intent that's associated to the WeatherService class.
+        final Intent intent = new Intent(context, WeatherService.class);
+
+        final String[] urls = new String[cities.size()];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = UrlBuilder.getWeatherUrlByCityName(cities.get(i));
+        }
+        intent.putExtra(BUNDLE_KEY_DOWNLOAD_ACTION, BUNDLE_KEY_REFRESH_DASHBOARD);
+        intent.putExtra(BUNDLE_KEY_URLS, urls);
+        intent.putExtra(BUNDLE_KEY_PARALLELISM, parallelism);
+        intent.putExtra(BUNDLE_KEY_TIMEOUT_MS, timeoutMs);
+
+        // Create and pass a Messenger as an "extra" so the
+        // WeatherService can send back the weather data.
+        if (downloadHandler != null) {
+            intent.putExtra(BUNDLE_KEY_MESSENGER, new Messenger(downloadHandler));
+        }
+        return intent;
+    }
+
     /**
      * Helper method that returns {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}
      * if download succeeded.
@@ -203,9 +566,13 @@ public class WeatherService extends IntentService {
         // Extract the data from Message, which is in the form
         // of a Bundle that can be passed across processes.
         final Bundle data = message.getData();
+        // Bundle may be received from another process, Weather is loaded by Application
+        data.setClassLoader(ParcelableCurrentWeatherVO.class.getClassLoader());
 
         // Extract the Weather VO from the Bundle.
-        final CurrentWeatherVO currentWeatherVO = (CurrentWeatherVO) data.get(BUNDLE_KEY_WEATHER);
+        final CurrentWeatherVO currentWeatherVO = ParcelableCurrentWeatherVO.getWeather(
+                data.<ParcelableCurrentWeatherVO>getParcelable(BUNDLE_KEY_WEATHER)
+        );
 
         // Check to see if the download succeeded.
         if (message.arg1 != Activity.RESULT_OK || currentWeatherVO == null)
@@ -214,6 +581,31 @@ public class WeatherService extends IntentService {
             return currentWeatherVO;
     }
 
+    /**
+     * Helper method that returns collection of the
+     * {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} of the group of cities,
+     * empty if download failed.
+     */
+    public static List<CurrentWeatherVO> getWeatherGroup(final Message message) {
+        final List<CurrentWeatherVO> weatherVOs = new ArrayList<CurrentWeatherVO>();
+
+        // Extract the data from Message, which is in the form
+        // of a Bundle that can be passed across processes.
+        final Bundle data = message.getData();
+        // Bundle may be received from another process, Weather is loaded by Application
+        data.setClassLoader(ParcelableCurrentWeatherVO.class.getClassLoader());
+
+        final List<ParcelableCurrentWeatherVO> values
+                = data.getParcelableArrayList(BUNDLE_KEY_WEATHER_GROUP);
+        if (message.arg1 != Activity.RESULT_OK || values == null) {
+            return weatherVOs;
+        }
+        for (ParcelableCurrentWeatherVO value : values) {
+            weatherVOs.add(ParcelableCurrentWeatherVO.getWeather(value));
+        }
+        return weatherVOs;
+    }
+
     /**
      * Helper method that returns weather condition icon pathname if download succeeded.
      */
@@ -232,6 +624,28 @@ public class WeatherService extends IntentService {
             return pathname;
     }
 
+    /**
+     * Helper method that returns weather condition icon id, empty if it is unknown.
+     */
+    public static String getWeatherIconId(final Message message) {
+        final String iconId = message.getData().getString(BUNDLE_KEY_WEATHER_ICON_ID);
+        return iconId == null ? "" : iconId;
+    }
+
+    /**
+     * Helper method that returns position of the dashboard city which the reply belongs to.
+     */
+    public static int getDashboardPosition(final Message message) {
+        return message.arg2;
+    }
+
+    /**
+     * Helper method that returns Id of the request which the reply belongs to.
+     */
+    public static int getRequestId(final Message message) {
+        return message.arg2;
+    }
+
     /**
      * Helper method that returns value of the Temperature that is necessary to display.
      */
@@ -246,12 +660,18 @@ public class WeatherService extends IntentService {
             return "N/A";
         }
         // Process the result
-        if (AppPreferencesManager.getTemperatureFormat() == TemperatureFormat.CELSIUS) {
-            tempValue = kelvinToCelsius(tempValue);
-        } else {
-            tempValue = kelvinToFahrenheit(tempValue);
+        final boolean isCelsius
+                = AppPreferencesManager.getTemperatureFormat() == TemperatureFormat.CELSIUS;
+        final long hundredths = isCelsius
+                ? TemperatureConverter.kelvinToCelsiusHundredths(tempValue)
+                : TemperatureConverter.kelvinToFahrenheitHundredths(tempValue);
+        if (hundredths == TemperatureConverter.INVALID_HUNDREDTHS) {
+            tempValue = isCelsius ? kelvinToCelsius(tempValue) : kelvinToFahrenheit(tempValue);
+            return (String.valueOf(tempValue) + " " + tempFormat);
+        }
+        synchronized (TEMPERATURE_FORMATTER) {
+            return TEMPERATURE_FORMATTER.format(hundredths, tempFormat);
         }
-        return (String.valueOf(tempValue) + " " + tempFormat);
     }
 
     /**
@@ -278,15 +698,7 @@ public class WeatherService extends IntentService {
      * @return Fahrenheit value.
      */
     protected static double kelvinToFahrenheit(final double kelvinValue) {
-        final double value = (((kelvinValue - TEMP_CONVERSION_FRACTION) * 9.0 / 5.0) + 32);
-        BigDecimal bigDecimal;
-        try {
-            bigDecimal = new BigDecimal(value);
-        } catch (NumberFormatException e) {
-            Log.e(CLASS_NAME, "KelvinToFahrenheit -> can not parse:" + e.getMessage());
-            return Double.NaN;
-        }
-        return bigDecimal.setScale(2, RoundingMode.HALF_UP).doubleValue();
+        return TemperatureConverter.kelvinToFahrenheit(kelvinValue);
     }
 
     /**
@@ -296,14 +708,7 @@ public class WeatherService extends IntentService {
      * @return Celsius value.
      */
     protected static double kelvinToCelsius(final double kelvinValue) {
-        BigDecimal bigDecimal;
-        try {
-            bigDecimal = new BigDecimal(kelvinValue - TEMP_CONVERSION_FRACTION);
-        } catch (NumberFormatException e) {
-            Log.e(CLASS_NAME, "KelvinToCelsius -> can not parse:" + e.getMessage());
-            return Double.NaN;
-        }
-        return bigDecimal.setScale(2, RoundingMode.HALF_UP).doubleValue();
+        return TemperatureConverter.kelvinToCelsius(kelvinValue);
     }
 
     /**
@@ -324,22 +729,650 @@ public class WeatherService extends IntentService {
          */
         public static final int MSG_DOWNLOAD_ICON = 2;
 
+        /**
+         * Message Id indicates that it is necessary to refresh cached Weather Data in
+         * background, no reply is sent.
+         */
+        public static final int MSG_REFRESH_DATA = 3;
+
+        /**
+         * Message Id indicates that it is necessary to download Weather Data of the several
+         * cities from the service.
+         */
+        public static final int MSG_DOWNLOAD_GROUP = 4;
+
+        /**
+         * Message Id indicates that it is necessary to refresh Weather Data of the dashboard
+         * of cities from the service.
+         */
+        public static final int MSG_REFRESH_DASHBOARD = 5;
+
         /**
          * Class constructor initializes the Looper.
          *
-         * @param looper The Looper that we borrow from HandlerThread.
+         * @param looper The Looper to dispatch Messages on.
          */
         public ServiceHandler(final Looper looper) {
             super(looper);
         }
 
         /**
-         * Hook method that retrieves an image from a remote server.
+         * Hook method that dispatches download to the lane of the
+         * {@link com.yuriy.weatherapp.net.DownloadExecutor}. Download of the data which is
+         * already being downloaded is not started again, requester receives result of the
+         * download in flight.
          */
         public void handleMessage(final Message message) {
-            // Download the designated weather data and reply to the
-            // MainActivity via the Messenger sent with the Intent.
-            downloadWeatherDataAndReply((Intent) message.obj);
+            // Message is recycled after this method returns
+            final int what = message.what;
+            final Object object = message.obj;
+
+            if (what == MSG_REFRESH_DATA) {
+                final URI requestUri = (URI) object;
+                if (!execute(DownloadExecutor.Lane.DATA, new Runnable() {
+
+                    @Override
+                    public void run() {
+                        // Refresh stale weather data of the cache
+                        refreshWeather(requestUri);
+                    }
+                })) {
+                    // Stale weather data is refreshed next time it is requested
+                    WEATHER_CACHE.finishRefresh(WeatherCache.getKey(requestUri));
+                }
+                return;
+            }
+
+            final Intent intent = (Intent) object;
+            final Messenger messenger = (Messenger) intent.getExtras().get(BUNDLE_KEY_MESSENGER);
+            final ReplyTarget target = messenger == null
+                    ? null
+                    : new MessengerReplyTarget(messenger);
+            if (what == MSG_DOWNLOAD_ICON) {
+                downloadWeatherConditionIconAndReply(intent.getData(), target);
+            } else if (what == MSG_DOWNLOAD_GROUP) {
+                downloadWeatherGroupAndReply(intent.getIntArrayExtra(BUNDLE_KEY_CITY_IDS), target);
+            } else if (what == MSG_REFRESH_DASHBOARD) {
+                final String[] urls = intent.getStringArrayExtra(BUNDLE_KEY_URLS);
+                final List<Uri> uris = new ArrayList<Uri>();
+                if (urls != null) {
+                    for (String url : urls) {
+                        uris.add(Uri.parse(url));
+                    }
+                }
+                refreshDashboardAndReply(
+                        uris, target,
+                        intent.getIntExtra(BUNDLE_KEY_PARALLELISM, 0),
+                        intent.getLongExtra(BUNDLE_KEY_TIMEOUT_MS, 0),
+                        RateLimiter.Priority.USER
+                );
+            } else {
+                downloadWeatherAndReply(
+                        intent.getData(), target,
+                        intent.getIntExtra(BUNDLE_KEY_REQUEST_ID, DEFAULT_REQUEST_ID),
+                        intent.getBooleanExtra(BUNDLE_KEY_WITH_ICON, false)
+                );
+            }
+        }
+
+        /**
+         * Download the designated weather data on the download thread and reply to the
+         * requester. Concurrent requests of the same location share one download. Previous
+         * request of the same requester is superseded, its download is aborted if nobody else
+         * needs it.
+         *
+         * @param uri       URI of the weather data.
+         * @param requester {@link ReplyTarget} to reply to, may be null.
+         * @param requestId Id of the request to reply with.
+         * @param withIcon  Whether to download weather condition icon as soon as weather
+         *                  data is received.
+         */
+        private void downloadWeatherAndReply(final Uri uri, final ReplyTarget requester,
+                                             final int requestId, final boolean withIcon) {
+            Log.i(CLASS_NAME, "Weather data URL:" + uri + ", request id:" + requestId);
+
+            // Icon download is chained to the every reply with weather data
+            final ReplyTarget target = withIcon && requester != null
+                    ? new IconChainingReplyTarget(requester)
+                    : requester;
+            final String flightKey = WeatherCache.getKey(toURI(uri));
+            final ReplyRequest<CurrentWeatherVO> request = new ReplyRequest<CurrentWeatherVO>(
+                    WEATHER_FLIGHTS, flightKey, WEATHER_REQUESTS, target) {
+
+                @Override
+                protected void reply(final ReplyTarget target, final CurrentWeatherVO result) {
+                    // Send the weatherVO to the requester.
+                    target.sendWeather(result, requestId);
+                }
+            };
+            final CancellationToken token = request.start();
+            if (token == null) {
+                return;
+            }
+            if (!execute(DownloadExecutor.Lane.DATA, new Runnable() {
+
+                @Override
+                public void run() {
+                    CurrentWeatherVO weatherVO = null;
+                    try {
+                        // Download the requested weather data.
+                        weatherVO = downloadWeather(
+                                uri, request, token, RateLimiter.Priority.USER
+                        );
+                    } finally {
+                        WEATHER_FLIGHTS.complete(flightKey, token, weatherVO);
+                    }
+                }
+            })) {
+                WEATHER_FLIGHTS.complete(flightKey, token, null);
+            }
+        }
+
+        /**
+         * Download the designated weather condition icon on the download thread and reply
+         * to the requester. Concurrent requests of the same icon share one download.
+         *
+         * @param uri    URI of the weather condition icon.
+         * @param target {@link ReplyTarget} to reply to, may be null.
+         */
+        private void downloadWeatherConditionIconAndReply(final Uri uri,
+                                                          final ReplyTarget target) {
+            final String iconId = IconCache.getKey(toURI(uri));
+            final String flightKey = String.valueOf(uri);
+            // Download of the superseded icon is not aborted, icon is cached for the next time
+            final CancellationToken token = new ReplyRequest<String>(
+                    ICON_FLIGHTS, flightKey, ICON_REQUESTS, target) {
+
+                @Override
+                protected void reply(final ReplyTarget target, final String result) {
+                    // Send the icon to the requester.
+                    target.sendWeatherConditionIcon(iconId, result);
+                }
+            }.start();
+            if (token == null) {
+                return;
+            }
+            if (!execute(DownloadExecutor.Lane.ICON, new Runnable() {
+
+                @Override
+                public void run() {
+                    // Download the requested weather condition icon
+                    String iconPath = "";
+                    try {
+                        iconPath = downloadWeatherConditionIcon(uri);
+                    } catch (IOException e) {
+                        Log.e(CLASS_NAME, "Can not download Icon image:" + e.getMessage());
+                    } finally {
+                        ICON_FLIGHTS.complete(flightKey, token, iconPath);
+                    }
+                }
+            })) {
+                ICON_FLIGHTS.complete(flightKey, token, null);
+            }
+        }
+
+        /**
+         * Download weather data of the provided cities on the download threads, by groups of
+         * up to {@link com.yuriy.weatherapp.net.UrlBuilder#MAX_GROUP_SIZE} cities per request,
+         * and reply with every group as soon as it is downloaded. Group requests are neither
+         * coalesced nor superseded.
+         *
+         * @param cityIds Ids of the cities.
+         * @param target  {@link ReplyTarget} to reply to, may be null.
+         */
+        private void downloadWeatherGroupAndReply(final int[] cityIds,
+                                                  final ReplyTarget target) {
+            if (cityIds == null) {
+                Log.w(CLASS_NAME, "Can not download weather group, city ids are null");
+                return;
+            }
+            for (String url : UrlBuilder.getWeatherGroupUrlsByCityIds(cityIds)) {
+                final URI requestUri = URI.create(url);
+                Log.i(CLASS_NAME, "Weather group URL:" + requestUri);
+                if (!execute(DownloadExecutor.Lane.DATA, new Runnable() {
+
+                    @Override
+                    public void run() {
+                        final List<CurrentWeatherVO> weatherVOs = fetchWeatherGroup(requestUri);
+                        if (target != null) {
+                            target.sendWeatherGroup(weatherVOs);
+                        }
+                    }
+                })) {
+                    if (target != null) {
+                        target.sendWeatherGroup(new ArrayList<CurrentWeatherVO>());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Download weather data of the dashboard cities concurrently, but not more than
+         * provided number at the same time, and reply with every city as soon as it is
+         * downloaded. Download of the city which does not finish in time is given up, so that
+         * slow city does not hold the slot of the next one. Concurrent requests of the same
+         * location share one download, same as single requests.
+         *
+         * @param uris        URIs of the weather data of the cities.
+         * @param target      {@link ReplyTarget} to reply to, may be null.
+         * @param parallelism Maximum number of the cities which are downloaded at the same
+         *                    time, value of the resources is used if it is not positive.
+         * @param timeoutMs   Time, in milliseconds, after which download of the city is
+         *                    given up, value of the resources is used if it is not positive.
+         * @param priority    Priority of the downloads, background ones are shed when request
+         *                    budget is low.
+         */
+        private void refreshDashboardAndReply(final List<Uri> uris, final ReplyTarget target,
+                                              final int parallelism, final long timeoutMs,
+                                              final RateLimiter.Priority priority) {
+            final ParallelismLimiter limiter = new ParallelismLimiter(parallelism > 0
+                    ? parallelism
+                    : getResources().getInteger(R.integer.dashboard_parallelism));
+            final long timeout = timeoutMs > 0
+                    ? timeoutMs
+                    : getResources().getInteger(R.integer.dashboard_request_timeout_ms);
+            Log.i(CLASS_NAME, "Refresh dashboard of " + uris.size() + " cities");
+            for (int i = 0; i < uris.size(); i++) {
+                limiter.submit(
+                        new DashboardRequest(i, uris.get(i), target, limiter, timeout, priority)
+                );
+            }
+        }
+
+        /**
+         * Request of the single city of the dashboard. It is attached to the download in
+         * flight of the same location and is replied exactly once: with the result of the
+         * download or with failure when timeout elapses, whatever is first.
+         */
+        private final class DashboardRequest
+                implements SingleFlight.Callback<CurrentWeatherVO>, Runnable {
+
+            /**
+             * Position of the city in the dashboard.
+             */
+            private final int mPosition;
+
+            /**
+             * URI of the weather data of the city.
+             */
+            private final Uri mUri;
+
+            /**
+             * Key of the download in flight.
+             */
+            private final String mFlightKey;
+
+            /**
+             * {@link ReplyTarget} to reply to, may be null.
+             */
+            private final ReplyTarget mTarget;
+
+            /**
+             * Limiter which slot is taken by this request.
+             */
+            private final ParallelismLimiter mLimiter;
+
+            /**
+             * Time, in milliseconds, after which download is given up.
+             */
+            private final long mTimeoutMs;
+
+            /**
+             * Priority of the download.
+             */
+            private final RateLimiter.Priority mPriority;
+
+            /**
+             * Whether request is already replied.
+             */
+            private final AtomicBoolean mIsFinished = new AtomicBoolean();
+
+            /**
+             * Action to give up download when timeout elapses.
+             */
+            private final Runnable mTimeoutAction = new Runnable() {
+
+                @Override
+                public void run() {
+                    if (!finish(null)) {
+                        return;
+                    }
+                    Log.w(CLASS_NAME, "Dashboard city is timed out:" + mFlightKey);
+                    // Download is aborted if nobody else waits for it
+                    WEATHER_FLIGHTS.leave(mFlightKey, DashboardRequest.this);
+                }
+            };
+
+            /**
+             * Constructor.
+             *
+             * @param position  Position of the city in the dashboard.
+             * @param uri       URI of the weather data of the city.
+             * @param target    {@link ReplyTarget} to reply to, may be null.
+             * @param limiter   Limiter which slot is taken by this request.
+             * @param timeoutMs Time, in milliseconds, after which download is given up.
+             * @param priority  Priority of the download.
+             */
+            private DashboardRequest(final int position, final Uri uri,
+                                     final ReplyTarget target,
+                                     final ParallelismLimiter limiter, final long timeoutMs,
+                                     final RateLimiter.Priority priority) {
+                mPosition = position;
+                mUri = uri;
+                mFlightKey = WeatherCache.getKey(toURI(uri));
+                mTarget = target;
+                mLimiter = limiter;
+                mTimeoutMs = timeoutMs;
+                mPriority = priority;
+            }
+
+            /**
+             * Start download of the city, called by the limiter when slot is free.
+             */
+            @Override
+            public void run() {
+                postDelayed(mTimeoutAction, mTimeoutMs);
+                final CancellationToken token
+                        = WEATHER_FLIGHTS.join(mFlightKey, this, mPriority);
+                if (token == null) {
+                    return;
+                }
+                if (!execute(DownloadExecutor.Lane.DATA, new Runnable() {
+
+                    @Override
+                    public void run() {
+                        CurrentWeatherVO weatherVO = null;
+                        try {
+                            // User may attach while download waits for the thread
+                            weatherVO = downloadWeather(
+                                    mUri, null, token,
+                                    WEATHER_FLIGHTS.getPriority(mFlightKey, token)
+                            );
+                        } finally {
+                            WEATHER_FLIGHTS.complete(mFlightKey, token, weatherVO);
+                        }
+                    }
+                })) {
+                    WEATHER_FLIGHTS.complete(mFlightKey, token, null);
+                }
+            }
+
+            @Override
+            public void onResult(final CurrentWeatherVO result) {
+                finish(result);
+            }
+
+            /**
+             * Reply with the Weather of the city and free the slot of the limiter, once.
+             *
+             * @param weatherVO Weather of the city, null if download is failed.
+             * @return True if request is finished by this call, false if it is already
+             * finished.
+             */
+            private boolean finish(final CurrentWeatherVO weatherVO) {
+                if (!mIsFinished.compareAndSet(false, true)) {
+                    return false;
+                }
+                removeCallbacks(mTimeoutAction);
+                if (mTarget != null) {
+                    mTarget.sendDashboardWeather(mPosition, weatherVO);
+                }
+                mLimiter.release();
+                return true;
+            }
+        }
+
+        /**
+         * Request of the requester which is attached to the download in flight. Request is
+         * superseded by the next request of the same requester, then it leaves the download
+         * and its reply is dropped.
+         *
+         * @param <V> Type of the result of the download.
+         */
+        private abstract class ReplyRequest<V> implements SingleFlight.Callback<V> {
+
+            /**
+             * Downloads in flight which request is attached to.
+             */
+            private final SingleFlight<String, V> mFlights;
+
+            /**
+             * Key of the download in flight.
+             */
+            private final String mFlightKey;
+
+            /**
+             * Latest requests per requester.
+             */
+            private final LatestRequests<Object> mRequests;
+
+            /**
+             * {@link ReplyTarget} to reply to, may be null.
+             */
+            private final ReplyTarget mTarget;
+
+            /**
+             * Action to leave download in flight when request is superseded.
+             */
+            private final Runnable mCancelAction = new Runnable() {
+
+                @Override
+                public void run() {
+                    Log.i(CLASS_NAME, "Request is superseded:" + mFlightKey);
+                    mFlights.leave(mFlightKey, ReplyRequest.this);
+                }
+            };
+
+            /**
+             * Constructor.
+             *
+             * @param flights   Downloads in flight.
+             * @param flightKey Key of the download.
+             * @param requests  Latest requests per requester.
+             * @param target    {@link ReplyTarget} to reply to, may be null.
+             */
+            private ReplyRequest(final SingleFlight<String, V> flights, final String flightKey,
+                                 final LatestRequests<Object> requests,
+                                 final ReplyTarget target) {
+                mFlights = flights;
+                mFlightKey = flightKey;
+                mRequests = requests;
+                mTarget = target;
+            }
+
+            /**
+             * Attach request to the download in flight and supersede previous request of
+             * the same requester.
+             *
+             * @return {@link com.yuriy.weatherapp.net.CancellationToken} of the download if
+             * it has to be performed, null if request is attached to the download in flight.
+             */
+            protected CancellationToken start() {
+                // Register first, so that download which completes while request joins it
+                // is replied to this request
+                final Runnable supersededAction = mTarget == null
+                        ? null
+                        : mRequests.replace(mTarget.getRequester(), mCancelAction);
+                final CancellationToken token = mFlights.join(mFlightKey, this);
+                // Cancel after join, so that re-requested download in flight is not canceled
+                if (supersededAction != null) {
+                    supersededAction.run();
+                }
+                return token;
+            }
+
+            @Override
+            public void onResult(final V result) {
+                if (mTarget == null
+                        || !mRequests.finish(mTarget.getRequester(), mCancelAction)) {
+                    return;
+                }
+                reply(mTarget, result);
+            }
+
+            /**
+             * Reply with the intermediate result (last known one, for example) while download
+             * is in progress. Nothing is sent if request is already superseded or finished.
+             *
+             * @param result Intermediate result.
+             */
+            protected void replyIntermediate(final V result) {
+                if (mTarget == null
+                        || !mRequests.isLatest(mTarget.getRequester(), mCancelAction)) {
+                    return;
+                }
+                reply(mTarget, result);
+            }
+
+            /**
+             * Reply with the result of the download.
+             *
+             * @param target {@link ReplyTarget} to reply to.
+             * @param result Result of the download.
+             */
+            protected abstract void reply(final ReplyTarget target, final V result);
+        }
+
+        /**
+         * {@link ReplyTarget} which sends replies via the {@link android.os.Messenger}.
+         */
+        private final class MessengerReplyTarget implements ReplyTarget {
+
+            /**
+             * {@link android.os.Messenger} to reply to.
+             */
+            private final Messenger mMessenger;
+
+            /**
+             * Constructor.
+             *
+             * @param messenger {@link android.os.Messenger} to reply to.
+             */
+            private MessengerReplyTarget(final Messenger messenger) {
+                mMessenger = messenger;
+            }
+
+            @Override
+            public Object getRequester() {
+                return mMessenger;
+            }
+
+            @Override
+            public void sendWeather(final CurrentWeatherVO weatherVO, final int requestId) {
+                ServiceHandler.this.sendWeather(mMessenger, weatherVO, requestId);
+            }
+
+            @Override
+            public void sendWeatherConditionIcon(final String iconId, final String iconPath) {
+                ServiceHandler.this.sendWeatherConditionIcon(mMessenger, iconId, iconPath);
+            }
+
+            @Override
+            public void sendWeatherGroup(final List<CurrentWeatherVO> weatherVOs) {
+                ServiceHandler.this.sendWeatherGroup(mMessenger, weatherVOs);
+            }
+
+            @Override
+            public void sendDashboardWeather(final int position,
+                                             final CurrentWeatherVO weatherVO) {
+                ServiceHandler.this.sendDashboardWeather(mMessenger, position, weatherVO);
+            }
+        }
+
+        /**
+         * {@link ReplyTarget} which starts download of the weather condition icon as soon as
+         * weather data is replied, so that icon is downloaded without the round trip to the
+         * requester. Icon is replied to the same {@link ReplyTarget}, independently of the
+         * weather data.
+         */
+        private final class IconChainingReplyTarget implements ReplyTarget {
+
+            /**
+             * {@link ReplyTarget} to reply to.
+             */
+            private final ReplyTarget mTarget;
+
+            /**
+             * Id of the icon which is already chained, last known weather data and downloaded
+             * one usually have the same icon.
+             */
+            private String mIconId;
+
+            /**
+             * Constructor.
+             *
+             * @param target {@link ReplyTarget} to reply to.
+             */
+            private IconChainingReplyTarget(final ReplyTarget target) {
+                mTarget = target;
+            }
+
+            @Override
+            public Object getRequester() {
+                return mTarget.getRequester();
+            }
+
+            @Override
+            public void sendWeather(final CurrentWeatherVO weatherVO, final int requestId) {
+                mTarget.sendWeather(weatherVO, requestId);
+                chainIcon(weatherVO);
+            }
+
+            @Override
+            public void sendWeatherConditionIcon(final String iconId, final String iconPath) {
+                mTarget.sendWeatherConditionIcon(iconId, iconPath);
+            }
+
+            @Override
+            public void sendWeatherGroup(final List<CurrentWeatherVO> weatherVOs) {
+                mTarget.sendWeatherGroup(weatherVOs);
+            }
+
+            @Override
+            public void sendDashboardWeather(final int position,
+                                             final CurrentWeatherVO weatherVO) {
+                mTarget.sendDashboardWeather(position, weatherVO);
+            }
+
+            /**
+             * Start download of the weather condition icon of the provided Weather.
+             *
+             * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO},
+             *                  may be null.
+             */
+            private void chainIcon(final CurrentWeatherVO weatherVO) {
+                if (weatherVO == null || weatherVO.getWeatherItemsSize() == 0) {
+                    return;
+                }
+                final String iconId = String.valueOf(weatherVO.getWeatherItemAt(0).getIcon());
+                synchronized (this) {
+                    if (iconId.equals(mIconId)) {
+                        return;
+                    }
+                    mIconId = iconId;
+                }
+                // Known icons are packaged with the Application, requester decodes them
+                if (BundledIconAtlas.getInstance(WeatherService.this).contains(iconId)) {
+                    return;
+                }
+                Log.i(CLASS_NAME, "Chain weather condition icon:" + iconId);
+                downloadWeatherConditionIconAndReply(
+                        Uri.parse(UrlBuilder.getWeatherIconByCode(iconId)), mTarget
+                );
+            }
+        }
+
+        /**
+         * Execute download on the provided lane of the
+         * {@link com.yuriy.weatherapp.net.DownloadExecutor}.
+         *
+         * @param lane     Lane of the download.
+         * @param download Download to execute.
+         * @return True if download is accepted, false if it is rejected because there are
+         * too many pending downloads.
+         */
+        private boolean execute(final DownloadExecutor.Lane lane, final Runnable download) {
+            return getDownloadExecutor(WeatherService.this).execute(lane, download);
         }
 
         /**
@@ -357,53 +1390,41 @@ public class WeatherService extends IntentService {
 
         /**
          * A factory method that creates a {@link android.os.Message} that contains
-         * information on the weather icon to download.
+         * information on the weather data of the several cities to download.
          */
-        private Message makeDownloadIconMessage(final Intent intent) {
+        private Message makeDownloadGroupMessage(final Intent intent) {
 
             final Message message = Message.obtain();
-            // Include Intent in Message to indicate which URI to retrieve.
+            // Include Intent in Message to indicate which cities to retrieve.
             message.obj = intent;
-            message.what = MSG_DOWNLOAD_ICON;
+            message.what = MSG_DOWNLOAD_GROUP;
             return message;
         }
 
         /**
-         * Retrieves the designated weather data and reply to the
-         * {@link com.yuriy.weatherapp.MainActivity} via the {@link android.os.Messenger}
-         * sent with the {@link android.content.Intent}.
+         * A factory method that creates a {@link android.os.Message} that contains
+         * information on the dashboard cities to refresh.
          */
-        private void downloadWeatherDataAndReply(final Intent intent) {
-            Log.i(CLASS_NAME, "Weather data URL:" + intent.getData().toString());
+        private Message makeRefreshDashboardMessage(final Intent intent) {
 
-            if (!intent.hasExtra(BUNDLE_KEY_DOWNLOAD_ACTION)) {
-                // TODO : Return appropriate message here
-                return;
-            }
+            final Message message = Message.obtain();
+            // Include Intent in Message to indicate which cities to retrieve.
+            message.obj = intent;
+            message.what = MSG_REFRESH_DASHBOARD;
+            return message;
+        }
 
-            // Extract the Messenger.
-            final Messenger messenger = (Messenger) intent.getExtras().get(BUNDLE_KEY_MESSENGER);
+        /**
+         * A factory method that creates a {@link android.os.Message} that contains
+         * information on the weather icon to download.
+         */
+        private Message makeDownloadIconMessage(final Intent intent) {
 
-            if (intent.getStringExtra(BUNDLE_KEY_DOWNLOAD_ACTION)
-                    .equals(BUNDLE_KEY_DOWNLOAD_WEATHER_DATA)) {
-                // Download the requested weather data.
-                final CurrentWeatherVO weatherVO
-                        = downloadWeather(intent.getData());
-
-                // Send the weatherVO via the Messenger.
-                sendWeather(messenger, weatherVO);
-            } else if (intent.getStringExtra(BUNDLE_KEY_DOWNLOAD_ACTION)
-                    .equals(BUNDLE_KEY_DOWNLOAD_WEATHER_ICON)) {
-                // Download the requested weather condition icon
-                String iconPath = "";
-                try {
-                    iconPath = downloadWeatherConditionIcon(intent.getData());
-                } catch (IOException e) {
-                    Log.e(CLASS_NAME, "Can not download Icon image:" + e.getMessage());
-                }
-                // Send the weatherVO via the Messenger.
-                sendWeatherConditionIcon(messenger, iconPath);
-            }
+            final Message message = Message.obtain();
+            // Include Intent in Message to indicate which URI to retrieve.
+            message.obj = intent;
+            message.what = MSG_DOWNLOAD_ICON;
+            return message;
         }
 
         /**
@@ -411,14 +1432,66 @@ public class WeatherService extends IntentService {
          *
          * @param messenger {@link android.os.Messenger}
          * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}
+         * @param requestId Id of the request.
          */
-        private void sendWeather(final Messenger messenger, final CurrentWeatherVO weatherVO) {
+        private void sendWeather(final Messenger messenger, final CurrentWeatherVO weatherVO,
+                                 final int requestId) {
             // Call factory method to create Message.
             final Message message = makeReplyMessageWithWeatherData(weatherVO);
 
             try {
                 // Send weatherVO to back to the DownloadActivity.
                 message.what = MSG_DOWNLOAD_DATA;
+                message.arg2 = requestId;
+                messenger.send(message);
+            } catch (RemoteException e) {
+                Log.e(CLASS_NAME, "Exception while sending:" + e.getMessage());
+            }
+        }
+
+        /**
+         * Send the weather data of the dashboard city back via the Messenger.
+         *
+         * @param messenger {@link android.os.Messenger}
+         * @param position  Position of the city in the dashboard.
+         * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}
+         */
+        private void sendDashboardWeather(final Messenger messenger, final int position,
+                                          final CurrentWeatherVO weatherVO) {
+            // Call factory method to create Message.
+            final Message message = makeReplyMessageWithWeatherData(weatherVO);
+
+            try {
+                message.what = MSG_REFRESH_DASHBOARD;
+                message.arg2 = position;
+                messenger.send(message);
+            } catch (RemoteException e) {
+                Log.e(CLASS_NAME, "Exception while sending:" + e.getMessage());
+            }
+        }
+
+        /**
+         * Send the weather data of the group of cities back via the Messenger.
+         *
+         * @param messenger  {@link android.os.Messenger}
+         * @param weatherVOs Weather of the cities.
+         */
+        private void sendWeatherGroup(final Messenger messenger,
+                                      final List<CurrentWeatherVO> weatherVOs) {
+            final Message message = Message.obtain();
+            message.what = MSG_DOWNLOAD_GROUP;
+            message.arg1 = weatherVOs.isEmpty() ? Activity.RESULT_CANCELED : Activity.RESULT_OK;
+
+            final ArrayList<ParcelableCurrentWeatherVO> values
+                    = new ArrayList<ParcelableCurrentWeatherVO>(weatherVOs.size());
+            for (CurrentWeatherVO weatherVO : weatherVOs) {
+                values.add(ParcelableCurrentWeatherVO.getInstance(weatherVO));
+            }
+            final Bundle data = new Bundle();
+            data.putParcelableArrayList(BUNDLE_KEY_WEATHER_GROUP, values);
+            message.setData(data);
+
+            try {
                 messenger.send(message);
             } catch (RemoteException e) {
                 Log.e(CLASS_NAME, "Exception while sending:" + e.getMessage());
@@ -429,12 +1502,13 @@ public class WeatherService extends IntentService {
          * Send the weather condition icon back to the DownloadActivity via the Messenger.
          *
          * @param messenger {@link android.os.Messenger}
+         * @param iconId    Id of the icon.
          * @param iconPath  Path to the downloaded icon.
          */
-        private void sendWeatherConditionIcon(final Messenger messenger,
+        private void sendWeatherConditionIcon(final Messenger messenger, final String iconId,
                                               final String iconPath) {
             // Call factory method to create Message.
-            final Message message = makeReplyMessageWithWeatherConditionIcon(iconPath);
+            final Message message = makeReplyMessageWithWeatherConditionIcon(iconId, iconPath);
 
             try {
                 // Send weatherVO to back to the DownloadActivity.
@@ -464,7 +1538,9 @@ public class WeatherService extends IntentService {
             final Bundle data = new Bundle();
 
             // Data of the downloaded weather.
-            data.putSerializable(BUNDLE_KEY_WEATHER, weatherVO);
+            data.putParcelable(
+                    BUNDLE_KEY_WEATHER, ParcelableCurrentWeatherVO.getInstance(weatherVO)
+            );
             message.setData(data);
             return message;
         }
@@ -473,9 +1549,11 @@ public class WeatherService extends IntentService {
          * A factory method that creates a Message to return to the
          * {@link com.yuriy.weatherapp.MainActivity} with the path of the downloaded icon.
          *
+         * @param iconId   Id of the icon.
          * @param iconPath Path to the downloaded icon.
          */
-        private Message makeReplyMessageWithWeatherConditionIcon(final String iconPath) {
+        private Message makeReplyMessageWithWeatherConditionIcon(final String iconId,
+                                                                 final String iconPath) {
             final Message message = Message.obtain();
 
             // Return the result to indicate whether the download
@@ -488,6 +1566,7 @@ public class WeatherService extends IntentService {
 
             // Data of the downloaded weather.
             data.putSerializable(BUNDLE_KEY_WEATHER_ICON, iconPath);
+            data.putString(BUNDLE_KEY_WEATHER_ICON_ID, iconId);
             message.setData(data);
             return message;
         }
@@ -496,37 +1575,512 @@ public class WeatherService extends IntentService {
          * Download the requested weather data and return the instance of the
          * {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
          *
-         * @param uri URI of the weather data.
-         * @return Instance of the {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}
-         */
-        public CurrentWeatherVO downloadWeather(final Uri uri) {
-            // Instantiate appropriate downloader (HTTP one)
-            final Downloader downloader = new HTTPDownloaderImpl();
-            // Instantiate appropriate parse (JSON one)
-            final DataParser dataParser = new JSONDataParserImpl();
+         * If weather data has to be downloaded while there is last known one, last known data
+         * is sent to the provided request before download is started, unless request is
+         * superseded.
+         *
+         * @param uri      URI of the weather data.
+         * @param request  Request to send last known data to, may be null.
+         * @param token    {@link com.yuriy.weatherapp.net.CancellationToken} of the download.
+         * @param priority Priority of the download, background one is shed when request
+         *                 budget is low.
+         * @return Instance of the {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO},
+         * last known one if download is failed, null if there is no last known one either.
+         */
+        private CurrentWeatherVO downloadWeather(final Uri uri,
+                                                 final ReplyRequest<CurrentWeatherVO> request,
+                                                 final CancellationToken token,
+                                                 final RateLimiter.Priority priority) {
+            final URI requestUri = toURI(uri);
+            final String cacheKey = WeatherCache.getKey(requestUri);
+            CachedWeatherReport cachedReport = WEATHER_CACHE.get(cacheKey);
+            if (cachedReport == null) {
+                // Cold start - restore last known weather from the persistent cache
+                cachedReport = loadCachedWeather(requestUri, cacheKey);
+            }
+            if (cachedReport != null) {
+                switch (WEATHER_CACHE.getFreshness(cachedReport)) {
+                    case FRESH:
+                        Log.i(CLASS_NAME, "Weather data is fresh, use cached one");
+                        return cachedReport.getWeather();
+                    case STALE:
+                        Log.i(CLASS_NAME, "Weather data is stale, use cached one and refresh");
+                        if (WEATHER_CACHE.startRefresh(cacheKey)) {
+                            sendMessage(obtainMessage(MSG_REFRESH_DATA, requestUri));
+                        }
+                        return cachedReport.getWeather();
+                    default:
+                        // Paint last known weather before network I/O is finished
+                        if (request != null) {
+                            request.replyIntermediate(cachedReport.getWeather());
+                        }
+                        break;
+                }
+            }
+            return fetchWeather(requestUri, cacheKey, cachedReport, token, priority);
+        }
+
+        /**
+         * Load weather data of the provided {@link java.net.URI} from the persistent cache
+         * and put it into the in-memory cache.
+         *
+         * @param requestUri {@link java.net.URI} of the weather data.
+         * @param cacheKey   Key of the in-memory cache.
+         * @return Cached report or null if there is no one.
+         */
+        private CachedWeatherReport loadCachedWeather(final URI requestUri,
+                                                      final String cacheKey) {
+            final DiskResponseCache responsesCache = getResponsesCache(WeatherService.this);
+            final String url = String.valueOf(requestUri);
+            final CachedResponse response = responsesCache.get(url);
+            if (response == null) {
+                return null;
+            }
+            final DataParser dataParser = new JSONStreamDataParserImpl();
+            final CurrentWeatherVO weatherVO = dataParser.parseCurrentWeather(response.getBody());
+            if (!WeatherCache.isCacheable(weatherVO)) {
+                Log.w(CLASS_NAME, "Persistent weather data can not be parsed, remove it");
+                responsesCache.remove(url);
+                return null;
+            }
+            final CachedWeatherReport report = CachedWeatherReport.getInstance(
+                    weatherVO, response.getValidator(), response.getFetchTime()
+            );
+            WEATHER_CACHE.put(cacheKey, report);
+            return report;
+        }
+
+        /**
+         * Refresh cached weather data of the provided {@link java.net.URI}.
+         *
+         * @param requestUri {@link java.net.URI} of the weather data.
+         */
+        private void refreshWeather(final URI requestUri) {
+            final String cacheKey = WeatherCache.getKey(requestUri);
+            try {
+                // Stale data is still displayed, refresh is skipped when budget is low
+                fetchWeather(
+                        requestUri, cacheKey, WEATHER_CACHE.get(cacheKey), null,
+                        RateLimiter.Priority.BACKGROUND
+                );
+            } finally {
+                WEATHER_CACHE.finishRefresh(cacheKey);
+            }
+        }
+
+        /**
+         * Download the requested weather data, conditionally if there is previously
+         * received one, and put it into the cache.
+         *
+         * @param requestUri   {@link java.net.URI} of the weather data.
+         * @param cacheKey     Key of the cache.
+         * @param cachedReport Previously received report, may be null.
+         * @param token        {@link com.yuriy.weatherapp.net.CancellationToken} of the
+         *                     download, may be null if download can not be canceled.
+         * @param priority     Priority of the download.
+         * @return Instance of the {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO},
+         * previously received one if download is failed, null if there is no one either.
+         */
+        private CurrentWeatherVO fetchWeather(final URI requestUri, final String cacheKey,
+                                              final CachedWeatherReport cachedReport,
+                                              final CancellationToken token,
+                                              final RateLimiter.Priority priority) {
+            // Use shared downloader (HTTP one with pool of the keep-alive connections),
+            // within the request budget of the weather data
+            final Downloader downloader = getDownloader(
+                    WeatherService.this, DownloadExecutor.Lane.DATA, priority
+            );
+            // Instantiate appropriate parse (streaming JSON one)
+            final DataParser dataParser = new JSONStreamDataParserImpl();
             // Instantiate appropriate API service provider
             final APIServiceProvider serviceProvider = new APIServiceProviderImpl(dataParser);
-            // Get and return Weather
-            return serviceProvider.getCurrentWeatherReportByCity(downloader, uri);
+            // Send validators of the previous response, if there is one
+            final CacheValidator validator = cachedReport == null
+                    ? CacheValidator.getDefaultInstance()
+                    : cachedReport.getValidator();
+            // Raw body of the response is copied while it is parsed, to persist it
+            final ByteArrayOutputStream responseCopy = new ByteArrayOutputStream();
+            final DownloadResult<CurrentWeatherVO> result
+                    = serviceProvider.getCurrentWeatherReportByCity(
+                    downloader, requestUri, validator, responseCopy, token
+            );
+            // Shed background download is repeated if user attached to it meanwhile
+            if (result.isRateLimited() && priority == RateLimiter.Priority.BACKGROUND
+                    && token != null && WEATHER_FLIGHTS.getPriority(cacheKey, token)
+                    == RateLimiter.Priority.USER) {
+                Log.i(CLASS_NAME, "Background download is shed, repeat it for user");
+                return fetchWeather(
+                        requestUri, cacheKey, cachedReport, token, RateLimiter.Priority.USER
+                );
+            }
+            final DiskResponseCache responsesCache = getResponsesCache(WeatherService.this);
+            final String url = String.valueOf(requestUri);
+            final long fetchTime = System.currentTimeMillis();
+
+            // Data is not changed - re-use previously parsed Weather
+            if (result.isNotModified() && cachedReport != null) {
+                Log.i(CLASS_NAME, "Weather data is not modified, use cached one");
+                WEATHER_CACHE.put(
+                        cacheKey,
+                        CachedWeatherReport.getInstance(
+                                cachedReport.getWeather(), result.getValidator(), fetchTime
+                        )
+                );
+                responsesCache.revalidate(url, result.getValidator(), fetchTime);
+                return cachedReport.getWeather();
+            }
+
+            // Keep Weather for the next requests, in memory and on disk
+            if (result.isOk() && WeatherCache.isCacheable(result.getData())) {
+                WEATHER_CACHE.put(
+                        cacheKey,
+                        CachedWeatherReport.getInstance(
+                                result.getData(), result.getValidator(), fetchTime
+                        )
+                );
+                responsesCache.put(
+                        url,
+                        CachedResponse.getInstance(
+                                responseCopy.toByteArray(), result.getValidator(), fetchTime
+                        )
+                );
+            }
+            if (!result.isOk()) {
+                // Empty Weather of the failed download must not replace the displayed one
+                Log.w(CLASS_NAME, "Weather data is not downloaded:" + result.getStatus());
+                return cachedReport == null ? null : cachedReport.getWeather();
+            }
+            return result.getData();
         }
 
         /**
-         * Download the requested weather condition icon and return the bytes array}.
+         * Download weather data of the group of cities and put weather of every city into
+         * the cache, by the city id.
+         *
+         * @param requestUri {@link java.net.URI} of the group request.
+         * @return Weather of the cities, empty if download is failed.
+         */
+        private List<CurrentWeatherVO> fetchWeatherGroup(final URI requestUri) {
+            // Instantiate appropriate API service provider (streaming JSON parser)
+            final APIServiceProvider serviceProvider
+                    = new APIServiceProviderImpl(new JSONStreamDataParserImpl());
+            final List<CurrentWeatherVO> weatherVOs
+                    = serviceProvider.getCurrentWeatherReportsByCityIds(
+                    getDownloader(
+                            WeatherService.this, DownloadExecutor.Lane.DATA,
+                            RateLimiter.Priority.USER
+                    ),
+                    requestUri, null
+            );
+            final long fetchTime = System.currentTimeMillis();
+            for (CurrentWeatherVO weatherVO : weatherVOs) {
+                if (!WeatherCache.isCacheable(weatherVO)) {
+                    continue;
+                }
+                // Group response has no validators of the every city
+                WEATHER_CACHE.put(
+                        WeatherCache.getKey(weatherVO.getCityId()),
+                        CachedWeatherReport.getInstance(
+                                weatherVO, CacheValidator.getDefaultInstance(), fetchTime
+                        )
+                );
+            }
+            return weatherVOs;
+        }
+
+        /**
+         * Get the requested weather condition icon from the cache or download it.
          *
          * @param uri URI of the weather condition icon.
-         * @return Path to the downloaded image.
+         * @return Path to the image.
          */
         public String downloadWeatherConditionIcon(final Uri uri)
                 throws IOException {
-            // Instantiate appropriate downloader (HTTP one)
-            final Downloader downloader = new HTTPDownloaderImpl();
-            // Instantiate appropriate parse (JSON one)
-            final DataParser dataParser = new JSONDataParserImpl();
+            // Use shared downloader (HTTP one with pool of the keep-alive connections),
+            // within the request budget of the icons
+            final Downloader downloader = getDownloader(
+                    WeatherService.this, DownloadExecutor.Lane.ICON, RateLimiter.Priority.USER
+            );
+            // Instantiate appropriate parse (streaming JSON one)
+            final DataParser dataParser = new JSONStreamDataParserImpl();
             // Instantiate appropriate API service provider
             final APIServiceProvider serviceProvider = new APIServiceProviderImpl(dataParser);
             // Get and return Weather
-            return serviceProvider.getCurrentWeatherConditionsIcon(WeatherService.this,
-                    downloader, uri);
+            return serviceProvider.getCurrentWeatherConditionsIcon(
+                    getIconCache(WeatherService.this), downloader, toURI(uri)
+            );
+        }
+
+        /**
+         * Convert Android {@link android.net.Uri} into the {@link java.net.URI} which is used by
+         * the platform independent part of the Application.
+         *
+         * @param uri Android {@link android.net.Uri}.
+         * @return {@link java.net.URI} or null if provided value is null.
+         */
+        private URI toURI(final Uri uri) {
+            if (uri == null) {
+                return null;
+            }
+            return URI.create(uri.toString());
+        }
+    }
+
+    /**
+     * Binder which is returned to the clients of the same process. Requests are served the
+     * same way as the ones which are sent with {@link android.content.Intent}, results are
+     * delivered to the {@link com.yuriy.weatherapp.service.WeatherListener} by reference.
+     */
+    public final class LocalBinder extends Binder {
+
+        /**
+         * Request weather data. Previous weather data request of the same listener is
+         * superseded.
+         *
+         * @param uri       URI of the weather data.
+         * @param requestId Id of the request, it is passed back to the listener.
+         * @param listener  {@link com.yuriy.weatherapp.service.WeatherListener} to deliver
+         *                  result to.
+         * @param handler   {@link android.os.Handler} of the thread to deliver result on,
+         *                  main thread is used if it is null.
+         */
+        public void requestWeather(final Uri uri, final int requestId,
+                                   final WeatherListener listener, final Handler handler) {
+            requestWeather(uri, requestId, listener, handler, false);
+        }
+
+        /**
+         * Request weather data. Previous weather data request of the same listener is
+         * superseded. If icon is requested, download of the weather condition icon is
+         * started as soon as weather data is received, icon is delivered to the listener
+         * separately. Icons which are packaged with the Application are not downloaded.
+         *
+         * @param uri       URI of the weather data.
+         * @param requestId Id of the request, it is passed back to the listener.
+         * @param listener  {@link com.yuriy.weatherapp.service.WeatherListener} to deliver
+         *                  result to.
+         * @param handler   {@link android.os.Handler} of the thread to deliver result on,
+         *                  main thread is used if it is null.
+         * @param withIcon  Whether to download weather condition icon too.
+         */
+        public void requestWeather(final Uri uri, final int requestId,
+                                   final WeatherListener listener, final Handler handler,
+                                   final boolean withIcon) {
+            mServiceHandler.downloadWeatherAndReply(
+                    uri, new ListenerReplyTarget(listener, handler), requestId, withIcon
+            );
+        }
+
+        /**
+         * Request weather condition icon. Previous icon request of the same listener is
+         * superseded.
+         *
+         * @param uri      URI of the weather condition icon.
+         * @param listener {@link com.yuriy.weatherapp.service.WeatherListener} to deliver
+         *                 result to.
+         * @param handler  {@link android.os.Handler} of the thread to deliver result on,
+         *                 main thread is used if it is null.
+         */
+        public void requestWeatherConditionIcon(final Uri uri, final WeatherListener listener,
+                                                final Handler handler) {
+            mServiceHandler.downloadWeatherConditionIconAndReply(
+                    uri, new ListenerReplyTarget(listener, handler)
+            );
+        }
+
+        /**
+         * Request weather data of the several cities, by groups of up to
+         * {@link com.yuriy.weatherapp.net.UrlBuilder#MAX_GROUP_SIZE} cities per request.
+         * Every group is delivered as soon as it is downloaded.
+         *
+         * @param cityIds  Ids of the cities.
+         * @param listener {@link com.yuriy.weatherapp.service.WeatherListener} to deliver
+         *                 result to.
+         * @param handler  {@link android.os.Handler} of the thread to deliver result on,
+         *                 main thread is used if it is null.
+         */
+        public void requestWeatherGroup(final int[] cityIds, final WeatherListener listener,
+                                        final Handler handler) {
+            mServiceHandler.downloadWeatherGroupAndReply(
+                    cityIds, new ListenerReplyTarget(listener, handler)
+            );
+        }
+
+        /**
+         * Refresh weather data of the dashboard of cities. Cities are downloaded
+         * concurrently, but not more than provided number at the same time, every city is
+         * delivered as soon as it is downloaded or its timeout elapsed.
+         *
+         * @param cities      Parameters of the requests of the cities.
+         * @param parallelism Maximum number of the cities which are downloaded at the same
+         *                    time, value of the resources is used if it is not positive.
+         * @param timeoutMs   Time, in milliseconds, after which download of the city is
+         *                    given up, value of the resources is used if it is not positive.
+         * @param listener    {@link com.yuriy.weatherapp.service.WeatherListener} to deliver
+         *                    result to.
+         * @param handler     {@link android.os.Handler} of the thread to deliver result on,
+         *                    main thread is used if it is null.
+         */
+        public void refreshDashboard(final List<UrlRequestParameters> cities,
+                                     final int parallelism, final long timeoutMs,
+                                     final WeatherListener listener, final Handler handler) {
+            refreshDashboard(
+                    cities, parallelism, timeoutMs, RateLimiter.Priority.USER, listener, handler
+            );
+        }
+
+        /**
+         * Refresh weather data of the dashboard of cities with provided priority. Background
+         * refresh (prefetch, for example) is shed city by city when request budget is low,
+         * such cities are delivered as failed.
+         *
+         * @param cities      Parameters of the requests of the cities.
+         * @param parallelism Maximum number of the cities which are downloaded at the same
+         *                    time, value of the resources is used if it is not positive.
+         * @param timeoutMs   Time, in milliseconds, after which download of the city is
+         *                    given up, value of the resources is used if it is not positive.
+         * @param priority    Priority of the downloads.
+         * @param listener    {@link com.yuriy.weatherapp.service.WeatherListener} to deliver
+         *                    result to.
+         * @param handler     {@link android.os.Handler} of the thread to deliver result on,
+         *                    main thread is used if it is null.
+         */
+        public void refreshDashboard(final List<UrlRequestParameters> cities,
+                                     final int parallelism, final long timeoutMs,
+                                     final RateLimiter.Priority priority,
+                                     final WeatherListener listener, final Handler handler) {
+            final List<Uri> uris = new ArrayList<Uri>(cities.size());
+            for (UrlRequestParameters city : cities) {
+                uris.add(Uri.parse(UrlBuilder.getWeatherUrlByCityName(city)));
+            }
+            mServiceHandler.refreshDashboardAndReply(
+                    uris, new ListenerReplyTarget(listener, handler), parallelism, timeoutMs,
+                    priority
+            );
+        }
+
+        /**
+         * @param lane Lane of the requests, it defines endpoint class of the requests.
+         * @return Number of the requests of the provided endpoint class which may be sent at
+         * the moment without waiting.
+         */
+        public int getRemainingRequestBudget(final DownloadExecutor.Lane lane) {
+            return getRateLimiter(WeatherService.this, lane).getRemainingBudget();
+        }
+    }
+
+    /**
+     * Destination of the replies to the requester.
+     */
+    private interface ReplyTarget {
+
+        /**
+         * @return Requester, only the latest request of the requester is replied to.
+         */
+        public Object getRequester();
+
+        /**
+         * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} or null
+         *                  if download is failed.
+         * @param requestId Id of the request.
+         */
+        public void sendWeather(final CurrentWeatherVO weatherVO, final int requestId);
+
+        /**
+         * @param iconId   Id of the icon.
+         * @param iconPath Path to the icon, empty or null if download is failed.
+         */
+        public void sendWeatherConditionIcon(final String iconId, final String iconPath);
+
+        /**
+         * @param weatherVOs Weather of the group of cities, empty if download is failed.
+         */
+        public void sendWeatherGroup(final List<CurrentWeatherVO> weatherVOs);
+
+        /**
+         * @param position  Position of the city in the dashboard.
+         * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} or null
+         *                  if download is failed or timed out.
+         */
+        public void sendDashboardWeather(final int position, final CurrentWeatherVO weatherVO);
+    }
+
+    /**
+     * {@link ReplyTarget} which delivers replies to the
+     * {@link com.yuriy.weatherapp.service.WeatherListener} on the thread of the
+     * {@link android.os.Handler}.
+     */
+    private static final class ListenerReplyTarget implements ReplyTarget {
+
+        /**
+         * Listener to deliver replies to.
+         */
+        private final WeatherListener mListener;
+
+        /**
+         * Handler of the thread to deliver replies on.
+         */
+        private final Handler mHandler;
+
+        /**
+         * Constructor.
+         *
+         * @param listener Listener to deliver replies to.
+         * @param handler  Handler of the thread to deliver replies on, main thread is used if
+         *                 it is null.
+         */
+        private ListenerReplyTarget(final WeatherListener listener, final Handler handler) {
+            mListener = listener;
+            mHandler = handler == null ? new Handler(Looper.getMainLooper()) : handler;
+        }
+
+        @Override
+        public Object getRequester() {
+            return mListener;
+        }
+
+        @Override
+        public void sendWeather(final CurrentWeatherVO weatherVO, final int requestId) {
+            mHandler.post(new Runnable() {
+
+                @Override
+                public void run() {
+                    mListener.onWeather(requestId, weatherVO);
+                }
+            });
+        }
+
+        @Override
+        public void sendWeatherConditionIcon(final String iconId, final String iconPath) {
+            mHandler.post(new Runnable() {
+
+                @Override
+                public void run() {
+                    mListener.onWeatherConditionIcon(iconId, iconPath == null ? "" : iconPath);
+                }
+            });
+        }
+
+        @Override
+        public void sendWeatherGroup(final List<CurrentWeatherVO> weatherVOs) {
+            mHandler.post(new Runnable() {
+
+                @Override
+                public void run() {
+                    mListener.onWeatherGroup(weatherVOs);
+                }
+            });
+        }
+
+        @Override
+        public void sendDashboardWeather(final int position, final CurrentWeatherVO weatherVO) {
+            mHandler.post(new Runnable() {
+
+                @Override
+                public void run() {
+                    mListener.onDashboardWeather(position, weatherVO);
+                }
+            });
         }
     }
 }
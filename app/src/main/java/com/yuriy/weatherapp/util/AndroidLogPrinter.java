@@ -0,0 +1,22 @@
+package com.yuriy.weatherapp.util;
+
+import android.util.Log;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * Implementation of the {@link com.yuriy.weatherapp.util.LogPrinter} interface which outputs
+ * messages of the {@link com.yuriy.weatherapp.util.AppLogger} to the Android log.
+ */
+public class AndroidLogPrinter implements LogPrinter {
+
+    @Override
+    public void print(final int priority, final String tag, final String message) {
+        Log.println(priority, tag, message);
+    }
+}
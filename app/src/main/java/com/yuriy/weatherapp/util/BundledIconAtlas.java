@@ -0,0 +1,174 @@
+package com.yuriy.weatherapp.util;
+
+import android.content.Context;
+import android.content.res.AssetManager;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Rect;
+import android.util.Log;
+
+import com.yuriy.weatherapp.api.IconAtlasIndex;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.util.BundledIconAtlas} provides weather condition icons which
+ * are packaged with the Application as a single atlas image in the assets, together with
+ * the {@link com.yuriy.weatherapp.api.IconAtlasIndex} of the icons regions. Only the region
+ * of the requested icon is decoded. Icons which are not in the atlas have to be downloaded.
+ */
+public final class BundledIconAtlas {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = BundledIconAtlas.class.getSimpleName();
+
+    /**
+     * Path of the atlas image in the assets.
+     */
+    private static final String ATLAS_IMAGE_PATH = "icons/atlas.png";
+
+    /**
+     * Path of the atlas index in the assets.
+     */
+    private static final String ATLAS_INDEX_PATH = "icons/atlas.idx";
+
+    /**
+     * Single instance of the atlas.
+     */
+    private static BundledIconAtlas sInstance;
+
+    /**
+     * Assets of the Application.
+     */
+    private final AssetManager mAssetManager;
+
+    /**
+     * Index of the icons regions.
+     */
+    private final IconAtlasIndex mIndex;
+
+    /**
+     * Decoder of the atlas regions, created on first decode.
+     */
+    private BitmapRegionDecoder mRegionDecoder;
+
+    /**
+     * Private constructor, use {@link #getInstance(android.content.Context)}.
+     *
+     * @param assetManager Assets of the Application.
+     */
+    private BundledIconAtlas(final AssetManager assetManager) {
+        mAssetManager = assetManager;
+        mIndex = readIndex(assetManager);
+    }
+
+    /**
+     * @param context Context of the Application.
+     * @return Instance of the {@link com.yuriy.weatherapp.util.BundledIconAtlas}.
+     */
+    public static synchronized BundledIconAtlas getInstance(final Context context) {
+        if (sInstance == null) {
+            sInstance = new BundledIconAtlas(context.getApplicationContext().getAssets());
+        }
+        return sInstance;
+    }
+
+    /**
+     * @param iconId Id of the icon.
+     * @return True if icon is packaged with the Application.
+     */
+    public boolean contains(final String iconId) {
+        return mIndex.contains(iconId);
+    }
+
+    /**
+     * Decode icon from the atlas. Must not be called on the UI thread.
+     *
+     * @param iconId Id of the icon.
+     * @return Decoded icon or null if icon is not in the atlas or can not be decoded.
+     */
+    public synchronized Bitmap decode(final String iconId) {
+        final IconAtlasIndex.Region region = mIndex.getRegion(iconId);
+        if (region == null) {
+            return null;
+        }
+        if (mRegionDecoder == null) {
+            mRegionDecoder = createRegionDecoder(mAssetManager);
+            if (mRegionDecoder == null) {
+                return null;
+            }
+        }
+        final Rect rect = new Rect(
+                region.getLeft(), region.getTop(),
+                region.getLeft() + region.getWidth(), region.getTop() + region.getHeight()
+        );
+        if (rect.right > mRegionDecoder.getWidth() || rect.bottom > mRegionDecoder.getHeight()) {
+            Log.w(CLASS_NAME, "Region of the icon " + iconId + " is out of the atlas");
+            return null;
+        }
+        final BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inMutable = true;
+        return mRegionDecoder.decodeRegion(rect, options);
+    }
+
+    /**
+     * @param assetManager Assets of the Application.
+     * @return Index of the atlas, empty one if it can not be read.
+     */
+    private static IconAtlasIndex readIndex(final AssetManager assetManager) {
+        InputStream inputStream = null;
+        try {
+            inputStream = assetManager.open(ATLAS_INDEX_PATH);
+            return IconAtlasIndex.getInstance(inputStream);
+        } catch (IOException e) {
+            Log.w(CLASS_NAME, "Can not read icons atlas index:" + e.getMessage());
+        } finally {
+            closeStream(inputStream);
+        }
+        return IconAtlasIndex.getDefaultInstance();
+    }
+
+    /**
+     * @param assetManager Assets of the Application.
+     * @return Decoder of the atlas regions or null if atlas can not be read.
+     */
+    private static BitmapRegionDecoder createRegionDecoder(final AssetManager assetManager) {
+        InputStream inputStream = null;
+        try {
+            inputStream = assetManager.open(ATLAS_IMAGE_PATH);
+            return BitmapRegionDecoder.newInstance(inputStream, false);
+        } catch (IOException e) {
+            Log.e(CLASS_NAME, "Can not read icons atlas:" + e.getMessage());
+        } finally {
+            closeStream(inputStream);
+        }
+        return null;
+    }
+
+    /**
+     * Close stream, ignoring errors.
+     *
+     * @param inputStream Stream to close, may be null.
+     */
+    private static void closeStream(final InputStream inputStream) {
+        if (inputStream == null) {
+            return;
+        }
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            Log.e(CLASS_NAME, "Can not close stream:" + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.yuriy.weatherapp.util;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Message;
+import android.os.Process;
+import android.util.Log;
+import android.util.LruCache;
+
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.util.IconBitmapCache} is a process-wide, in-memory cache of the
+ * decoded weather condition icons keyed by the icon id. Size of the cache is bounded by the
+ * number of bytes of the cached bitmaps, least recently used bitmaps are evicted first.<br>
+ * Icons are decoded on the background thread and decoded bitmap is delivered to the provided
+ * {@link android.os.Handler}. Memory of the evicted bitmaps is re-used to decode next icons
+ * where possible.<br>
+ * Bitmap which may be displayed must not be overwritten, so every bitmap provided by the
+ * cache is marked as displayed and has to be released with {@link #release(Bitmap)} when it
+ * is not displayed any more. Only evicted bitmap which is not displayed is re-used.
+ */
+public final class IconBitmapCache {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = IconBitmapCache.class.getSimpleName();
+
+    /**
+     * Key for the {@link android.os.Bundle} store to hold an id of the decoded icon.
+     */
+    public static final String BUNDLE_KEY_ICON_ID = "ICON_ID";
+
+    /**
+     * Part of the maximum memory of the process which is used by the cache.
+     */
+    private static final int MEMORY_FRACTION = 32;
+
+    /**
+     * Source of the decoded bitmap.
+     */
+    private interface Decoder {
+
+        /**
+         * @return Decoded bitmap or null if it can not be decoded.
+         */
+        Bitmap decode();
+    }
+
+    /**
+     * Single instance of the cache.
+     */
+    private static IconBitmapCache sInstance;
+
+    /**
+     * Decoded bitmaps per icon id.
+     */
+    private final LruCache<String, Bitmap> mBitmaps;
+
+    /**
+     * Bitmaps which are evicted from the cache and can be re-used to decode next icons.
+     */
+    private final Set<SoftReference<Bitmap>> mReusableBitmaps
+            = new HashSet<SoftReference<Bitmap>>();
+
+    /**
+     * Number of the displays per bitmap, guarded by {@link #mReusableBitmaps}.
+     */
+    private final Map<Bitmap, Integer> mDisplayCounts = new HashMap<Bitmap, Integer>();
+
+    /**
+     * Bitmaps which are evicted from the cache while displayed, they are re-used when
+     * released, guarded by {@link #mReusableBitmaps}.
+     */
+    private final Set<Bitmap> mEvictedDisplayedBitmaps = new HashSet<Bitmap>();
+
+    /**
+     * Handler of the background thread which decodes icons.
+     */
+    private final Handler mDecodeHandler;
+
+    /**
+     * Private constructor, use {@link #getInstance()}.
+     *
+     * @param maxSizeBytes Maximum size, in bytes, of the cached bitmaps.
+     */
+    private IconBitmapCache(final int maxSizeBytes) {
+        mBitmaps = new LruCache<String, Bitmap>(maxSizeBytes) {
+
+            @Override
+            protected int sizeOf(final String key, final Bitmap value) {
+                return value.getByteCount();
+            }
+
+            @Override
+            protected void entryRemoved(final boolean evicted, final String key,
+                                        final Bitmap oldValue, final Bitmap newValue) {
+                // Only evicted bitmaps are re-used, replaced one may still be displayed
+                if (!evicted || !oldValue.isMutable()) {
+                    return;
+                }
+                synchronized (mReusableBitmaps) {
+                    if (mDisplayCounts.containsKey(oldValue)) {
+                        mEvictedDisplayedBitmaps.add(oldValue);
+                    } else {
+                        mReusableBitmaps.add(new SoftReference<Bitmap>(oldValue));
+                    }
+                }
+            }
+        };
+
+        final HandlerThread thread = new HandlerThread(
+                "IconDecodeThread", Process.THREAD_PRIORITY_BACKGROUND
+        );
+        thread.start();
+        mDecodeHandler = new Handler(thread.getLooper());
+    }
+
+    /**
+     * @return Instance of the {@link com.yuriy.weatherapp.util.IconBitmapCache}.
+     */
+    public static synchronized IconBitmapCache getInstance() {
+        if (sInstance == null) {
+            sInstance = new IconBitmapCache(
+                    (int) (Runtime.getRuntime().maxMemory() / MEMORY_FRACTION)
+            );
+        }
+        return sInstance;
+    }
+
+    /**
+     * Get cached bitmap and mark it as displayed, so that its memory is not re-used until
+     * it is released with {@link #release(Bitmap)}.
+     *
+     * @param iconId Id of the icon.
+     * @return Decoded bitmap of the icon or null if it is not cached.
+     */
+    public Bitmap acquire(final String iconId) {
+        if (iconId == null || iconId.isEmpty()) {
+            return null;
+        }
+        synchronized (mReusableBitmaps) {
+            final Bitmap bitmap = mBitmaps.get(iconId);
+            if (bitmap != null) {
+                retain(bitmap);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * Release bitmap which is not displayed any more. Memory of the evicted bitmap is
+     * re-used when it is released by all the displays.
+     *
+     * @param bitmap Bitmap provided by the cache.
+     */
+    public void release(final Bitmap bitmap) {
+        if (bitmap == null) {
+            return;
+        }
+        synchronized (mReusableBitmaps) {
+            final Integer count = mDisplayCounts.get(bitmap);
+            if (count == null) {
+                Log.w(CLASS_NAME, "Release of the bitmap which is not displayed");
+                return;
+            }
+            if (count > 1) {
+                mDisplayCounts.put(bitmap, count - 1);
+                return;
+            }
+            mDisplayCounts.remove(bitmap);
+            if (mEvictedDisplayedBitmaps.remove(bitmap)) {
+                mReusableBitmaps.add(new SoftReference<Bitmap>(bitmap));
+            }
+        }
+    }
+
+    /**
+     * Decode icon on the background thread and put decoded bitmap into the cache.
+     * When decoding is finished, Message with the provided id is sent to the provided
+     * {@link android.os.Handler}, {@link android.os.Message#obj} holds decoded bitmap
+     * (null if icon can not be decoded) and the data holds id of the icon under
+     * {@link #BUNDLE_KEY_ICON_ID} key. Bitmap is marked as displayed, receiver has to
+     * release it with {@link #release(Bitmap)} when it is not displayed or is skipped.<br>
+     * If icon is already cached, Message is sent without decoding.
+     *
+     * @param iconId       Id of the icon.
+     * @param pathname     Path to the file of the icon.
+     * @param replyHandler {@link android.os.Handler} to send decoded bitmap to.
+     * @param what         Id of the Message to send.
+     */
+    public void decode(final String iconId, final String pathname,
+                       final Handler replyHandler, final int what) {
+        decode(iconId, new Decoder() {
+
+            @Override
+            public Bitmap decode() {
+                return decodeFile(pathname);
+            }
+        }, replyHandler, what);
+    }
+
+    /**
+     * Decode icon from the {@link com.yuriy.weatherapp.util.BundledIconAtlas} on the background
+     * thread and put decoded bitmap into the cache. Decoded bitmap is delivered in the same
+     * way as by {@link #decode(String, String, android.os.Handler, int)}.
+     *
+     * @param iconId       Id of the icon.
+     * @param atlas        {@link com.yuriy.weatherapp.util.BundledIconAtlas} with the icon.
+     * @param replyHandler {@link android.os.Handler} to send decoded bitmap to.
+     * @param what         Id of the Message to send.
+     */
+    public void decode(final String iconId, final BundledIconAtlas atlas,
+                       final Handler replyHandler, final int what) {
+        decode(iconId, new Decoder() {
+
+            @Override
+            public Bitmap decode() {
+                return atlas.decode(iconId);
+            }
+        }, replyHandler, what);
+    }
+
+    /**
+     * Decode icon with the provided {@link Decoder} on the background thread, unless it is
+     * cached, and send decoded bitmap to the provided {@link android.os.Handler}.
+     *
+     * @param iconId       Id of the icon.
+     * @param decoder      {@link Decoder} of the icon.
+     * @param replyHandler {@link android.os.Handler} to send decoded bitmap to.
+     * @param what         Id of the Message to send.
+     */
+    private void decode(final String iconId, final Decoder decoder,
+                        final Handler replyHandler, final int what) {
+        mDecodeHandler.post(new Runnable() {
+
+            @Override
+            public void run() {
+                Bitmap bitmap = acquire(iconId);
+                if (bitmap == null) {
+                    bitmap = decoder.decode();
+                    if (bitmap != null) {
+                        // Retained before cached, so that it is not re-used if evicted at once
+                        synchronized (mReusableBitmaps) {
+                            retain(bitmap);
+                        }
+                        if (iconId != null && !iconId.isEmpty()) {
+                            mBitmaps.put(iconId, bitmap);
+                        }
+                    }
+                }
+
+                final Message message = replyHandler.obtainMessage(what, bitmap);
+                final Bundle data = new Bundle();
+                data.putString(BUNDLE_KEY_ICON_ID, iconId);
+                message.setData(data);
+                replyHandler.sendMessage(message);
+            }
+        });
+    }
+
+    /**
+     * Mark bitmap as displayed one more time, must be called with the lock of
+     * {@link #mReusableBitmaps} held.
+     *
+     * @param bitmap Bitmap to mark.
+     */
+    private void retain(final Bitmap bitmap) {
+        final Integer count = mDisplayCounts.get(bitmap);
+        mDisplayCounts.put(bitmap, count == null ? 1 : count + 1);
+    }
+
+    /**
+     * Decode file into the mutable bitmap, re-using memory of the evicted bitmap if possible.
+     *
+     * @param pathname Path to the file.
+     * @return Decoded bitmap or null if file can not be decoded.
+     */
+    private Bitmap decodeFile(final String pathname) {
+        if (pathname == null || pathname.isEmpty()) {
+            return null;
+        }
+        final BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(pathname, options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            Log.w(CLASS_NAME, "Can not decode bounds of the icon " + pathname);
+            return null;
+        }
+
+        options.inJustDecodeBounds = false;
+        options.inMutable = true;
+        options.inSampleSize = 1;
+        options.inBitmap = takeReusableBitmap(options);
+        try {
+            return BitmapFactory.decodeFile(pathname, options);
+        } catch (IllegalArgumentException e) {
+            // Re-used bitmap does not fit, decode into the new one
+            Log.w(CLASS_NAME, "Can not re-use bitmap:" + e.getMessage());
+            options.inBitmap = null;
+            return BitmapFactory.decodeFile(pathname, options);
+        }
+    }
+
+    /**
+     * Take evicted bitmap which can hold the image with the provided bounds.
+     *
+     * @param options Options with the decoded bounds of the image.
+     * @return Bitmap to re-use or null if there is no suitable one.
+     */
+    private Bitmap takeReusableBitmap(final BitmapFactory.Options options) {
+        synchronized (mReusableBitmaps) {
+            final Iterator<SoftReference<Bitmap>> iterator = mReusableBitmaps.iterator();
+            while (iterator.hasNext()) {
+                final Bitmap bitmap = iterator.next().get();
+                if (bitmap == null || !bitmap.isMutable() || bitmap.isRecycled()) {
+                    iterator.remove();
+                    continue;
+                }
+                if (canReuse(bitmap, options)) {
+                    iterator.remove();
+                    return bitmap;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param bitmap  Candidate to re-use.
+     * @param options Options with the decoded bounds of the image.
+     * @return True if provided bitmap can hold the image.
+     */
+    private static boolean canReuse(final Bitmap bitmap, final BitmapFactory.Options options) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            // Any bitmap which is not smaller than the image
+            final int byteCount = options.outWidth * options.outHeight
+                    * getBytesPerPixel(bitmap.getConfig());
+            return byteCount <= bitmap.getAllocationByteCount();
+        }
+        // Before KitKat only bitmap of the same size can be re-used
+        return bitmap.getWidth() == options.outWidth && bitmap.getHeight() == options.outHeight;
+    }
+
+    /**
+     * @param config Config of the bitmap.
+     * @return Number of bytes per pixel.
+     */
+    private static int getBytesPerPixel(final Bitmap.Config config) {
+        if (config == Bitmap.Config.ARGB_8888) {
+            return 4;
+        }
+        if (config == Bitmap.Config.RGB_565 || config == Bitmap.Config.ARGB_4444) {
+            return 2;
+        }
+        return 1;
+    }
+}
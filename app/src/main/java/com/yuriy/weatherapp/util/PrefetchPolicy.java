@@ -0,0 +1,111 @@
+package com.yuriy.weatherapp.util;
+
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.net.ConnectivityManager;
+import android.net.NetworkInfo;
+import android.os.BatteryManager;
+import android.os.Build;
+import android.os.PowerManager;
+import android.util.Log;
+
+import com.yuriy.weatherapp.R;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.util.PrefetchPolicy} decides whether speculative downloads,
+ * which are not requested by the user, are allowed at the moment. Prefetch is allowed only
+ * on the connected not metered network, and only while device is charging or battery level
+ * is not below the configured one and power save mode is off.
+ */
+public final class PrefetchPolicy {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = PrefetchPolicy.class.getSimpleName();
+
+    /**
+     * Private constructor, class contains static methods only.
+     */
+    private PrefetchPolicy() {
+        super();
+    }
+
+    /**
+     * @param context Context of the Application.
+     * @return True if prefetch is allowed by the network and the battery state.
+     */
+    public static boolean isPrefetchAllowed(final Context context) {
+        if (!isUnmeteredNetwork(context)) {
+            Log.d(CLASS_NAME, "Prefetch is not allowed, network is metered or not connected");
+            return false;
+        }
+        if (!isBatteryAllowed(context)) {
+            Log.d(CLASS_NAME, "Prefetch is not allowed, battery is low or power is saved");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param context Context of the Application.
+     * @return True if active network is connected and is not metered.
+     */
+    private static boolean isUnmeteredNetwork(final Context context) {
+        final ConnectivityManager manager
+                = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+        if (manager == null) {
+            return false;
+        }
+        final NetworkInfo networkInfo = manager.getActiveNetworkInfo();
+        if (networkInfo == null || !networkInfo.isConnected()) {
+            return false;
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            return !manager.isActiveNetworkMetered();
+        }
+        // Mobile network is treated as metered on the older platforms
+        return networkInfo.getType() != ConnectivityManager.TYPE_MOBILE;
+    }
+
+    /**
+     * @param context Context of the Application.
+     * @return True if device is charging, or battery level is not below the configured one
+     * and power save mode is off.
+     */
+    private static boolean isBatteryAllowed(final Context context) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            final PowerManager powerManager
+                    = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+            if (powerManager != null && powerManager.isPowerSaveMode()) {
+                return false;
+            }
+        }
+        // Battery state is a sticky broadcast, it is read without receiver
+        final Intent batteryStatus = context.registerReceiver(
+                null, new IntentFilter(Intent.ACTION_BATTERY_CHANGED)
+        );
+        if (batteryStatus == null) {
+            // Battery state is unknown, device may have no battery
+            return true;
+        }
+        if (batteryStatus.getIntExtra(BatteryManager.EXTRA_PLUGGED, 0) != 0) {
+            return true;
+        }
+        final int level = batteryStatus.getIntExtra(BatteryManager.EXTRA_LEVEL, -1);
+        final int scale = batteryStatus.getIntExtra(BatteryManager.EXTRA_SCALE, -1);
+        if (level < 0 || scale <= 0) {
+            return true;
+        }
+        return level * 100 / scale
+                >= context.getResources().getInteger(R.integer.prefetch_min_battery_percent);
+    }
+}
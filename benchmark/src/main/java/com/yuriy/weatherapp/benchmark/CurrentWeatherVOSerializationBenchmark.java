@@ -0,0 +1,67 @@
+package com.yuriy.weatherapp.benchmark;
+
+import com.yuriy.weatherapp.business.JSONStreamDataParserImpl;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Benchmarks of the Java serialization of the {@link CurrentWeatherVO}, which is the way
+ * it is passed with the Bundle today.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CurrentWeatherVOSerializationBenchmark {
+
+    @Param({Fixtures.SHUZENJI, Fixtures.BERLIN})
+    public String mFixture;
+
+    private CurrentWeatherVO mWeatherVO;
+
+    private byte[] mSerialized;
+
+    @Setup
+    public void setUp() throws IOException {
+        mWeatherVO = new JSONStreamDataParserImpl().parseCurrentWeather(
+                Fixtures.readBytes(mFixture)
+        );
+        mSerialized = serialize(mWeatherVO);
+    }
+
+    @Benchmark
+    public byte[] serializeVO() throws IOException {
+        return serialize(mWeatherVO);
+    }
+
+    @Benchmark
+    public Object deserializeVO() throws IOException, ClassNotFoundException {
+        final ObjectInputStream inputStream
+                = new ObjectInputStream(new ByteArrayInputStream(mSerialized));
+        final Object result = inputStream.readObject();
+        inputStream.close();
+        return result;
+    }
+
+    private static byte[] serialize(final CurrentWeatherVO weatherVO) throws IOException {
+        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        final ObjectOutputStream outputStream = new ObjectOutputStream(byteStream);
+        outputStream.writeObject(weatherVO);
+        outputStream.close();
+        return byteStream.toByteArray();
+    }
+}
@@ -0,0 +1,92 @@
+package com.yuriy.weatherapp.benchmark;
+
+import com.yuriy.weatherapp.business.DataParser;
+import com.yuriy.weatherapp.business.JSONDataParserImpl;
+import com.yuriy.weatherapp.business.JSONStreamDataParserImpl;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * Benchmarks of the {@link com.yuriy.weatherapp.business.DataParser} implementations
+ * over recorded OpenWeatherMap responses.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DataParserBenchmark {
+
+    @Param({Fixtures.SHUZENJI, Fixtures.BERLIN, Fixtures.LOS_ANGELES})
+    public String mFixture;
+
+    private String mResponse;
+
+    private byte[] mResponseBytes;
+
+    private DataParser mTreeParser;
+
+    private DataParser mStreamParser;
+
+    @Setup
+    public void setUp() {
+        mResponse = Fixtures.readString(mFixture);
+        mResponseBytes = Fixtures.readBytes(mFixture);
+        mTreeParser = new JSONDataParserImpl();
+        mStreamParser = new JSONStreamDataParserImpl();
+    }
+
+    /**
+     * Baseline: one call per field, the way the response was consumed before
+     * the single-pass entry point existed. Every call parses the whole document.
+     */
+    @Benchmark
+    public void treePerFieldCalls(final Blackhole blackhole) {
+        blackhole.consume(mTreeParser.parseCityCoordinates(mResponse));
+        blackhole.consume(mTreeParser.parseSysInfo(mResponse));
+        blackhole.consume(mTreeParser.parseWeather(mResponse));
+        blackhole.consume(mTreeParser.parseMainInfo(mResponse));
+        blackhole.consume(mTreeParser.parseWind(mResponse));
+        blackhole.consume(mTreeParser.parseRain(mResponse));
+        blackhole.consume(mTreeParser.parseClouds(mResponse));
+        blackhole.consume(mTreeParser.parseDt(mResponse));
+        blackhole.consume(mTreeParser.parseId(mResponse));
+        blackhole.consume(mTreeParser.parseName(mResponse));
+        blackhole.consume(mTreeParser.parseCod(mResponse));
+    }
+
+    @Benchmark
+    public CurrentWeatherVO treeSinglePassString() {
+        return mTreeParser.parseCurrentWeather(mResponse);
+    }
+
+    @Benchmark
+    public CurrentWeatherVO treeSinglePassBytes() {
+        return mTreeParser.parseCurrentWeather(mResponseBytes);
+    }
+
+    @Benchmark
+    public CurrentWeatherVO streamString() {
+        return mStreamParser.parseCurrentWeather(mResponse);
+    }
+
+    @Benchmark
+    public CurrentWeatherVO streamBytes() {
+        return mStreamParser.parseCurrentWeather(mResponseBytes);
+    }
+
+    @Benchmark
+    public CurrentWeatherVO streamInputStream() {
+        return mStreamParser.parseCurrentWeather(new ByteArrayInputStream(mResponseBytes));
+    }
+}
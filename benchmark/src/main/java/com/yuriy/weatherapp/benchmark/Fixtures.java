@@ -0,0 +1,63 @@
+package com.yuriy.weatherapp.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link Fixtures} is a helper class which loads recorded OpenWeatherMap responses
+ * from the benchmark resources.
+ */
+public final class Fixtures {
+
+    /**
+     * Names of the recorded responses of the current weather API.
+     */
+    public static final String SHUZENJI = "current_weather_shuzenji";
+    public static final String BERLIN = "current_weather_berlin";
+    public static final String LOS_ANGELES = "current_weather_los_angeles";
+
+    private static final String PATH_FORMAT = "/fixtures/%s.json";
+
+    private Fixtures() { }
+
+    /**
+     * Load fixture as raw bytes, the same way it is received from the network.
+     *
+     * @param name Name of the fixture.
+     * @return Raw bytes of the fixture.
+     */
+    public static byte[] readBytes(final String name) {
+        final InputStream inputStream
+                = Fixtures.class.getResourceAsStream(String.format(PATH_FORMAT, name));
+        if (inputStream == null) {
+            throw new IllegalArgumentException("Unknown fixture:" + name);
+        }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        int length;
+        try {
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            inputStream.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Can not read fixture:" + name, e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Load fixture as UTF-8 decoded String.
+     *
+     * @param name Name of the fixture.
+     * @return Content of the fixture.
+     */
+    public static String readString(final String name) {
+        try {
+            return new String(readBytes(name), "UTF-8");
+        } catch (IOException e) {
+            throw new IllegalStateException("Can not decode fixture:" + name, e);
+        }
+    }
+}
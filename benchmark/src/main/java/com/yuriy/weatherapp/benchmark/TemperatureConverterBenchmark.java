@@ -0,0 +1,57 @@
+package com.yuriy.weatherapp.benchmark;
+
+import com.yuriy.weatherapp.business.TemperatureConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the Kelvin conversions which are performed on every display of the weather.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TemperatureConverterBenchmark {
+
+    /**
+     * Realistic range of the Kelvin values received from the service, with 0.01 step.
+     */
+    private static final double MIN_KELVIN = 183.15;
+    private static final double MAX_KELVIN = 333.15;
+
+    private double[] mKelvinValues;
+
+    private int mIndex;
+
+    @Setup
+    public void setUp() {
+        final int size = (int) Math.round((MAX_KELVIN - MIN_KELVIN) * 100) + 1;
+        mKelvinValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            mKelvinValues[i] = (Math.round(MIN_KELVIN * 100) + i) / 100.0;
+        }
+    }
+
+    private double nextKelvin() {
+        if (++mIndex == mKelvinValues.length) {
+            mIndex = 0;
+        }
+        return mKelvinValues[mIndex];
+    }
+
+    @Benchmark
+    public double kelvinToCelsius() {
+        return TemperatureConverter.kelvinToCelsius(nextKelvin());
+    }
+
+    @Benchmark
+    public double kelvinToFahrenheit() {
+        return TemperatureConverter.kelvinToFahrenheit(nextKelvin());
+    }
+}
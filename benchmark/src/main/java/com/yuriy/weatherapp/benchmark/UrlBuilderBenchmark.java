@@ -0,0 +1,42 @@
+package com.yuriy.weatherapp.benchmark;
+
+import com.yuriy.weatherapp.net.UrlBuilder;
+import com.yuriy.weatherapp.net.UrlRequestParameters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link com.yuriy.weatherapp.net.UrlBuilder}.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class UrlBuilderBenchmark {
+
+    private UrlRequestParameters mParameters;
+
+    @Setup
+    public void setUp() {
+        mParameters = new UrlRequestParameters();
+        mParameters.setCity("Los+Angeles");
+        mParameters.setCountryAbbreviation("US");
+        mParameters.setCityNameKey("q");
+    }
+
+    @Benchmark
+    public String getWeatherUrlByCityName() {
+        return UrlBuilder.getWeatherUrlByCityName(mParameters);
+    }
+
+    @Benchmark
+    public String getWeatherIconByCode() {
+        return UrlBuilder.getWeatherIconByCode("10d");
+    }
+}
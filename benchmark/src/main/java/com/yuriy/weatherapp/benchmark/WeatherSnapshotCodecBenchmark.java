@@ -0,0 +1,50 @@
+package com.yuriy.weatherapp.benchmark;
+
+import com.yuriy.weatherapp.business.JSONStreamDataParserImpl;
+import com.yuriy.weatherapp.business.WeatherSnapshotCodec;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the binary snapshot of the {@link CurrentWeatherVO}, to compare with
+ * {@link CurrentWeatherVOSerializationBenchmark} and {@link DataParserBenchmark}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class WeatherSnapshotCodecBenchmark {
+
+    @Param({Fixtures.SHUZENJI, Fixtures.BERLIN})
+    public String mFixture;
+
+    private CurrentWeatherVO mWeatherVO;
+
+    private byte[] mSnapshot;
+
+    @Setup
+    public void setUp() {
+        mWeatherVO = new JSONStreamDataParserImpl().parseCurrentWeather(
+                Fixtures.readBytes(mFixture)
+        );
+        mSnapshot = WeatherSnapshotCodec.encodeToBytes(mWeatherVO);
+    }
+
+    @Benchmark
+    public byte[] encodeVO() {
+        return WeatherSnapshotCodec.encodeToBytes(mWeatherVO);
+    }
+
+    @Benchmark
+    public CurrentWeatherVO decodeVO() {
+        return WeatherSnapshotCodec.decode(mSnapshot);
+    }
+}
@@ -0,0 +1,119 @@
+package com.yuriy.weatherapp.api;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+import com.yuriy.weatherapp.net.CacheValidator;
+import com.yuriy.weatherapp.net.CancellationToken;
+import com.yuriy.weatherapp.net.DownloadResult;
+import com.yuriy.weatherapp.net.Downloader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * {@link com.yuriy.weatherapp.api.APIServiceProvider} interface provides various methods
+ * to operate with Weather Service API.<br>
+ * http://openweathermap.org/api<br>
+ * This interface can be extended as much as API allows.
+ */
+public interface APIServiceProvider {
+
+    /**
+     * Access current weather data for any location on Earth.
+     *
+     * @param downloader Implementation of the {@link com.yuriy.weatherapp.net.Downloader}.
+     * @param uri        {@link java.net.URI} of the request.
+     * @return {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     */
+    public CurrentWeatherVO getCurrentWeatherReportByCity(final Downloader downloader,
+                                                          final URI uri);
+
+    /**
+     * Access current weather data for any location on Earth with conditional request.
+     * If server responds with "304 Not Modified" response is not parsed and result has
+     * {@link com.yuriy.weatherapp.net.DownloadResult.Status#NOT_MODIFIED} status, so that
+     * previously received {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}
+     * can be re-used.
+     *
+     * @param downloader Implementation of the {@link com.yuriy.weatherapp.net.Downloader}.
+     * @param uri        {@link java.net.URI} of the request.
+     * @param validator  Validator of the previously received response.
+     * @return {@link com.yuriy.weatherapp.net.DownloadResult} with
+     * {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     */
+    public DownloadResult<CurrentWeatherVO> getCurrentWeatherReportByCity(
+            final Downloader downloader, final URI uri, final CacheValidator validator);
+
+    /**
+     * Access current weather data for any location on Earth with conditional request and
+     * copy raw (decoded) body of the response into the provided stream while it is parsed,
+     * so that it can be persisted without being downloaded or buffered twice.
+     *
+     * @param downloader   Implementation of the {@link com.yuriy.weatherapp.net.Downloader}.
+     * @param uri          {@link java.net.URI} of the request.
+     * @param validator    Validator of the previously received response.
+     * @param responseCopy Stream to copy raw body of the response into, may be null.
+     * @return {@link com.yuriy.weatherapp.net.DownloadResult} with
+     * {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     */
+    public DownloadResult<CurrentWeatherVO> getCurrentWeatherReportByCity(
+            final Downloader downloader, final URI uri, final CacheValidator validator,
+            final OutputStream responseCopy);
+
+    /**
+     * Access current weather data for any location on Earth, same as
+     * {@link #getCurrentWeatherReportByCity(com.yuriy.weatherapp.net.Downloader, java.net.URI,
+     * com.yuriy.weatherapp.net.CacheValidator, java.io.OutputStream)}, request in flight and
+     * parsing of the response are aborted when the provided token is canceled.
+     *
+     * @param downloader   Implementation of the {@link com.yuriy.weatherapp.net.Downloader}.
+     * @param uri          {@link java.net.URI} of the request.
+     * @param validator    Validator of the previously received response.
+     * @param responseCopy Stream to copy raw body of the response into, may be null.
+     * @param token        {@link com.yuriy.weatherapp.net.CancellationToken} of the request,
+     *                     may be null if request can not be canceled.
+     * @return {@link com.yuriy.weatherapp.net.DownloadResult} with
+     * {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}, failed one if request
+     * is canceled.
+     */
+    public DownloadResult<CurrentWeatherVO> getCurrentWeatherReportByCity(
+            final Downloader downloader, final URI uri, final CacheValidator validator,
+            final OutputStream responseCopy, final CancellationToken token);
+
+    /**
+     * Access current weather data of the several cities with a single group request, see
+     * {@link com.yuriy.weatherapp.net.UrlBuilder#getWeatherGroupUrlsByCityIds(int[])}.
+     * Response is parsed directly from the response stream into the Weather per city.
+     *
+     * @param downloader Implementation of the {@link com.yuriy.weatherapp.net.Downloader}.
+     * @param uri        {@link java.net.URI} of the group request.
+     * @param token      {@link com.yuriy.weatherapp.net.CancellationToken} of the request,
+     *                   may be null if request can not be canceled.
+     * @return {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} per city, empty if
+     * request is failed or canceled.
+     */
+    public List<CurrentWeatherVO> getCurrentWeatherReportsByCityIds(
+            final Downloader downloader, final URI uri, final CancellationToken token);
+
+    /**
+     * Return a path to the Icon for the weather condition. Icon is downloaded only if it is
+     * not stored in the provided {@link com.yuriy.weatherapp.api.IconCache} yet.
+     *
+     * @param iconCache  {@link com.yuriy.weatherapp.api.IconCache} to get Icon from and
+     *                   to save downloaded Icon into.
+     * @param downloader Implementation of the {@link com.yuriy.weatherapp.net.Downloader}.
+     * @param uri        {@link java.net.URI} of the request.
+     * @return Path to the Icon or empty string if it is not available.
+     */
+    public String getCurrentWeatherConditionsIcon(final IconCache iconCache,
+                                                  final Downloader downloader,
+                                                  final URI uri) throws IOException;
+}
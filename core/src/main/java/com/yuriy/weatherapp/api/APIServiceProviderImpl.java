@@ -0,0 +1,307 @@
+package com.yuriy.weatherapp.api;
+
+import com.yuriy.weatherapp.business.DataParser;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+import com.yuriy.weatherapp.net.CacheValidator;
+import com.yuriy.weatherapp.net.CancellationToken;
+import com.yuriy.weatherapp.net.DownloadResult;
+import com.yuriy.weatherapp.net.Downloader;
+import com.yuriy.weatherapp.net.ResponseStreamHandler;
+import com.yuriy.weatherapp.net.TeeInputStream;
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.api.APIServiceProviderImpl} implements
+ * {@link com.yuriy.weatherapp.api.APIServiceProvider} interface.
+ */
+public class APIServiceProviderImpl implements APIServiceProvider {
+
+    private static final String CLASS_NAME = APIServiceProviderImpl.class.getSimpleName();
+
+    /**
+     * Implementation of the {@link com.yuriy.weatherapp.business.DataParser} allows to
+     * parse raw response of the weather data into different formats.
+     */
+    private DataParser mDataParser;
+
+    /**
+     * Constructor.
+     *
+     * @param dataParser Implementation of the {@link com.yuriy.weatherapp.business.DataParser}.
+     */
+    public APIServiceProviderImpl(final DataParser dataParser) {
+        if (dataParser == null) {
+            AppLogger.w(CLASS_NAME, "Constructor -> data parser is null");
+        }
+        mDataParser = dataParser;
+    }
+
+    @Override
+    public String getCurrentWeatherConditionsIcon(final IconCache iconCache,
+                                                  final Downloader downloader, final URI uri)
+            throws IOException {
+        if (iconCache == null) {
+            AppLogger.w(CLASS_NAME, "Can not get weather condition icon, cache is null");
+            return "";
+        }
+        final String iconId = IconCache.getKey(uri);
+        if (iconId.isEmpty()) {
+            AppLogger.w(CLASS_NAME, "Can not get weather condition icon, unknown id:" + uri);
+            return "";
+        }
+
+        // Icons never change, so stored one is used without any request
+        File icon = iconCache.get(iconId);
+        if (icon != null) {
+            AppLogger.i(CLASS_NAME, "Weather condition icon " + iconId + " is cached");
+            return icon.getAbsolutePath();
+        }
+
+        // Download response from the server
+        final byte[] responseBytes = getResponseBytes(downloader, uri);
+
+        // Ignore null or empty response
+        if (responseBytes == null || responseBytes.length == 0) {
+            AppLogger.w(CLASS_NAME, "Can not save weather condition icon, response is empty");
+            return "";
+        }
+
+        // Save icons bytes into the cache
+        icon = iconCache.put(iconId, responseBytes);
+        if (icon == null) {
+            throw new IOException("Can not save weather condition icon " + iconId);
+        }
+
+        return icon.getAbsolutePath();
+    }
+
+    @Override
+    public CurrentWeatherVO getCurrentWeatherReportByCity(final Downloader downloader,
+                                                          final URI uri) {
+        if (!isWeatherRequestValid(downloader, uri)) {
+            return CurrentWeatherVO.getInstance();
+        }
+
+        // Download response from the server and parse it directly from the response stream,
+        // so that response is never copied into the bytes array or String.
+        final CurrentWeatherVO weatherVO = downloader.downloadDataFromUri(
+                uri, createWeatherHandler(null)
+        );
+
+        return checkWeather(weatherVO);
+    }
+
+    @Override
+    public DownloadResult<CurrentWeatherVO> getCurrentWeatherReportByCity(
+            final Downloader downloader, final URI uri, final CacheValidator validator) {
+        return getCurrentWeatherReportByCity(downloader, uri, validator, null);
+    }
+
+    @Override
+    public DownloadResult<CurrentWeatherVO> getCurrentWeatherReportByCity(
+            final Downloader downloader, final URI uri, final CacheValidator validator,
+            final OutputStream responseCopy) {
+        return getCurrentWeatherReportByCity(downloader, uri, validator, responseCopy, null);
+    }
+
+    @Override
+    public DownloadResult<CurrentWeatherVO> getCurrentWeatherReportByCity(
+            final Downloader downloader, final URI uri, final CacheValidator validator,
+            final OutputStream responseCopy, final CancellationToken token) {
+        if (!isWeatherRequestValid(downloader, uri)) {
+            return DownloadResult.failed(CurrentWeatherVO.getInstance());
+        }
+        if (token != null && token.isCanceled()) {
+            AppLogger.i(CLASS_NAME, "Weather request is canceled");
+            return DownloadResult.failed(CurrentWeatherVO.getInstance());
+        }
+
+        // Download response from the server and parse it directly from the response stream,
+        // response is not parsed at all if it is not modified.
+        final DownloadResult<CurrentWeatherVO> result = token == null
+                ? downloader.downloadDataFromUri(uri, validator, createWeatherHandler(responseCopy))
+                : downloader.downloadDataFromUri(
+                uri, validator, createWeatherHandler(responseCopy), token
+        );
+
+        if (result == null) {
+            AppLogger.w(CLASS_NAME, "Can not download weather data, result is null");
+            return DownloadResult.failed(CurrentWeatherVO.getInstance());
+        }
+        if (result.isNotModified()) {
+            AppLogger.i(CLASS_NAME, "Weather Response is not modified");
+            return result.copyWithData(CurrentWeatherVO.getInstance());
+        }
+        if (result.isRateLimited()) {
+            AppLogger.w(CLASS_NAME, "Weather request is rate limited");
+            return result.copyWithData(CurrentWeatherVO.getInstance());
+        }
+        if (!result.isOk()) {
+            return DownloadResult.failed(CurrentWeatherVO.getInstance());
+        }
+        return result.copyWithData(checkWeather(result.getData()));
+    }
+
+    @Override
+    public List<CurrentWeatherVO> getCurrentWeatherReportsByCityIds(
+            final Downloader downloader, final URI uri, final CancellationToken token) {
+        if (!isWeatherRequestValid(downloader, uri)) {
+            return new ArrayList<CurrentWeatherVO>();
+        }
+        if (token != null && token.isCanceled()) {
+            AppLogger.i(CLASS_NAME, "Weather group request is canceled");
+            return new ArrayList<CurrentWeatherVO>();
+        }
+
+        // Download response from the server and parse it directly from the response stream,
+        // every city is built as soon as it is read.
+        final DownloadResult<List<CurrentWeatherVO>> result = token == null
+                ? downloader.downloadDataFromUri(
+                uri, CacheValidator.getDefaultInstance(), createWeatherGroupHandler()
+        )
+                : downloader.downloadDataFromUri(
+                uri, CacheValidator.getDefaultInstance(), createWeatherGroupHandler(), token
+        );
+
+        if (result == null || !result.isOk() || result.getData() == null) {
+            AppLogger.w(CLASS_NAME, "Can not download weather group data");
+            return new ArrayList<CurrentWeatherVO>();
+        }
+        AppLogger.i(CLASS_NAME, "Weather group Response parsed for "
+                + result.getData().size() + " cities");
+        return result.getData();
+    }
+
+    /**
+     * Check whether it is possible to perform weather data request.
+     *
+     * @param downloader Implementation of the {@link com.yuriy.weatherapp.net.Downloader}
+     * @param uri        Provided Uri
+     * @return True if request can be performed.
+     */
+    private boolean isWeatherRequestValid(final Downloader downloader, final URI uri) {
+        if (downloader == null) {
+            AppLogger.w(CLASS_NAME, "Can not download weather data, downloader is null");
+            return false;
+        }
+        if (uri == null) {
+            AppLogger.w(CLASS_NAME, "Can not download weather data, uri is null");
+            return false;
+        }
+        if (mDataParser == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse weather data, parser is null");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Create handler which parses weather data directly from the response stream.
+     *
+     * @param responseCopy Stream to copy raw body of the response into, may be null.
+     * @return Implementation of the {@link com.yuriy.weatherapp.net.ResponseStreamHandler}.
+     */
+    private ResponseStreamHandler<CurrentWeatherVO> createWeatherHandler(
+            final OutputStream responseCopy) {
+        return new ResponseStreamHandler<CurrentWeatherVO>() {
+
+            @Override
+            public CurrentWeatherVO onResponseStream(final InputStream inputStream)
+                    throws IOException {
+                if (responseCopy == null) {
+                    return mDataParser.parseCurrentWeather(inputStream);
+                }
+                final TeeInputStream teeStream = new TeeInputStream(inputStream, responseCopy);
+                final CurrentWeatherVO weatherVO = mDataParser.parseCurrentWeather(teeStream);
+                // Parser may stop reading before the end of the stream
+                teeStream.drain();
+                return weatherVO;
+            }
+
+            @Override
+            public CurrentWeatherVO onResponseFailed() {
+                AppLogger.w(CLASS_NAME, "Can not parse weather data,"
+                        + " response body is not received");
+                return CurrentWeatherVO.getInstance();
+            }
+        };
+    }
+
+    /**
+     * Create handler which parses weather data of the several cities directly from the
+     * response stream.
+     *
+     * @return Implementation of the {@link com.yuriy.weatherapp.net.ResponseStreamHandler}.
+     */
+    private ResponseStreamHandler<List<CurrentWeatherVO>> createWeatherGroupHandler() {
+        return new ResponseStreamHandler<List<CurrentWeatherVO>>() {
+
+            @Override
+            public List<CurrentWeatherVO> onResponseStream(final InputStream inputStream)
+                    throws IOException {
+                return mDataParser.parseCurrentWeatherGroup(inputStream);
+            }
+
+            @Override
+            public List<CurrentWeatherVO> onResponseFailed() {
+                AppLogger.w(CLASS_NAME, "Can not parse weather group data,"
+                        + " response body is not received");
+                return new ArrayList<CurrentWeatherVO>();
+            }
+        };
+    }
+
+    /**
+     * Check parsed weather data.
+     *
+     * @param weatherVO Parsed {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     * @return Parsed {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} or default one
+     * if parsed is null.
+     */
+    private CurrentWeatherVO checkWeather(final CurrentWeatherVO weatherVO) {
+        if (weatherVO == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse weather data, parsed result is null");
+            return CurrentWeatherVO.getInstance();
+        }
+
+        AppLogger.i(CLASS_NAME, "Weather Response parsed for:" + weatherVO.getCityName());
+
+        return weatherVO;
+    }
+
+    /**
+     * Get response from the server.
+     *
+     * @param downloader Implementation of the {@link com.yuriy.weatherapp.net.Downloader}
+     * @param uri        Provided Uri
+     * @return Downloaded data as bytes array.
+     */
+    private byte[] getResponseBytes(final Downloader downloader, final URI uri) {
+        if (downloader == null) {
+            AppLogger.w(CLASS_NAME, "getResponseBytes -> downloader is null");
+            return null;
+        }
+        if (uri == null) {
+            AppLogger.w(CLASS_NAME, "getResponseBytes -> uri is null");
+            return null;
+        }
+
+        // Download response from the server
+        return downloader.downloadDataFromUri(uri);
+    }
+}
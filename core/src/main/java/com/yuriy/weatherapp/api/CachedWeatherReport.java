@@ -0,0 +1,86 @@
+package com.yuriy.weatherapp.api;
+
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+import com.yuriy.weatherapp.net.CacheValidator;
+
+import java.io.Serializable;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.api.CachedWeatherReport} holds previously received
+ * {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} together with the
+ * {@link com.yuriy.weatherapp.net.CacheValidator} of the response it was parsed from and
+ * the time it was fetched (or re-validated) at.
+ */
+public final class CachedWeatherReport implements Serializable {
+
+    /**
+     * Previously received weather data.
+     */
+    private final CurrentWeatherVO mWeather;
+
+    /**
+     * Validator of the response.
+     */
+    private final CacheValidator mValidator;
+
+    /**
+     * Time, in milliseconds, the response was fetched or re-validated at.
+     */
+    private final long mFetchTime;
+
+    /**
+     * Private constructor.
+     *
+     * @param weather   Previously received weather data.
+     * @param validator Validator of the response.
+     * @param fetchTime Time, in milliseconds, the response was fetched at.
+     */
+    private CachedWeatherReport(final CurrentWeatherVO weather, final CacheValidator validator,
+                                final long fetchTime) {
+        mWeather = weather == null ? CurrentWeatherVO.getInstance() : weather;
+        mValidator = validator == null ? CacheValidator.getDefaultInstance() : validator;
+        mFetchTime = fetchTime;
+    }
+
+    /**
+     * Factory method to create instance of the {@link CachedWeatherReport}.
+     *
+     * @param weather   Previously received weather data.
+     * @param validator Validator of the response.
+     * @param fetchTime Time, in milliseconds, the response was fetched or re-validated at.
+     * @return Instance of the {@link CachedWeatherReport}.
+     */
+    public static CachedWeatherReport getInstance(final CurrentWeatherVO weather,
+                                                  final CacheValidator validator,
+                                                  final long fetchTime) {
+        return new CachedWeatherReport(weather, validator, fetchTime);
+    }
+
+    /**
+     * @return Previously received weather data.
+     */
+    public CurrentWeatherVO getWeather() {
+        return mWeather;
+    }
+
+    /**
+     * @return Validator of the response.
+     */
+    public CacheValidator getValidator() {
+        return mValidator;
+    }
+
+    /**
+     * @return Time, in milliseconds, the response was fetched or re-validated at.
+     */
+    public long getFetchTime() {
+        return mFetchTime;
+    }
+}
@@ -0,0 +1,200 @@
+package com.yuriy.weatherapp.api;
+
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.api.IconAtlasIndex} maps the weather condition icon code
+ * (for example "10d") to the region of the icon in the bundled icons atlas (single image
+ * with all known icons), so that known icons are never requested from the network.<br>
+ * Index is a text where every line is "code left top width height", in pixels.
+ * Empty lines and lines which start with '#' are ignored.
+ */
+public final class IconAtlasIndex {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = IconAtlasIndex.class.getSimpleName();
+
+    /**
+     * Encoding of the index.
+     */
+    private static final String CHARSET_NAME = "UTF-8";
+
+    /**
+     * Marker of the comment line.
+     */
+    private static final String COMMENT_PREFIX = "#";
+
+    /**
+     * Number of the values in the line of the index.
+     */
+    private static final int LINE_VALUES_COUNT = 5;
+
+    /**
+     * Region of the icon in the atlas.
+     */
+    public static final class Region {
+
+        /**
+         * Left coordinate, in pixels.
+         */
+        private final int mLeft;
+
+        /**
+         * Top coordinate, in pixels.
+         */
+        private final int mTop;
+
+        /**
+         * Width, in pixels.
+         */
+        private final int mWidth;
+
+        /**
+         * Height, in pixels.
+         */
+        private final int mHeight;
+
+        /**
+         * Private constructor.
+         */
+        private Region(final int left, final int top, final int width, final int height) {
+            mLeft = left;
+            mTop = top;
+            mWidth = width;
+            mHeight = height;
+        }
+
+        public int getLeft() {
+            return mLeft;
+        }
+
+        public int getTop() {
+            return mTop;
+        }
+
+        public int getWidth() {
+            return mWidth;
+        }
+
+        public int getHeight() {
+            return mHeight;
+        }
+
+        @Override
+        public String toString() {
+            return "Region{" + mLeft + ", " + mTop + ", " + mWidth + ", " + mHeight + "}";
+        }
+    }
+
+    /**
+     * Regions of the icons per icon code.
+     */
+    private final Map<String, Region> mRegions;
+
+    /**
+     * Private constructor, use factory methods.
+     *
+     * @param regions Regions of the icons per icon code.
+     */
+    private IconAtlasIndex(final Map<String, Region> regions) {
+        mRegions = regions;
+    }
+
+    /**
+     * Factory method to create empty index, with such index every icon is unknown.
+     *
+     * @return Instance of the {@link IconAtlasIndex}.
+     */
+    public static IconAtlasIndex getDefaultInstance() {
+        return new IconAtlasIndex(Collections.<String, Region>emptyMap());
+    }
+
+    /**
+     * Factory method to read index from the stream. Malformed lines are skipped.
+     * Stream is not closed.
+     *
+     * @param inputStream Stream of the index.
+     * @return Instance of the {@link IconAtlasIndex}.
+     * @throws java.io.IOException
+     */
+    public static IconAtlasIndex getInstance(final InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            AppLogger.w(CLASS_NAME, "Can not read index, stream is null");
+            return getDefaultInstance();
+        }
+        final Map<String, Region> regions = new HashMap<String, Region>();
+        final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(inputStream, CHARSET_NAME)
+        );
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            final String[] values = line.split("\\s+");
+            if (values.length != LINE_VALUES_COUNT) {
+                AppLogger.w(CLASS_NAME, "Skip malformed line:" + line);
+                continue;
+            }
+            try {
+                final Region region = new Region(
+                        Integer.parseInt(values[1]), Integer.parseInt(values[2]),
+                        Integer.parseInt(values[3]), Integer.parseInt(values[4])
+                );
+                if (region.mLeft < 0 || region.mTop < 0
+                        || region.mWidth <= 0 || region.mHeight <= 0) {
+                    AppLogger.w(CLASS_NAME, "Skip wrong region:" + line);
+                    continue;
+                }
+                regions.put(values[0], region);
+            } catch (NumberFormatException e) {
+                AppLogger.w(CLASS_NAME, "Skip malformed line:" + line);
+            }
+        }
+        return new IconAtlasIndex(regions);
+    }
+
+    /**
+     * @param iconCode Code of the icon.
+     * @return True if icon is in the atlas.
+     */
+    public boolean contains(final String iconCode) {
+        return iconCode != null && mRegions.containsKey(iconCode);
+    }
+
+    /**
+     * @param iconCode Code of the icon.
+     * @return Region of the icon in the atlas or null if icon is not in the atlas.
+     */
+    public Region getRegion(final String iconCode) {
+        if (iconCode == null) {
+            return null;
+        }
+        return mRegions.get(iconCode);
+    }
+
+    /**
+     * @return Number of the icons in the atlas.
+     */
+    public int size() {
+        return mRegions.size();
+    }
+}
@@ -0,0 +1,213 @@
+package com.yuriy.weatherapp.api;
+
+import com.yuriy.weatherapp.net.LruFileStore;
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.api.IconCache} is a persistent store of the weather condition
+ * icons keyed by the icon id (for example "10d"), so that every icon is downloaded and stored
+ * only once, no matter how many cities share it.<br>
+ * Every icon is stored in its own file named by the icon id in the provided directory of the
+ * {@link com.yuriy.weatherapp.net.LruFileStore}, so that total size of the files is bounded.
+ */
+public class IconCache {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = IconCache.class.getSimpleName();
+
+    /**
+     * Default maximum size, in bytes, of the cache. Weather service provides less then
+     * 20 icons of about 3 Kb each.
+     */
+    public static final long DEFAULT_MAX_SIZE_BYTES = 256 * 1024;
+
+    /**
+     * Extension of the icon file.
+     */
+    private static final String FILE_EXTENSION = ".png";
+
+    /**
+     * Pattern of the valid icon id, it is used as file name.
+     */
+    private static final String ICON_ID_PATTERN = "[A-Za-z0-9_-]+";
+
+    /**
+     * Pattern of the name of the file which is created by previous versions of the
+     * Application (current time in milliseconds) for every downloaded icon.
+     */
+    private static final String ORPHANED_FILE_PATTERN = "[0-9]+";
+
+    /**
+     * Store of the icon files.
+     */
+    private final LruFileStore mStore;
+
+    /**
+     * Constructor.
+     *
+     * @param directory    Directory of the icon files, created if does not exists.
+     * @param maxSizeBytes Maximum size, in bytes, of the cache.
+     */
+    public IconCache(final File directory, final long maxSizeBytes) {
+        mStore = new LruFileStore(directory, FILE_EXTENSION, maxSizeBytes);
+    }
+
+    /**
+     * Make key of the cache (icon id) from the {@link java.net.URI} of the icon request,
+     * which is the name of the requested file without extension.
+     *
+     * @param uri {@link java.net.URI} of the icon request.
+     * @return Icon id or empty string if it can not be obtained.
+     */
+    public static String getKey(final URI uri) {
+        if (uri == null || uri.getPath() == null) {
+            return "";
+        }
+        String name = uri.getPath();
+        name = name.substring(name.lastIndexOf('/') + 1);
+        final int index = name.lastIndexOf('.');
+        if (index >= 0) {
+            name = name.substring(0, index);
+        }
+        return isValidIconId(name) ? name : "";
+    }
+
+    /**
+     * Get previously stored icon.
+     *
+     * @param iconId Id of the icon.
+     * @return File of the icon or null if there is no one.
+     */
+    public synchronized File get(final String iconId) {
+        if (!isValidIconId(iconId)) {
+            return null;
+        }
+        final File file = mStore.getFile(iconId);
+        if (!file.isFile() || file.length() == 0) {
+            return null;
+        }
+        mStore.markUsed(file);
+        return file;
+    }
+
+    /**
+     * Store icon, least recently used icons are evicted if size of the cache exceeds
+     * maximum one.
+     *
+     * @param iconId Id of the icon.
+     * @param data   Bytes of the icon.
+     * @return File of the icon or null if icon can not be stored.
+     */
+    public synchronized File put(final String iconId, final byte[] data) {
+        if (!isValidIconId(iconId) || data == null || data.length == 0) {
+            return null;
+        }
+        return mStore.put(iconId, new LruFileStore.ContentWriter() {
+
+            @Override
+            public boolean write(final File file) {
+                return writeFile(file, data);
+            }
+        });
+    }
+
+    /**
+     * Remove all stored icons.
+     */
+    public synchronized void clear() {
+        mStore.clear();
+    }
+
+    /**
+     * @return Total size, in bytes, of the stored icons.
+     */
+    public synchronized long getSize() {
+        return mStore.getSize();
+    }
+
+    /**
+     * Delete icon files which are created by previous versions of the Application: every
+     * downloaded icon was saved into the new file named by the current time in milliseconds
+     * and such files were never reused nor deleted.
+     *
+     * @param directory Directory the icons were saved into.
+     * @return Number of deleted files.
+     */
+    public static int deleteOrphanedFiles(final File directory) {
+        if (directory == null) {
+            return 0;
+        }
+        final File[] files = directory.listFiles(new FileFilter() {
+
+            @Override
+            public boolean accept(final File file) {
+                return file.isFile() && file.getName().matches(ORPHANED_FILE_PATTERN);
+            }
+        });
+        if (files == null) {
+            return 0;
+        }
+        int count = 0;
+        for (File file : files) {
+            if (file.delete()) {
+                count++;
+            }
+        }
+        if (count > 0) {
+            AppLogger.i(CLASS_NAME, "Orphaned icon files deleted:" + count);
+        }
+        return count;
+    }
+
+    /**
+     * @param iconId Id of the icon.
+     * @return True if provided id can be used as file name.
+     */
+    private static boolean isValidIconId(final String iconId) {
+        return iconId != null && iconId.matches(ICON_ID_PATTERN);
+    }
+
+    /**
+     * Write bytes into the file.
+     *
+     * @param file File to write.
+     * @param data Bytes to write.
+     * @return True if file is written successfully.
+     */
+    private static boolean writeFile(final File file, final byte[] data) {
+        FileOutputStream outputStream = null;
+        try {
+            outputStream = new FileOutputStream(file);
+            outputStream.write(data);
+            outputStream.close();
+            outputStream = null;
+            return true;
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Can not write icon file:" + e.getMessage());
+        } finally {
+            if (outputStream != null) {
+                try {
+                    outputStream.close();
+                } catch (IOException e) {
+                    AppLogger.e(CLASS_NAME, "Can not close icon file:" + e.getMessage());
+                }
+            }
+        }
+        return false;
+    }
+}
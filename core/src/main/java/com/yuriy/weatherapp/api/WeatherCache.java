@@ -0,0 +1,302 @@
+package com.yuriy.weatherapp.api;
+
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.api.WeatherCache} is an in-memory, size bounded (least recently
+ * used entries are evicted first) cache of the {@link CachedWeatherReport} keyed by the
+ * requested location: city and country or city id.<br>
+ * Report which is younger then TTL is {@link Freshness#FRESH} and can be used as is.
+ * Report which is older then TTL, but still within the stale window is {@link Freshness#STALE}
+ * and can be used while it is refreshed in background.
+ * Older reports are {@link Freshness#EXPIRED}, they are kept only for their validators
+ * so that refresh can be performed with conditional request.
+ */
+public class WeatherCache {
+
+    /**
+     * Freshness of the cached report.
+     */
+    public enum Freshness {
+
+        /**
+         * Report is within the TTL.
+         */
+        FRESH,
+
+        /**
+         * Report is out of the TTL, but within the stale window.
+         */
+        STALE,
+
+        /**
+         * Report is out of the stale window.
+         */
+        EXPIRED
+    }
+
+    /**
+     * Default maximum number of the cached reports.
+     */
+    public static final int DEFAULT_MAX_SIZE = 16;
+
+    /**
+     * Default time, in milliseconds, during which report is fresh.
+     * Weather service updates data approximately every 10 minutes.
+     */
+    public static final long DEFAULT_TTL_MS = 5 * 60 * 1000;
+
+    /**
+     * Default time, in milliseconds, after TTL during which stale report can be used
+     * while it is refreshed.
+     */
+    public static final long DEFAULT_STALE_MS = 55 * 60 * 1000;
+
+    /**
+     * Name of the request parameter with city and country.
+     */
+    private static final String PARAM_CITY = "q";
+
+    /**
+     * Name of the request parameter with city id.
+     */
+    private static final String PARAM_CITY_ID = "id";
+
+    /**
+     * Encoding of the request parameters.
+     */
+    private static final String CHARSET_NAME = "UTF-8";
+
+    /**
+     * Cached reports in access order.
+     */
+    private final Map<String, CachedWeatherReport> mReports;
+
+    /**
+     * Keys of the reports which are currently refreshed.
+     */
+    private final Set<String> mRefreshingKeys = new HashSet<String>();
+
+    /**
+     * Time, in milliseconds, during which report is fresh.
+     */
+    private final long mTtlMs;
+
+    /**
+     * Time, in milliseconds, after TTL during which report is stale.
+     */
+    private final long mStaleMs;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize Maximum number of the cached reports.
+     * @param ttlMs   Time, in milliseconds, during which report is fresh.
+     * @param staleMs Time, in milliseconds, after TTL during which report is stale.
+     */
+    public WeatherCache(final int maxSize, final long ttlMs, final long staleMs) {
+        mTtlMs = ttlMs;
+        mStaleMs = staleMs;
+        mReports = new LinkedHashMap<String, CachedWeatherReport>(maxSize, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, CachedWeatherReport> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Factory method to create instance of the {@link WeatherCache} with default configuration.
+     *
+     * @return Instance of the {@link WeatherCache}.
+     */
+    public static WeatherCache getDefaultInstance() {
+        return new WeatherCache(DEFAULT_MAX_SIZE, DEFAULT_TTL_MS, DEFAULT_STALE_MS);
+    }
+
+    /**
+     * Make key of the cache from the {@link java.net.URI} of the weather request.
+     * Key is made of the requested location: city and country (case insensitive) or
+     * city id, so that different URLs for the same location share the same report.
+     * Whole {@link java.net.URI} is used if it contains neither of them.
+     *
+     * @param uri {@link java.net.URI} of the weather request.
+     * @return Key of the cache.
+     */
+    public static String getKey(final URI uri) {
+        if (uri == null) {
+            return "";
+        }
+        final String query = uri.getRawQuery();
+        if (query != null) {
+            String cityId = null;
+            for (String parameter : query.split("&")) {
+                final int index = parameter.indexOf('=');
+                if (index <= 0) {
+                    continue;
+                }
+                final String name = parameter.substring(0, index);
+                final String value = decode(parameter.substring(index + 1));
+                if (value.isEmpty()) {
+                    continue;
+                }
+                if (PARAM_CITY.equals(name)) {
+                    return PARAM_CITY + ":"
+                            + value.trim().replaceAll("\\s*,\\s*", ",").toLowerCase(Locale.US);
+                }
+                if (PARAM_CITY_ID.equals(name)) {
+                    cityId = value;
+                }
+            }
+            if (cityId != null) {
+                return PARAM_CITY_ID + ":" + cityId;
+            }
+        }
+        return uri.toString();
+    }
+
+    /**
+     * Make key of the cache from the city id, same as the key of the
+     * {@link java.net.URI} of the weather request by the city id.
+     *
+     * @param cityId Id of the city.
+     * @return Key of the cache.
+     */
+    public static String getKey(final int cityId) {
+        return PARAM_CITY_ID + ":" + cityId;
+    }
+
+    /**
+     * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     * @return True if provided weather data is the real data which can be cached,
+     * false if it is the default one.
+     */
+    public static boolean isCacheable(final CurrentWeatherVO weatherVO) {
+        return weatherVO != null && weatherVO.getCityId() != CurrentWeatherVO.DEFAULT_CITY_ID;
+    }
+
+    /**
+     * @param key Key of the cache.
+     * @return Cached report or null if there is no one.
+     */
+    public synchronized CachedWeatherReport get(final String key) {
+        return mReports.get(key);
+    }
+
+    /**
+     * Put report into the cache, least recently used report is evicted if cache is full.
+     *
+     * @param key    Key of the cache.
+     * @param report Report to cache.
+     */
+    public synchronized void put(final String key, final CachedWeatherReport report) {
+        if (key == null || report == null) {
+            return;
+        }
+        mReports.put(key, report);
+    }
+
+    /**
+     * Remove report from the cache.
+     *
+     * @param key Key of the cache.
+     */
+    public synchronized void remove(final String key) {
+        mReports.remove(key);
+    }
+
+    /**
+     * Remove all reports from the cache.
+     */
+    public synchronized void clear() {
+        mReports.clear();
+    }
+
+    /**
+     * @return Number of the cached reports.
+     */
+    public synchronized int size() {
+        return mReports.size();
+    }
+
+    /**
+     * @param report Cached report.
+     * @return Freshness of the provided report at the current moment.
+     */
+    public Freshness getFreshness(final CachedWeatherReport report) {
+        if (report == null) {
+            return Freshness.EXPIRED;
+        }
+        final long age = currentTimeMillis() - report.getFetchTime();
+        // Clock may be changed back, such report is not trusted to be fresh
+        if (age < 0) {
+            return Freshness.STALE;
+        }
+        if (age <= mTtlMs) {
+            return Freshness.FRESH;
+        }
+        if (age <= mTtlMs + mStaleMs) {
+            return Freshness.STALE;
+        }
+        return Freshness.EXPIRED;
+    }
+
+    /**
+     * Mark report as being refreshed.
+     *
+     * @param key Key of the cache.
+     * @return True if refresh should be started,
+     * false if report is already being refreshed.
+     */
+    public synchronized boolean startRefresh(final String key) {
+        return mRefreshingKeys.add(key);
+    }
+
+    /**
+     * Mark report as refreshed.
+     *
+     * @param key Key of the cache.
+     */
+    public synchronized void finishRefresh(final String key) {
+        mRefreshingKeys.remove(key);
+    }
+
+    /**
+     * @return Current time, in milliseconds. Time source of the freshness calculations.
+     */
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * @param value URL encoded value.
+     * @return Decoded value.
+     */
+    private static String decode(final String value) {
+        try {
+            return URLDecoder.decode(value, CHARSET_NAME);
+        } catch (UnsupportedEncodingException e) {
+            return value;
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+}
@@ -9,21 +9,74 @@ package com.yuriy.weatherapp.business;
 
 import com.yuriy.weatherapp.business.vo.CloudsVO;
 import com.yuriy.weatherapp.business.vo.CoordVO;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
 import com.yuriy.weatherapp.business.vo.MainVO;
 import com.yuriy.weatherapp.business.vo.RainVO;
 import com.yuriy.weatherapp.business.vo.SysVO;
 import com.yuriy.weatherapp.business.vo.WeatherItem;
 import com.yuriy.weatherapp.business.vo.WindVO;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
  * {@link com.yuriy.weatherapp.business.DataParser} interface provides common methods
  * for the weather data parsing. Different implementation can parse raw string data into JSON,
- * XML or any other format.
+ * XML or any other format.<br>
+ * Implementation is expected to parse the whole document once in
+ * {@link #parseCurrentWeather(String)}, all other methods are views over that result.
  */
 public interface DataParser {
 
+    /**
+     * This method allows to parse whole weather document in a single pass.
+     *
+     * @param inputData Raw data which is received from the weather service.
+     * @return Fully built {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO},
+     *         default values are used for the missing fields.
+     */
+    public CurrentWeatherVO parseCurrentWeather(final String inputData);
+
+    /**
+     * This method allows to parse whole weather document in a single pass directly from the
+     * downloaded bytes, which are decoded as UTF-8.
+     *
+     * @param inputData Raw bytes which are received from the weather service.
+     * @return Fully built {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO},
+     *         default values are used for the missing fields.
+     */
+    public CurrentWeatherVO parseCurrentWeather(final byte[] inputData);
+
+    /**
+     * This method allows to parse whole weather document in a single pass directly from the
+     * response stream, which is decoded as UTF-8 while reading. Stream is not closed.
+     *
+     * @param inputStream Stream of the response of the weather service.
+     * @return Fully built {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO},
+     *         default values are used for the missing fields.
+     */
+    public CurrentWeatherVO parseCurrentWeather(final InputStream inputStream);
+
+    /**
+     * This method allows to parse response of the group request, which contains weather
+     * documents of the several cities in the "list" array.
+     *
+     * @param inputData Raw data which is received from the weather service.
+     * @return {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} per city, in the
+     *         order of the response, empty if nothing can be parsed.
+     */
+    public List<CurrentWeatherVO> parseCurrentWeatherGroup(final String inputData);
+
+    /**
+     * This method allows to parse response of the group request directly from the response
+     * stream, which is decoded as UTF-8 while reading. Stream is not closed.
+     *
+     * @param inputStream Stream of the response of the weather service.
+     * @return {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} per city, in the
+     *         order of the response, empty if nothing can be parsed.
+     */
+    public List<CurrentWeatherVO> parseCurrentWeatherGroup(final InputStream inputStream);
+
     /**
      * This method allows to parse city coordinates.
      *
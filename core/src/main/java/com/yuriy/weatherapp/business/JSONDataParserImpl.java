@@ -0,0 +1,578 @@
+package com.yuriy.weatherapp.business;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+import com.yuriy.weatherapp.business.vo.CloudsVO;
+import com.yuriy.weatherapp.business.vo.CoordVO;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+import com.yuriy.weatherapp.business.vo.MainVO;
+import com.yuriy.weatherapp.business.vo.RainVO;
+import com.yuriy.weatherapp.business.vo.SysVO;
+import com.yuriy.weatherapp.business.vo.WeatherItem;
+import com.yuriy.weatherapp.business.vo.WindVO;
+import com.yuriy.weatherapp.util.AppLogger;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link com.yuriy.weatherapp.business.JSONDataParserImpl} is implementation of the
+ * {@link com.yuriy.weatherapp.business.DataParser} interface and allows to parse raw
+ * data of the weather which are represents by the JSON data format.
+ */
+public class JSONDataParserImpl implements DataParser {
+
+    /**
+     * JSON keys
+     */
+    protected static final String KEY_COORD = "coord";
+    protected static final String KEY_LON = "lon";
+    protected static final String KEY_LAT = "lat";
+    protected static final String KEY_SYS = "sys";
+    protected static final String KEY_COUNTRY = "country";
+    protected static final String KEY_SUNRISE = "sunrise";
+    protected static final String KEY_SUNSET = "sunset";
+    protected static final String KEY_WEATHER = "weather";
+    protected static final String KEY_MAIN = "main";
+    protected static final String KEY_TEMP = "temp";
+    protected static final String KEY_HUMIDITY = "humidity";
+    protected static final String KEY_PRESSURE = "pressure";
+    protected static final String KEY_TEMP_MIN = "temp_min";
+    protected static final String KEY_TEMP_MAX = "temp_max";
+    protected static final String KEY_DESCRIPTION = "description";
+    protected static final String KEY_ICON = "icon";
+    protected static final String KEY_WIND = "wind";
+    protected static final String KEY_SPEED = "speed";
+    protected static final String KEY_DEG = "deg";
+    protected static final String KEY_RAIN = "rain";
+    protected static final String KEY_3H = "3h";
+    protected static final String KEY_CLOUDS = "clouds";
+    protected static final String KEY_ALL = "all";
+    protected static final String KEY_DT = "dt";
+    protected static final String KEY_ID = "id";
+    protected static final String KEY_NAME = "name";
+    protected static final String KEY_COD = "cod";
+    protected static final String KEY_LIST = "list";
+
+    /**
+     * Charset of the weather service responses.
+     */
+    protected static final String CHARSET_NAME = "UTF-8";
+
+    /**
+     * Size of the buffer to read response stream with.
+     */
+    private static final int READ_BUFFER_SIZE = 1024;
+
+    /**
+     * Tag to use in the logging.
+     */
+    private static final String CLASS_NAME = JSONDataParserImpl.class.getSimpleName();
+
+
+    @Override
+    public CurrentWeatherVO parseCurrentWeather(final String inputData) {
+        final CurrentWeatherVO weatherVO = CurrentWeatherVO.getInstance();
+        // Build JSON tree only once for the whole document
+        final JSONObject mainJSON = getJSONFromRawData(inputData);
+        if (mainJSON.length() == 0) {
+            return weatherVO;
+        }
+        fillCurrentWeather(weatherVO, mainJSON);
+        return weatherVO;
+    }
+
+    @Override
+    public CurrentWeatherVO parseCurrentWeather(final byte[] inputData) {
+        if (inputData == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse raw data, raw bytes are null");
+            return CurrentWeatherVO.getInstance();
+        }
+        try {
+            // Tree parser requires whole document as a String
+            return parseCurrentWeather(new String(inputData, CHARSET_NAME));
+        } catch (UnsupportedEncodingException e) {
+            AppLogger.e(CLASS_NAME, "Can not decode raw bytes:" + e.getMessage());
+            return CurrentWeatherVO.getInstance();
+        }
+    }
+
+    @Override
+    public CurrentWeatherVO parseCurrentWeather(final InputStream inputStream) {
+        if (inputStream == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse raw data, input stream is null");
+            return CurrentWeatherVO.getInstance();
+        }
+        try {
+            // Tree parser requires whole document as a String
+            return parseCurrentWeather(readStream(inputStream));
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Can not read input stream:" + e.getMessage());
+            return CurrentWeatherVO.getInstance();
+        }
+    }
+
+    @Override
+    public List<CurrentWeatherVO> parseCurrentWeatherGroup(final String inputData) {
+        final List<CurrentWeatherVO> weatherVOs = new ArrayList<CurrentWeatherVO>();
+        final JSONObject mainJSON = getJSONFromRawData(inputData);
+        final JSONArray listJSON = mainJSON.optJSONArray(KEY_LIST);
+        if (listJSON == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse group data, list is missing");
+            return weatherVOs;
+        }
+        JSONObject cityJSON;
+        CurrentWeatherVO weatherVO;
+        for (int i = 0; i < listJSON.length(); i++) {
+            cityJSON = listJSON.optJSONObject(i);
+            if (cityJSON == null) {
+                continue;
+            }
+            weatherVO = CurrentWeatherVO.getInstance();
+            fillCurrentWeather(weatherVO, cityJSON);
+            weatherVOs.add(weatherVO);
+        }
+        return weatherVOs;
+    }
+
+    @Override
+    public List<CurrentWeatherVO> parseCurrentWeatherGroup(final InputStream inputStream) {
+        if (inputStream == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse group data, input stream is null");
+            return new ArrayList<CurrentWeatherVO>();
+        }
+        try {
+            // Tree parser requires whole document as a String
+            return parseCurrentWeatherGroup(readStream(inputStream));
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Can not read input stream:" + e.getMessage());
+            return new ArrayList<CurrentWeatherVO>();
+        }
+    }
+
+    @Override
+    public CoordVO parseCityCoordinates(final String inputData) {
+        return parseCurrentWeather(inputData).getCoordVO();
+    }
+
+    @Override
+    public SysVO parseSysInfo(final String inputData) {
+        return parseCurrentWeather(inputData).getSysVO();
+    }
+
+    @Override
+    public List<WeatherItem> parseWeather(final String inputData) {
+        final CurrentWeatherVO weatherVO = parseCurrentWeather(inputData);
+        final List<WeatherItem> weatherItems
+                = new ArrayList<WeatherItem>(weatherVO.getWeatherItemsSize());
+        for (int i = 0; i < weatherVO.getWeatherItemsSize(); i++) {
+            weatherItems.add(weatherVO.getWeatherItemAt(i));
+        }
+        return weatherItems;
+    }
+
+    @Override
+    public MainVO parseMainInfo(final String inputData) {
+        return parseCurrentWeather(inputData).getMainVO();
+    }
+
+    @Override
+    public WindVO parseWind(final String inputData) {
+        return parseCurrentWeather(inputData).getWindVO();
+    }
+
+    @Override
+    public RainVO parseRain(final String inputData) {
+        return parseCurrentWeather(inputData).getRainVO();
+    }
+
+    @Override
+    public CloudsVO parseClouds(final String inputData) {
+        return parseCurrentWeather(inputData).getCloudsVO();
+    }
+
+    @Override
+    public double parseDt(final String inputData) {
+        return parseCurrentWeather(inputData).getDt();
+    }
+
+    @Override
+    public int parseId(final String inputData) {
+        return parseCurrentWeather(inputData).getCityId();
+    }
+
+    @Override
+    public String parseName(final String inputData) {
+        return parseCurrentWeather(inputData).getCityName();
+    }
+
+    @Override
+    public int parseCod(final String inputData) {
+        return parseCurrentWeather(inputData).getCod();
+    }
+
+    /**
+     * This method converts raw data which comes from the server into the JSON object.
+     *
+     * @param rawData Raw data from the weather server.
+     * @return Instance of the {@link org.json.JSONObject}.
+     */
+    protected JSONObject getJSONFromRawData(final String rawData) {
+        if (rawData == null) {
+            AppLogger.w(CLASS_NAME, "Can not convert raw data to JSON, raw data is null");
+            return new JSONObject();
+        }
+        if (rawData.isEmpty()) {
+            AppLogger.w(CLASS_NAME, "Can not convert raw data to JSON, raw data is empty");
+            return new JSONObject();
+        }
+        try {
+            return new JSONObject(rawData);
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Can not convert raw data to JSON:" + e.getMessage());
+            return new JSONObject();
+        }
+    }
+
+    /**
+     * This method reads whole stream into the String, decoding it as UTF-8.
+     *
+     * @param inputStream Stream of the response.
+     * @return Content of the stream.
+     * @throws IOException
+     */
+    private static String readStream(final InputStream inputStream) throws IOException {
+        final Reader reader = new InputStreamReader(inputStream, CHARSET_NAME);
+        final StringBuilder builder = new StringBuilder();
+        final char[] buffer = new char[READ_BUFFER_SIZE];
+        int length;
+        while ((length = reader.read(buffer)) != -1) {
+            builder.append(buffer, 0, length);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * This method fills provided Weather VO with the values of the already built JSON tree.
+     *
+     * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} to fill.
+     * @param mainJSON  Main JSON Object of the weather document.
+     */
+    private void fillCurrentWeather(final CurrentWeatherVO weatherVO,
+                                    final JSONObject mainJSON) {
+        // Extract City coordinates
+        weatherVO.setCoordVO(parseCityCoordinates(mainJSON));
+
+        // Extract Sys Information
+        weatherVO.setSysVO(parseSysInfo(mainJSON));
+
+        // Extract weather conditions
+        parseWeather(weatherVO, mainJSON);
+
+        // Extract main information about weather
+        weatherVO.setMainVO(parseMainInfo(mainJSON));
+
+        // Extract Wind information
+        weatherVO.setWindVO(parseWind(mainJSON));
+
+        // Extract Rain information
+        weatherVO.setRainVO(parseRain(mainJSON));
+
+        // Extract Clouds information
+        weatherVO.setCloudsVO(parseClouds(mainJSON));
+
+        // Every root value is parsed separately, so that malformed one does not drop others
+        // Extract Data receiving time
+        try {
+            if (mainJSON.has(KEY_DT)) {
+                weatherVO.setDt(mainJSON.getDouble(KEY_DT));
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse Data receiving time exception:" + e.getMessage());
+        }
+        // Extract City Id
+        try {
+            if (mainJSON.has(KEY_ID)) {
+                weatherVO.setCityId(mainJSON.getInt(KEY_ID));
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse City Id exception:" + e.getMessage());
+        }
+        // Extract City Name
+        try {
+            if (mainJSON.has(KEY_NAME)) {
+                weatherVO.setCityName(mainJSON.getString(KEY_NAME));
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse City Name exception:" + e.getMessage());
+        }
+        // Extract Weather condition code
+        try {
+            if (mainJSON.has(KEY_COD)) {
+                weatherVO.setCod(mainJSON.getInt(KEY_COD));
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse weather Condition Code exception:" + e.getMessage());
+        }
+    }
+
+    /**
+     * This method allows to parse city coordinates from the main JSON Object.
+     *
+     * @param mainJSON Main JSON Object.
+     * @return City coordinates.
+     */
+    private CoordVO parseCityCoordinates(final JSONObject mainJSON) {
+        CoordVO coordVO = CoordVO.getDefaultInstance();
+        final JSONObject coordJSON = getJSONObjectFromMainJSONObject(mainJSON, KEY_COORD);
+        if (coordJSON.length() == 0) {
+            return coordVO;
+        }
+        if (!coordJSON.has(KEY_LAT) && !coordJSON.has(KEY_LON)) {
+            return coordVO;
+        }
+        try {
+            coordVO = CoordVO.getInstance(
+                    coordJSON.getDouble(KEY_LAT), coordJSON.getDouble(KEY_LON)
+            );
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse City coordinates exception:" + e.getMessage());
+        }
+        return coordVO;
+    }
+
+    /**
+     * This method allows to parse Sys information from the main JSON Object.
+     *
+     * @param mainJSON Main JSON Object.
+     * @return Sys information.
+     */
+    private SysVO parseSysInfo(final JSONObject mainJSON) {
+        final JSONObject sysJSON = getJSONObjectFromMainJSONObject(mainJSON, KEY_SYS);
+        if (sysJSON.length() == 0) {
+            return SysVO.getDefaultInstance();
+        }
+        String country = SysVO.DEFAULT_COUNTRY;
+        long sunrise = SysVO.DEFAULT_SUNRISE;
+        long sunset = SysVO.DEFAULT_SUNSET;
+        try {
+            if (sysJSON.has(KEY_COUNTRY)) {
+                country = sysJSON.getString(KEY_COUNTRY);
+            }
+            if (sysJSON.has(KEY_SUNRISE)) {
+                sunrise = sysJSON.getLong(KEY_SUNRISE);
+            }
+            if (sysJSON.has(KEY_SUNSET)) {
+                sunset = sysJSON.getLong(KEY_SUNSET);
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse Sys information exception:" + e.getMessage());
+        }
+        return SysVO.getInstance(country, sunrise, sunset);
+    }
+
+    /**
+     * This method allows to parse weather conditions from the main JSON Object
+     * and add them to the provided Weather VO.
+     *
+     * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} to fill.
+     * @param mainJSON  Main JSON Object.
+     */
+    private void parseWeather(final CurrentWeatherVO weatherVO, final JSONObject mainJSON) {
+        if (!mainJSON.has(KEY_WEATHER)) {
+            return;
+        }
+        JSONArray weatherJSON = null;
+        try {
+            weatherJSON = mainJSON.getJSONArray(KEY_WEATHER);
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse weather conditions exception:" + e.getMessage());
+        }
+        if (weatherJSON == null) {
+            return;
+        }
+        JSONObject item;
+        int id;
+        String main;
+        String description;
+        String icon;
+        try {
+            for (int i = 0; i < weatherJSON.length(); i++) {
+                item = weatherJSON.getJSONObject(i);
+                if (item == null) {
+                    continue;
+                }
+                id = WeatherItem.DEFAULT_CONDITION_ID;
+                main = WeatherItem.DEFAULT_MAIN;
+                description = WeatherItem.DEFAULT_DESCRIPTION;
+                icon = WeatherItem.DEFAULT_ICON;
+                if (item.has(KEY_ID)) {
+                    id = item.getInt(KEY_ID);
+                }
+                if (item.has(KEY_MAIN)) {
+                    main = item.getString(KEY_MAIN);
+                }
+                if (item.has(KEY_DESCRIPTION)) {
+                    description = item.getString(KEY_DESCRIPTION);
+                }
+                if (item.has(KEY_ICON)) {
+                    icon = item.getString(KEY_ICON);
+                }
+                weatherVO.addWeatherItem(WeatherItem.getInstance(id, main, description, icon));
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse weather conditions exception:" + e.getMessage());
+        }
+    }
+
+    /**
+     * This method allows to parse main information about weather from the main JSON Object.
+     *
+     * @param mainJSON Main JSON Object.
+     * @return Main information about the weather.
+     */
+    private MainVO parseMainInfo(final JSONObject mainJSON) {
+        final JSONObject mainInfoJSON = getJSONObjectFromMainJSONObject(mainJSON, KEY_MAIN);
+        if (mainInfoJSON.length() == 0) {
+            return MainVO.getDefaultInstance();
+        }
+        double temperature = MainVO.DEFAULT_TEMPERATURE;
+        double humidity = MainVO.DEFAULT_HUMIDITY;
+        double pressure = MainVO.DEFAULT_PRESSURE;
+        double minTemperature = MainVO.DEFAULT_MIN_TEMPERATURE;
+        double maxTemperature = MainVO.DEFAULT_MAX_TEMPERATURE;
+        try {
+            if (mainInfoJSON.has(KEY_TEMP)) {
+                temperature = mainInfoJSON.getDouble(KEY_TEMP);
+            }
+            if (mainInfoJSON.has(KEY_TEMP_MAX)) {
+                maxTemperature = mainInfoJSON.getDouble(KEY_TEMP_MAX);
+            }
+            if (mainInfoJSON.has(KEY_TEMP_MIN)) {
+                minTemperature = mainInfoJSON.getDouble(KEY_TEMP_MIN);
+            }
+            if (mainInfoJSON.has(KEY_HUMIDITY)) {
+                humidity = mainInfoJSON.getLong(KEY_HUMIDITY);
+            }
+            if (mainInfoJSON.has(KEY_PRESSURE)) {
+                pressure = mainInfoJSON.getLong(KEY_PRESSURE);
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse Main information exception:" + e.getMessage());
+        }
+        return MainVO.getInstance(
+                temperature, humidity, pressure, minTemperature, maxTemperature
+        );
+    }
+
+    /**
+     * This method allows to parse information about Wind from the main JSON Object.
+     *
+     * @param mainJSON Main JSON Object.
+     * @return Wind information.
+     */
+    private WindVO parseWind(final JSONObject mainJSON) {
+        final JSONObject windJSON = getJSONObjectFromMainJSONObject(mainJSON, KEY_WIND);
+        if (windJSON.length() == 0) {
+            return WindVO.getDefaultInstance();
+        }
+        double windSpeed = WindVO.DEFAULT_SPEED;
+        double windDirection = WindVO.DEFAULT_DEG;
+        try {
+            if (windJSON.has(KEY_SPEED)) {
+                windSpeed = windJSON.getDouble(KEY_SPEED);
+            }
+            if (windJSON.has(KEY_DEG)) {
+                windDirection = windJSON.getDouble(KEY_DEG);
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse Wind information exception:" + e.getMessage());
+        }
+        return WindVO.getInstance(windSpeed, windDirection);
+    }
+
+    /**
+     * This method allows to parse Rain information from the main JSON Object.
+     *
+     * @param mainJSON Main JSON Object.
+     * @return Rain information.
+     */
+    private RainVO parseRain(final JSONObject mainJSON) {
+        final JSONObject rainJSON = getJSONObjectFromMainJSONObject(mainJSON, KEY_RAIN);
+        if (rainJSON.length() == 0) {
+            return RainVO.getDefaultInstance();
+        }
+        int _3h = RainVO.DEFAULT_3H;
+        try {
+            if (rainJSON.has(KEY_3H)) {
+                _3h = rainJSON.getInt(KEY_3H);
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse Rain information exception:" + e.getMessage());
+        }
+        return RainVO.getInstance(_3h);
+    }
+
+    /**
+     * This method allows to parse Clouds information from the main JSON Object.
+     *
+     * @param mainJSON Main JSON Object.
+     * @return Clouds information.
+     */
+    private CloudsVO parseClouds(final JSONObject mainJSON) {
+        final JSONObject cloudsJSON = getJSONObjectFromMainJSONObject(mainJSON, KEY_CLOUDS);
+        if (cloudsJSON.length() == 0) {
+            return CloudsVO.getDefaultInstance();
+        }
+        double cloudiness = CloudsVO.DEFAULT_VALUE;
+        try {
+            if (cloudsJSON.has(KEY_ALL)) {
+                cloudiness = cloudsJSON.getInt(KEY_ALL);
+            }
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse Clouds information exception:" + e.getMessage());
+        }
+        return CloudsVO.getInstance(cloudiness);
+    }
+
+    /**
+     * This method allows extract JSON Object from the main JSON Object.
+     *
+     * @param mainJSON Main JSON Object.
+     * @param key      Key which is used to find a JSON Object.
+     * @return Found JSON Object or empty one.
+     */
+    private JSONObject getJSONObjectFromMainJSONObject(final JSONObject mainJSON,
+                                                       final String key) {
+        JSONObject returnJSON = new JSONObject();
+        if (key == null) {
+            return returnJSON;
+        }
+        if (mainJSON.length() == 0) {
+            return returnJSON;
+        }
+        if (!mainJSON.has(key)) {
+            return returnJSON;
+        }
+        try {
+            returnJSON = mainJSON.getJSONObject(key);
+        } catch (JSONException e) {
+            AppLogger.e(CLASS_NAME, "Parse " + key + " from main JSON exception:" + e.getMessage());
+        }
+        return returnJSON;
+    }
+}
@@ -0,0 +1,573 @@
+package com.yuriy.weatherapp.business;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.yuriy.weatherapp.business.vo.CloudsVO;
+import com.yuriy.weatherapp.business.vo.CoordVO;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+import com.yuriy.weatherapp.business.vo.MainVO;
+import com.yuriy.weatherapp.business.vo.RainVO;
+import com.yuriy.weatherapp.business.vo.SysVO;
+import com.yuriy.weatherapp.business.vo.WeatherItem;
+import com.yuriy.weatherapp.business.vo.WindVO;
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link com.yuriy.weatherapp.business.JSONStreamDataParserImpl} is implementation of the
+ * {@link com.yuriy.weatherapp.business.DataParser} interface which reads JSON data of the
+ * weather as a stream of tokens and fills Value Objects directly, without building
+ * intermediate JSON Objects tree. Unknown fields are skipped.
+ */
+public class JSONStreamDataParserImpl extends JSONDataParserImpl {
+
+    /**
+     * Tag to use in the logging.
+     */
+    private static final String CLASS_NAME = JSONStreamDataParserImpl.class.getSimpleName();
+
+    @Override
+    public CurrentWeatherVO parseCurrentWeather(final String inputData) {
+        if (inputData == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse raw data, raw data is null");
+            return CurrentWeatherVO.getInstance();
+        }
+        if (inputData.isEmpty()) {
+            AppLogger.w(CLASS_NAME, "Can not parse raw data, raw data is empty");
+            return CurrentWeatherVO.getInstance();
+        }
+        return parseCurrentWeather(new StringReader(inputData));
+    }
+
+    @Override
+    public CurrentWeatherVO parseCurrentWeather(final byte[] inputData) {
+        if (inputData == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse raw data, raw bytes are null");
+            return CurrentWeatherVO.getInstance();
+        }
+        return parseCurrentWeather(new ByteArrayInputStream(inputData));
+    }
+
+    @Override
+    public CurrentWeatherVO parseCurrentWeather(final InputStream inputStream) {
+        if (inputStream == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse raw data, input stream is null");
+            return CurrentWeatherVO.getInstance();
+        }
+        try {
+            // Bytes are decoded while the tokens are read, no intermediate String is built
+            return parseCurrentWeather(new InputStreamReader(inputStream, CHARSET_NAME));
+        } catch (UnsupportedEncodingException e) {
+            AppLogger.e(CLASS_NAME, "Can not decode input stream:" + e.getMessage());
+            return CurrentWeatherVO.getInstance();
+        }
+    }
+
+    @Override
+    public List<CurrentWeatherVO> parseCurrentWeatherGroup(final String inputData) {
+        if (inputData == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse group data, raw data is null");
+            return new ArrayList<CurrentWeatherVO>();
+        }
+        return parseCurrentWeatherGroup(new StringReader(inputData));
+    }
+
+    @Override
+    public List<CurrentWeatherVO> parseCurrentWeatherGroup(final InputStream inputStream) {
+        if (inputStream == null) {
+            AppLogger.w(CLASS_NAME, "Can not parse group data, input stream is null");
+            return new ArrayList<CurrentWeatherVO>();
+        }
+        try {
+            return parseCurrentWeatherGroup(new InputStreamReader(inputStream, CHARSET_NAME));
+        } catch (UnsupportedEncodingException e) {
+            AppLogger.e(CLASS_NAME, "Can not decode input stream:" + e.getMessage());
+            return new ArrayList<CurrentWeatherVO>();
+        }
+    }
+
+    /**
+     * Parse group document from the provided {@link java.io.Reader}. Weather of every city
+     * of the "list" array is built as soon as it is read, cities which are completely read
+     * before the malformed data are returned.
+     *
+     * @param inputReader Reader of the raw data.
+     * @return {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} per city.
+     */
+    private List<CurrentWeatherVO> parseCurrentWeatherGroup(final Reader inputReader) {
+        final List<CurrentWeatherVO> weatherVOs = new ArrayList<CurrentWeatherVO>();
+        final JsonReader reader = new JsonReader(inputReader);
+        try {
+            readCurrentWeatherGroup(reader, weatherVOs);
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Can not parse group data:" + e.getMessage());
+        } catch (IllegalStateException e) {
+            AppLogger.e(CLASS_NAME, "Can not parse group data, unexpected token:"
+                    + e.getMessage());
+        } catch (NumberFormatException e) {
+            AppLogger.e(CLASS_NAME, "Can not parse group data, wrong number:" + e.getMessage());
+        }
+        return weatherVOs;
+    }
+
+    /**
+     * Read root object of the group document.
+     *
+     * @param reader     {@link com.google.gson.stream.JsonReader}.
+     * @param weatherVOs Collection to add Weather of every city to.
+     * @throws IOException
+     */
+    private void readCurrentWeatherGroup(final JsonReader reader,
+                                         final List<CurrentWeatherVO> weatherVOs)
+            throws IOException {
+        if (!isObject(reader)) {
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!KEY_LIST.equals(reader.nextName()) || reader.peek() != JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginArray();
+            while (reader.hasNext()) {
+                if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                    reader.skipValue();
+                    continue;
+                }
+                weatherVOs.add(readCurrentWeather(reader));
+            }
+            reader.endArray();
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Parse weather document from the provided {@link java.io.Reader}.
+     *
+     * @param inputReader Reader of the raw data.
+     * @return {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     */
+    private CurrentWeatherVO parseCurrentWeather(final Reader inputReader) {
+        final JsonReader reader = new JsonReader(inputReader);
+        try {
+            return readCurrentWeather(reader);
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Can not parse raw data:" + e.getMessage());
+        } catch (IllegalStateException e) {
+            AppLogger.e(CLASS_NAME, "Can not parse raw data, unexpected token:" + e.getMessage());
+        } catch (NumberFormatException e) {
+            AppLogger.e(CLASS_NAME, "Can not parse raw data, wrong number:" + e.getMessage());
+        }
+        return CurrentWeatherVO.getInstance();
+    }
+
+    /**
+     * Read root object of the weather document.
+     *
+     * @param reader {@link com.google.gson.stream.JsonReader}.
+     * @return {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     * @throws IOException
+     */
+    protected CurrentWeatherVO readCurrentWeather(final JsonReader reader) throws IOException {
+        final CurrentWeatherVO weatherVO = CurrentWeatherVO.getInstance();
+        if (!isObject(reader)) {
+            return weatherVO;
+        }
+        String name;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            name = reader.nextName();
+            if (KEY_COORD.equals(name)) {
+                weatherVO.setCoordVO(readCoord(reader));
+            } else if (KEY_SYS.equals(name)) {
+                weatherVO.setSysVO(readSys(reader));
+            } else if (KEY_WEATHER.equals(name)) {
+                readWeather(reader, weatherVO);
+            } else if (KEY_MAIN.equals(name)) {
+                weatherVO.setMainVO(readMain(reader));
+            } else if (KEY_WIND.equals(name)) {
+                weatherVO.setWindVO(readWind(reader));
+            } else if (KEY_RAIN.equals(name)) {
+                weatherVO.setRainVO(readRain(reader));
+            } else if (KEY_CLOUDS.equals(name)) {
+                weatherVO.setCloudsVO(readClouds(reader));
+            } else if (KEY_DT.equals(name)) {
+                weatherVO.setDt(nextDouble(reader, CurrentWeatherVO.DEFAULT_DT));
+            } else if (KEY_ID.equals(name)) {
+                weatherVO.setCityId(
+                        (int) nextDouble(reader, CurrentWeatherVO.DEFAULT_CITY_ID)
+                );
+            } else if (KEY_NAME.equals(name)) {
+                weatherVO.setCityName(nextString(reader, CurrentWeatherVO.DEFAULT_CITY_NAME));
+            } else if (KEY_COD.equals(name)) {
+                weatherVO.setCod((int) nextDouble(reader, CurrentWeatherVO.DEFAULT_COD));
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return weatherVO;
+    }
+
+    /**
+     * Read City coordinates.
+     *
+     * @param reader {@link com.google.gson.stream.JsonReader}.
+     * @return City coordinates.
+     * @throws IOException
+     */
+    private CoordVO readCoord(final JsonReader reader) throws IOException {
+        if (!isObject(reader)) {
+            return CoordVO.getDefaultInstance();
+        }
+        double latitude = CoordVO.DEFAULT_LATITUDE;
+        double longitude = CoordVO.DEFAULT_LONGITUDE;
+        boolean hasLatitude = false;
+        boolean hasLongitude = false;
+        String name;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            name = reader.nextName();
+            if (KEY_LAT.equals(name)) {
+                latitude = nextDouble(reader, CoordVO.DEFAULT_LATITUDE);
+                hasLatitude = true;
+            } else if (KEY_LON.equals(name)) {
+                longitude = nextDouble(reader, CoordVO.DEFAULT_LONGITUDE);
+                hasLongitude = true;
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        // Both values are required, same as in the tree parser
+        if (!hasLatitude || !hasLongitude) {
+            return CoordVO.getDefaultInstance();
+        }
+        return CoordVO.getInstance(latitude, longitude);
+    }
+
+    /**
+     * Read Sys information.
+     *
+     * @param reader {@link com.google.gson.stream.JsonReader}.
+     * @return Sys information.
+     * @throws IOException
+     */
+    private SysVO readSys(final JsonReader reader) throws IOException {
+        if (!isObject(reader)) {
+            return SysVO.getDefaultInstance();
+        }
+        String country = SysVO.DEFAULT_COUNTRY;
+        long sunrise = SysVO.DEFAULT_SUNRISE;
+        long sunset = SysVO.DEFAULT_SUNSET;
+        String name;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            name = reader.nextName();
+            if (KEY_COUNTRY.equals(name)) {
+                country = nextString(reader, SysVO.DEFAULT_COUNTRY);
+            } else if (KEY_SUNRISE.equals(name)) {
+                sunrise = (long) nextDouble(reader, SysVO.DEFAULT_SUNRISE);
+            } else if (KEY_SUNSET.equals(name)) {
+                sunset = (long) nextDouble(reader, SysVO.DEFAULT_SUNSET);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return SysVO.getInstance(country, sunrise, sunset);
+    }
+
+    /**
+     * Read weather conditions and add them to the provided Weather VO.
+     *
+     * @param reader    {@link com.google.gson.stream.JsonReader}.
+     * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} to fill.
+     * @throws IOException
+     */
+    private void readWeather(final JsonReader reader, final CurrentWeatherVO weatherVO)
+            throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (!isObject(reader)) {
+                continue;
+            }
+            weatherVO.addWeatherItem(readWeatherItem(reader));
+        }
+        reader.endArray();
+    }
+
+    /**
+     * Read single weather condition.
+     *
+     * @param reader {@link com.google.gson.stream.JsonReader}.
+     * @return {@link com.yuriy.weatherapp.business.vo.WeatherItem}.
+     * @throws IOException
+     */
+    private WeatherItem readWeatherItem(final JsonReader reader) throws IOException {
+        int id = WeatherItem.DEFAULT_CONDITION_ID;
+        String main = WeatherItem.DEFAULT_MAIN;
+        String description = WeatherItem.DEFAULT_DESCRIPTION;
+        String icon = WeatherItem.DEFAULT_ICON;
+        String name;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            name = reader.nextName();
+            if (KEY_ID.equals(name)) {
+                id = (int) nextDouble(reader, WeatherItem.DEFAULT_CONDITION_ID);
+            } else if (KEY_MAIN.equals(name)) {
+                main = nextString(reader, WeatherItem.DEFAULT_MAIN);
+            } else if (KEY_DESCRIPTION.equals(name)) {
+                description = nextString(reader, WeatherItem.DEFAULT_DESCRIPTION);
+            } else if (KEY_ICON.equals(name)) {
+                icon = nextString(reader, WeatherItem.DEFAULT_ICON);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return WeatherItem.getInstance(id, main, description, icon);
+    }
+
+    /**
+     * Read main information about weather.
+     *
+     * @param reader {@link com.google.gson.stream.JsonReader}.
+     * @return Main information about the weather.
+     * @throws IOException
+     */
+    private MainVO readMain(final JsonReader reader) throws IOException {
+        if (!isObject(reader)) {
+            return MainVO.getDefaultInstance();
+        }
+        double temperature = MainVO.DEFAULT_TEMPERATURE;
+        double humidity = MainVO.DEFAULT_HUMIDITY;
+        double pressure = MainVO.DEFAULT_PRESSURE;
+        double minTemperature = MainVO.DEFAULT_MIN_TEMPERATURE;
+        double maxTemperature = MainVO.DEFAULT_MAX_TEMPERATURE;
+        String name;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            name = reader.nextName();
+            if (KEY_TEMP.equals(name)) {
+                temperature = nextDouble(reader, MainVO.DEFAULT_TEMPERATURE);
+            } else if (KEY_TEMP_MAX.equals(name)) {
+                maxTemperature = nextDouble(reader, MainVO.DEFAULT_MAX_TEMPERATURE);
+            } else if (KEY_TEMP_MIN.equals(name)) {
+                minTemperature = nextDouble(reader, MainVO.DEFAULT_MIN_TEMPERATURE);
+            } else if (KEY_HUMIDITY.equals(name)) {
+                // Humidity and Pressure are integral values, same as in the tree parser
+                humidity = nextLong(reader, MainVO.DEFAULT_HUMIDITY);
+            } else if (KEY_PRESSURE.equals(name)) {
+                pressure = nextLong(reader, MainVO.DEFAULT_PRESSURE);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return MainVO.getInstance(
+                temperature, humidity, pressure, minTemperature, maxTemperature
+        );
+    }
+
+    /**
+     * Read information about Wind.
+     *
+     * @param reader {@link com.google.gson.stream.JsonReader}.
+     * @return Wind information.
+     * @throws IOException
+     */
+    private WindVO readWind(final JsonReader reader) throws IOException {
+        if (!isObject(reader)) {
+            return WindVO.getDefaultInstance();
+        }
+        double windSpeed = WindVO.DEFAULT_SPEED;
+        double windDirection = WindVO.DEFAULT_DEG;
+        String name;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            name = reader.nextName();
+            if (KEY_SPEED.equals(name)) {
+                windSpeed = nextDouble(reader, WindVO.DEFAULT_SPEED);
+            } else if (KEY_DEG.equals(name)) {
+                windDirection = nextDouble(reader, WindVO.DEFAULT_DEG);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return WindVO.getInstance(windSpeed, windDirection);
+    }
+
+    /**
+     * Read Rain information.
+     *
+     * @param reader {@link com.google.gson.stream.JsonReader}.
+     * @return Rain information.
+     * @throws IOException
+     */
+    private RainVO readRain(final JsonReader reader) throws IOException {
+        if (!isObject(reader)) {
+            return RainVO.getDefaultInstance();
+        }
+        int _3h = RainVO.DEFAULT_3H;
+        String name;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            name = reader.nextName();
+            if (KEY_3H.equals(name)) {
+                _3h = (int) nextDouble(reader, RainVO.DEFAULT_3H);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return RainVO.getInstance(_3h);
+    }
+
+    /**
+     * Read Clouds information.
+     *
+     * @param reader {@link com.google.gson.stream.JsonReader}.
+     * @return Clouds information.
+     * @throws IOException
+     */
+    private CloudsVO readClouds(final JsonReader reader) throws IOException {
+        if (!isObject(reader)) {
+            return CloudsVO.getDefaultInstance();
+        }
+        double cloudiness = CloudsVO.DEFAULT_VALUE;
+        String name;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            name = reader.nextName();
+            if (KEY_ALL.equals(name)) {
+                cloudiness = (int) nextDouble(reader, CloudsVO.DEFAULT_VALUE);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return CloudsVO.getInstance(cloudiness);
+    }
+
+    /**
+     * Check whether next token is a beginning of the object. If it is not - skip next value.
+     *
+     * @param reader {@link com.google.gson.stream.JsonReader}.
+     * @return True if next token is a beginning of the object, False otherwise.
+     * @throws IOException
+     */
+    private static boolean isObject(final JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            return true;
+        }
+        reader.skipValue();
+        return false;
+    }
+
+    /**
+     * Read next value as double.
+     *
+     * @param reader       {@link com.google.gson.stream.JsonReader}.
+     * @param defaultValue Value to return if next value is null or is not a number.
+     * @return Double value.
+     * @throws IOException
+     */
+    private static double nextDouble(final JsonReader reader, final double defaultValue)
+            throws IOException {
+        final JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        }
+        // Malformed value is skipped, so that it does not drop the values which follow it
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            AppLogger.w(CLASS_NAME, "Skip not numeric value:" + token);
+            reader.skipValue();
+            return defaultValue;
+        }
+        try {
+            return reader.nextDouble();
+        } catch (NumberFormatException e) {
+            AppLogger.w(CLASS_NAME, "Skip malformed numeric value:" + e.getMessage());
+            reader.skipValue();
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Read next value as integral value, fraction part is truncated.
+     *
+     * @param reader       {@link com.google.gson.stream.JsonReader}.
+     * @param defaultValue Value to return if next value is null or is not a number.
+     * @return Integral value as double.
+     * @throws IOException
+     */
+    private static double nextLong(final JsonReader reader, final double defaultValue)
+            throws IOException {
+        final JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        }
+        // Malformed value is skipped, so that it does not drop the values which follow it
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            AppLogger.w(CLASS_NAME, "Skip not numeric value:" + token);
+            reader.skipValue();
+            return defaultValue;
+        }
+        try {
+            return (long) reader.nextDouble();
+        } catch (NumberFormatException e) {
+            AppLogger.w(CLASS_NAME, "Skip malformed numeric value:" + e.getMessage());
+            reader.skipValue();
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Read next value as String.
+     *
+     * @param reader       {@link com.google.gson.stream.JsonReader}.
+     * @param defaultValue Value to return if next value is null or is not a string.
+     * @return String value.
+     * @throws IOException
+     */
+    private static String nextString(final JsonReader reader, final String defaultValue)
+            throws IOException {
+        final JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        }
+        // Malformed value is skipped, so that it does not drop the values which follow it
+        if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+            AppLogger.w(CLASS_NAME, "Skip not string value:" + token);
+            reader.skipValue();
+            return defaultValue;
+        }
+        return reader.nextString();
+    }
+}
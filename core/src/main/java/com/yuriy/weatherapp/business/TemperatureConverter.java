@@ -0,0 +1,145 @@
+package com.yuriy.weatherapp.business;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * {@link com.yuriy.weatherapp.business.TemperatureConverter} is a helper class which converts
+ * Temperature values received from the weather service (Kelvin) into the display formats.
+ * Values are rounded to hundredths with {@link java.math.RoundingMode#HALF_UP} of the exact
+ * binary value of the double, using integer arithmetic instead of the
+ * {@link java.math.BigDecimal}.
+ */
+public class TemperatureConverter {
+
+    private static final String CLASS_NAME = TemperatureConverter.class.getSimpleName();
+
+    private static final double TEMP_CONVERSION_FRACTION = 273.15;
+
+    /**
+     * Number of hundredths which is returned when value can not be rounded with integer
+     * arithmetic (NaN, Infinity or out of the range).
+     */
+    public static final long INVALID_HUNDREDTHS = Long.MIN_VALUE;
+
+    /**
+     * Absolute value up to which rounding is done with integer arithmetic. Mantissa
+     * multiplied by 200 fits into the long and is shifted right for the values below it.
+     */
+    private static final double MAX_EXACT_VALUE = 1.0E9;
+
+    private static final int MANTISSA_BITS = 52;
+
+    private static final long MANTISSA_MASK = (1L << MANTISSA_BITS) - 1;
+
+    private static final int EXPONENT_MASK = 0x7FF;
+
+    /**
+     * Exponent bias plus number of the mantissa bits.
+     */
+    private static final int EXPONENT_OFFSET = 1075;
+
+    /**
+     * Utility method to convert Kelvin value to Fahrenheit.
+     *
+     * @param kelvinValue Kelvin value.
+     * @return Fahrenheit value.
+     */
+    public static double kelvinToFahrenheit(final double kelvinValue) {
+        final double value = (((kelvinValue - TEMP_CONVERSION_FRACTION) * 9.0 / 5.0) + 32);
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            AppLogger.e(CLASS_NAME, "KelvinToFahrenheit -> can not parse:" + value);
+            return Double.NaN;
+        }
+        return roundHalfUp(value);
+    }
+
+    /**
+     * Utility method to convert Kelvin to Celsius.
+     *
+     * @param kelvinValue Kelvin value.
+     * @return Celsius value.
+     */
+    public static double kelvinToCelsius(final double kelvinValue) {
+        final double value = kelvinValue - TEMP_CONVERSION_FRACTION;
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            AppLogger.e(CLASS_NAME, "KelvinToCelsius -> can not parse:" + value);
+            return Double.NaN;
+        }
+        return roundHalfUp(value);
+    }
+
+    /**
+     * Utility method to convert Kelvin value to Fahrenheit hundredths.
+     *
+     * @param kelvinValue Kelvin value.
+     * @return Fahrenheit value multiplied by 100 or {@link #INVALID_HUNDREDTHS}.
+     */
+    public static long kelvinToFahrenheitHundredths(final double kelvinValue) {
+        return toHundredths(((kelvinValue - TEMP_CONVERSION_FRACTION) * 9.0 / 5.0) + 32);
+    }
+
+    /**
+     * Utility method to convert Kelvin value to Celsius hundredths.
+     *
+     * @param kelvinValue Kelvin value.
+     * @return Celsius value multiplied by 100 or {@link #INVALID_HUNDREDTHS}.
+     */
+    public static long kelvinToCelsiusHundredths(final double kelvinValue) {
+        return toHundredths(kelvinValue - TEMP_CONVERSION_FRACTION);
+    }
+
+    /**
+     * Round provided value to two decimal places with {@link java.math.RoundingMode#HALF_UP}.
+     *
+     * @param value Value to round, not NaN and not Infinity.
+     * @return Rounded value, the same as the {@link java.math.BigDecimal} one.
+     */
+    private static double roundHalfUp(final double value) {
+        final long hundredths = toHundredths(value);
+        if (hundredths != INVALID_HUNDREDTHS) {
+            // Division is correctly rounded, as the BigDecimal#doubleValue
+            return hundredths / 100.0;
+        }
+        // Out of any realistic Temperature, not worth the integer arithmetic
+        return new BigDecimal(value).setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    /**
+     * Round exact binary value of the provided double to hundredths with
+     * {@link java.math.RoundingMode#HALF_UP}. Double is m * 2^-s, so that 200 * |value| is
+     * (m * 200) >> s and the result is half of it, rounded up.
+     *
+     * @param value Value to round.
+     * @return Value multiplied by 100 and rounded, or {@link #INVALID_HUNDREDTHS} if value
+     * is NaN, Infinity or its absolute value is not less than {@link #MAX_EXACT_VALUE}.
+     */
+    private static long toHundredths(final double value) {
+        final double absValue = Math.abs(value);
+        // Comparison is false for NaN
+        if (!(absValue < MAX_EXACT_VALUE)) {
+            return INVALID_HUNDREDTHS;
+        }
+        final long bits = Double.doubleToRawLongBits(absValue);
+        final int exponent = (int) (bits >>> MANTISSA_BITS) & EXPONENT_MASK;
+        long mantissa = bits & MANTISSA_MASK;
+        int shift = EXPONENT_OFFSET - 1;
+        if (exponent != 0) {
+            mantissa |= 1L << MANTISSA_BITS;
+            shift = EXPONENT_OFFSET - exponent;
+        }
+        // Shift is not less than 22 because of the MAX_EXACT_VALUE
+        final long doubleHundredths = shift < Long.SIZE ? (mantissa * 200) >>> shift : 0;
+        final long hundredths = (doubleHundredths + 1) >>> 1;
+        return value < 0 ? -hundredths : hundredths;
+    }
+}
@@ -0,0 +1,126 @@
+package com.yuriy.weatherapp.business;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.business.TemperatureFormatter} formats Temperature hundredths
+ * produced by the {@link com.yuriy.weatherapp.business.TemperatureConverter} into the
+ * display string, the same as {@link String#valueOf(double)} of the rounded value followed
+ * by the space and the suffix. Characters are written into the reusable buffer and the last
+ * result is cached, so that refreshing the same Temperature allocates nothing.<br>
+ * Instance is not thread safe.
+ */
+public final class TemperatureFormatter {
+
+    /**
+     * Absolute number of hundredths below which value is formatted in the buffer. Up to it
+     * {@link String#valueOf(double)} uses plain (not scientific) notation.
+     */
+    private static final long MAX_FORMATTED_HUNDREDTHS = 1000000000L;
+
+    /**
+     * Size of the buffer: sign, ten digits, point and two fraction digits.
+     */
+    private static final int BUFFER_SIZE = 14;
+
+    /**
+     * Buffer for the characters of the value.
+     */
+    private final char[] mBuffer = new char[BUFFER_SIZE];
+
+    /**
+     * Hundredths of the last formatted value.
+     */
+    private long mLastHundredths = TemperatureConverter.INVALID_HUNDREDTHS;
+
+    /**
+     * Suffix of the last formatted value.
+     */
+    private String mLastSuffix;
+
+    /**
+     * Last formatted value.
+     */
+    private String mLastValue;
+
+    /**
+     * Factory method to create instance of the {@link TemperatureFormatter}.
+     *
+     * @return Instance of the {@link TemperatureFormatter}.
+     */
+    public static TemperatureFormatter getInstance() {
+        return new TemperatureFormatter();
+    }
+
+    /**
+     * Private constructor, use {@link #getInstance()}.
+     */
+    private TemperatureFormatter() {
+        super();
+    }
+
+    /**
+     * Format provided Temperature.
+     *
+     * @param hundredths Temperature multiplied by 100, as returned by the
+     *                   {@link com.yuriy.weatherapp.business.TemperatureConverter}, not
+     *                   {@link TemperatureConverter#INVALID_HUNDREDTHS}.
+     * @param suffix     Suffix of the value, for example unit of the Temperature.
+     * @return Display string of the Temperature.
+     */
+    public String format(final long hundredths, final String suffix) {
+        if (hundredths == mLastHundredths && mLastValue != null
+                && (suffix == null ? mLastSuffix == null : suffix.equals(mLastSuffix))) {
+            return mLastValue;
+        }
+        final String value;
+        if (hundredths == TemperatureConverter.INVALID_HUNDREDTHS
+                || Math.abs(hundredths) >= MAX_FORMATTED_HUNDREDTHS) {
+            value = String.valueOf(hundredths / 100.0) + " " + suffix;
+        } else {
+            final int position = writeValue(hundredths);
+            value = new StringBuilder(BUFFER_SIZE + 1 + (suffix == null ? 4 : suffix.length()))
+                    .append(mBuffer, position, BUFFER_SIZE - position)
+                    .append(' ').append(suffix).toString();
+        }
+        mLastHundredths = hundredths;
+        mLastSuffix = suffix;
+        mLastValue = value;
+        return value;
+    }
+
+    /**
+     * Write provided hundredths into the buffer as {@link String#valueOf(double)} does:
+     * trailing zeros of the fraction are dropped, but at least one fraction digit is kept.
+     *
+     * @param hundredths Value multiplied by 100, its absolute value is less than
+     *                   {@link #MAX_FORMATTED_HUNDREDTHS}.
+     * @return Position of the first written character, value ends at the end of the buffer.
+     */
+    private int writeValue(final long hundredths) {
+        long absValue = Math.abs(hundredths);
+        final int fraction = (int) (absValue % 100);
+        absValue /= 100;
+
+        // Fill the buffer from the end
+        int position = BUFFER_SIZE;
+        if (fraction % 10 != 0) {
+            mBuffer[--position] = (char) ('0' + fraction % 10);
+        }
+        mBuffer[--position] = (char) ('0' + fraction / 10);
+        mBuffer[--position] = '.';
+        do {
+            mBuffer[--position] = (char) ('0' + absValue % 10);
+            absValue /= 10;
+        } while (absValue != 0);
+        if (hundredths < 0) {
+            mBuffer[--position] = '-';
+        }
+        return position;
+    }
+}
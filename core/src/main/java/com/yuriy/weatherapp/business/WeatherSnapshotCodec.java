@@ -0,0 +1,292 @@
+package com.yuriy.weatherapp.business;
+
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+import com.yuriy.weatherapp.business.vo.ValueReader;
+import com.yuriy.weatherapp.business.vo.ValueWriter;
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.business.WeatherSnapshotCodec} encodes
+ * {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} into the compact binary snapshot
+ * and decodes it back, without reflection and without JSON parsing. Snapshot can be stored
+ * on disk or passed between processes.<br>
+ * Layout (big-endian):
+ * <pre>
+ * short  magic          'W' 'S'
+ * short  version        version of the writer
+ * int    payload length number of the bytes of the payload
+ * ...    payload        fields in the order of the CurrentWeatherVO#writeTo:
+ *                       int, long and double values in the fixed slots of 4, 8 and 8 bytes,
+ *                       strings as int length of the UTF-8 bytes (-1 for null) and the bytes,
+ *                       weather items as int count and the items.
+ * </pre>
+ * Newer versions may only append fields to the end of the payload. Decoder reads fields
+ * which it knows and skips the rest of the payload, so that snapshot of the newer version
+ * is decoded by the older Application.
+ */
+public final class WeatherSnapshotCodec {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = WeatherSnapshotCodec.class.getSimpleName();
+
+    /**
+     * Magic number of the snapshot, "WS".
+     */
+    private static final short MAGIC = 0x5753;
+
+    /**
+     * Current version of the snapshot.
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * Size of the header: magic, version and payload length.
+     */
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * Initial capacity of the buffer of the encoder, enough for the typical Weather.
+     */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Charset of the strings.
+     */
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * Private constructor, class contains static methods only.
+     */
+    private WeatherSnapshotCodec() {
+        super();
+    }
+
+    /**
+     * Encode provided Weather into the snapshot.
+     *
+     * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     * @return {@link java.nio.ByteBuffer} with the snapshot, ready to be read.
+     */
+    public static ByteBuffer encode(final CurrentWeatherVO weatherVO) {
+        final ByteBufferValueWriter writer = new ByteBufferValueWriter(INITIAL_CAPACITY);
+        writer.mBuffer.putShort(MAGIC);
+        writer.mBuffer.putShort(VERSION);
+        // Payload length is known when payload is written
+        writer.mBuffer.putInt(0);
+        weatherVO.writeTo(writer);
+
+        final ByteBuffer buffer = writer.mBuffer;
+        buffer.putInt(4, buffer.position() - HEADER_SIZE);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Encode provided Weather into the snapshot.
+     *
+     * @param weatherVO {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     * @return Bytes of the snapshot.
+     */
+    public static byte[] encodeToBytes(final CurrentWeatherVO weatherVO) {
+        final ByteBuffer buffer = encode(weatherVO);
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Decode Weather from the snapshot which starts at the current position of the provided
+     * buffer. On success position is moved to the end of the snapshot.
+     *
+     * @param buffer {@link java.nio.ByteBuffer} with the snapshot.
+     * @return {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} or null if snapshot
+     * is malformed.
+     */
+    public static CurrentWeatherVO decode(final ByteBuffer buffer) {
+        if (buffer == null || buffer.remaining() < HEADER_SIZE) {
+            AppLogger.w(CLASS_NAME, "Can not decode snapshot, header is missing");
+            return null;
+        }
+        final ByteBuffer source = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        final short magic = source.getShort();
+        final short version = source.getShort();
+        final int payloadLength = source.getInt();
+        if (magic != MAGIC || version < 1) {
+            AppLogger.w(CLASS_NAME, "Can not decode snapshot, unknown format:" + version);
+            return null;
+        }
+        if (payloadLength < 0 || payloadLength > source.remaining()) {
+            AppLogger.w(CLASS_NAME, "Can not decode snapshot, payload is truncated");
+            return null;
+        }
+        // Fields of the newer version, if any, are after known ones and are skipped
+        final ByteBuffer payload = source.slice();
+        payload.limit(payloadLength);
+        final CurrentWeatherVO weatherVO;
+        try {
+            weatherVO = CurrentWeatherVO.readFrom(new ByteBufferValueReader(payload));
+        } catch (BufferUnderflowException e) {
+            AppLogger.w(CLASS_NAME, "Can not decode snapshot, payload is malformed");
+            return null;
+        } catch (IllegalArgumentException e) {
+            AppLogger.w(CLASS_NAME, "Can not decode snapshot:" + e.getMessage());
+            return null;
+        }
+        buffer.position(buffer.position() + HEADER_SIZE + payloadLength);
+        return weatherVO;
+    }
+
+    /**
+     * Decode Weather from the snapshot bytes.
+     *
+     * @param bytes Bytes of the snapshot.
+     * @return {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} or null if snapshot
+     * is malformed.
+     */
+    public static CurrentWeatherVO decode(final byte[] bytes) {
+        if (bytes == null) {
+            AppLogger.w(CLASS_NAME, "Can not decode snapshot, bytes are null");
+            return null;
+        }
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter} which writes values into the
+     * growing {@link java.nio.ByteBuffer}.
+     */
+    private static final class ByteBufferValueWriter implements ValueWriter {
+
+        /**
+         * Destination buffer, replaced by the larger one when it is full.
+         */
+        private ByteBuffer mBuffer;
+
+        /**
+         * Constructor.
+         *
+         * @param capacity Initial capacity of the buffer.
+         */
+        private ByteBufferValueWriter(final int capacity) {
+            mBuffer = ByteBuffer.allocate(capacity).order(ByteOrder.BIG_ENDIAN);
+        }
+
+        @Override
+        public void writeInt(final int value) {
+            ensureRemaining(4);
+            mBuffer.putInt(value);
+        }
+
+        @Override
+        public void writeLong(final long value) {
+            ensureRemaining(8);
+            mBuffer.putLong(value);
+        }
+
+        @Override
+        public void writeDouble(final double value) {
+            ensureRemaining(8);
+            mBuffer.putDouble(value);
+        }
+
+        @Override
+        public void writeString(final String value) {
+            if (value == null) {
+                writeInt(-1);
+                return;
+            }
+            final byte[] bytes = value.getBytes(UTF_8);
+            ensureRemaining(4 + bytes.length);
+            mBuffer.putInt(bytes.length);
+            mBuffer.put(bytes);
+        }
+
+        /**
+         * Grow the buffer if there is not enough space for the provided number of bytes.
+         *
+         * @param count Number of bytes to write.
+         */
+        private void ensureRemaining(final int count) {
+            if (mBuffer.remaining() >= count) {
+                return;
+            }
+            final int capacity = Math.max(mBuffer.capacity() * 2, mBuffer.position() + count);
+            final ByteBuffer buffer = ByteBuffer.allocate(capacity).order(ByteOrder.BIG_ENDIAN);
+            mBuffer.flip();
+            buffer.put(mBuffer);
+            mBuffer = buffer;
+        }
+    }
+
+    /**
+     * {@link com.yuriy.weatherapp.business.vo.ValueReader} which reads values from the
+     * {@link java.nio.ByteBuffer}.
+     */
+    private static final class ByteBufferValueReader implements ValueReader {
+
+        /**
+         * Source buffer.
+         */
+        private final ByteBuffer mBuffer;
+
+        /**
+         * Constructor.
+         *
+         * @param buffer Source buffer.
+         */
+        private ByteBufferValueReader(final ByteBuffer buffer) {
+            mBuffer = buffer;
+        }
+
+        @Override
+        public int readInt() {
+            return mBuffer.getInt();
+        }
+
+        @Override
+        public long readLong() {
+            return mBuffer.getLong();
+        }
+
+        @Override
+        public double readDouble() {
+            return mBuffer.getDouble();
+        }
+
+        @Override
+        public String readString() {
+            final int length = mBuffer.getInt();
+            if (length == -1) {
+                return null;
+            }
+            if (length < 0 || length > mBuffer.remaining()) {
+                throw new IllegalArgumentException("Invalid string length " + length);
+            }
+            if (!mBuffer.hasArray()) {
+                // Direct or read-only buffer, copy bytes
+                final byte[] bytes = new byte[length];
+                mBuffer.get(bytes);
+                return new String(bytes, UTF_8);
+            }
+            final String value = new String(
+                    mBuffer.array(), mBuffer.arrayOffset() + mBuffer.position(), length, UTF_8
+            );
+            mBuffer.position(mBuffer.position() + length);
+            return value;
+        }
+    }
+}
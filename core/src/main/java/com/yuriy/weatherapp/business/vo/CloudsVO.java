@@ -7,7 +7,7 @@ package com.yuriy.weatherapp.business.vo;
  * E-Mail: chernyshov.yuriy@gmail.com
  */
 
-import android.util.Log;
+import com.yuriy.weatherapp.util.AppLogger;
 
 import java.io.Serializable;
 
@@ -54,7 +54,7 @@ public class CloudsVO implements Serializable {
      */
     private CloudsVO(double all) {
         if (all > MAX_VALUE || all < MIN_VALUE) {
-            Log.w(CLASS_NAME, "Constructor -> Cloudiness is out of bounds:"
+            AppLogger.w(CLASS_NAME, "Constructor -> Cloudiness is out of bounds:"
                     + all + ". Reset it to default");
             all = DEFAULT_VALUE;
         }
@@ -87,4 +87,25 @@ public class CloudsVO implements Serializable {
     public static CloudsVO getDefaultInstance() {
         return new CloudsVO(DEFAULT_VALUE);
     }
+
+    /**
+     * Write fields of this {@link com.yuriy.weatherapp.business.vo.CloudsVO} into the provided
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     *
+     * @param writer {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     */
+    public void writeTo(final ValueWriter writer) {
+        writer.writeDouble(mAll);
+    }
+
+    /**
+     * Factory method to read {@link com.yuriy.weatherapp.business.vo.CloudsVO} which is written
+     * by the {@link #writeTo(ValueWriter)}.
+     *
+     * @param reader {@link com.yuriy.weatherapp.business.vo.ValueReader}.
+     * @return Instance of the {@link com.yuriy.weatherapp.business.vo.CloudsVO}.
+     */
+    public static CloudsVO readFrom(final ValueReader reader) {
+        return getInstance(reader.readDouble());
+    }
 }
@@ -7,7 +7,7 @@ package com.yuriy.weatherapp.business.vo;
  * E-Mail: chernyshov.yuriy@gmail.com
  */
 
-import android.util.Log;
+import com.yuriy.weatherapp.util.AppLogger;
 
 import java.io.Serializable;
 
@@ -80,12 +80,12 @@ public class CoordVO implements Serializable {
      */
     private CoordVO(double latitude, double longitude) {
         if (latitude > MAX_LATITUDE || latitude < MIN_LATITUDE) {
-            Log.w(CLASS_NAME, "Constructor -> Latitude is out of bounds:"
+            AppLogger.w(CLASS_NAME, "Constructor -> Latitude is out of bounds:"
                     + latitude + ". Reset it to default");
             latitude = DEFAULT_LATITUDE;
         }
         if (longitude > MAX_LONGITUDE || longitude < MIN_LONGITUDE) {
-            Log.w(CLASS_NAME, "Constructor -> Longitude is out of bounds:"
+            AppLogger.w(CLASS_NAME, "Constructor -> Longitude is out of bounds:"
                     + latitude + ". Reset it to default");
             longitude = DEFAULT_LATITUDE;
         }
@@ -127,4 +127,28 @@ public class CoordVO implements Serializable {
     public static CoordVO getDefaultInstance() {
         return new CoordVO(DEFAULT_LATITUDE, DEFAULT_LONGITUDE);
     }
+
+    /**
+     * Write fields of this {@link com.yuriy.weatherapp.business.vo.CoordVO} into the provided
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     *
+     * @param writer {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     */
+    public void writeTo(final ValueWriter writer) {
+        writer.writeDouble(mLat);
+        writer.writeDouble(mLon);
+    }
+
+    /**
+     * Factory method to read {@link com.yuriy.weatherapp.business.vo.CoordVO} which is written
+     * by the {@link #writeTo(ValueWriter)}.
+     *
+     * @param reader {@link com.yuriy.weatherapp.business.vo.ValueReader}.
+     * @return Instance of the {@link com.yuriy.weatherapp.business.vo.CoordVO}.
+     */
+    public static CoordVO readFrom(final ValueReader reader) {
+        final double latitude = reader.readDouble();
+        final double longitude = reader.readDouble();
+        return getInstance(latitude, longitude);
+    }
 }
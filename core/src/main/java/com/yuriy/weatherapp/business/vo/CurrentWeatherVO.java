@@ -7,7 +7,7 @@ package com.yuriy.weatherapp.business.vo;
  * E-Mail: chernyshov.yuriy@gmail.com
  */
 
-import android.util.Log;
+import com.yuriy.weatherapp.util.AppLogger;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -176,7 +176,7 @@ public class CurrentWeatherVO implements Serializable {
      */
     public void addWeatherItem(final WeatherItem weatherItem) {
         if (weatherItem == null) {
-            Log.w(CLASS_NAME, "Can not add null as Weather Item");
+            AppLogger.w(CLASS_NAME, "Can not add null as Weather Item");
             return;
         }
         mWeather.add(weatherItem);
@@ -280,7 +280,7 @@ public class CurrentWeatherVO implements Serializable {
      */
     public double getDt() {
         if (mDt < MIN_DT) {
-            Log.w(CLASS_NAME, "Data receiving time less the Min. Reset to default.");
+            AppLogger.w(CLASS_NAME, "Data receiving time less the Min. Reset to default.");
             setDt(DEFAULT_DT);
         }
         return mDt;
@@ -300,7 +300,7 @@ public class CurrentWeatherVO implements Serializable {
      */
     public int getCityId() {
         if (mCityId < MIN_CITY_ID) {
-            Log.w(CLASS_NAME, "City Id less the Min. Reset to default.");
+            AppLogger.w(CLASS_NAME, "City Id less the Min. Reset to default.");
             setCityId(DEFAULT_CITY_ID);
         }
         return mCityId;
@@ -320,7 +320,7 @@ public class CurrentWeatherVO implements Serializable {
      */
     public String getCityName() {
         if (mCityName == null) {
-            Log.w(CLASS_NAME, "City Name is null. Reset to default.");
+            AppLogger.w(CLASS_NAME, "City Name is null. Reset to default.");
             setCityName(DEFAULT_CITY_NAME);
         }
         return mCityName;
@@ -340,7 +340,8 @@ public class CurrentWeatherVO implements Serializable {
      */
     public int getCod() {
         if (mCod < DEFAULT_COD) {
-            Log.w(CLASS_NAME, "Weather condition code is less then default. Reset to default.");
+            AppLogger.w(CLASS_NAME, "Weather condition code is less then default."
+                    + " Reset to default.");
             setCod(DEFAULT_COD);
         }
         return mCod;
@@ -354,4 +355,55 @@ public class CurrentWeatherVO implements Serializable {
     public void setCod(final int value) {
         mCod = value;
     }
+
+    /**
+     * Write fields of this {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO} and of
+     * all nested Value Objects into the provided
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     *
+     * @param writer {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     */
+    public void writeTo(final ValueWriter writer) {
+        // Nested Value Objects, default ones are written when they are not set
+        getCoordVO().writeTo(writer);
+        getSysVO().writeTo(writer);
+        writer.writeInt(mWeather.size());
+        for (WeatherItem weatherItem : mWeather) {
+            weatherItem.writeTo(writer);
+        }
+        getMainVO().writeTo(writer);
+        getWindVO().writeTo(writer);
+        getRainVO().writeTo(writer);
+        getCloudsVO().writeTo(writer);
+        writer.writeDouble(mDt);
+        writer.writeInt(mCityId);
+        writer.writeString(mCityName);
+        writer.writeInt(mCod);
+    }
+
+    /**
+     * Factory method to read {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}
+     * which is written by the {@link #writeTo(ValueWriter)}.
+     *
+     * @param reader {@link com.yuriy.weatherapp.business.vo.ValueReader}.
+     * @return Instance of the {@link com.yuriy.weatherapp.business.vo.CurrentWeatherVO}.
+     */
+    public static CurrentWeatherVO readFrom(final ValueReader reader) {
+        final CurrentWeatherVO weatherVO = new CurrentWeatherVO();
+        weatherVO.setCoordVO(CoordVO.readFrom(reader));
+        weatherVO.setSysVO(SysVO.readFrom(reader));
+        final int weatherItemsSize = reader.readInt();
+        for (int i = 0; i < weatherItemsSize; i++) {
+            weatherVO.addWeatherItem(WeatherItem.readFrom(reader));
+        }
+        weatherVO.setMainVO(MainVO.readFrom(reader));
+        weatherVO.setWindVO(WindVO.readFrom(reader));
+        weatherVO.setRainVO(RainVO.readFrom(reader));
+        weatherVO.setCloudsVO(CloudsVO.readFrom(reader));
+        weatherVO.setDt(reader.readDouble());
+        weatherVO.setCityId(reader.readInt());
+        weatherVO.setCityName(reader.readString());
+        weatherVO.setCod(reader.readInt());
+        return weatherVO;
+    }
 }
@@ -7,7 +7,7 @@ package com.yuriy.weatherapp.business.vo;
  * E-Mail: chernyshov.yuriy@gmail.com
  */
 
-import android.util.Log;
+import com.yuriy.weatherapp.util.AppLogger;
 
 import java.io.Serializable;
 
@@ -100,11 +100,11 @@ public class MainVO implements Serializable {
     private MainVO(final double temperature, double humidity, double pressure,
                    final double minTemperature, final double maxTemperature) {
         if (humidity < 0) {
-            Log.w(CLASS_NAME, "Constructor -> Humidity is less the 0. Reset it to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Humidity is less the 0. Reset it to default");
             humidity = DEFAULT_HUMIDITY;
         }
         if (pressure < 0) {
-            Log.w(CLASS_NAME, "Constructor -> Pressure is less the 0. Reset it to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Pressure is less the 0. Reset it to default");
             pressure = DEFAULT_PRESSURE;
         }
         mTemperature = temperature;
@@ -182,4 +182,34 @@ public class MainVO implements Serializable {
                 DEFAULT_MIN_TEMPERATURE, DEFAULT_MAX_TEMPERATURE
         );
     }
+
+    /**
+     * Write fields of this {@link com.yuriy.weatherapp.business.vo.MainVO} into the provided
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     *
+     * @param writer {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     */
+    public void writeTo(final ValueWriter writer) {
+        writer.writeDouble(mTemperature);
+        writer.writeDouble(mHumidity);
+        writer.writeDouble(mPressure);
+        writer.writeDouble(mMinTemperature);
+        writer.writeDouble(mMaxTemperature);
+    }
+
+    /**
+     * Factory method to read {@link com.yuriy.weatherapp.business.vo.MainVO} which is written
+     * by the {@link #writeTo(ValueWriter)}.
+     *
+     * @param reader {@link com.yuriy.weatherapp.business.vo.ValueReader}.
+     * @return Instance of the {@link com.yuriy.weatherapp.business.vo.MainVO}.
+     */
+    public static MainVO readFrom(final ValueReader reader) {
+        final double temperature = reader.readDouble();
+        final double humidity = reader.readDouble();
+        final double pressure = reader.readDouble();
+        final double minTemperature = reader.readDouble();
+        final double maxTemperature = reader.readDouble();
+        return getInstance(temperature, humidity, pressure, minTemperature, maxTemperature);
+    }
 }
@@ -7,7 +7,7 @@ package com.yuriy.weatherapp.business.vo;
  * E-Mail: chernyshov.yuriy@gmail.com
  */
 
-import android.util.Log;
+import com.yuriy.weatherapp.util.AppLogger;
 
 import java.io.Serializable;
 
@@ -44,7 +44,8 @@ public class RainVO implements Serializable {
      */
     private RainVO(int m3h) {
         if (m3h < DEFAULT_3H) {
-            Log.w(CLASS_NAME, "Constructor -> 3H value is less then default. Reset it to default.");
+            AppLogger.w(CLASS_NAME, "Constructor -> 3H value is less then default."
+                    + " Reset it to default.");
             m3h = DEFAULT_3H;
         }
         this.m3h = m3h;
@@ -76,4 +77,25 @@ public class RainVO implements Serializable {
     public static RainVO getDefaultInstance() {
         return new RainVO(DEFAULT_3H);
     }
+
+    /**
+     * Write fields of this {@link com.yuriy.weatherapp.business.vo.RainVO} into the provided
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     *
+     * @param writer {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     */
+    public void writeTo(final ValueWriter writer) {
+        writer.writeInt(m3h);
+    }
+
+    /**
+     * Factory method to read {@link com.yuriy.weatherapp.business.vo.RainVO} which is written
+     * by the {@link #writeTo(ValueWriter)}.
+     *
+     * @param reader {@link com.yuriy.weatherapp.business.vo.ValueReader}.
+     * @return Instance of the {@link com.yuriy.weatherapp.business.vo.RainVO}.
+     */
+    public static RainVO readFrom(final ValueReader reader) {
+        return getInstance(reader.readInt());
+    }
 }
@@ -7,7 +7,7 @@ package com.yuriy.weatherapp.business.vo;
  * E-Mail: chernyshov.yuriy@gmail.com
  */
 
-import android.util.Log;
+import com.yuriy.weatherapp.util.AppLogger;
 
 import java.io.Serializable;
 
@@ -66,15 +66,17 @@ public class SysVO implements Serializable {
      */
     private SysVO(String country, long sunrise, long sunset) {
         if (country == null) {
-            Log.w(CLASS_NAME, "Constructor -> Country is null. Reset it to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Country is null. Reset it to default");
             country = DEFAULT_COUNTRY;
         }
         if (sunrise < 0) {
-            Log.w(CLASS_NAME, "Constructor -> Sunrise value is less then zero. Reset it to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Sunrise value is less then zero."
+                    + " Reset it to default");
             sunrise = DEFAULT_SUNRISE;
         }
         if (sunset < 0) {
-            Log.w(CLASS_NAME, "Constructor -> Sunset value is less then zero. Reset it to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Sunset value is less then zero."
+                    + " Reset it to default");
             sunset = DEFAULT_SUNSET;
         }
         mCountry = country;
@@ -125,4 +127,30 @@ public class SysVO implements Serializable {
     public static SysVO getDefaultInstance() {
         return new SysVO(DEFAULT_COUNTRY, DEFAULT_SUNRISE, DEFAULT_SUNSET);
     }
+
+    /**
+     * Write fields of this {@link com.yuriy.weatherapp.business.vo.SysVO} into the provided
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     *
+     * @param writer {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     */
+    public void writeTo(final ValueWriter writer) {
+        writer.writeString(mCountry);
+        writer.writeLong(mSunrise);
+        writer.writeLong(mSunset);
+    }
+
+    /**
+     * Factory method to read {@link com.yuriy.weatherapp.business.vo.SysVO} which is written
+     * by the {@link #writeTo(ValueWriter)}.
+     *
+     * @param reader {@link com.yuriy.weatherapp.business.vo.ValueReader}.
+     * @return Instance of the {@link com.yuriy.weatherapp.business.vo.SysVO}.
+     */
+    public static SysVO readFrom(final ValueReader reader) {
+        final String country = reader.readString();
+        final long sunrise = reader.readLong();
+        final long sunset = reader.readLong();
+        return getInstance(country, sunrise, sunset);
+    }
 }
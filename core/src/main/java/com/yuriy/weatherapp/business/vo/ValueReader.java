@@ -0,0 +1,36 @@
+package com.yuriy.weatherapp.business.vo;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.business.vo.ValueReader} is a source which Value Objects read
+ * their fields from one by one, in the same order as they are written into the
+ * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+ */
+public interface ValueReader {
+
+    /**
+     * @return Next value.
+     */
+    public int readInt();
+
+    /**
+     * @return Next value.
+     */
+    public long readLong();
+
+    /**
+     * @return Next value.
+     */
+    public double readDouble();
+
+    /**
+     * @return Next value, may be null.
+     */
+    public String readString();
+}
@@ -0,0 +1,36 @@
+package com.yuriy.weatherapp.business.vo;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.business.vo.ValueWriter} is a sink which Value Objects write
+ * their fields into one by one, in the fixed order, without reflection. Methods are the same
+ * as of the Android Parcel, so that Parcel can be adapted to it directly.
+ */
+public interface ValueWriter {
+
+    /**
+     * @param value Value to write.
+     */
+    public void writeInt(final int value);
+
+    /**
+     * @param value Value to write.
+     */
+    public void writeLong(final long value);
+
+    /**
+     * @param value Value to write.
+     */
+    public void writeDouble(final double value);
+
+    /**
+     * @param value Value to write, may be null.
+     */
+    public void writeString(final String value);
+}
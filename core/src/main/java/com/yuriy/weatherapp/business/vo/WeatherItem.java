@@ -7,7 +7,7 @@ package com.yuriy.weatherapp.business.vo;
  * E-Mail: chernyshov.yuriy@gmail.com
  */
 
-import android.util.Log;
+import com.yuriy.weatherapp.util.AppLogger;
 
 import java.io.Serializable;
 
@@ -77,19 +77,19 @@ public class WeatherItem implements Serializable {
      */
     private WeatherItem(int id, String main, String description, String icon) {
         if (id < 0) {
-            Log.w(CLASS_NAME, "Constructor -> Id is less the zero. Reset to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Id is less the zero. Reset to default");
             id = DEFAULT_CONDITION_ID;
         }
         if (main == null) {
-            Log.w(CLASS_NAME, "Constructor -> Main value is null. Reset to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Main value is null. Reset to default");
             main = DEFAULT_MAIN;
         }
         if (description == null) {
-            Log.w(CLASS_NAME, "Constructor -> Description value is null. Reset to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Description value is null. Reset to default");
             description = DEFAULT_DESCRIPTION;
         }
         if (icon == null) {
-            Log.w(CLASS_NAME, "Constructor -> Icon value is null. Reset to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Icon value is null. Reset to default");
             icon = DEFAULT_ICON;
         }
         mId = id;
@@ -152,4 +152,32 @@ public class WeatherItem implements Serializable {
                 DEFAULT_CONDITION_ID, DEFAULT_MAIN, DEFAULT_DESCRIPTION, DEFAULT_ICON
         );
     }
+
+    /**
+     * Write fields of this {@link com.yuriy.weatherapp.business.vo.WeatherItem} into the provided
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     *
+     * @param writer {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     */
+    public void writeTo(final ValueWriter writer) {
+        writer.writeInt(mId);
+        writer.writeString(mMain);
+        writer.writeString(mDescription);
+        writer.writeString(mIcon);
+    }
+
+    /**
+     * Factory method to read {@link com.yuriy.weatherapp.business.vo.WeatherItem} which is written
+     * by the {@link #writeTo(ValueWriter)}.
+     *
+     * @param reader {@link com.yuriy.weatherapp.business.vo.ValueReader}.
+     * @return Instance of the {@link com.yuriy.weatherapp.business.vo.WeatherItem}.
+     */
+    public static WeatherItem readFrom(final ValueReader reader) {
+        final int id = reader.readInt();
+        final String main = reader.readString();
+        final String description = reader.readString();
+        final String icon = reader.readString();
+        return getInstance(id, main, description, icon);
+    }
 }
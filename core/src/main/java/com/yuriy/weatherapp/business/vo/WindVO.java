@@ -7,7 +7,7 @@ package com.yuriy.weatherapp.business.vo;
  * E-Mail: chernyshov.yuriy@gmail.com
  */
 
-import android.util.Log;
+import com.yuriy.weatherapp.util.AppLogger;
 
 import java.io.Serializable;
 
@@ -60,7 +60,8 @@ public class WindVO implements Serializable {
      */
     public WindVO(double speed, final double deg) {
         if (speed < MIN_SPEED) {
-            Log.w(CLASS_NAME, "Constructor -> Speed is less then minimum. Reset it to default");
+            AppLogger.w(CLASS_NAME, "Constructor -> Speed is less then minimum."
+                    + " Reset it to default");
             speed = DEFAULT_SPEED;
         }
         mSpeed = speed;
@@ -101,4 +102,28 @@ public class WindVO implements Serializable {
     public static WindVO getDefaultInstance() {
         return new WindVO(DEFAULT_SPEED, DEFAULT_DEG);
     }
+
+    /**
+     * Write fields of this {@link com.yuriy.weatherapp.business.vo.WindVO} into the provided
+     * {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     *
+     * @param writer {@link com.yuriy.weatherapp.business.vo.ValueWriter}.
+     */
+    public void writeTo(final ValueWriter writer) {
+        writer.writeDouble(mSpeed);
+        writer.writeDouble(mDeg);
+    }
+
+    /**
+     * Factory method to read {@link com.yuriy.weatherapp.business.vo.WindVO} which is written
+     * by the {@link #writeTo(ValueWriter)}.
+     *
+     * @param reader {@link com.yuriy.weatherapp.business.vo.ValueReader}.
+     * @return Instance of the {@link com.yuriy.weatherapp.business.vo.WindVO}.
+     */
+    public static WindVO readFrom(final ValueReader reader) {
+        final double speed = reader.readDouble();
+        final double deg = reader.readDouble();
+        return getInstance(speed, deg);
+    }
 }
@@ -0,0 +1,99 @@
+package com.yuriy.weatherapp.net;
+
+import java.io.Serializable;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.CacheValidator} holds validators of the previously received
+ * response: ETag and Last-Modified values. They are sent back to the server with the next
+ * request (If-None-Match and If-Modified-Since) so that server can respond with
+ * "304 Not Modified" instead of the whole response.
+ */
+public final class CacheValidator implements Serializable {
+
+    /**
+     * Value of the ETag response header, empty if there is no one.
+     */
+    private final String mETag;
+
+    /**
+     * Value of the Last-Modified response header, empty if there is no one.
+     */
+    private final String mLastModified;
+
+    /**
+     * Private constructor.
+     *
+     * @param eTag         Value of the ETag response header.
+     * @param lastModified Value of the Last-Modified response header.
+     */
+    private CacheValidator(final String eTag, final String lastModified) {
+        mETag = eTag == null ? "" : eTag;
+        mLastModified = lastModified == null ? "" : lastModified;
+    }
+
+    /**
+     * Factory method to create instance of the {@link CacheValidator}.
+     *
+     * @param eTag         Value of the ETag response header, may be null.
+     * @param lastModified Value of the Last-Modified response header, may be null.
+     * @return Instance of the {@link CacheValidator}.
+     */
+    public static CacheValidator getInstance(final String eTag, final String lastModified) {
+        return new CacheValidator(eTag, lastModified);
+    }
+
+    /**
+     * Factory method to create empty instance of the {@link CacheValidator}, with such
+     * validator request is not conditional.
+     *
+     * @return Instance of the {@link CacheValidator}.
+     */
+    public static CacheValidator getDefaultInstance() {
+        return new CacheValidator("", "");
+    }
+
+    /**
+     * @return Value of the ETag response header, empty if there is no one.
+     */
+    public String getETag() {
+        return mETag;
+    }
+
+    /**
+     * @return Value of the Last-Modified response header, empty if there is no one.
+     */
+    public String getLastModified() {
+        return mLastModified;
+    }
+
+    /**
+     * @return True if there is neither ETag nor Last-Modified value.
+     */
+    public boolean isEmpty() {
+        return mETag.isEmpty() && mLastModified.isEmpty();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CacheValidator that = (CacheValidator) o;
+        return mETag.equals(that.mETag) && mLastModified.equals(that.mLastModified);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * mETag.hashCode() + mLastModified.hashCode();
+    }
+}
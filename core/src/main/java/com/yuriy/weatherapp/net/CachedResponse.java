@@ -0,0 +1,79 @@
+package com.yuriy.weatherapp.net;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.CachedResponse} is a raw (decoded) body of the previously
+ * received response together with its {@link com.yuriy.weatherapp.net.CacheValidator} and
+ * the time it was fetched (or re-validated) at.
+ */
+public final class CachedResponse {
+
+    /**
+     * Raw body of the response.
+     */
+    private final byte[] mBody;
+
+    /**
+     * Validator of the response.
+     */
+    private final CacheValidator mValidator;
+
+    /**
+     * Time, in milliseconds, the response was fetched or re-validated at.
+     */
+    private final long mFetchTime;
+
+    /**
+     * Private constructor.
+     *
+     * @param body      Raw body of the response.
+     * @param validator Validator of the response.
+     * @param fetchTime Time, in milliseconds, the response was fetched at.
+     */
+    private CachedResponse(final byte[] body, final CacheValidator validator,
+                           final long fetchTime) {
+        mBody = body == null ? new byte[0] : body;
+        mValidator = validator == null ? CacheValidator.getDefaultInstance() : validator;
+        mFetchTime = fetchTime;
+    }
+
+    /**
+     * Factory method to create instance of the {@link CachedResponse}.
+     *
+     * @param body      Raw body of the response.
+     * @param validator Validator of the response.
+     * @param fetchTime Time, in milliseconds, the response was fetched or re-validated at.
+     * @return Instance of the {@link CachedResponse}.
+     */
+    public static CachedResponse getInstance(final byte[] body, final CacheValidator validator,
+                                             final long fetchTime) {
+        return new CachedResponse(body, validator, fetchTime);
+    }
+
+    /**
+     * @return Raw body of the response.
+     */
+    public byte[] getBody() {
+        return mBody;
+    }
+
+    /**
+     * @return Validator of the response.
+     */
+    public CacheValidator getValidator() {
+        return mValidator;
+    }
+
+    /**
+     * @return Time, in milliseconds, the response was fetched or re-validated at.
+     */
+    public long getFetchTime() {
+        return mFetchTime;
+    }
+}
@@ -0,0 +1,85 @@
+package com.yuriy.weatherapp.net;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.CancellationToken} allows to cancel download which is
+ * performed on another thread. Download registers listener which aborts the request in
+ * flight, listener is called on the thread which cancels the token.
+ */
+public final class CancellationToken {
+
+    /**
+     * Whether token is canceled.
+     */
+    private boolean mIsCanceled;
+
+    /**
+     * Listener to call on cancel, may be null.
+     */
+    private Runnable mOnCancelListener;
+
+    /**
+     * Private constructor, use {@link #getInstance()}.
+     */
+    private CancellationToken() {
+        super();
+    }
+
+    /**
+     * Factory method to create not canceled instance of the {@link CancellationToken}.
+     *
+     * @return Instance of the {@link CancellationToken}.
+     */
+    public static CancellationToken getInstance() {
+        return new CancellationToken();
+    }
+
+    /**
+     * Cancel the token and call listener, if any. Repeated calls do nothing.
+     */
+    public void cancel() {
+        final Runnable listener;
+        synchronized (this) {
+            if (mIsCanceled) {
+                return;
+            }
+            mIsCanceled = true;
+            listener = mOnCancelListener;
+            mOnCancelListener = null;
+        }
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    /**
+     * @return True if token is canceled.
+     */
+    public synchronized boolean isCanceled() {
+        return mIsCanceled;
+    }
+
+    /**
+     * Set listener to call on cancel, previous listener is replaced. If token is already
+     * canceled, listener is called immediately on the current thread.
+     *
+     * @param listener Listener to call on cancel, null to remove listener.
+     */
+    public void setOnCancelListener(final Runnable listener) {
+        synchronized (this) {
+            if (!mIsCanceled) {
+                mOnCancelListener = listener;
+                return;
+            }
+        }
+        if (listener != null) {
+            listener.run();
+        }
+    }
+}
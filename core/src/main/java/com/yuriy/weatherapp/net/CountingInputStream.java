@@ -0,0 +1,71 @@
+package com.yuriy.weatherapp.net;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.CountingInputStream} counts number of the bytes which are
+ * read (or skipped) from the wrapped stream.
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    /**
+     * Number of the bytes read so far.
+     */
+    private long mCount;
+
+    /**
+     * Constructor.
+     *
+     * @param inputStream Stream to count bytes of.
+     */
+    public CountingInputStream(final InputStream inputStream) {
+        super(inputStream);
+    }
+
+    /**
+     * @return Number of the bytes read so far.
+     */
+    public long getCount() {
+        return mCount;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int value = super.read();
+        if (value != -1) {
+            mCount++;
+        }
+        return value;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        final int count = super.read(buffer, offset, length);
+        if (count != -1) {
+            mCount += count;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long count) throws IOException {
+        final long skipped = super.skip(count);
+        mCount += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        // Mark and reset would break the count
+        return false;
+    }
+}
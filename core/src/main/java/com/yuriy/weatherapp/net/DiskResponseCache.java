@@ -0,0 +1,286 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.DiskResponseCache} is a persistent cache of the
+ * {@link com.yuriy.weatherapp.net.CachedResponse} keyed by the request URL, so that previously
+ * received responses survive the process death.<br>
+ * Every response is stored in its own file (named by the hash of the key) in the provided
+ * directory of the {@link com.yuriy.weatherapp.net.LruFileStore}, so that total size of the
+ * files is bounded and partially written file is never read.
+ */
+public class DiskResponseCache {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = DiskResponseCache.class.getSimpleName();
+
+    /**
+     * Default maximum size, in bytes, of the cache.
+     */
+    public static final long DEFAULT_MAX_SIZE_BYTES = 512 * 1024;
+
+    /**
+     * Marker and version of the file format.
+     */
+    private static final int FILE_MAGIC = 0x57524331;
+
+    /**
+     * Extension of the cache file.
+     */
+    private static final String FILE_EXTENSION = ".cache";
+
+    /**
+     * Name of the hash algorithm of the file names.
+     */
+    private static final String HASH_ALGORITHM = "SHA-1";
+
+    /**
+     * Encoding of the keys.
+     */
+    private static final String CHARSET_NAME = "UTF-8";
+
+    /**
+     * Size of the buffer of the file streams.
+     */
+    private static final int FILE_BUFFER_SIZE = 8192;
+
+    /**
+     * Store of the cache files.
+     */
+    private final LruFileStore mStore;
+
+    /**
+     * Constructor.
+     *
+     * @param directory    Directory of the cache files, created if does not exists.
+     * @param maxSizeBytes Maximum size, in bytes, of the cache.
+     */
+    public DiskResponseCache(final File directory, final long maxSizeBytes) {
+        mStore = new LruFileStore(directory, FILE_EXTENSION, maxSizeBytes);
+    }
+
+    /**
+     * Get previously stored response.
+     *
+     * @param key Key of the response, request URL.
+     * @return {@link com.yuriy.weatherapp.net.CachedResponse} or null if there is no one.
+     */
+    public synchronized CachedResponse get(final String key) {
+        if (key == null) {
+            return null;
+        }
+        final File file = mStore.getFile(hashKey(key));
+        if (!file.exists()) {
+            return null;
+        }
+        final CachedResponse response = readFile(file, key);
+        if (response == null) {
+            // Corrupted or not matching file, is not needed any more
+            LruFileStore.delete(file);
+            return null;
+        }
+        mStore.markUsed(file);
+        return response;
+    }
+
+    /**
+     * Store response, least recently used responses are evicted if size of the cache
+     * exceeds maximum one.
+     *
+     * @param key      Key of the response, request URL.
+     * @param response {@link com.yuriy.weatherapp.net.CachedResponse}.
+     */
+    public synchronized void put(final String key, final CachedResponse response) {
+        if (key == null || response == null) {
+            return;
+        }
+        mStore.put(hashKey(key), new LruFileStore.ContentWriter() {
+
+            @Override
+            public boolean write(final File file) {
+                return writeFile(file, key, response);
+            }
+        });
+    }
+
+    /**
+     * Update validator and fetch time of the stored response, for example when server
+     * responds with "304 Not Modified". Body of the response is kept.
+     *
+     * @param key       Key of the response, request URL.
+     * @param validator New validator of the response.
+     * @param fetchTime New time, in milliseconds, the response is re-validated at.
+     */
+    public synchronized void revalidate(final String key, final CacheValidator validator,
+                                        final long fetchTime) {
+        final CachedResponse response = get(key);
+        if (response == null) {
+            return;
+        }
+        put(key, CachedResponse.getInstance(response.getBody(), validator, fetchTime));
+    }
+
+    /**
+     * Remove stored response.
+     *
+     * @param key Key of the response, request URL.
+     */
+    public synchronized void remove(final String key) {
+        if (key == null) {
+            return;
+        }
+        LruFileStore.delete(mStore.getFile(hashKey(key)));
+    }
+
+    /**
+     * Remove all stored responses.
+     */
+    public synchronized void clear() {
+        mStore.clear();
+    }
+
+    /**
+     * @return Total size, in bytes, of the stored responses.
+     */
+    public synchronized long getSize() {
+        return mStore.getSize();
+    }
+
+    /**
+     * Read response from the file.
+     *
+     * @param file File to read.
+     * @param key  Key the file is expected to be stored with.
+     * @return {@link com.yuriy.weatherapp.net.CachedResponse} or null if file is corrupted
+     * or stored with another key.
+     */
+    private static CachedResponse readFile(final File file, final String key) {
+        DataInputStream inputStream = null;
+        try {
+            inputStream = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(file), FILE_BUFFER_SIZE)
+            );
+            if (inputStream.readInt() != FILE_MAGIC) {
+                AppLogger.w(CLASS_NAME, "Unknown format of the cache file " + file.getName());
+                return null;
+            }
+            if (!key.equals(inputStream.readUTF())) {
+                AppLogger.w(CLASS_NAME, "Key of the cache file " + file.getName()
+                        + " does not match");
+                return null;
+            }
+            final long fetchTime = inputStream.readLong();
+            final String eTag = inputStream.readUTF();
+            final String lastModified = inputStream.readUTF();
+            final int length = inputStream.readInt();
+            if (length < 0 || length > file.length()) {
+                AppLogger.w(CLASS_NAME, "Wrong body length of the cache file " + file.getName());
+                return null;
+            }
+            final byte[] body = new byte[length];
+            inputStream.readFully(body);
+            return CachedResponse.getInstance(
+                    body, CacheValidator.getInstance(eTag, lastModified), fetchTime
+            );
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Can not read cache file:" + e.getMessage());
+        } finally {
+            closeStream(inputStream);
+        }
+        return null;
+    }
+
+    /**
+     * Write response into the file.
+     *
+     * @param file     File to write.
+     * @param key      Key of the response.
+     * @param response Response to write.
+     * @return True if file is written successfully.
+     */
+    private static boolean writeFile(final File file, final String key,
+                                     final CachedResponse response) {
+        DataOutputStream outputStream = null;
+        try {
+            outputStream = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(file), FILE_BUFFER_SIZE)
+            );
+            outputStream.writeInt(FILE_MAGIC);
+            outputStream.writeUTF(key);
+            outputStream.writeLong(response.getFetchTime());
+            outputStream.writeUTF(response.getValidator().getETag());
+            outputStream.writeUTF(response.getValidator().getLastModified());
+            outputStream.writeInt(response.getBody().length);
+            outputStream.write(response.getBody());
+            outputStream.close();
+            outputStream = null;
+            return true;
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Can not write cache file:" + e.getMessage());
+        } finally {
+            closeStream(outputStream);
+        }
+        return false;
+    }
+
+    /**
+     * @param key Key of the response.
+     * @return Hex string of the hash of the key.
+     */
+    private static String hashKey(final String key) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            final byte[] hash = digest.digest(key.getBytes(CHARSET_NAME));
+            final StringBuilder builder = new StringBuilder(hash.length * 2);
+            for (byte value : hash) {
+                builder.append(Character.forDigit((value >> 4) & 0x0F, 16));
+                builder.append(Character.forDigit(value & 0x0F, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            AppLogger.e(CLASS_NAME, "Can not hash key:" + e.getMessage());
+        } catch (UnsupportedEncodingException e) {
+            AppLogger.e(CLASS_NAME, "Can not hash key:" + e.getMessage());
+        }
+        return String.valueOf(key.hashCode());
+    }
+
+    /**
+     * Close stream, ignoring errors.
+     *
+     * @param stream Stream to close, may be null.
+     */
+    private static void closeStream(final Closeable stream) {
+        if (stream == null) {
+            return;
+        }
+        try {
+            stream.close();
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Can not close stream:" + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.DownloadExecutor} runs downloads on the bounded pools of
+ * the worker threads, one pool (lane) per {@link Lane}, so that slow download of one kind
+ * (for example icon) never delays download of another kind (for example weather data).<br>
+ * Every lane has limited queue of the pending downloads. When queue is full new download is
+ * rejected and the caller is informed about it, so that it can reply with failure right away
+ * instead of waiting for the download which is never started.
+ */
+public class DownloadExecutor {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = DownloadExecutor.class.getSimpleName();
+
+    /**
+     * Kind of the download.
+     */
+    public enum Lane {
+
+        /**
+         * Download of the weather data.
+         */
+        DATA,
+
+        /**
+         * Download of the weather condition icon.
+         */
+        ICON
+    }
+
+    /**
+     * Default number of the threads of the {@link Lane#DATA} lane.
+     */
+    public static final int DEFAULT_DATA_POOL_SIZE = 2;
+
+    /**
+     * Default maximum number of the pending downloads of the {@link Lane#DATA} lane.
+     */
+    public static final int DEFAULT_DATA_QUEUE_DEPTH = 8;
+
+    /**
+     * Default number of the threads of the {@link Lane#ICON} lane.
+     */
+    public static final int DEFAULT_ICON_POOL_SIZE = 2;
+
+    /**
+     * Default maximum number of the pending downloads of the {@link Lane#ICON} lane.
+     */
+    public static final int DEFAULT_ICON_QUEUE_DEPTH = 16;
+
+    /**
+     * Time, in seconds, after which idle thread is terminated.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * Pools of the threads per lane.
+     */
+    private final Map<Lane, ThreadPoolExecutor> mExecutors
+            = new EnumMap<Lane, ThreadPoolExecutor>(Lane.class);
+
+    /**
+     * Constructor.
+     *
+     * @param dataPoolSize   Number of the threads of the {@link Lane#DATA} lane.
+     * @param dataQueueDepth Maximum number of the pending downloads of the
+     *                       {@link Lane#DATA} lane.
+     * @param iconPoolSize   Number of the threads of the {@link Lane#ICON} lane.
+     * @param iconQueueDepth Maximum number of the pending downloads of the
+     *                       {@link Lane#ICON} lane.
+     */
+    public DownloadExecutor(final int dataPoolSize, final int dataQueueDepth,
+                            final int iconPoolSize, final int iconQueueDepth) {
+        mExecutors.put(Lane.DATA, createExecutor(Lane.DATA, dataPoolSize, dataQueueDepth));
+        mExecutors.put(Lane.ICON, createExecutor(Lane.ICON, iconPoolSize, iconQueueDepth));
+    }
+
+    /**
+     * Factory method to create instance of the {@link DownloadExecutor} with default
+     * configuration.
+     *
+     * @return Instance of the {@link DownloadExecutor}.
+     */
+    public static DownloadExecutor getDefaultInstance() {
+        return new DownloadExecutor(
+                DEFAULT_DATA_POOL_SIZE, DEFAULT_DATA_QUEUE_DEPTH,
+                DEFAULT_ICON_POOL_SIZE, DEFAULT_ICON_QUEUE_DEPTH
+        );
+    }
+
+    /**
+     * Execute download on the provided lane.
+     *
+     * @param lane     {@link Lane} of the download.
+     * @param download Download to execute.
+     * @return True if download is accepted, false if it is rejected because queue of the lane
+     * is full or executor is shut down.
+     */
+    public boolean execute(final Lane lane, final Runnable download) {
+        if (lane == null || download == null) {
+            return false;
+        }
+        try {
+            mExecutors.get(lane).execute(download);
+            return true;
+        } catch (RejectedExecutionException e) {
+            AppLogger.w(CLASS_NAME, "Download is rejected by the " + lane + " lane");
+            return false;
+        }
+    }
+
+    /**
+     * @param lane {@link Lane}.
+     * @return Number of the pending downloads of the lane.
+     */
+    public int getQueueDepth(final Lane lane) {
+        return mExecutors.get(lane).getQueue().size();
+    }
+
+    /**
+     * Stop accepting new downloads. Pending and running downloads are completed.
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor executor : mExecutors.values()) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Wait until all downloads are completed after {@link #shutdown()}.
+     *
+     * @param timeout Maximum time to wait.
+     * @param unit    Unit of the timeout.
+     * @return True if all downloads are completed, false if timeout elapsed.
+     * @throws InterruptedException
+     */
+    public boolean awaitTermination(final long timeout, final TimeUnit unit)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ThreadPoolExecutor executor : mExecutors.values()) {
+            final long remaining = deadline - System.nanoTime();
+            if (!executor.awaitTermination(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create pool of the threads of the lane.
+     *
+     * @param lane       {@link Lane}.
+     * @param poolSize   Number of the threads.
+     * @param queueDepth Maximum number of the pending downloads.
+     * @return Pool of the threads.
+     */
+    private static ThreadPoolExecutor createExecutor(final Lane lane, final int poolSize,
+                                                     final int queueDepth) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                Math.max(1, poolSize), Math.max(1, poolSize),
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(Math.max(1, queueDepth)),
+                new LaneThreadFactory(lane),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        // Do not keep idle threads while there is nothing to download
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates named background threads of the lane.
+     */
+    private static final class LaneThreadFactory implements ThreadFactory {
+
+        /**
+         * Prefix of the name of the thread.
+         */
+        private final String mNamePrefix;
+
+        /**
+         * Number of the created threads.
+         */
+        private final AtomicInteger mCount = new AtomicInteger();
+
+        /**
+         * Constructor.
+         *
+         * @param lane {@link Lane} of the threads.
+         */
+        private LaneThreadFactory(final Lane lane) {
+            mNamePrefix = "Download-" + lane.name().toLowerCase(Locale.US) + "-";
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, mNamePrefix + mCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        }
+    }
+}
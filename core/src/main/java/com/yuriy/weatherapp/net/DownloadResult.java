@@ -0,0 +1,249 @@
+package com.yuriy.weatherapp.net;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.DownloadResult} is a result of the conditional download.
+ * It holds status of the download, data produced from the response,
+ * {@link com.yuriy.weatherapp.net.CacheValidator} of the response and
+ * {@link com.yuriy.weatherapp.net.TransferStats} of the response body.
+ *
+ * @param <T> Type of the data.
+ */
+public final class DownloadResult<T> {
+
+    /**
+     * Status of the download.
+     */
+    public enum Status {
+
+        /**
+         * Response is received and data is produced from it.
+         */
+        OK,
+
+        /**
+         * Server responded with "304 Not Modified", previously received data is still valid.
+         */
+        NOT_MODIFIED,
+
+        /**
+         * Request is not sent because request budget is exhausted, or server responded with
+         * "429 Too Many Requests".
+         */
+        RATE_LIMITED,
+
+        /**
+         * Response can not be received.
+         */
+        FAILED
+    }
+
+    /**
+     * Status of the download.
+     */
+    private final Status mStatus;
+
+    /**
+     * Data produced from the response, default one if status is not {@link Status#OK}.
+     */
+    private final T mData;
+
+    /**
+     * Validator of the response.
+     */
+    private final CacheValidator mValidator;
+
+    /**
+     * Number of the bytes of the response body, received and decoded.
+     */
+    private final TransferStats mTransferStats;
+
+    /**
+     * Time, in milliseconds, after which request may be repeated if status is
+     * {@link Status#RATE_LIMITED}, zero if it is not known.
+     */
+    private final long mRetryAfterMs;
+
+    /**
+     * Private constructor.
+     *
+     * @param status        Status of the download.
+     * @param data          Data produced from the response.
+     * @param validator     Validator of the response.
+     * @param transferStats Number of the bytes of the response body.
+     */
+    private DownloadResult(final Status status, final T data, final CacheValidator validator,
+                           final TransferStats transferStats) {
+        this(status, data, validator, transferStats, 0);
+    }
+
+    /**
+     * Private constructor.
+     *
+     * @param status        Status of the download.
+     * @param data          Data produced from the response.
+     * @param validator     Validator of the response.
+     * @param transferStats Number of the bytes of the response body.
+     * @param retryAfterMs  Time, in milliseconds, after which request may be repeated.
+     */
+    private DownloadResult(final Status status, final T data, final CacheValidator validator,
+                           final TransferStats transferStats, final long retryAfterMs) {
+        mStatus = status;
+        mRetryAfterMs = Math.max(0, retryAfterMs);
+        mData = data;
+        mValidator = validator == null ? CacheValidator.getDefaultInstance() : validator;
+        mTransferStats = transferStats == null
+                ? TransferStats.getDefaultInstance()
+                : transferStats;
+    }
+
+    /**
+     * Factory method to create result of the successful download.
+     *
+     * @param data      Data produced from the response.
+     * @param validator Validator of the response.
+     * @param <T>       Type of the data.
+     * @return Instance of the {@link DownloadResult}.
+     */
+    public static <T> DownloadResult<T> ok(final T data, final CacheValidator validator) {
+        return ok(data, validator, TransferStats.getDefaultInstance());
+    }
+
+    /**
+     * Factory method to create result of the successful download.
+     *
+     * @param data          Data produced from the response.
+     * @param validator     Validator of the response.
+     * @param transferStats Number of the bytes of the response body.
+     * @param <T>           Type of the data.
+     * @return Instance of the {@link DownloadResult}.
+     */
+    public static <T> DownloadResult<T> ok(final T data, final CacheValidator validator,
+                                           final TransferStats transferStats) {
+        return new DownloadResult<T>(Status.OK, data, validator, transferStats);
+    }
+
+    /**
+     * Factory method to create result of the "304 Not Modified" response.
+     *
+     * @param defaultData Default data.
+     * @param validator   Validator of the response.
+     * @param <T>         Type of the data.
+     * @return Instance of the {@link DownloadResult}.
+     */
+    public static <T> DownloadResult<T> notModified(final T defaultData,
+                                                    final CacheValidator validator) {
+        return new DownloadResult<T>(
+                Status.NOT_MODIFIED, defaultData, validator, TransferStats.getDefaultInstance()
+        );
+    }
+
+    /**
+     * Factory method to create result of the request which is rejected because of the
+     * rate limit, either locally or by server.
+     *
+     * @param defaultData  Default data.
+     * @param retryAfterMs Time, in milliseconds, after which request may be repeated,
+     *                     zero if it is not known.
+     * @param <T>          Type of the data.
+     * @return Instance of the {@link DownloadResult}.
+     */
+    public static <T> DownloadResult<T> rateLimited(final T defaultData,
+                                                    final long retryAfterMs) {
+        return new DownloadResult<T>(
+                Status.RATE_LIMITED, defaultData,
+                CacheValidator.getDefaultInstance(), TransferStats.getDefaultInstance(),
+                retryAfterMs
+        );
+    }
+
+    /**
+     * Factory method to create result of the failed download.
+     *
+     * @param defaultData Default data.
+     * @param <T>         Type of the data.
+     * @return Instance of the {@link DownloadResult}.
+     */
+    public static <T> DownloadResult<T> failed(final T defaultData) {
+        return new DownloadResult<T>(
+                Status.FAILED, defaultData,
+                CacheValidator.getDefaultInstance(), TransferStats.getDefaultInstance()
+        );
+    }
+
+    /**
+     * @return Status of the download.
+     */
+    public Status getStatus() {
+        return mStatus;
+    }
+
+    /**
+     * @return True if response is received and data is produced from it.
+     */
+    public boolean isOk() {
+        return mStatus == Status.OK;
+    }
+
+    /**
+     * @return True if server responded with "304 Not Modified".
+     */
+    public boolean isNotModified() {
+        return mStatus == Status.NOT_MODIFIED;
+    }
+
+    /**
+     * @return True if request is rejected because of the rate limit.
+     */
+    public boolean isRateLimited() {
+        return mStatus == Status.RATE_LIMITED;
+    }
+
+    /**
+     * @return Time, in milliseconds, after which request may be repeated if status is
+     * {@link Status#RATE_LIMITED}, zero if it is not known.
+     */
+    public long getRetryAfterMs() {
+        return mRetryAfterMs;
+    }
+
+    /**
+     * @return Data produced from the response if status is {@link Status#OK},
+     * default data otherwise.
+     */
+    public T getData() {
+        return mData;
+    }
+
+    /**
+     * @return Validator of the response, empty one if server does not provide it.
+     */
+    public CacheValidator getValidator() {
+        return mValidator;
+    }
+
+    /**
+     * @return Number of the bytes of the response body, received and decoded.
+     */
+    public TransferStats getTransferStats() {
+        return mTransferStats;
+    }
+
+    /**
+     * Create copy of this result with provided data, status, validator, transfer stats and
+     * retry delay are kept.
+     *
+     * @param data Data of the copy.
+     * @param <R>  Type of the data of the copy.
+     * @return Copy of this result.
+     */
+    public <R> DownloadResult<R> copyWithData(final R data) {
+        return new DownloadResult<R>(mStatus, data, mValidator, mTransferStats, mRetryAfterMs);
+    }
+}
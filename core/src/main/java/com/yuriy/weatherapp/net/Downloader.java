@@ -0,0 +1,85 @@
+package com.yuriy.weatherapp.net;
+
+import java.net.URI;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.Downloader} interface provides method which allows to perform
+ * download operations. Different implementations will allows to perform downloading via different
+ * protocols: HTTP, FTP, etc ...
+ */
+public interface Downloader {
+
+    /**
+     * Method to download data from provided {@link java.net.URI}.
+     *
+     * @param uri Provided {@link java.net.URI}.
+     * @return Downloaded data as bytes array.
+     */
+    public byte[] downloadDataFromUri(final URI uri);
+
+    /**
+     * Method to download data from provided {@link java.net.URI} and pass the live response
+     * stream to the provided handler, so that response is never copied into the bytes array.
+     *
+     * @param uri     Provided {@link java.net.URI}.
+     * @param handler Implementation of the {@link com.yuriy.weatherapp.net.ResponseStreamHandler}.
+     * @param <T>     Type of the result.
+     * @return Result which is produced by the handler.
+     */
+    public <T> T downloadDataFromUri(final URI uri, final ResponseStreamHandler<T> handler);
+
+    /**
+     * Method to perform conditional download of the data from provided {@link java.net.URI}.
+     * Validators of the provided {@link com.yuriy.weatherapp.net.CacheValidator} are sent with
+     * the request, if server responds with "304 Not Modified" result has
+     * {@link com.yuriy.weatherapp.net.DownloadResult.Status#NOT_MODIFIED} status.
+     *
+     * @param uri       Provided {@link java.net.URI}.
+     * @param validator Validator of the previously received response.
+     * @return {@link com.yuriy.weatherapp.net.DownloadResult} with downloaded data as bytes array.
+     */
+    public DownloadResult<byte[]> downloadDataFromUri(final URI uri,
+                                                      final CacheValidator validator);
+
+    /**
+     * Method to perform conditional download of the data from provided {@link java.net.URI}
+     * and pass the live response stream to the provided handler. Handler is not called with
+     * the stream if server responds with "304 Not Modified".
+     *
+     * @param uri       Provided {@link java.net.URI}.
+     * @param validator Validator of the previously received response.
+     * @param handler   Implementation of the {@link com.yuriy.weatherapp.net.ResponseStreamHandler}.
+     * @param <T>       Type of the result.
+     * @return {@link com.yuriy.weatherapp.net.DownloadResult} with result produced by the handler.
+     */
+    public <T> DownloadResult<T> downloadDataFromUri(final URI uri,
+                                                     final CacheValidator validator,
+                                                     final ResponseStreamHandler<T> handler);
+
+    /**
+     * Method to perform conditional download of the data from provided {@link java.net.URI}
+     * and pass the live response stream to the provided handler, same as
+     * {@link #downloadDataFromUri(java.net.URI, CacheValidator, ResponseStreamHandler)}.
+     * Request in flight is aborted and reading of the response stream fails as soon as the
+     * provided {@link com.yuriy.weatherapp.net.CancellationToken} is canceled.
+     *
+     * @param uri       Provided {@link java.net.URI}.
+     * @param validator Validator of the previously received response.
+     * @param handler   Implementation of the {@link com.yuriy.weatherapp.net.ResponseStreamHandler}.
+     * @param token     {@link com.yuriy.weatherapp.net.CancellationToken} of the download.
+     * @param <T>       Type of the result.
+     * @return {@link com.yuriy.weatherapp.net.DownloadResult} with result produced by the handler,
+     * {@link com.yuriy.weatherapp.net.DownloadResult.Status#FAILED} one if download is canceled.
+     */
+    public <T> DownloadResult<T> downloadDataFromUri(final URI uri,
+                                                     final CacheValidator validator,
+                                                     final ResponseStreamHandler<T> handler,
+                                                     final CancellationToken token);
+}
@@ -0,0 +1,468 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.util.AppLogger;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.DefaultHttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.URI;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * Implementation of the {@link com.yuriy.weatherapp.net.Downloader} interface.
+ * {@link HTTPDownloaderImpl} allows to download weather data from the
+ * wer resource over HTTP protocol.
+ */
+public class HTTPDownloaderImpl implements Downloader {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = HTTPDownloaderImpl.class.getSimpleName();
+
+    /**
+     * Name of the request header with ETag of the previous response.
+     */
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
+    /**
+     * Name of the request header with Last-Modified of the previous response.
+     */
+    private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    /**
+     * Name of the response header with ETag.
+     */
+    private static final String HEADER_ETAG = "ETag";
+
+    /**
+     * Name of the response header with Last-Modified.
+     */
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+
+    /**
+     * Name of the response header with delay, in seconds, after which request may be
+     * repeated.
+     */
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+
+    /**
+     * "429 Too Many Requests" status code, it is not defined by the HttpStatus.
+     */
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    /**
+     * Name of the request header with accepted encodings of the response body.
+     */
+    private static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+
+    /**
+     * Encodings of the response body which are accepted and decoded.
+     */
+    private static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+
+    /**
+     * Gzip encoding of the response body.
+     */
+    private static final String ENCODING_GZIP = "gzip";
+
+    /**
+     * Deflate encoding of the response body.
+     */
+    private static final String ENCODING_DEFLATE = "deflate";
+
+    /**
+     * Size of the buffer of the decompression streams.
+     */
+    private static final int DECODE_BUFFER_SIZE = 4096;
+
+    /**
+     * Size of the buffer to read response into the bytes array.
+     */
+    private static final int READ_BUFFER_SIZE = 4096;
+
+    /**
+     * Handler which reads whole response into the bytes array.
+     */
+    private static final ResponseStreamHandler<byte[]> BYTES_HANDLER
+            = new ResponseStreamHandler<byte[]>() {
+
+        @Override
+        public byte[] onResponseStream(final InputStream inputStream) throws IOException {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, count);
+            }
+            return outputStream.toByteArray();
+        }
+
+        @Override
+        public byte[] onResponseFailed() {
+            return new byte[0];
+        }
+    };
+
+    /**
+     * Returns {@link org.apache.http.client.HttpClient} to execute the request with.
+     * This implementation creates new client (and new connection) for every request.
+     *
+     * @return {@link org.apache.http.client.HttpClient}.
+     */
+    protected HttpClient getHttpClient() {
+        return new DefaultHttpClient();
+    }
+
+    @Override
+    public byte[] downloadDataFromUri(final URI uri) {
+        return downloadDataFromUri(uri, CacheValidator.getDefaultInstance()).getData();
+    }
+
+    @Override
+    public <T> T downloadDataFromUri(final URI uri, final ResponseStreamHandler<T> handler) {
+        return downloadDataFromUri(uri, CacheValidator.getDefaultInstance(), handler).getData();
+    }
+
+    @Override
+    public DownloadResult<byte[]> downloadDataFromUri(final URI uri,
+                                                      final CacheValidator validator) {
+        return downloadDataFromUri(uri, validator, BYTES_HANDLER);
+    }
+
+    @Override
+    public <T> DownloadResult<T> downloadDataFromUri(final URI uri,
+                                                     final CacheValidator validator,
+                                                     final ResponseStreamHandler<T> handler) {
+        return downloadDataFromUri(uri, validator, handler, CancellationToken.getInstance());
+    }
+
+    @Override
+    public <T> DownloadResult<T> downloadDataFromUri(final URI uri,
+                                                     final CacheValidator validator,
+                                                     final ResponseStreamHandler<T> handler,
+                                                     final CancellationToken token) {
+        final HttpGet request = createRequest(uri, validator);
+        if (request == null) {
+            return DownloadResult.failed(handler.onResponseFailed());
+        }
+        // Abort request in flight, reading of the response stream fails after it
+        token.setOnCancelListener(new Runnable() {
+
+            @Override
+            public void run() {
+                AppLogger.i(CLASS_NAME, "Request is canceled:" + uri);
+                request.abort();
+            }
+        });
+        try {
+            return downloadDataFromUri(uri, request, validator, handler);
+        } finally {
+            token.setOnCancelListener(null);
+        }
+    }
+
+    /**
+     * Execute provided request and pass the live response stream to the provided handler.
+     *
+     * @param uri       Provided {@link java.net.URI}.
+     * @param request   Request to execute.
+     * @param validator Validator of the previously received response.
+     * @param handler   Implementation of the {@link com.yuriy.weatherapp.net.ResponseStreamHandler}.
+     * @param <T>       Type of the result.
+     * @return {@link com.yuriy.weatherapp.net.DownloadResult} with result produced by the handler.
+     */
+    private <T> DownloadResult<T> downloadDataFromUri(final URI uri, final HttpGet request,
+                                                      final CacheValidator validator,
+                                                      final ResponseStreamHandler<T> handler) {
+        final HttpResponse httpResponse = executeRequest(request);
+        if (httpResponse == null) {
+            return DownloadResult.failed(handler.onResponseFailed());
+        }
+
+        final int responseCode = httpResponse.getStatusLine().getStatusCode();
+        final HttpEntity entity = httpResponse.getEntity();
+        if (responseCode == HttpStatus.SC_NOT_MODIFIED) {
+            releaseEntity(entity, null);
+            // Server may send updated validators with 304, keep previous ones otherwise
+            final CacheValidator responseValidator = getValidator(httpResponse);
+            return DownloadResult.notModified(
+                    handler.onResponseFailed(),
+                    responseValidator.isEmpty() ? validator : responseValidator
+            );
+        }
+        if (responseCode == SC_TOO_MANY_REQUESTS) {
+            releaseEntity(entity, null);
+            final long retryAfterMs = getRetryAfterMs(httpResponse);
+            AppLogger.w(CLASS_NAME, "Request is rate limited by server:" + uri
+                    + ", retry after ms:" + retryAfterMs);
+            return DownloadResult.rateLimited(handler.onResponseFailed(), retryAfterMs);
+        }
+        if (responseCode != HttpStatus.SC_OK || entity == null) {
+            // Consume the content of the unsuccessful response, otherwise connection
+            // can not be re-used
+            releaseEntity(entity, null);
+            return DownloadResult.failed(handler.onResponseFailed());
+        }
+
+        InputStream inputStream = null;
+        CountingInputStream compressedStream = null;
+        CountingInputStream uncompressedStream = null;
+        final String contentEncoding = getContentEncoding(entity);
+        try {
+            compressedStream = new CountingInputStream(entity.getContent());
+            uncompressedStream = new CountingInputStream(
+                    getDecodedStream(compressedStream, contentEncoding)
+            );
+            inputStream = uncompressedStream;
+            final T data = handler.onResponseStream(inputStream);
+            final TransferStats transferStats = TransferStats.getInstance(
+                    contentEncoding, compressedStream.getCount(), uncompressedStream.getCount()
+            );
+            AppLogger.d(CLASS_NAME, "Response body of " + uri
+                    + " encoding:'" + contentEncoding + "'"
+                    + " compressed:" + transferStats.getCompressedBytes()
+                    + " uncompressed:" + transferStats.getUncompressedBytes());
+            return DownloadResult.ok(data, getValidator(httpResponse), transferStats);
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Response stream error: " + e.getMessage());
+        } finally {
+            releaseEntity(entity, inputStream == null ? compressedStream : inputStream);
+        }
+        return DownloadResult.failed(handler.onResponseFailed());
+    }
+
+    /**
+     * Create GET request for the provided {@link java.net.URI}.
+     *
+     * @param uri       Provided {@link java.net.URI}.
+     * @param validator Validator of the previous response, may be null.
+     * @return {@link org.apache.http.client.methods.HttpGet} or null if request can not
+     * be created.
+     */
+    private static HttpGet createRequest(final URI uri, final CacheValidator validator) {
+        if (uri == null) {
+            AppLogger.w(CLASS_NAME, "Can not execute request, uri is null");
+            return null;
+        }
+
+        HttpGet request = null;
+        try {
+            request = new HttpGet(uri.toString());
+        } catch (IllegalArgumentException e) {
+            AppLogger.e(CLASS_NAME, "IllegalArgumentException error: " + e.getMessage());
+        }
+
+        if (request == null) {
+            return null;
+        }
+
+        request.addHeader(HEADER_ACCEPT_ENCODING, ACCEPTED_ENCODINGS);
+        if (validator != null) {
+            if (!validator.getETag().isEmpty()) {
+                request.addHeader(HEADER_IF_NONE_MATCH, validator.getETag());
+            }
+            if (!validator.getLastModified().isEmpty()) {
+                request.addHeader(HEADER_IF_MODIFIED_SINCE, validator.getLastModified());
+            }
+        }
+        return request;
+    }
+
+    /**
+     * Execute provided request.
+     *
+     * @param request Request to execute.
+     * @return {@link org.apache.http.HttpResponse} or null if request can not be executed
+     * or it is aborted.
+     */
+    private HttpResponse executeRequest(final HttpGet request) {
+        if (request.isAborted()) {
+            AppLogger.i(CLASS_NAME, "Request is aborted before execution");
+            return null;
+        }
+        final HttpClient httpClient = getHttpClient();
+        try {
+            final HttpResponse httpResponse = httpClient.execute(request);
+            AppLogger.d(CLASS_NAME,
+                    "Response code: " + httpResponse.getStatusLine().getStatusCode());
+            return httpResponse;
+        } catch (ClientProtocolException e) {
+            AppLogger.e(CLASS_NAME, "ClientProtocolException: " + e.getMessage());
+            request.abort();
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "IOException: " + e.getMessage());
+            request.abort();
+        } catch (SecurityException e) {
+            AppLogger.e(CLASS_NAME, "SecurityException error: " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * @param entity {@link org.apache.http.HttpEntity} of the response.
+     * @return Value of the Content-Encoding header in lower case, empty if there is no one.
+     */
+    private static String getContentEncoding(final HttpEntity entity) {
+        final Header header = entity.getContentEncoding();
+        if (header == null || header.getValue() == null) {
+            return "";
+        }
+        return header.getValue().trim().toLowerCase();
+    }
+
+    /**
+     * Wrap raw response stream into the stream which decodes it according to the encoding.
+     * Deflate encoded body may be either zlib wrapped (as specification says) or raw
+     * (as some servers send it), both variants are supported.
+     *
+     * @param inputStream     Raw stream of the response body.
+     * @param contentEncoding Value of the Content-Encoding header.
+     * @return Stream of the decoded response body.
+     * @throws java.io.IOException
+     */
+    private static InputStream getDecodedStream(final InputStream inputStream,
+                                                final String contentEncoding)
+            throws IOException {
+        if (ENCODING_GZIP.equals(contentEncoding)) {
+            return new GZIPInputStream(inputStream, DECODE_BUFFER_SIZE);
+        }
+        if (ENCODING_DEFLATE.equals(contentEncoding)) {
+            final PushbackInputStream pushbackStream = new PushbackInputStream(inputStream, 2);
+            final byte[] header = new byte[2];
+            final int count = readFully(pushbackStream, header);
+            if (count > 0) {
+                pushbackStream.unread(header, 0, count);
+            }
+            final boolean isZlibWrapped = count == 2 && isZlibHeader(header[0], header[1]);
+            return new InflaterInputStream(
+                    pushbackStream, new Inflater(!isZlibWrapped), DECODE_BUFFER_SIZE) {
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        // Inflater which is provided to the stream is not released by it
+                        inf.end();
+                    }
+                }
+            };
+        }
+        return inputStream;
+    }
+
+    /**
+     * @param first  First byte of the stream.
+     * @param second Second byte of the stream.
+     * @return True if bytes are the zlib header: deflate compression method and valid check sum.
+     */
+    private static boolean isZlibHeader(final byte first, final byte second) {
+        final int cmf = first & 0xFF;
+        final int flg = second & 0xFF;
+        return (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    /**
+     * Read bytes from the stream until buffer is full or stream is ended.
+     *
+     * @param inputStream Stream to read from.
+     * @param buffer      Buffer to read into.
+     * @return Number of the bytes read.
+     * @throws java.io.IOException
+     */
+    private static int readFully(final InputStream inputStream, final byte[] buffer)
+            throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            final int count = inputStream.read(buffer, offset, buffer.length - offset);
+            if (count == -1) {
+                break;
+            }
+            offset += count;
+        }
+        return offset;
+    }
+
+    /**
+     * Extract validators from the headers of the response.
+     *
+     * @param httpResponse {@link org.apache.http.HttpResponse}.
+     * @return {@link com.yuriy.weatherapp.net.CacheValidator}, empty one if there are no
+     * validators in the response.
+     */
+    private static CacheValidator getValidator(final HttpResponse httpResponse) {
+        return CacheValidator.getInstance(
+                getHeaderValue(httpResponse, HEADER_ETAG),
+                getHeaderValue(httpResponse, HEADER_LAST_MODIFIED)
+        );
+    }
+
+    /**
+     * Extract delay after which request may be repeated from the headers of the response.
+     * Only delay in seconds is supported, HTTP date is treated as unknown delay.
+     *
+     * @param httpResponse {@link org.apache.http.HttpResponse}.
+     * @return Delay, in milliseconds, zero if it is not known.
+     */
+    private static long getRetryAfterMs(final HttpResponse httpResponse) {
+        final String value = getHeaderValue(httpResponse, HEADER_RETRY_AFTER);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(value.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            AppLogger.w(CLASS_NAME, "Unsupported Retry-After value:" + value);
+            return 0;
+        }
+    }
+
+    /**
+     * @param httpResponse {@link org.apache.http.HttpResponse}.
+     * @param name         Name of the header.
+     * @return Value of the first header with provided name or null.
+     */
+    private static String getHeaderValue(final HttpResponse httpResponse, final String name) {
+        final Header header = httpResponse.getFirstHeader(name);
+        return header == null ? null : header.getValue();
+    }
+
+    /**
+     * Release resources of the response.
+     *
+     * @param entity      {@link org.apache.http.HttpEntity} of the response, may be null.
+     * @param inputStream Stream of the response content, may be null.
+     */
+    private void releaseEntity(final HttpEntity entity, final InputStream inputStream) {
+        try {
+            if (inputStream != null) {
+                inputStream.close();
+            }
+            if (entity != null) {
+                entity.consumeContent();
+            }
+        } catch (IOException e) {
+            AppLogger.e(CLASS_NAME, "Release response error: " + e.getMessage());
+        }
+    }
+}
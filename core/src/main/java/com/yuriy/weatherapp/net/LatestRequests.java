@@ -0,0 +1,88 @@
+package com.yuriy.weatherapp.net;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.LatestRequests} keeps only the latest request per
+ * requester. When requester starts new request (for example user switches city), previous
+ * request of the same requester is superseded and its cancel action is called, so that its
+ * result is never delivered and download is aborted if nobody else needs it.
+ *
+ * @param <R> Type of the requester.
+ */
+public class LatestRequests<R> {
+
+    /**
+     * Cancel actions of the latest requests per requester.
+     */
+    private final Map<R, Runnable> mRequests = new HashMap<R, Runnable>();
+
+    /**
+     * Register new request of the provided requester and cancel previous one, if any.
+     * Cancel action of the previous request is called on the current thread.
+     *
+     * @param requester    Requester.
+     * @param cancelAction Action to cancel new request when it is superseded.
+     */
+    public void start(final R requester, final Runnable cancelAction) {
+        final Runnable previous = replace(requester, cancelAction);
+        if (previous != null) {
+            previous.run();
+        }
+    }
+
+    /**
+     * Register new request of the provided requester without canceling previous one, so
+     * that new request can be started before previous one is canceled. Result of the
+     * previous request is not delivered from now on.
+     *
+     * @param requester    Requester.
+     * @param cancelAction Action to cancel new request when it is superseded.
+     * @return Cancel action of the superseded request, which caller has to run, null if
+     * there is no one.
+     */
+    public synchronized Runnable replace(final R requester, final Runnable cancelAction) {
+        final Runnable previous = mRequests.put(requester, cancelAction);
+        return previous == cancelAction ? null : previous;
+    }
+
+    /**
+     * Unregister finished request of the provided requester. Nothing is done if request is
+     * already superseded by the new one.
+     *
+     * @param requester    Requester.
+     * @param cancelAction Action which is passed to {@link #start(Object, Runnable)}.
+     * @return True if request is the latest one of the requester, false if it is superseded.
+     */
+    public synchronized boolean finish(final R requester, final Runnable cancelAction) {
+        if (mRequests.get(requester) != cancelAction) {
+            return false;
+        }
+        mRequests.remove(requester);
+        return true;
+    }
+
+    /**
+     * @param requester    Requester.
+     * @param cancelAction Action which is passed to {@link #start(Object, Runnable)}.
+     * @return True if request is the latest not finished one of the requester.
+     */
+    public synchronized boolean isLatest(final R requester, final Runnable cancelAction) {
+        return mRequests.get(requester) == cancelAction;
+    }
+
+    /**
+     * @return Number of the requesters with not finished request.
+     */
+    public synchronized int size() {
+        return mRequests.size();
+    }
+}
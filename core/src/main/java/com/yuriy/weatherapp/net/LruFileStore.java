@@ -0,0 +1,251 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.LruFileStore} is a directory of the files of one extension
+ * which total size is bounded, least recently used files are evicted first. It is the storage
+ * of the persistent caches, which only define the names and the content of the files.<br>
+ * Files are written into the temporary file first and renamed after, so that partially
+ * written file is never read. Temporary files which are left by the process killed while
+ * writing are deleted when store is opened, at the first access.
+ */
+public class LruFileStore {
+
+    /**
+     * Writer of the content of the stored file.
+     */
+    public interface ContentWriter {
+
+        /**
+         * Write content into the provided file.
+         *
+         * @param file File to write.
+         * @return True if file is written successfully.
+         */
+        boolean write(final File file);
+    }
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = LruFileStore.class.getSimpleName();
+
+    /**
+     * Extension of the temporary file.
+     */
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    /**
+     * Comparator which orders files from least recently used to most recently used.
+     */
+    private static final Comparator<File> LRU_COMPARATOR = new Comparator<File>() {
+
+        @Override
+        public int compare(final File lhs, final File rhs) {
+            final long lhsTime = lhs.lastModified();
+            final long rhsTime = rhs.lastModified();
+            return lhsTime < rhsTime ? -1 : (lhsTime == rhsTime ? 0 : 1);
+        }
+    };
+
+    /**
+     * Directory of the files.
+     */
+    private final File mDirectory;
+
+    /**
+     * Extension of the stored files.
+     */
+    private final String mFileExtension;
+
+    /**
+     * Maximum size, in bytes, of the store.
+     */
+    private final long mMaxSizeBytes;
+
+    /**
+     * Filter of the stored files.
+     */
+    private final FileFilter mFileFilter = new FileFilter() {
+
+        @Override
+        public boolean accept(final File file) {
+            return file.isFile() && file.getName().endsWith(mFileExtension);
+        }
+    };
+
+    /**
+     * Whether store is opened, that is stale temporary files are deleted.
+     */
+    private boolean mOpened;
+
+    /**
+     * Constructor.
+     *
+     * @param directory     Directory of the files, created if does not exists.
+     * @param fileExtension Extension of the stored files, for example ".cache".
+     * @param maxSizeBytes  Maximum size, in bytes, of the store.
+     */
+    public LruFileStore(final File directory, final String fileExtension,
+                        final long maxSizeBytes) {
+        mDirectory = directory;
+        mFileExtension = fileExtension;
+        mMaxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * @param name Name of the file, without extension.
+     * @return File of the store with provided name, it may not exist.
+     */
+    public File getFile(final String name) {
+        return new File(mDirectory, name + mFileExtension);
+    }
+
+    /**
+     * Mark stored file as recently used.
+     *
+     * @param file File of the store.
+     */
+    public synchronized void markUsed(final File file) {
+        open();
+        if (!file.setLastModified(System.currentTimeMillis())) {
+            AppLogger.w(CLASS_NAME, "Can not update last modified time of " + file.getName());
+        }
+    }
+
+    /**
+     * Store file, least recently used files are evicted if size of the store exceeds
+     * maximum one. Just stored file is never evicted.
+     *
+     * @param name   Name of the file, without extension.
+     * @param writer Writer of the content of the file.
+     * @return Stored file or null if file can not be stored.
+     */
+    public synchronized File put(final String name, final ContentWriter writer) {
+        open();
+        if (!mDirectory.exists() && !mDirectory.mkdirs()) {
+            AppLogger.e(CLASS_NAME, "Can not create directory " + mDirectory);
+            return null;
+        }
+        final File file = getFile(name);
+        final File tempFile = new File(mDirectory, file.getName() + TEMP_FILE_EXTENSION);
+        if (!writer.write(tempFile)) {
+            delete(tempFile);
+            return null;
+        }
+        // Rename is not able to replace existing file on some platforms
+        delete(file);
+        if (!tempFile.renameTo(file)) {
+            AppLogger.e(CLASS_NAME, "Can not rename file " + tempFile.getName());
+            delete(tempFile);
+            return null;
+        }
+        trimToSize(file);
+        return file;
+    }
+
+    /**
+     * Delete file, if exists.
+     *
+     * @param file File to delete.
+     */
+    public static void delete(final File file) {
+        if (file.exists() && !file.delete()) {
+            AppLogger.w(CLASS_NAME, "Can not delete file " + file.getName());
+        }
+    }
+
+    /**
+     * Delete all stored files.
+     */
+    public synchronized void clear() {
+        open();
+        for (File file : listFiles(mFileFilter)) {
+            delete(file);
+        }
+    }
+
+    /**
+     * @return Total size, in bytes, of the stored files.
+     */
+    public synchronized long getSize() {
+        open();
+        long size = 0;
+        for (File file : listFiles(mFileFilter)) {
+            size += file.length();
+        }
+        return size;
+    }
+
+    /**
+     * Delete temporary files which are left by the previous process, once.
+     */
+    private void open() {
+        if (mOpened) {
+            return;
+        }
+        mOpened = true;
+        final File[] files = listFiles(new FileFilter() {
+
+            @Override
+            public boolean accept(final File file) {
+                return file.isFile() && file.getName().endsWith(TEMP_FILE_EXTENSION);
+            }
+        });
+        for (File file : files) {
+            delete(file);
+        }
+        if (files.length > 0) {
+            AppLogger.i(CLASS_NAME, "Stale temporary files deleted:" + files.length);
+        }
+    }
+
+    /**
+     * Evict least recently used files until size of the store is within the maximum one.
+     *
+     * @param storedFile Just stored file, it is never evicted.
+     */
+    private void trimToSize(final File storedFile) {
+        final File[] files = listFiles(mFileFilter);
+        long size = 0;
+        for (File file : files) {
+            size += file.length();
+        }
+        if (size <= mMaxSizeBytes) {
+            return;
+        }
+        Arrays.sort(files, LRU_COMPARATOR);
+        for (File file : files) {
+            if (size <= mMaxSizeBytes) {
+                break;
+            }
+            if (file.equals(storedFile)) {
+                continue;
+            }
+            size -= file.length();
+            delete(file);
+        }
+    }
+
+    /**
+     * @param filter Filter of the files.
+     * @return Filtered files of the directory, empty array if there are no one.
+     */
+    private File[] listFiles(final FileFilter filter) {
+        final File[] files = mDirectory.listFiles(filter);
+        return files == null ? new File[0] : files;
+    }
+}
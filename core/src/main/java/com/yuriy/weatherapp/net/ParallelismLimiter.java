@@ -0,0 +1,97 @@
+package com.yuriy.weatherapp.net;
+
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.ParallelismLimiter} bounds number of the asynchronous
+ * requests which are running at the same time, so that fan-out of the many requests does not
+ * flood the download queue.<br>
+ * Submitted request is started on the caller thread if there is a free slot, otherwise it is
+ * queued. Request calls {@link #release()} exactly once when it is finished (completed,
+ * failed or timed out), then the next queued request is started on the releasing thread.
+ * Requests are started in the order of the submission.
+ */
+public final class ParallelismLimiter {
+
+    /**
+     * Maximum number of the running requests.
+     */
+    private final int mMaxRunning;
+
+    /**
+     * Requests which wait for the free slot.
+     */
+    private final Queue<Runnable> mPending = new LinkedList<Runnable>();
+
+    /**
+     * Number of the running requests.
+     */
+    private int mRunning;
+
+    /**
+     * Constructor.
+     *
+     * @param maxRunning Maximum number of the running requests, positive.
+     */
+    public ParallelismLimiter(final int maxRunning) {
+        if (maxRunning < 1) {
+            throw new IllegalArgumentException("Parallelism should be positive:" + maxRunning);
+        }
+        mMaxRunning = maxRunning;
+    }
+
+    /**
+     * Start provided request if there is a free slot, otherwise queue it.
+     *
+     * @param request Request which starts asynchronous work and calls {@link #release()}
+     *                when it is finished.
+     */
+    public void submit(final Runnable request) {
+        synchronized (this) {
+            if (mRunning >= mMaxRunning) {
+                mPending.add(request);
+                return;
+            }
+            mRunning++;
+        }
+        request.run();
+    }
+
+    /**
+     * Free the slot of the finished request and start the next queued request, if any.
+     */
+    public void release() {
+        final Runnable next;
+        synchronized (this) {
+            next = mPending.poll();
+            if (next == null) {
+                mRunning = Math.max(0, mRunning - 1);
+                return;
+            }
+        }
+        // Slot is passed to the next request
+        next.run();
+    }
+
+    /**
+     * @return Number of the running requests.
+     */
+    public synchronized int getRunningCount() {
+        return mRunning;
+    }
+
+    /**
+     * @return Number of the requests which wait for the free slot.
+     */
+    public synchronized int getPendingCount() {
+        return mPending.size();
+    }
+}
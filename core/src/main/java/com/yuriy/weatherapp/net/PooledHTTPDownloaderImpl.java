@@ -0,0 +1,187 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.util.AppLogger;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.params.ConnManagerParams;
+import org.apache.http.conn.params.ConnPerRouteBean;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpParams;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * Implementation of the {@link com.yuriy.weatherapp.net.Downloader} interface which shares
+ * one {@link org.apache.http.client.HttpClient} with bounded pool of the keep-alive connections
+ * between all requests, so that consecutive requests to the same host re-use established
+ * connection instead of performing new TCP handshake.
+ * Connections which are idle longer then configured time are evicted before every request.
+ */
+public class PooledHTTPDownloaderImpl extends HTTPDownloaderImpl {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = PooledHTTPDownloaderImpl.class.getSimpleName();
+
+    /**
+     * Default maximum number of the connections in the pool.
+     */
+    public static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 8;
+
+    /**
+     * Default maximum number of the connections per route (host).
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 4;
+
+    /**
+     * Default time, in milliseconds, after which idle connection is evicted from the pool.
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 30 * 1000;
+
+    /**
+     * Default time, in milliseconds, to wait for the free connection of the pool.
+     */
+    public static final long DEFAULT_POOL_TIMEOUT_MS = 10 * 1000;
+
+    /**
+     * Default port of the HTTP scheme.
+     */
+    private static final int HTTP_PORT = 80;
+
+    /**
+     * Default port of the HTTPS scheme.
+     */
+    private static final int HTTPS_PORT = 443;
+
+    /**
+     * Manager of the pooled connections.
+     */
+    private final ClientConnectionManager mConnectionManager;
+
+    /**
+     * Limits of the connections per route.
+     */
+    private final ConnPerRouteBean mConnPerRoute;
+
+    /**
+     * Shared {@link org.apache.http.client.HttpClient}.
+     */
+    private final HttpClient mHttpClient;
+
+    /**
+     * Time, in milliseconds, after which idle connection is evicted from the pool.
+     */
+    private final long mIdleTimeoutMs;
+
+    /**
+     * Constructor.
+     *
+     * @param maxTotalConnections    Maximum number of the connections in the pool.
+     * @param maxConnectionsPerRoute Default maximum number of the connections per route (host).
+     * @param idleTimeoutMs          Time, in milliseconds, after which idle connection is
+     *                               evicted from the pool.
+     * @param poolTimeoutMs          Time, in milliseconds, to wait for the free connection
+     *                               of the pool.
+     */
+    public PooledHTTPDownloaderImpl(final int maxTotalConnections,
+                                    final int maxConnectionsPerRoute,
+                                    final long idleTimeoutMs,
+                                    final long poolTimeoutMs) {
+        super();
+
+        mIdleTimeoutMs = idleTimeoutMs;
+        mConnPerRoute = new ConnPerRouteBean(maxConnectionsPerRoute);
+
+        final HttpParams params = new BasicHttpParams();
+        ConnManagerParams.setMaxTotalConnections(params, maxTotalConnections);
+        ConnManagerParams.setMaxConnectionsPerRoute(params, mConnPerRoute);
+        ConnManagerParams.setTimeout(params, poolTimeoutMs);
+
+        final SchemeRegistry schemeRegistry = new SchemeRegistry();
+        schemeRegistry.register(
+                new Scheme("http", PlainSocketFactory.getSocketFactory(), HTTP_PORT)
+        );
+        schemeRegistry.register(
+                new Scheme("https", SSLSocketFactory.getSocketFactory(), HTTPS_PORT)
+        );
+
+        mConnectionManager = new ThreadSafeClientConnManager(params, schemeRegistry);
+        mHttpClient = new DefaultHttpClient(mConnectionManager, params);
+    }
+
+    /**
+     * Factory method to create instance of the {@link PooledHTTPDownloaderImpl} with
+     * default configuration.
+     *
+     * @return Instance of the {@link PooledHTTPDownloaderImpl}.
+     */
+    public static PooledHTTPDownloaderImpl getDefaultInstance() {
+        return new PooledHTTPDownloaderImpl(
+                DEFAULT_MAX_TOTAL_CONNECTIONS,
+                DEFAULT_MAX_CONNECTIONS_PER_ROUTE,
+                DEFAULT_IDLE_TIMEOUT_MS,
+                DEFAULT_POOL_TIMEOUT_MS
+        );
+    }
+
+    /**
+     * Set maximum number of the connections for the route (host) of the provided
+     * {@link java.net.URI}, overrides default per route limit. Route is identified by the port
+     * as it is written in the {@link java.net.URI} of the requests, so that the limit of the
+     * URI without port does not apply to the URI with explicit default port, and vice versa.
+     *
+     * @param uri            {@link java.net.URI} which identifies the route.
+     * @param maxConnections Maximum number of the connections.
+     */
+    public void setMaxConnectionsPerRoute(final URI uri, final int maxConnections) {
+        if (uri == null || uri.getHost() == null) {
+            AppLogger.w(CLASS_NAME, "Can not set route limit, host is not provided");
+            return;
+        }
+        // Port is not resolved, client makes route of the request target in the same way
+        final HttpHost host = new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme());
+        mConnPerRoute.setMaxForRoute(
+                new HttpRoute(host, null, "https".equalsIgnoreCase(uri.getScheme())),
+                maxConnections
+        );
+    }
+
+    /**
+     * Close expired connections and connections which are idle longer then configured time.
+     */
+    public void evictIdleConnections() {
+        mConnectionManager.closeExpiredConnections();
+        mConnectionManager.closeIdleConnections(mIdleTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Close all connections of the pool. Downloader can not be used after this call.
+     */
+    public void shutdown() {
+        mConnectionManager.shutdown();
+    }
+
+    @Override
+    protected HttpClient getHttpClient() {
+        evictIdleConnections();
+        return mHttpClient;
+    }
+}
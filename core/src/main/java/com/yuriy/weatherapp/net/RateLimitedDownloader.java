@@ -0,0 +1,127 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.net.URI;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.RateLimitedDownloader} is a decorator of the
+ * {@link com.yuriy.weatherapp.net.Downloader} which takes the token of the
+ * {@link com.yuriy.weatherapp.net.RateLimiter} before every request. Request which can not
+ * get the token is not sent and its result has
+ * {@link com.yuriy.weatherapp.net.DownloadResult.Status#RATE_LIMITED} status. When server
+ * rejects the request with "429 Too Many Requests", rate limiter is informed about it.<br>
+ * Several decorators of the different priorities may share one rate limiter.
+ */
+public class RateLimitedDownloader implements Downloader {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = RateLimitedDownloader.class.getSimpleName();
+
+    /**
+     * Downloader which sends the requests.
+     */
+    private final Downloader mDownloader;
+
+    /**
+     * Rate limiter of the endpoint class.
+     */
+    private final RateLimiter mRateLimiter;
+
+    /**
+     * Priority of the requests.
+     */
+    private final RateLimiter.Priority mPriority;
+
+    /**
+     * Constructor.
+     *
+     * @param downloader  Downloader which sends the requests.
+     * @param rateLimiter Rate limiter of the endpoint class.
+     * @param priority    Priority of the requests.
+     */
+    public RateLimitedDownloader(final Downloader downloader, final RateLimiter rateLimiter,
+                                 final RateLimiter.Priority priority) {
+        mDownloader = downloader;
+        mRateLimiter = rateLimiter;
+        mPriority = priority;
+    }
+
+    @Override
+    public byte[] downloadDataFromUri(final URI uri) {
+        return downloadDataFromUri(uri, CacheValidator.getDefaultInstance()).getData();
+    }
+
+    @Override
+    public <T> T downloadDataFromUri(final URI uri, final ResponseStreamHandler<T> handler) {
+        return downloadDataFromUri(uri, CacheValidator.getDefaultInstance(), handler).getData();
+    }
+
+    @Override
+    public DownloadResult<byte[]> downloadDataFromUri(final URI uri,
+                                                      final CacheValidator validator) {
+        if (!acquire(uri, null)) {
+            return DownloadResult.rateLimited(new byte[0], 0);
+        }
+        return checkResult(mDownloader.downloadDataFromUri(uri, validator));
+    }
+
+    @Override
+    public <T> DownloadResult<T> downloadDataFromUri(final URI uri,
+                                                     final CacheValidator validator,
+                                                     final ResponseStreamHandler<T> handler) {
+        return downloadDataFromUri(uri, validator, handler, CancellationToken.getInstance());
+    }
+
+    @Override
+    public <T> DownloadResult<T> downloadDataFromUri(final URI uri,
+                                                     final CacheValidator validator,
+                                                     final ResponseStreamHandler<T> handler,
+                                                     final CancellationToken token) {
+        if (!acquire(uri, token)) {
+            return DownloadResult.rateLimited(handler.onResponseFailed(), 0);
+        }
+        return checkResult(mDownloader.downloadDataFromUri(uri, validator, handler, token));
+    }
+
+    /**
+     * Take the token of the rate limiter for the request.
+     *
+     * @param uri   {@link java.net.URI} of the request.
+     * @param token {@link com.yuriy.weatherapp.net.CancellationToken} of the request, may
+     *              be null.
+     * @return True if request may be sent.
+     */
+    private boolean acquire(final URI uri, final CancellationToken token) {
+        if (!mRateLimiter.acquire(mPriority, token)) {
+            AppLogger.w(CLASS_NAME, "Request is shed, " + mPriority + " budget is exhausted:"
+                    + uri);
+            return false;
+        }
+        AppLogger.d(CLASS_NAME, "Remaining budget:" + mRateLimiter.getRemainingBudget());
+        return true;
+    }
+
+    /**
+     * Inform the rate limiter if server rejected the request.
+     *
+     * @param result {@link com.yuriy.weatherapp.net.DownloadResult} of the request.
+     * @param <T>    Type of the data.
+     * @return Provided result.
+     */
+    private <T> DownloadResult<T> checkResult(final DownloadResult<T> result) {
+        if (result.isRateLimited()) {
+            mRateLimiter.onRateLimited(result.getRetryAfterMs());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,226 @@
+package com.yuriy.weatherapp.net;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.RateLimiter} is a token bucket which keeps requests of the
+ * one endpoint class within the calls-per-minute quota of the server.<br>
+ * Bucket holds up to the configured number of tokens (burst) and is refilled at the
+ * configured rate. Every request takes one token:
+ * <ul>
+ * <li>{@link Priority#USER} request waits for its token, in the order of arrival, if wait
+ * is not longer than configured one, otherwise it is shed;</li>
+ * <li>{@link Priority#BACKGROUND} request never waits and is shed unless there are more
+ * tokens than reserved for the user requests.</li>
+ * </ul>
+ * When server responds with "429 Too Many Requests" anyway (quota is shared with another
+ * client, for example), bucket is emptied until the delay requested by server elapses.
+ */
+public class RateLimiter {
+
+    /**
+     * Priority of the request.
+     */
+    public enum Priority {
+
+        /**
+         * Request which result is awaited by the user, it is queued when budget is
+         * exhausted.
+         */
+        USER,
+
+        /**
+         * Speculative request (prefetch, refresh of the stale data), it is shed when budget
+         * is low.
+         */
+        BACKGROUND
+    }
+
+    /**
+     * Maximum time, in milliseconds, of the single sleep while request waits for its token,
+     * so that canceled request stops waiting soon.
+     */
+    private static final long WAIT_SLICE_MS = 100;
+
+    /**
+     * Number of the milliseconds in minute.
+     */
+    private static final double MS_PER_MINUTE = 60 * 1000;
+
+    /**
+     * Number of the tokens which are added to the bucket per millisecond.
+     */
+    private final double mTokensPerMs;
+
+    /**
+     * Maximum number of the tokens in the bucket.
+     */
+    private final int mCapacity;
+
+    /**
+     * Number of the tokens which are not available for the background requests.
+     */
+    private final int mBackgroundReserve;
+
+    /**
+     * Maximum time, in milliseconds, which user request waits for its token.
+     */
+    private final long mMaxWaitMs;
+
+    /**
+     * Number of the tokens in the bucket. It is negative when tokens are reserved by the
+     * waiting requests or server asked to retry later.
+     */
+    private double mTokens;
+
+    /**
+     * Time of the last refill, negative before first request.
+     */
+    private long mLastRefillTime = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param requestsPerMinute Number of the requests per minute which are allowed in the
+     *                          long run, positive.
+     * @param capacity          Maximum number of the requests which are allowed in the burst,
+     *                          positive.
+     * @param backgroundReserve Number of the tokens which are not available for the background
+     *                          requests, not negative and less than capacity.
+     * @param maxWaitMs         Maximum time, in milliseconds, which user request waits for
+     *                          its token, not negative.
+     */
+    public RateLimiter(final int requestsPerMinute, final int capacity,
+                       final int backgroundReserve, final long maxWaitMs) {
+        if (requestsPerMinute < 1) {
+            throw new IllegalArgumentException("Rate should be positive:" + requestsPerMinute);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity should be positive:" + capacity);
+        }
+        if (backgroundReserve < 0 || backgroundReserve >= capacity) {
+            throw new IllegalArgumentException("Invalid background reserve:" + backgroundReserve);
+        }
+        if (maxWaitMs < 0) {
+            throw new IllegalArgumentException("Max wait should not be negative:" + maxWaitMs);
+        }
+        mTokensPerMs = requestsPerMinute / MS_PER_MINUTE;
+        mCapacity = capacity;
+        mBackgroundReserve = backgroundReserve;
+        mMaxWaitMs = maxWaitMs;
+        mTokens = capacity;
+    }
+
+    /**
+     * Take the token for the request of the provided priority, waiting for it if necessary.
+     *
+     * @param priority Priority of the request.
+     * @param token    {@link com.yuriy.weatherapp.net.CancellationToken} of the request, may
+     *                 be null if request can not be canceled.
+     * @return True if request may be sent, false if it is shed or is canceled while waiting.
+     */
+    public boolean acquire(final Priority priority, final CancellationToken token) {
+        final long delayMs;
+        synchronized (this) {
+            refill();
+            if (priority == Priority.BACKGROUND) {
+                // Background request never waits and leaves reserve for the user ones
+                if (mTokens < 1 + mBackgroundReserve) {
+                    return false;
+                }
+                mTokens -= 1;
+                return true;
+            }
+            final double tokens = mTokens - 1;
+            delayMs = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / mTokensPerMs);
+            if (delayMs > mMaxWaitMs) {
+                return false;
+            }
+            // Token is reserved, requests which come later wait longer
+            mTokens = tokens;
+        }
+        if (delayMs == 0 || waitFor(delayMs, token)) {
+            return true;
+        }
+        synchronized (this) {
+            // Return the token of the canceled request
+            mTokens = Math.min(mCapacity, mTokens + 1);
+        }
+        return false;
+    }
+
+    /**
+     * Empty the bucket because server rejected the request with "429 Too Many Requests".
+     *
+     * @param retryAfterMs Time, in milliseconds, after which request may be repeated, zero
+     *                     if server does not provide it.
+     */
+    public synchronized void onRateLimited(final long retryAfterMs) {
+        refill();
+        mTokens = Math.min(mTokens, -Math.max(0, retryAfterMs) * mTokensPerMs);
+    }
+
+    /**
+     * @return Number of the requests which may be sent at the moment without waiting.
+     */
+    public synchronized int getRemainingBudget() {
+        refill();
+        return (int) Math.max(0, Math.floor(mTokens));
+    }
+
+    /**
+     * @return Current time, in milliseconds, of the monotonic clock. Time source of the
+     * refill calculations.
+     */
+    protected long currentTimeMillis() {
+        return System.nanoTime() / 1000000;
+    }
+
+    /**
+     * Wait for the provided time, unless request is canceled.
+     *
+     * @param delayMs Time to wait, in milliseconds.
+     * @param token   {@link com.yuriy.weatherapp.net.CancellationToken} of the request, may
+     *                be null.
+     * @return True if time elapsed, false if request is canceled or thread is interrupted.
+     */
+    protected boolean waitFor(final long delayMs, final CancellationToken token) {
+        final long deadline = currentTimeMillis() + delayMs;
+        long remaining = delayMs;
+        while (remaining > 0) {
+            if (token != null && token.isCanceled()) {
+                return false;
+            }
+            try {
+                Thread.sleep(Math.min(remaining, WAIT_SLICE_MS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            remaining = deadline - currentTimeMillis();
+        }
+        return token == null || !token.isCanceled();
+    }
+
+    /**
+     * Add tokens which are accumulated since the last refill.
+     */
+    private void refill() {
+        final long now = currentTimeMillis();
+        if (mLastRefillTime < 0) {
+            mLastRefillTime = now;
+            return;
+        }
+        final long elapsed = now - mLastRefillTime;
+        if (elapsed <= 0) {
+            return;
+        }
+        mTokens = Math.min(mCapacity, mTokens + elapsed * mTokensPerMs);
+        mLastRefillTime = now;
+    }
+}
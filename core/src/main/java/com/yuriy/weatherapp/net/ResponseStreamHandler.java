@@ -0,0 +1,40 @@
+package com.yuriy.weatherapp.net;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link com.yuriy.weatherapp.net.ResponseStreamHandler} interface allows to consume
+ * the response of the {@link com.yuriy.weatherapp.net.Downloader} directly from the live
+ * stream, without buffering whole response in memory.
+ *
+ * @param <T> Type of the result which is produced from the response.
+ */
+public interface ResponseStreamHandler<T> {
+
+    /**
+     * Method is called when response is successfully received.
+     * Stream is owned by the {@link com.yuriy.weatherapp.net.Downloader} and it is
+     * released right after this method returns.
+     *
+     * @param inputStream Stream of the response body.
+     * @return Result produced from the response.
+     * @throws java.io.IOException
+     */
+    public T onResponseStream(final InputStream inputStream) throws IOException;
+
+    /**
+     * Method is called when response can not be received, or when there is no response body
+     * because server responded with "304 Not Modified".
+     *
+     * @return Default result.
+     */
+    public T onResponseFailed();
+}
@@ -0,0 +1,223 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.SingleFlight} coalesces concurrent requests with the same
+ * key (for example requested {@link java.net.URI}), so that only one of them (first one) is
+ * actually performed while others attach to it and receive the same result.<br>
+ * Requester calls {@link #join(Object, Callback)}. If it returns token, there was no request
+ * in flight and the requester has to perform request and call
+ * {@link #complete(Object, CancellationToken, Object)} when it is finished (even if it is
+ * failed or canceled), otherwise requester is attached to the request in flight. Every
+ * attached {@link Callback} receives the result exactly once, unless it
+ * {@link #leave(Object, Callback)} the request. When the last requester leaves, request is
+ * canceled with its token.<br>
+ * Request carries the highest {@link com.yuriy.weatherapp.net.RateLimiter.Priority} among its
+ * requesters, so that user who attaches to the speculative request is not shed with it.
+ *
+ * @param <K> Type of the key of the request.
+ * @param <V> Type of the result of the request.
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * Tag to use in logging message.
+     */
+    private static final String CLASS_NAME = SingleFlight.class.getSimpleName();
+
+    /**
+     * Receiver of the result of the request.
+     *
+     * @param <V> Type of the result of the request.
+     */
+    public interface Callback<V> {
+
+        /**
+         * Called when request is completed, on the thread which completes it.
+         *
+         * @param result Result of the request, may be null if request is failed.
+         */
+        void onResult(final V result);
+    }
+
+    /**
+     * Requests in flight per key.
+     */
+    private final Map<K, Flight<V>> mFlights = new HashMap<K, Flight<V>>();
+
+    /**
+     * Attach to the request with the provided key on behalf of the user, see
+     * {@link #join(Object, Callback, RateLimiter.Priority)}.
+     *
+     * @param key      Key of the request.
+     * @param callback {@link Callback} to receive result of the request.
+     * @return {@link com.yuriy.weatherapp.net.CancellationToken} of the new request or null if
+     * caller is attached to the request in flight.
+     */
+    public CancellationToken join(final K key, final Callback<V> callback) {
+        return join(key, callback, RateLimiter.Priority.USER);
+    }
+
+    /**
+     * Attach to the request with the provided key. Request in flight is raised to the
+     * provided priority, if it is higher than the priority of the request.
+     *
+     * @param key      Key of the request.
+     * @param callback {@link Callback} to receive result of the request.
+     * @param priority Priority of the requester.
+     * @return {@link com.yuriy.weatherapp.net.CancellationToken} of the new request if there
+     * was no request in flight and caller has to perform request and
+     * {@link #complete(Object, CancellationToken, Object)} it, null if caller is attached to
+     * the request in flight.
+     */
+    public synchronized CancellationToken join(final K key, final Callback<V> callback,
+                                               final RateLimiter.Priority priority) {
+        Flight<V> flight = mFlights.get(key);
+        if (flight != null) {
+            flight.mCallbacks.add(callback);
+            if (priority == RateLimiter.Priority.USER) {
+                flight.mPriority = priority;
+            }
+            AppLogger.i(CLASS_NAME, "Request is in flight, attach to it:" + key);
+            return null;
+        }
+        flight = new Flight<V>(priority);
+        flight.mCallbacks.add(callback);
+        mFlights.put(key, flight);
+        return flight.mToken;
+    }
+
+    /**
+     * Get current priority of the request, it may be raised since request is started by the
+     * requester which attaches later. Priority is not lowered when requester leaves.
+     *
+     * @param key   Key of the request.
+     * @param token {@link com.yuriy.weatherapp.net.CancellationToken} which is returned by
+     *              {@link #join(Object, Callback, RateLimiter.Priority)}.
+     * @return Highest priority among the requesters,
+     * {@link com.yuriy.weatherapp.net.RateLimiter.Priority#BACKGROUND} if request is not in
+     * flight any more.
+     */
+    public synchronized RateLimiter.Priority getPriority(final K key,
+                                                         final CancellationToken token) {
+        final Flight<V> flight = mFlights.get(key);
+        if (flight == null || flight.mToken != token) {
+            return RateLimiter.Priority.BACKGROUND;
+        }
+        return flight.mPriority;
+    }
+
+    /**
+     * Detach from the request with the provided key, provided callback does not receive
+     * result. If there are no more attached callbacks, request is canceled and requests with
+     * the same key which join after this call are performed again.
+     *
+     * @param key      Key of the request.
+     * @param callback {@link Callback} which is passed to {@link #join(Object, Callback)}.
+     */
+    public void leave(final K key, final Callback<V> callback) {
+        final Flight<V> flight;
+        synchronized (this) {
+            flight = mFlights.get(key);
+            if (flight == null || !flight.mCallbacks.remove(callback)) {
+                return;
+            }
+            if (!flight.mCallbacks.isEmpty()) {
+                return;
+            }
+            mFlights.remove(key);
+        }
+        AppLogger.i(CLASS_NAME, "No more requesters, cancel request:" + key);
+        // Token is canceled without lock, its listener may abort request in flight
+        flight.mToken.cancel();
+    }
+
+    /**
+     * Complete request with the provided key and deliver result to all attached callbacks.
+     * Requests with the same key which join after this call are performed again.
+     *
+     * @param key    Key of the request.
+     * @param token  {@link com.yuriy.weatherapp.net.CancellationToken} which is returned by
+     *               {@link #join(Object, Callback)}.
+     * @param result Result of the request, may be null if request is failed.
+     */
+    public void complete(final K key, final CancellationToken token, final V result) {
+        final Flight<V> flight;
+        synchronized (this) {
+            flight = mFlights.get(key);
+            // Request may be canceled and performed again by another requester
+            if (flight == null || flight.mToken != token) {
+                AppLogger.i(CLASS_NAME, "Complete request which is not in flight:" + key);
+                return;
+            }
+            mFlights.remove(key);
+        }
+        // Callbacks are called without lock, so that they can join new requests
+        for (Callback<V> callback : flight.mCallbacks) {
+            if (callback != null) {
+                callback.onResult(result);
+            }
+        }
+    }
+
+    /**
+     * @param key Key of the request.
+     * @return True if request with the provided key is in flight.
+     */
+    public synchronized boolean isInFlight(final K key) {
+        return mFlights.containsKey(key);
+    }
+
+    /**
+     * @return Number of the requests in flight.
+     */
+    public synchronized int size() {
+        return mFlights.size();
+    }
+
+    /**
+     * Request in flight.
+     *
+     * @param <V> Type of the result of the request.
+     */
+    private static final class Flight<V> {
+
+        /**
+         * Token to cancel request.
+         */
+        private final CancellationToken mToken = CancellationToken.getInstance();
+
+        /**
+         * Attached callbacks.
+         */
+        private final List<Callback<V>> mCallbacks = new ArrayList<Callback<V>>(1);
+
+        /**
+         * Highest priority among the requesters, guarded by the lock of the
+         * {@link com.yuriy.weatherapp.net.SingleFlight}.
+         */
+        private RateLimiter.Priority mPriority;
+
+        /**
+         * Constructor.
+         *
+         * @param priority Priority of the requester which starts the request.
+         */
+        private Flight(final RateLimiter.Priority priority) {
+            mPriority = priority;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.yuriy.weatherapp.net;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.TeeInputStream} copies every byte which is read from the
+ * wrapped stream into the provided {@link java.io.OutputStream}, so that the stream can be
+ * consumed and kept at the same time without buffering it twice.
+ */
+public class TeeInputStream extends FilterInputStream {
+
+    /**
+     * Stream to copy bytes into.
+     */
+    private final OutputStream mOutputStream;
+
+    /**
+     * Constructor.
+     *
+     * @param inputStream  Stream to read from.
+     * @param outputStream Stream to copy read bytes into.
+     */
+    public TeeInputStream(final InputStream inputStream, final OutputStream outputStream) {
+        super(inputStream);
+        mOutputStream = outputStream;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int value = super.read();
+        if (value != -1) {
+            mOutputStream.write(value);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        final int count = super.read(buffer, offset, length);
+        if (count > 0) {
+            mOutputStream.write(buffer, offset, count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long count) throws IOException {
+        // Skipped bytes must be copied as well
+        final byte[] buffer = new byte[(int) Math.min(count, 1024)];
+        long skipped = 0;
+        while (skipped < count) {
+            final int read = read(buffer, 0, (int) Math.min(count - skipped, buffer.length));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        // Reset would copy same bytes twice
+        return false;
+    }
+
+    /**
+     * Read the rest of the stream, so that all of it is copied.
+     *
+     * @throws java.io.IOException
+     */
+    public void drain() throws IOException {
+        final byte[] buffer = new byte[1024];
+        while (read(buffer, 0, buffer.length) != -1) {
+            // Bytes are copied by read
+        }
+    }
+}
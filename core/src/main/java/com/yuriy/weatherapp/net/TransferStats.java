@@ -0,0 +1,90 @@
+package com.yuriy.weatherapp.net;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.TransferStats} holds number of the bytes of the response
+ * body which are received over the network (compressed) and number of the bytes which are
+ * passed to the consumer after decoding (uncompressed).
+ */
+public final class TransferStats {
+
+    /**
+     * Value of the Content-Encoding response header, empty if body is not encoded.
+     */
+    private final String mContentEncoding;
+
+    /**
+     * Number of the bytes of the response body received over the network.
+     */
+    private final long mCompressedBytes;
+
+    /**
+     * Number of the bytes of the response body after decoding.
+     */
+    private final long mUncompressedBytes;
+
+    /**
+     * Private constructor.
+     *
+     * @param contentEncoding   Value of the Content-Encoding response header.
+     * @param compressedBytes   Number of the bytes received over the network.
+     * @param uncompressedBytes Number of the bytes after decoding.
+     */
+    private TransferStats(final String contentEncoding,
+                          final long compressedBytes, final long uncompressedBytes) {
+        mContentEncoding = contentEncoding == null ? "" : contentEncoding;
+        mCompressedBytes = compressedBytes;
+        mUncompressedBytes = uncompressedBytes;
+    }
+
+    /**
+     * Factory method to create instance of the {@link TransferStats}.
+     *
+     * @param contentEncoding   Value of the Content-Encoding response header, may be null.
+     * @param compressedBytes   Number of the bytes received over the network.
+     * @param uncompressedBytes Number of the bytes after decoding.
+     * @return Instance of the {@link TransferStats}.
+     */
+    public static TransferStats getInstance(final String contentEncoding,
+                                            final long compressedBytes,
+                                            final long uncompressedBytes) {
+        return new TransferStats(contentEncoding, compressedBytes, uncompressedBytes);
+    }
+
+    /**
+     * Factory method to create instance of the {@link TransferStats} of the request which
+     * has no response body.
+     *
+     * @return Instance of the {@link TransferStats}.
+     */
+    public static TransferStats getDefaultInstance() {
+        return new TransferStats("", 0, 0);
+    }
+
+    /**
+     * @return Value of the Content-Encoding response header, empty if body is not encoded.
+     */
+    public String getContentEncoding() {
+        return mContentEncoding;
+    }
+
+    /**
+     * @return Number of the bytes of the response body received over the network.
+     */
+    public long getCompressedBytes() {
+        return mCompressedBytes;
+    }
+
+    /**
+     * @return Number of the bytes of the response body after decoding.
+     */
+    public long getUncompressedBytes() {
+        return mUncompressedBytes;
+    }
+}
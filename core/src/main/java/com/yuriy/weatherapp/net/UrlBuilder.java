@@ -7,7 +7,10 @@ package com.yuriy.weatherapp.net;
  * E-Mail: chernyshov.yuriy@gmail.com
  */
 
-import android.util.Log;
+import com.yuriy.weatherapp.util.AppLogger;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * {@link UrlBuilder} is a helper class which can build different types of
@@ -22,6 +25,22 @@ public class UrlBuilder {
      */
     private static final String WEATHER_URL = "http://api.openweathermap.org/data/2.5/weather";
 
+    /**
+     * Weather URL of the several cities.
+     */
+    private static final String GROUP_WEATHER_URL
+            = "http://api.openweathermap.org/data/2.5/group";
+
+    /**
+     * Maximum number of the cities which can be requested with a single group request.
+     */
+    public static final int MAX_GROUP_SIZE = 20;
+
+    /**
+     * Request key of the cities ids.
+     */
+    private static final String CITY_ID_KEY = "id";
+
     /**
      * Base URL for the Weather Condition Icon.
      */
@@ -67,11 +86,47 @@ public class UrlBuilder {
      */
     public static String getWeatherIconByCode(final String iconId) {
         if (iconId == null) {
-            Log.w(CLASS_NAME, "Create weather icon url -> iconId is null");
+            AppLogger.w(CLASS_NAME, "Create weather icon url -> iconId is null");
             return WEATHER_ICON_URL;
         }
         return WEATHER_ICON_URL + iconId + ".png";
     }
 
+    /**
+     * Method to create URLs for the web weather service for the provided cities. Cities are
+     * requested by groups of up to {@link #MAX_GROUP_SIZE}, so that N cities are requested
+     * with ceil(N / {@link #MAX_GROUP_SIZE}) requests.
+     *
+     * @param cityIds Identifiers of the cities.
+     * @return URLs for the weather service, in the order of the cities.
+     */
+    public static List<String> getWeatherGroupUrlsByCityIds(final int[] cityIds) {
+        if (cityIds == null) {
+            throw new NullPointerException(CLASS_NAME
+                    + " getWeatherGroupUrlsByCityIds city ids are null");
+        }
+        final List<String> urls
+                = new ArrayList<String>((cityIds.length + MAX_GROUP_SIZE - 1) / MAX_GROUP_SIZE);
+        StringBuilder builder = null;
+        for (int i = 0; i < cityIds.length; i++) {
+            if (i % MAX_GROUP_SIZE == 0) {
+                if (builder != null) {
+                    urls.add(builder.toString());
+                }
+                builder = new StringBuilder(GROUP_WEATHER_URL);
+                builder.append(PARAMS_DELIMITER_SYMBOL);
+                builder.append(CITY_ID_KEY);
+                builder.append(EQUAL_SYMBOL);
+            } else {
+                builder.append(COMA_SYMBOL);
+            }
+            builder.append(cityIds[i]);
+        }
+        if (builder != null) {
+            urls.add(builder.toString());
+        }
+        return urls;
+    }
+
     // TODO : Could be more factory methods for the URLs of the request API
 }
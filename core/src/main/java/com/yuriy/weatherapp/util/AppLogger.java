@@ -0,0 +1,86 @@
+package com.yuriy.weatherapp.util;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.util.AppLogger} is a logging facade of the platform independent
+ * part of the Application. Messages are passed to the {@link com.yuriy.weatherapp.util.LogPrinter}
+ * which is set by the hosting environment, Android one or plain JVM one.
+ */
+public final class AppLogger {
+
+    /**
+     * Priority constants, same values as in android.util.Log.
+     */
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+
+    /**
+     * Current implementation of the {@link com.yuriy.weatherapp.util.LogPrinter}.
+     */
+    private static volatile LogPrinter sLogPrinter = new ConsoleLogPrinter();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AppLogger() { }
+
+    /**
+     * Set implementation of the {@link com.yuriy.weatherapp.util.LogPrinter}.
+     *
+     * @param value Implementation of the {@link com.yuriy.weatherapp.util.LogPrinter}.
+     */
+    public static void setLogPrinter(final LogPrinter value) {
+        if (value == null) {
+            return;
+        }
+        sLogPrinter = value;
+    }
+
+    /**
+     * Send a {@link #DEBUG} log message.
+     *
+     * @param tag     Tag of the message.
+     * @param message The message.
+     */
+    public static void d(final String tag, final String message) {
+        sLogPrinter.print(DEBUG, tag, message);
+    }
+
+    /**
+     * Send an {@link #INFO} log message.
+     *
+     * @param tag     Tag of the message.
+     * @param message The message.
+     */
+    public static void i(final String tag, final String message) {
+        sLogPrinter.print(INFO, tag, message);
+    }
+
+    /**
+     * Send a {@link #WARN} log message.
+     *
+     * @param tag     Tag of the message.
+     * @param message The message.
+     */
+    public static void w(final String tag, final String message) {
+        sLogPrinter.print(WARN, tag, message);
+    }
+
+    /**
+     * Send an {@link #ERROR} log message.
+     *
+     * @param tag     Tag of the message.
+     * @param message The message.
+     */
+    public static void e(final String tag, final String message) {
+        sLogPrinter.print(ERROR, tag, message);
+    }
+}
@@ -0,0 +1,65 @@
+package com.yuriy.weatherapp.util;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+import java.io.PrintStream;
+
+/**
+ * Implementation of the {@link com.yuriy.weatherapp.util.LogPrinter} interface which outputs
+ * messages to the standard streams of the JVM. Messages with priority less then minimum one
+ * are ignored.
+ */
+public class ConsoleLogPrinter implements LogPrinter {
+
+    /**
+     * Minimum priority of the message to output.
+     */
+    private final int mMinPriority;
+
+    /**
+     * Constructor. Messages of the {@link AppLogger#INFO} priority and above are printed.
+     */
+    public ConsoleLogPrinter() {
+        this(AppLogger.INFO);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param minPriority Minimum priority of the message to output.
+     */
+    public ConsoleLogPrinter(final int minPriority) {
+        mMinPriority = minPriority;
+    }
+
+    @Override
+    public void print(final int priority, final String tag, final String message) {
+        if (priority < mMinPriority) {
+            return;
+        }
+        final PrintStream stream = priority >= AppLogger.WARN ? System.err : System.out;
+        stream.println(getPriorityLetter(priority) + "/" + tag + ": " + message);
+    }
+
+    /**
+     * @param priority Priority of the message.
+     * @return Letter of the priority, same as in logcat.
+     */
+    private static String getPriorityLetter(final int priority) {
+        switch (priority) {
+            case AppLogger.DEBUG:
+                return "D";
+            case AppLogger.INFO:
+                return "I";
+            case AppLogger.WARN:
+                return "W";
+            default:
+                return "E";
+        }
+    }
+}
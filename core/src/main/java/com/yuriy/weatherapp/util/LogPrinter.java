@@ -0,0 +1,25 @@
+package com.yuriy.weatherapp.util;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.util.LogPrinter} interface provides method which allows to
+ * output log messages of the {@link com.yuriy.weatherapp.util.AppLogger} to the concrete
+ * destination: Android log, console, file, etc ...
+ */
+public interface LogPrinter {
+
+    /**
+     * Output log message.
+     *
+     * @param priority Priority of the message, one of the {@link AppLogger} constants.
+     * @param tag      Tag of the message.
+     * @param message  The message.
+     */
+    public void print(final int priority, final String tag, final String message);
+}
@@ -0,0 +1,70 @@
+package com.yuriy.weatherapp;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/21/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.ResponseFixtures} holds raw responses of the weather service
+ * which are used by the tests.
+ */
+public final class ResponseFixtures {
+
+    /**
+     * Regular response of the current weather request.
+     */
+    public static final String RAW_RESPONSE
+            = "{\"coord\":{\"lon\":139,\"lat\":35},\n" +
+            "\"sys\":{\"country\":\"JP\",\"sunrise\":1369769524,\"sunset\":1369821049},\n" +
+            "\"weather\":[{\"id\":804,\"main\":\"clouds\",\"description\":\"overcast clouds\"," +
+            "\"icon\":\"04n\"}],\n" +
+            "\"main\":{\"temp\":289.5,\"humidity\":89,\"pressure\":1013,\"temp_min\":287.04," +
+            "\"temp_max\":292.04},\n" +
+            "\"wind\":{\"speed\":7.31,\"deg\":187.002},\n" +
+            "\"rain\":{\"3h\":0},\n" +
+            "\"clouds\":{\"all\":92},\n" +
+            "\"dt\":1369824698,\n" +
+            "\"id\":1851632,\n" +
+            "\"name\":\"Shuzenji\",\n" +
+            "\"cod\":200}";
+
+    /**
+     * Response which contains fields unknown to the parsers, nested objects and arrays included.
+     */
+    public static final String RAW_RESPONSE_WITH_UNKNOWN_FIELDS
+            = "{\"coord\":{\"lon\":13.41,\"lat\":52.52},\n" +
+            "\"weather\":[{\"id\":500,\"main\":\"Rain\",\"description\":\"light rain\"," +
+            "\"icon\":\"10d\"},{\"id\":701,\"main\":\"Mist\",\"description\":\"mist\"," +
+            "\"icon\":\"50d\"}],\n" +
+            "\"base\":\"cmc stations\",\n" +
+            "\"main\":{\"temp\":281.15,\"pressure\":1012,\"humidity\":93," +
+            "\"temp_min\":280.15,\"temp_max\":282.15,\"sea_level\":1031.2," +
+            "\"grnd_level\":1025.5},\n" +
+            "\"wind\":{\"speed\":4.6,\"deg\":250,\"gust\":9.8,\"var_beg\":220," +
+            "\"var_end\":280},\n" +
+            "\"rain\":{\"3h\":2,\"1h\":0.5},\n" +
+            "\"clouds\":{\"all\":90},\n" +
+            "\"visibility\":{\"value\":4000,\"unit\":\"m\",\"trace\":[1,2,[3,{}]]},\n" +
+            "\"dt\":1417002000,\n" +
+            "\"sys\":{\"type\":1,\"id\":4892,\"message\":0.0113,\"country\":\"DE\"," +
+            "\"sunrise\":1416985309,\"sunset\":1417014888},\n" +
+            "\"id\":2950159,\n" +
+            "\"name\":\"Berlin\",\n" +
+            "\"extra\":null,\n" +
+            "\"cod\":200}";
+
+    /**
+     * Response of the group request with two cities.
+     */
+    public static final String RAW_GROUP_RESPONSE
+            = "{\"cnt\":2,\"list\":[" + RAW_RESPONSE + ",\n"
+            + RAW_RESPONSE_WITH_UNKNOWN_FIELDS + "]}";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ResponseFixtures() { }
+}
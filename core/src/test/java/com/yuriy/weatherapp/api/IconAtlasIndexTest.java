@@ -0,0 +1,62 @@
+package com.yuriy.weatherapp.api;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class IconAtlasIndexTest extends TestCase {
+
+    private static final String INDEX = "# code left top width height\n"
+            + "01d 0 0 50 50\n"
+            + "\n"
+            + "10n  450 50 50 50\n"
+            + "11d 0 0 50\n"
+            + "13d a 0 50 50\n"
+            + "50d 0 0 0 50\n";
+
+    public void testRead() throws Exception {
+        final IconAtlasIndex index = IconAtlasIndex.getInstance(
+                new ByteArrayInputStream(INDEX.getBytes("UTF-8"))
+        );
+
+        assertThat("Only valid lines should be read", index.size(), is(2));
+
+        final IconAtlasIndex.Region region = index.getRegion("10n");
+        assertThat("Region should be read", region, notNullValue());
+        assertThat("Left should be read", region.getLeft(), is(450));
+        assertThat("Top should be read", region.getTop(), is(50));
+        assertThat("Width should be read", region.getWidth(), is(50));
+        assertThat("Height should be read", region.getHeight(), is(50));
+    }
+
+    public void testUnknownCode() throws Exception {
+        final IconAtlasIndex index = IconAtlasIndex.getInstance(
+                new ByteArrayInputStream(INDEX.getBytes("UTF-8"))
+        );
+
+        assertThat("Known code should be contained", index.contains("01d"), is(true));
+        assertThat("Unknown code should not be contained", index.contains("99d"), is(false));
+        assertThat("Malformed code should not be contained", index.contains("11d"), is(false));
+        assertThat("Null code should not be contained", index.contains(null), is(false));
+        assertThat("Region of the unknown code should be null",
+                index.getRegion("99d"), nullValue());
+    }
+
+    public void testDefaultInstanceIsEmpty() throws Exception {
+        assertThat("Default index should be empty",
+                IconAtlasIndex.getDefaultInstance().size(), is(0));
+        assertThat("Index of the null stream should be empty",
+                IconAtlasIndex.getInstance(null).size(), is(0));
+    }
+}
@@ -0,0 +1,160 @@
+package com.yuriy.weatherapp.api;
+
+import com.yuriy.weatherapp.business.JSONStreamDataParserImpl;
+import com.yuriy.weatherapp.net.Downloader;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.net.URI;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class IconCacheTest extends TestCase {
+
+    private static final URI ICON_URI = URI.create("http://openweathermap.org/img/w/10d.png");
+
+    private static final byte[] ICON_BYTES = new byte[]{1, 2, 3, 4, 5, 6, 7, 8};
+
+    private File mDirectory;
+
+    private IconCache mCache;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mDirectory = File.createTempFile("files", "");
+        assertTrue(mDirectory.delete());
+        mCache = new IconCache(new File(mDirectory, "icons"), IconCache.DEFAULT_MAX_SIZE_BYTES);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        mCache.clear();
+        new File(mDirectory, "icons").delete();
+        mDirectory.delete();
+
+        super.tearDown();
+    }
+
+    public void testGetKey() {
+        assertThat("Key should be icon id", IconCache.getKey(ICON_URI), is("10d"));
+        assertThat("Key of the null URI should be empty", IconCache.getKey(null), is(""));
+        assertThat("Key of the URI without file name should be empty",
+                IconCache.getKey(URI.create("http://openweathermap.org/img/w/")), is(""));
+    }
+
+    public void testPutAndGet() {
+        final File stored = mCache.put("10d", ICON_BYTES);
+        final File file = mCache.get("10d");
+
+        assertThat("Icon should be stored", file, notNullValue());
+        assertThat("Stored file should be returned", file, is(stored));
+        assertThat("Icon should be stored by id", file.getName(), is("10d.png"));
+        assertThat("Size should be size of the icon",
+                mCache.getSize(), is((long) ICON_BYTES.length));
+    }
+
+    public void testSameIconStoredOnce() {
+        mCache.put("10d", ICON_BYTES);
+        mCache.put("10d", ICON_BYTES);
+
+        assertThat("Same icon should be stored only once",
+                mCache.getSize(), is((long) ICON_BYTES.length));
+    }
+
+    public void testInvalidIconIdNotStored() {
+        assertThat("Icon with invalid id should not be stored",
+                mCache.put("../10d", ICON_BYTES), nullValue());
+        assertThat("Icon with invalid id should not be returned",
+                mCache.get("../10d"), nullValue());
+        assertThat("Empty icon should not be stored",
+                mCache.put("10d", new byte[0]), nullValue());
+    }
+
+    public void testLeastRecentlyUsedEvicted() {
+        mCache = new IconCache(new File(mDirectory, "icons"), ICON_BYTES.length * 2);
+
+        assertTrue(mCache.put("01d", ICON_BYTES).setLastModified(1000));
+        assertTrue(mCache.put("02d", ICON_BYTES).setLastModified(2000));
+        mCache.put("03d", ICON_BYTES);
+
+        assertThat("Least recently used icon should be evicted", mCache.get("01d"), nullValue());
+        assertThat("Recently used icon should be kept", mCache.get("02d"), notNullValue());
+        assertThat("Just stored icon should be kept", mCache.get("03d"), notNullValue());
+    }
+
+    public void testDeleteOrphanedFiles() throws Exception {
+        assertTrue(mDirectory.mkdirs());
+        final File orphaned = new File(mDirectory, "1416700000000");
+        final File other = new File(mDirectory, "settings.xml");
+        assertTrue(orphaned.createNewFile());
+        assertTrue(other.createNewFile());
+
+        assertThat("One file should be deleted",
+                IconCache.deleteOrphanedFiles(mDirectory), is(1));
+        assertThat("Orphaned file should be deleted", orphaned.exists(), is(false));
+        assertThat("Other file should be kept", other.exists(), is(true));
+
+        assertTrue(other.delete());
+    }
+
+    public void testCachedIconServedWithoutDownload() throws Exception {
+        final Downloader downloader = mock(Downloader.class);
+        when(downloader.downloadDataFromUri(any(URI.class))).thenReturn(ICON_BYTES);
+        final APIServiceProvider serviceProvider
+                = new APIServiceProviderImpl(new JSONStreamDataParserImpl());
+
+        final String path = serviceProvider.getCurrentWeatherConditionsIcon(
+                mCache, downloader, ICON_URI
+        );
+        final String cachedPath = serviceProvider.getCurrentWeatherConditionsIcon(
+                mCache, downloader, ICON_URI
+        );
+
+        assertThat("Icon should be saved", new File(path).exists(), is(true));
+        assertThat("Same file should be returned", cachedPath, is(path));
+        verify(downloader, times(1)).downloadDataFromUri(any(URI.class));
+    }
+
+    public void testEmptyIconIsNotSaved() throws Exception {
+        final Downloader downloader = mock(Downloader.class);
+        when(downloader.downloadDataFromUri(any(URI.class))).thenReturn(new byte[0]);
+        final APIServiceProvider serviceProvider
+                = new APIServiceProviderImpl(new JSONStreamDataParserImpl());
+
+        assertThat("Path should be empty",
+                serviceProvider.getCurrentWeatherConditionsIcon(mCache, downloader, ICON_URI),
+                is(""));
+        assertThat("Icon should not be stored", mCache.get("10d"), nullValue());
+    }
+
+    public void testUnknownIconIsNotDownloaded() throws Exception {
+        final Downloader downloader = mock(Downloader.class);
+        final APIServiceProvider serviceProvider
+                = new APIServiceProviderImpl(new JSONStreamDataParserImpl());
+
+        assertThat("Path should be empty",
+                serviceProvider.getCurrentWeatherConditionsIcon(
+                        mCache, downloader, URI.create("http://openweathermap.org/img/w/")
+                ),
+                is(""));
+        verify(downloader, never()).downloadDataFromUri(any(URI.class));
+    }
+}
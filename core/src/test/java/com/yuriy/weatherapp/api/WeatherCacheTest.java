@@ -0,0 +1,168 @@
+package com.yuriy.weatherapp.api;
+
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+import com.yuriy.weatherapp.net.CacheValidator;
+
+import junit.framework.TestCase;
+
+import java.net.URI;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class WeatherCacheTest extends TestCase {
+
+    private static final long TTL_MS = 1000;
+
+    private static final long STALE_MS = 5000;
+
+    private TestWeatherCache mCache;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mCache = new TestWeatherCache(2);
+    }
+
+    public void testKeyByCityIsCaseInsensitive() {
+        assertThat("Keys should be same",
+                WeatherCache.getKey(URI.create("http://host/weather?q=Shuzenji,JP")),
+                is(WeatherCache.getKey(URI.create("http://host/weather?q=shuzenji,%20jp"))));
+        assertThat("Key should be made of city and country",
+                WeatherCache.getKey(URI.create("http://host/weather?q=Shuzenji,JP")),
+                is("q:shuzenji,jp"));
+    }
+
+    public void testKeyByCityId() {
+        assertThat("Key should be made of city id",
+                WeatherCache.getKey(URI.create("http://host/weather?lang=en&id=1851632")),
+                is("id:1851632"));
+        assertThat("Key of city id should be same as key of URI",
+                WeatherCache.getKey(1851632),
+                is(WeatherCache.getKey(URI.create("http://host/weather?id=1851632"))));
+    }
+
+    public void testKeyWithoutLocation() {
+        assertThat("Key should be whole URI",
+                WeatherCache.getKey(URI.create("http://host/weather?lang=en")),
+                is("http://host/weather?lang=en"));
+        assertThat("Key of null URI should be empty", WeatherCache.getKey(null), is(""));
+    }
+
+    public void testNotCacheableDefaultWeather() {
+        assertThat("Default weather should not be cacheable",
+                WeatherCache.isCacheable(CurrentWeatherVO.getInstance()), is(false));
+        assertThat("Null weather should not be cacheable",
+                WeatherCache.isCacheable(null), is(false));
+    }
+
+    public void testCacheableWeather() {
+        final CurrentWeatherVO weatherVO = CurrentWeatherVO.getInstance();
+        weatherVO.setCityId(1851632);
+
+        assertThat("Weather should be cacheable", WeatherCache.isCacheable(weatherVO), is(true));
+    }
+
+    public void testFreshness() {
+        final CachedWeatherReport report = createReport(mCache.mTime);
+
+        assertThat("Report should be fresh",
+                mCache.getFreshness(report), is(WeatherCache.Freshness.FRESH));
+
+        mCache.mTime += TTL_MS;
+        assertThat("Report should be fresh at the end of TTL",
+                mCache.getFreshness(report), is(WeatherCache.Freshness.FRESH));
+
+        mCache.mTime += 1;
+        assertThat("Report should be stale after TTL",
+                mCache.getFreshness(report), is(WeatherCache.Freshness.STALE));
+
+        mCache.mTime += STALE_MS;
+        assertThat("Report should be expired after stale window",
+                mCache.getFreshness(report), is(WeatherCache.Freshness.EXPIRED));
+    }
+
+    public void testReportFromFutureIsStale() {
+        final CachedWeatherReport report = createReport(mCache.mTime + 1);
+
+        assertThat("Report should be stale",
+                mCache.getFreshness(report), is(WeatherCache.Freshness.STALE));
+    }
+
+    public void testNullReportIsExpired() {
+        assertThat("Report should be expired",
+                mCache.getFreshness(null), is(WeatherCache.Freshness.EXPIRED));
+    }
+
+    public void testLeastRecentlyUsedEvicted() {
+        mCache.put("a", createReport(mCache.mTime));
+        mCache.put("b", createReport(mCache.mTime));
+        // Access "a" so that "b" becomes least recently used
+        mCache.get("a");
+        mCache.put("c", createReport(mCache.mTime));
+
+        assertThat("Size should be bounded", mCache.size(), is(2));
+        assertThat("Recently used report should be kept", mCache.get("a"), notNullValue());
+        assertThat("Least recently used report should be evicted", mCache.get("b"), nullValue());
+        assertThat("New report should be kept", mCache.get("c"), notNullValue());
+    }
+
+    public void testNullsAreNotCached() {
+        mCache.put(null, createReport(mCache.mTime));
+        mCache.put("a", null);
+
+        assertThat("Cache should be empty", mCache.size(), is(0));
+    }
+
+    public void testRemoveAndClear() {
+        mCache.put("a", createReport(mCache.mTime));
+        mCache.put("b", createReport(mCache.mTime));
+
+        mCache.remove("a");
+        assertThat("Removed report should not be found", mCache.get("a"), nullValue());
+
+        mCache.clear();
+        assertThat("Cache should be empty", mCache.size(), is(0));
+    }
+
+    public void testSingleRefreshPerKey() {
+        assertThat("First refresh should start", mCache.startRefresh("a"), is(true));
+        assertThat("Second refresh should not start", mCache.startRefresh("a"), is(false));
+        assertThat("Refresh of other key should start", mCache.startRefresh("b"), is(true));
+
+        mCache.finishRefresh("a");
+        assertThat("Refresh should start after finish", mCache.startRefresh("a"), is(true));
+    }
+
+    private static CachedWeatherReport createReport(final long fetchTime) {
+        return CachedWeatherReport.getInstance(
+                CurrentWeatherVO.getInstance(), CacheValidator.getDefaultInstance(), fetchTime
+        );
+    }
+
+    /**
+     * Cache with controlled time source.
+     */
+    private static final class TestWeatherCache extends WeatherCache {
+
+        private long mTime = 1000000;
+
+        private TestWeatherCache(final int maxSize) {
+            super(maxSize, TTL_MS, STALE_MS);
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return mTime;
+        }
+    }
+}
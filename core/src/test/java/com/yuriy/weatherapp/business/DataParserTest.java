@@ -0,0 +1,138 @@
+package com.yuriy.weatherapp.business;
+
+import com.yuriy.weatherapp.ResponseFixtures;
+import com.yuriy.weatherapp.api.APIServiceProvider;
+import com.yuriy.weatherapp.api.APIServiceProviderImpl;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+import com.yuriy.weatherapp.net.CacheValidator;
+import com.yuriy.weatherapp.net.DownloadResult;
+import com.yuriy.weatherapp.net.Downloader;
+import com.yuriy.weatherapp.net.ResponseStreamHandler;
+
+import junit.framework.TestCase;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Created with Android Studio.
+ * Author: Chernyshov Yuriy - Mobile Development
+ * Date: 24.11.14
+ * Time: 9:58
+ */
+public class DataParserTest extends TestCase {
+
+    /**
+     * Downloader mock
+     */
+    private Downloader mDownloader;
+
+    /**
+     * Data parser mock
+     */
+    private DataParser mDataParserMock;
+
+    /**
+     * Service Provide mock
+     */
+    private APIServiceProvider mServiceProvider;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mDownloader = mock(Downloader.class);
+        mDataParserMock = mock(JSONDataParserImpl.class);
+        mServiceProvider = new APIServiceProviderImpl(mDataParserMock);
+
+        // when downloader asks to download data - pass real response stream to the handler
+        when(mDownloader.downloadDataFromUri(any(URI.class), any(ResponseStreamHandler.class)))
+                .thenAnswer(new Answer<Object>() {
+
+                    @Override
+                    public Object answer(final InvocationOnMock invocation) throws Throwable {
+                        final ResponseStreamHandler<?> handler
+                                = (ResponseStreamHandler<?>) invocation.getArguments()[1];
+                        return handler.onResponseStream(
+                                new ByteArrayInputStream(ResponseFixtures.RAW_RESPONSE.getBytes())
+                        );
+                    }
+                });
+
+        // TODO : In every test it is possible to test exact value of the formal parameter
+        //        of the method that is called. For the simplicity "anyString()" check method
+        //        is used.
+    }
+
+    public void testParseCurrentWeatherCall() {
+        mServiceProvider.getCurrentWeatherReportByCity(mDownloader, URI.create(""));
+
+        verify(mDataParserMock, times(1)).parseCurrentWeather(any(InputStream.class));
+    }
+
+    public void testResponseIsNotCopiedIntoString() {
+        mServiceProvider.getCurrentWeatherReportByCity(mDownloader, URI.create(""));
+
+        verify(mDownloader, never()).downloadDataFromUri(any(URI.class));
+        verify(mDataParserMock, never()).parseCurrentWeather(anyString());
+        verify(mDataParserMock, never()).parseCurrentWeather(any(byte[].class));
+    }
+
+    public void testPerFieldParseMethodsAreNotCalled() {
+        mServiceProvider.getCurrentWeatherReportByCity(mDownloader, URI.create(""));
+
+        verify(mDataParserMock, never()).parseCityCoordinates(anyString());
+        verify(mDataParserMock, never()).parseSysInfo(anyString());
+        verify(mDataParserMock, never()).parseWeather(anyString());
+        verify(mDataParserMock, never()).parseMainInfo(anyString());
+        verify(mDataParserMock, never()).parseWind(anyString());
+        verify(mDataParserMock, never()).parseRain(anyString());
+        verify(mDataParserMock, never()).parseClouds(anyString());
+        verify(mDataParserMock, never()).parseDt(anyString());
+        verify(mDataParserMock, never()).parseId(anyString());
+        verify(mDataParserMock, never()).parseName(anyString());
+        verify(mDataParserMock, never()).parseCod(anyString());
+    }
+
+    public void testNotModifiedResponseIsNotParsed() {
+        final CacheValidator validator = CacheValidator.getInstance("\"etag\"", null);
+        // when downloader asks to download data conditionally - respond with "Not Modified"
+        when(mDownloader.downloadDataFromUri(
+                any(URI.class), any(CacheValidator.class), any(ResponseStreamHandler.class)))
+                .thenAnswer(new Answer<Object>() {
+
+                    @Override
+                    public Object answer(final InvocationOnMock invocation) throws Throwable {
+                        final ResponseStreamHandler<?> handler
+                                = (ResponseStreamHandler<?>) invocation.getArguments()[2];
+                        return DownloadResult.notModified(
+                                handler.onResponseFailed(),
+                                (CacheValidator) invocation.getArguments()[1]
+                        );
+                    }
+                });
+
+        final DownloadResult<CurrentWeatherVO> result
+                = mServiceProvider.getCurrentWeatherReportByCity(
+                mDownloader, URI.create(""), validator
+        );
+
+        assertThat("Result should be Not Modified", result.isNotModified(), is(true));
+        assertThat("Validator should be kept", result.getValidator(), is(validator));
+        verify(mDataParserMock, never()).parseCurrentWeather(any(InputStream.class));
+    }
+}
@@ -1,6 +1,6 @@
 package com.yuriy.weatherapp.business;
 
-import com.yuriy.weatherapp.ApplicationTest;
+import com.yuriy.weatherapp.ResponseFixtures;
 import com.yuriy.weatherapp.business.vo.CloudsVO;
 import com.yuriy.weatherapp.business.vo.CoordVO;
 import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
@@ -14,6 +14,8 @@ import junit.framework.TestCase;
 
 import org.json.JSONObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -28,18 +30,25 @@ import static org.hamcrest.MatcherAssert.assertThat;
  */
 public class JSONDataParserImplTest extends TestCase {
 
-    private DataParser mDataParser;
+    protected DataParser mDataParser;
 
     @Override
     public void setUp() throws Exception {
         super.setUp();
 
-        mDataParser = new JSONDataParserImpl();
+        mDataParser = createDataParser();
+    }
+
+    /**
+     * @return Implementation of the {@link com.yuriy.weatherapp.business.DataParser} to test.
+     */
+    protected DataParser createDataParser() {
+        return new JSONDataParserImpl();
     }
 
     public void testJSONFromRawDataShouldNotBeEmpty() {
         final JSONDataParserImpl parser = new JSONDataParserImpl();
-        final JSONObject jsonObject = parser.getJSONFromRawData(ApplicationTest.RAW_RESPONSE);
+        final JSONObject jsonObject = parser.getJSONFromRawData(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("JSON Object should not be null", jsonObject, notNullValue());
         assertTrue("JSON Object should not be empty", jsonObject.length() > 0);
@@ -83,8 +92,144 @@ public class JSONDataParserImplTest extends TestCase {
         assertTrue("JSON Object should be empty", jsonObject.length() == 0);
     }
 
+    public void testParseCurrentWeatherSuccess() {
+        final CurrentWeatherVO weatherVO
+                = mDataParser.parseCurrentWeather(ResponseFixtures.RAW_RESPONSE);
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("Latitude should be same as original",
+                weatherVO.getCoordVO().getLat(), is((double) 35));
+        assertThat("Country should be same as original",
+                weatherVO.getSysVO().getCountry(), is("JP"));
+        assertThat("Collection should be of size 1", weatherVO.getWeatherItemsSize(), is(1));
+        assertThat("Weather icon should be as original",
+                weatherVO.getWeatherItemAt(0).getIcon(), is("04n"));
+        assertThat("Temperature should be same as original",
+                weatherVO.getMainVO().getTemperature(), is(289.5));
+        assertThat("Wind Speed should be same as original",
+                weatherVO.getWindVO().getSpeed(), is(7.31));
+        assertThat("Precipitation should be same as original",
+                weatherVO.getRainVO().get3h(), is(0));
+        assertThat("Cloudiness should be same as original",
+                weatherVO.getCloudsVO().getAll(), is((double) 92));
+        assertThat("Data receive time should be same as original",
+                weatherVO.getDt(), is((double) 1369824698));
+        assertThat("City Id should be same as original", weatherVO.getCityId(), is(1851632));
+        assertThat("City Name should be same as original",
+                weatherVO.getCityName(), is("Shuzenji"));
+        assertThat("Weather Condition Code should be same as original",
+                weatherVO.getCod(), is(200));
+    }
+
+    public void testParseCurrentWeatherFailButInstanceNotNull() {
+        CurrentWeatherVO weatherVO = mDataParser.parseCurrentWeather((String) null);
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("Collection should be empty", weatherVO.getWeatherItemsSize(), is(0));
+        assertThat("City Name should be: '" + CurrentWeatherVO.DEFAULT_CITY_NAME + "'",
+                weatherVO.getCityName(), is(CurrentWeatherVO.DEFAULT_CITY_NAME));
+
+        weatherVO = mDataParser.parseCurrentWeather("");
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("Collection should be empty", weatherVO.getWeatherItemsSize(), is(0));
+        assertThat("City Name should be: '" + CurrentWeatherVO.DEFAULT_CITY_NAME + "'",
+                weatherVO.getCityName(), is(CurrentWeatherVO.DEFAULT_CITY_NAME));
+    }
+
+    public void testParseCurrentWeatherMalformedDtKeepsOtherRootValues() {
+        final CurrentWeatherVO weatherVO = mDataParser.parseCurrentWeather(
+                ResponseFixtures.RAW_RESPONSE.replace("\"dt\":1369824698", "\"dt\":\"now\"")
+        );
+
+        assertThat("Data receive time should be default",
+                weatherVO.getDt(), is(CurrentWeatherVO.DEFAULT_DT));
+        assertThat("City Id should be same as original", weatherVO.getCityId(), is(1851632));
+        assertThat("City Name should be same as original",
+                weatherVO.getCityName(), is("Shuzenji"));
+        assertThat("Weather Condition Code should be same as original",
+                weatherVO.getCod(), is(200));
+    }
+
+    public void testParseCurrentWeatherNotStringNameKeepsOtherValues() {
+        final CurrentWeatherVO weatherVO = mDataParser.parseCurrentWeather(
+                ResponseFixtures.RAW_RESPONSE.replace("\"name\":\"Shuzenji\"", "\"name\":true")
+        );
+
+        assertThat("City Id should be same as original", weatherVO.getCityId(), is(1851632));
+        assertThat("Temperature should be same as original",
+                weatherVO.getMainVO().getTemperature(), is(289.5));
+        assertThat("Weather Condition Code should be same as original",
+                weatherVO.getCod(), is(200));
+    }
+
+    public void testParseCurrentWeatherNotStringIconKeepsOtherValues() {
+        final CurrentWeatherVO weatherVO = mDataParser.parseCurrentWeather(
+                ResponseFixtures.RAW_RESPONSE.replace("\"icon\":\"04n\"", "\"icon\":{}")
+        );
+
+        assertThat("City Id should be same as original", weatherVO.getCityId(), is(1851632));
+        assertThat("City Name should be same as original",
+                weatherVO.getCityName(), is("Shuzenji"));
+        assertThat("Temperature should be same as original",
+                weatherVO.getMainVO().getTemperature(), is(289.5));
+    }
+
+    public void testParseCurrentWeatherFromBytesSuccess() throws Exception {
+        final CurrentWeatherVO weatherVO
+                = mDataParser.parseCurrentWeather(ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8"));
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("City Name should be same as original",
+                weatherVO.getCityName(), is("Shuzenji"));
+        assertThat("Temperature should be same as original",
+                weatherVO.getMainVO().getTemperature(), is(289.5));
+        assertThat("Weather icon should be as original",
+                weatherVO.getWeatherItemAt(0).getIcon(), is("04n"));
+    }
+
+    public void testParseCurrentWeatherFromStreamSuccess() throws Exception {
+        final CurrentWeatherVO weatherVO = mDataParser.parseCurrentWeather(
+                new ByteArrayInputStream(ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8"))
+        );
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("City Name should be same as original",
+                weatherVO.getCityName(), is("Shuzenji"));
+        assertThat("Temperature should be same as original",
+                weatherVO.getMainVO().getTemperature(), is(289.5));
+        assertThat("Weather icon should be as original",
+                weatherVO.getWeatherItemAt(0).getIcon(), is("04n"));
+    }
+
+    public void testParseCurrentWeatherFromBytesDecodesUTF8() throws Exception {
+        final String cityName = "Z\u00fcrich";
+        final CurrentWeatherVO weatherVO = mDataParser.parseCurrentWeather(
+                ("{\"name\":\"" + cityName + "\"}").getBytes("UTF-8")
+        );
+
+        assertThat("City Name should be decoded as UTF-8", weatherVO.getCityName(), is(cityName));
+    }
+
+    public void testParseCurrentWeatherFromNullBytesOrStreamButInstanceNotNull() {
+        CurrentWeatherVO weatherVO = mDataParser.parseCurrentWeather((byte[]) null);
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("Collection should be empty", weatherVO.getWeatherItemsSize(), is(0));
+
+        weatherVO = mDataParser.parseCurrentWeather((InputStream) null);
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("Collection should be empty", weatherVO.getWeatherItemsSize(), is(0));
+
+        weatherVO = mDataParser.parseCurrentWeather(new byte[0]);
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("Collection should be empty", weatherVO.getWeatherItemsSize(), is(0));
+    }
+
     public void testParseCoordSuccess() {
-        final CoordVO coordVO = mDataParser.parseCityCoordinates(ApplicationTest.RAW_RESPONSE);
+        final CoordVO coordVO = mDataParser.parseCityCoordinates(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("Instance should not be null", coordVO, notNullValue());
         assertThat("Latitude should be same as original", coordVO.getLat(), is((double) 35));
@@ -110,7 +255,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParseSysSuccess() {
-        final SysVO sysVO = mDataParser.parseSysInfo(ApplicationTest.RAW_RESPONSE);
+        final SysVO sysVO = mDataParser.parseSysInfo(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("Instance should not be null", sysVO, notNullValue());
         assertThat("Country should be same as original", sysVO.getCountry(), is("JP"));
@@ -143,7 +288,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParsWeatherItemsSuccess() {
-        final List<WeatherItem> weatherItems = mDataParser.parseWeather(ApplicationTest.RAW_RESPONSE);
+        final List<WeatherItem> weatherItems = mDataParser.parseWeather(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("Instance should not be null", weatherItems, notNullValue());
         assertThat("Collection should be of size 1", weatherItems.size(), is(1));
@@ -171,7 +316,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParseMainSuccess() {
-        final MainVO mainVO = mDataParser.parseMainInfo(ApplicationTest.RAW_RESPONSE);
+        final MainVO mainVO = mDataParser.parseMainInfo(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("Instance should not be null", mainVO, notNullValue());
         assertThat("Temperature should be same as original",
@@ -217,7 +362,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParseWindSuccess() {
-        final WindVO windVO = mDataParser.parseWind(ApplicationTest.RAW_RESPONSE);
+        final WindVO windVO = mDataParser.parseWind(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("Instance should not be null", windVO, notNullValue());
         assertThat("Wind Speed should be same as original",
@@ -245,7 +390,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParseRainSuccess() {
-        final RainVO rainVO = mDataParser.parseRain(ApplicationTest.RAW_RESPONSE);
+        final RainVO rainVO = mDataParser.parseRain(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("Instance should not be null", rainVO, notNullValue());
         assertThat("Precipitation should be same as original", rainVO.get3h(), is(0));
@@ -266,7 +411,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParseCloudsSuccess() {
-        final CloudsVO cloudsVO = mDataParser.parseClouds(ApplicationTest.RAW_RESPONSE);
+        final CloudsVO cloudsVO = mDataParser.parseClouds(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("Instance should not be null", cloudsVO, notNullValue());
         assertThat("Cloudiness should be same as original", cloudsVO.getAll(), is((double)92));
@@ -287,7 +432,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParseDTSuccess() {
-        final double dt = mDataParser.parseDt(ApplicationTest.RAW_RESPONSE);
+        final double dt = mDataParser.parseDt(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("Data receive time should be same as original", dt, is((double)1369824698));
     }
@@ -305,7 +450,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParseCityIdSuccess() {
-        final int cityId = mDataParser.parseId(ApplicationTest.RAW_RESPONSE);
+        final int cityId = mDataParser.parseId(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("City Id should be same as original", cityId, is(1851632));
     }
@@ -323,7 +468,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParseCityNameSuccess() {
-        final String cityName = mDataParser.parseName(ApplicationTest.RAW_RESPONSE);
+        final String cityName = mDataParser.parseName(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("City Name should be same as original", cityName, is("Shuzenji"));
     }
@@ -341,7 +486,7 @@ public class JSONDataParserImplTest extends TestCase {
     }
 
     public void testParseCodeSuccess() {
-        final int cod = mDataParser.parseCod(ApplicationTest.RAW_RESPONSE);
+        final int cod = mDataParser.parseCod(ResponseFixtures.RAW_RESPONSE);
 
         assertThat("Weather Condition Code should be same as original", cod, is(200));
     }
@@ -357,4 +502,30 @@ public class JSONDataParserImplTest extends TestCase {
         assertThat("Weather Condition Code should be: '" + CurrentWeatherVO.DEFAULT_COD + "'",
                 cod, is(CurrentWeatherVO.DEFAULT_COD));
     }
+
+    public void testParseCurrentWeatherGroupSuccess() throws Exception {
+        final List<CurrentWeatherVO> weatherVOs = mDataParser.parseCurrentWeatherGroup(
+                new ByteArrayInputStream(ResponseFixtures.RAW_GROUP_RESPONSE.getBytes("UTF-8"))
+        );
+
+        assertThat("Weather of every city should be parsed", weatherVOs.size(), is(2));
+        assertThat("First City Name should be same as original",
+                weatherVOs.get(0).getCityName(), is("Shuzenji"));
+        assertThat("First City Id should be same as original",
+                weatherVOs.get(0).getCityId(), is(1851632));
+        assertThat("Second City Name should be same as original",
+                weatherVOs.get(1).getCityName(), is("Berlin"));
+        assertThat("Second Weather icon should be as original",
+                weatherVOs.get(1).getWeatherItemAt(1).getIcon(), is("50d"));
+    }
+
+    public void testParseCurrentWeatherGroupFailButCollectionEmpty() {
+        assertThat("Collection of null data should be empty",
+                mDataParser.parseCurrentWeatherGroup((String) null).size(), is(0));
+        assertThat("Collection of single city data should be empty",
+                mDataParser.parseCurrentWeatherGroup(ResponseFixtures.RAW_RESPONSE).size(),
+                is(0));
+        assertThat("Collection of null stream should be empty",
+                mDataParser.parseCurrentWeatherGroup((InputStream) null).size(), is(0));
+    }
 }
@@ -0,0 +1,117 @@
+package com.yuriy.weatherapp.business;
+
+import com.yuriy.weatherapp.ResponseFixtures;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * Runs all the {@link com.yuriy.weatherapp.business.JSONDataParserImplTest} fixtures against
+ * the {@link com.yuriy.weatherapp.business.JSONStreamDataParserImpl}.
+ */
+public class JSONStreamDataParserImplTest extends JSONDataParserImplTest {
+
+    @Override
+    protected DataParser createDataParser() {
+        return new JSONStreamDataParserImpl();
+    }
+
+    public void testUnknownFieldsSkippedAndResultSameAsTreeParser() {
+        final CurrentWeatherVO streamVO
+                = mDataParser.parseCurrentWeather(ResponseFixtures.RAW_RESPONSE_WITH_UNKNOWN_FIELDS);
+        final CurrentWeatherVO treeVO = new JSONDataParserImpl().parseCurrentWeather(
+                ResponseFixtures.RAW_RESPONSE_WITH_UNKNOWN_FIELDS
+        );
+
+        assertThat("Instance should not be null", streamVO, notNullValue());
+        assertThat("City Name should be same as original",
+                streamVO.getCityName(), is("Berlin"));
+        assertThat("Collection should be of size 2", streamVO.getWeatherItemsSize(), is(2));
+        assertThat("Second Weather icon should be as original",
+                streamVO.getWeatherItemAt(1).getIcon(), is("50d"));
+
+        assertThat("Latitude should be same as tree parser",
+                streamVO.getCoordVO().getLat(), is(treeVO.getCoordVO().getLat()));
+        assertThat("Longitude should be same as tree parser",
+                streamVO.getCoordVO().getLon(), is(treeVO.getCoordVO().getLon()));
+        assertThat("Country should be same as tree parser",
+                streamVO.getSysVO().getCountry(), is(treeVO.getSysVO().getCountry()));
+        assertThat("Sunrise should be same as tree parser",
+                streamVO.getSysVO().getSunrise(), is(treeVO.getSysVO().getSunrise()));
+        assertThat("Sunset should be same as tree parser",
+                streamVO.getSysVO().getSunset(), is(treeVO.getSysVO().getSunset()));
+        assertThat("Collection size should be same as tree parser",
+                streamVO.getWeatherItemsSize(), is(treeVO.getWeatherItemsSize()));
+        for (int i = 0; i < streamVO.getWeatherItemsSize(); i++) {
+            assertThat("Weather Id should be same as tree parser",
+                    streamVO.getWeatherItemAt(i).getId(), is(treeVO.getWeatherItemAt(i).getId()));
+            assertThat("Weather main should be same as tree parser",
+                    streamVO.getWeatherItemAt(i).getMain(),
+                    is(treeVO.getWeatherItemAt(i).getMain()));
+            assertThat("Weather description should be same as tree parser",
+                    streamVO.getWeatherItemAt(i).getDescription(),
+                    is(treeVO.getWeatherItemAt(i).getDescription()));
+            assertThat("Weather icon should be same as tree parser",
+                    streamVO.getWeatherItemAt(i).getIcon(),
+                    is(treeVO.getWeatherItemAt(i).getIcon()));
+        }
+        assertThat("Temperature should be same as tree parser",
+                streamVO.getMainVO().getTemperature(), is(treeVO.getMainVO().getTemperature()));
+        assertThat("Humidity should be same as tree parser",
+                streamVO.getMainVO().getHumidity(), is(treeVO.getMainVO().getHumidity()));
+        assertThat("Pressure should be same as tree parser",
+                streamVO.getMainVO().getPressure(), is(treeVO.getMainVO().getPressure()));
+        assertThat("Min Temperature should be same as tree parser",
+                streamVO.getMainVO().getMinTemperature(),
+                is(treeVO.getMainVO().getMinTemperature()));
+        assertThat("Max Temperature should be same as tree parser",
+                streamVO.getMainVO().getMaxTemperature(),
+                is(treeVO.getMainVO().getMaxTemperature()));
+        assertThat("Wind Speed should be same as tree parser",
+                streamVO.getWindVO().getSpeed(), is(treeVO.getWindVO().getSpeed()));
+        assertThat("Wind Direction should be same as tree parser",
+                streamVO.getWindVO().getDeg(), is(treeVO.getWindVO().getDeg()));
+        assertThat("Precipitation should be same as tree parser",
+                streamVO.getRainVO().get3h(), is(treeVO.getRainVO().get3h()));
+        assertThat("Cloudiness should be same as tree parser",
+                streamVO.getCloudsVO().getAll(), is(treeVO.getCloudsVO().getAll()));
+        assertThat("Data receive time should be same as tree parser",
+                streamVO.getDt(), is(treeVO.getDt()));
+        assertThat("City Id should be same as tree parser",
+                streamVO.getCityId(), is(treeVO.getCityId()));
+        assertThat("City Name should be same as tree parser",
+                streamVO.getCityName(), is(treeVO.getCityName()));
+        assertThat("Weather Condition Code should be same as tree parser",
+                streamVO.getCod(), is(treeVO.getCod()));
+    }
+
+    public void testTruncatedGroupReturnsCompletelyReadCities() {
+        final String data = ResponseFixtures.RAW_GROUP_RESPONSE;
+        final List<CurrentWeatherVO> weatherVOs
+                = mDataParser.parseCurrentWeatherGroup(data.substring(0, data.length() - 40));
+
+        assertThat("Only completely read city should be returned", weatherVOs.size(), is(1));
+        assertThat("City Name should be same as original",
+                weatherVOs.get(0).getCityName(), is("Shuzenji"));
+    }
+
+    public void testMalformedDataReturnsDefaultInstance() {
+        final CurrentWeatherVO weatherVO = mDataParser.parseCurrentWeather("{\"coord\":{\"lon\":");
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("Collection should be empty", weatherVO.getWeatherItemsSize(), is(0));
+        assertThat("City Name should be: '" + CurrentWeatherVO.DEFAULT_CITY_NAME + "'",
+                weatherVO.getCityName(), is(CurrentWeatherVO.DEFAULT_CITY_NAME));
+    }
+}
@@ -0,0 +1,112 @@
+package com.yuriy.weatherapp.business;
+
+import junit.framework.TestCase;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class TemperatureConverterTest extends TestCase {
+
+    private static final double TEMP_CONVERSION_FRACTION = 273.15;
+
+    public void testConvertKelvin() {
+        assertThat("Fahrenheit value should be rounded",
+                TemperatureConverter.kelvinToFahrenheit(259.65), is(7.7));
+        assertThat("Celsius value should be rounded",
+                TemperatureConverter.kelvinToCelsius(259.65), is(-13.5));
+        assertThat("Celsius hundredths should be rounded",
+                TemperatureConverter.kelvinToCelsiusHundredths(259.65), is(-1350L));
+        assertThat("Fahrenheit hundredths should be rounded",
+                TemperatureConverter.kelvinToFahrenheitHundredths(259.65), is(770L));
+    }
+
+    public void testHalfRoundedAwayFromZero() {
+        // 0.125 and -0.125 are exact binary values
+        assertThat("Positive half should be rounded up",
+                TemperatureConverter.kelvinToCelsiusHundredths(TEMP_CONVERSION_FRACTION + 0.125),
+                is(expectedCelsiusHundredths(TEMP_CONVERSION_FRACTION + 0.125)));
+        assertThat("Negative half should be rounded down",
+                TemperatureConverter.kelvinToCelsiusHundredths(TEMP_CONVERSION_FRACTION - 0.125),
+                is(expectedCelsiusHundredths(TEMP_CONVERSION_FRACTION - 0.125)));
+    }
+
+    public void testInvalidValues() {
+        assertThat("NaN should be converted to NaN",
+                Double.isNaN(TemperatureConverter.kelvinToCelsius(Double.NaN)), is(true));
+        assertThat("Infinity should be converted to NaN",
+                Double.isNaN(TemperatureConverter.kelvinToFahrenheit(Double.POSITIVE_INFINITY)),
+                is(true));
+        assertThat("NaN should not be converted to hundredths",
+                TemperatureConverter.kelvinToCelsiusHundredths(Double.NaN),
+                is(TemperatureConverter.INVALID_HUNDREDTHS));
+    }
+
+    public void testOutOfRangeValuesMatchBigDecimal() {
+        final double kelvin = 1.0E12 + 0.125;
+        assertThat("Huge value should not be converted to hundredths",
+                TemperatureConverter.kelvinToCelsiusHundredths(kelvin),
+                is(TemperatureConverter.INVALID_HUNDREDTHS));
+        assertThat("Huge value should be rounded as BigDecimal does",
+                TemperatureConverter.kelvinToCelsius(kelvin), is(expectedCelsius(kelvin)));
+    }
+
+    public void testRealisticRangeMatchesBigDecimal() {
+        // Every hundredth of Kelvin from 150 to 350
+        for (int i = 15000; i <= 35000; i++) {
+            assertMatchesBigDecimal(i / 100.0);
+        }
+        final Random random = new Random(20141124);
+        for (int i = 0; i < 200000; i++) {
+            assertMatchesBigDecimal(150 + random.nextDouble() * 200);
+        }
+        // Values at and around the halves of the hundredths
+        for (int i = -20000; i <= 20000; i++) {
+            final double half = (i + 0.5) / 100.0;
+            assertMatchesBigDecimal(half + TEMP_CONVERSION_FRACTION);
+            assertMatchesBigDecimal(Math.nextUp(half) + TEMP_CONVERSION_FRACTION);
+            assertMatchesBigDecimal(Math.nextAfter(half, 0) + TEMP_CONVERSION_FRACTION);
+        }
+    }
+
+    private static void assertMatchesBigDecimal(final double kelvin) {
+        final double celsius = TemperatureConverter.kelvinToCelsius(kelvin);
+        final double fahrenheit = TemperatureConverter.kelvinToFahrenheit(kelvin);
+        if (Double.doubleToLongBits(celsius) != Double.doubleToLongBits(expectedCelsius(kelvin))
+                || Double.doubleToLongBits(fahrenheit)
+                != Double.doubleToLongBits(expectedFahrenheit(kelvin))) {
+            fail("Conversion of " + kelvin + " should match BigDecimal, but is "
+                    + celsius + " and " + fahrenheit);
+        }
+        if (TemperatureConverter.kelvinToCelsiusHundredths(kelvin) / 100.0 != celsius) {
+            fail("Celsius hundredths of " + kelvin + " should match value " + celsius);
+        }
+        if (TemperatureConverter.kelvinToFahrenheitHundredths(kelvin) / 100.0 != fahrenheit) {
+            fail("Fahrenheit hundredths of " + kelvin + " should match value " + fahrenheit);
+        }
+    }
+
+    private static long expectedCelsiusHundredths(final double kelvin) {
+        return new BigDecimal(kelvin - TEMP_CONVERSION_FRACTION)
+                .setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    private static double expectedCelsius(final double kelvin) {
+        return new BigDecimal(kelvin - TEMP_CONVERSION_FRACTION)
+                .setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private static double expectedFahrenheit(final double kelvin) {
+        return new BigDecimal(((kelvin - TEMP_CONVERSION_FRACTION) * 9.0 / 5.0) + 32)
+                .setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+}
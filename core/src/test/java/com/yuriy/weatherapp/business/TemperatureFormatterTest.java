@@ -0,0 +1,65 @@
+package com.yuriy.weatherapp.business;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class TemperatureFormatterTest extends TestCase {
+
+    private static final String SUFFIX = "C";
+
+    private TemperatureFormatter mFormatter;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mFormatter = TemperatureFormatter.getInstance();
+    }
+
+    public void testFormat() {
+        assertThat("Fraction should be kept", mFormatter.format(-1350, SUFFIX), is("-13.5 C"));
+        assertThat("Zero fraction should be kept", mFormatter.format(2000, SUFFIX), is("20.0 C"));
+        assertThat("Two digits should be kept", mFormatter.format(5, SUFFIX), is("0.05 C"));
+        assertThat("Zero should be formatted", mFormatter.format(0, SUFFIX), is("0.0 C"));
+    }
+
+    public void testFormatMatchesStringValueOf() {
+        // Every hundredth of any realistic Temperature
+        for (long i = -30000; i <= 30000; i++) {
+            assertMatchesStringValueOf(i);
+        }
+        assertMatchesStringValueOf(999999999L);
+        assertMatchesStringValueOf(-999999999L);
+        assertMatchesStringValueOf(1000000000L);
+        assertMatchesStringValueOf(123456789012L);
+    }
+
+    public void testLastValueCached() {
+        final String value = mFormatter.format(2015, SUFFIX);
+
+        assertThat("Same value should be cached",
+                mFormatter.format(2015, "" + 'C'), sameInstance(value));
+        assertThat("Another suffix should be formatted",
+                mFormatter.format(2015, "F"), is("20.15 F"));
+        assertThat("Another value should be formatted",
+                mFormatter.format(2016, "F"), is("20.16 F"));
+    }
+
+    private void assertMatchesStringValueOf(final long hundredths) {
+        final String expected = String.valueOf(hundredths / 100.0) + " " + SUFFIX;
+        final String value = mFormatter.format(hundredths, SUFFIX);
+        if (!expected.equals(value)) {
+            fail("Hundredths " + hundredths + " should be formatted as " + expected
+                    + ", but is " + value);
+        }
+    }
+}
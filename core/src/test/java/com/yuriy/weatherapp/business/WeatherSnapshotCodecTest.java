@@ -0,0 +1,175 @@
+package com.yuriy.weatherapp.business;
+
+import com.yuriy.weatherapp.ResponseFixtures;
+import com.yuriy.weatherapp.business.vo.CurrentWeatherVO;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class WeatherSnapshotCodecTest extends TestCase {
+
+    private static final String KYIV = "\u041a\u0438\u0457\u0432";
+
+    private CurrentWeatherVO mWeatherVO;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mWeatherVO = new JSONStreamDataParserImpl().parseCurrentWeather(
+                ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8")
+        );
+    }
+
+    public void testRoundTrip() {
+        final CurrentWeatherVO weatherVO = WeatherSnapshotCodec.decode(
+                WeatherSnapshotCodec.encodeToBytes(mWeatherVO)
+        );
+
+        assertThat("Instance should not be null", weatherVO, notNullValue());
+        assertThat("City name should be same as original",
+                weatherVO.getCityName(), is("Shuzenji"));
+        assertThat("City id should be same as original", weatherVO.getCityId(), is(1851632));
+        assertThat("Time should be same as original", weatherVO.getDt(), is(1369824698.0));
+        assertThat("Longitude should be same as original",
+                weatherVO.getCoordVO().getLon(), is(139.0));
+        assertThat("Sunset should be same as original",
+                weatherVO.getSysVO().getSunset(), is(1369821049L));
+        assertThat("Weather description should be same as original",
+                weatherVO.getWeatherItemAt(0).getDescription(), is("overcast clouds"));
+        assertThat("Max temperature should be same as original",
+                weatherVO.getMainVO().getMaxTemperature(), is(292.04));
+        assertThat("Wind direction should be same as original",
+                weatherVO.getWindVO().getDeg(), is(187.002));
+        assertThat("Cloudiness should be same as original",
+                weatherVO.getCloudsVO().getAll(), is(92.0));
+    }
+
+    public void testNotAsciiStringsRoundTrip() {
+        // Kyiv in Ukrainian
+        mWeatherVO.setCityName(KYIV);
+
+        final CurrentWeatherVO weatherVO = WeatherSnapshotCodec.decode(
+                WeatherSnapshotCodec.encodeToBytes(mWeatherVO)
+        );
+
+        assertThat("City name should be same as original", weatherVO.getCityName(), is(KYIV));
+    }
+
+    public void testManyWeatherItemsGrowBuffer() {
+        for (int i = 0; i < 50; i++) {
+            mWeatherVO.addWeatherItem(mWeatherVO.getWeatherItemAt(0));
+        }
+
+        final CurrentWeatherVO weatherVO = WeatherSnapshotCodec.decode(
+                WeatherSnapshotCodec.encodeToBytes(mWeatherVO)
+        );
+
+        assertThat("All Weather items should be decoded", weatherVO.getWeatherItemsSize(), is(51));
+    }
+
+    public void testSnapshotsDecodedOneAfterAnother() {
+        final byte[] first = WeatherSnapshotCodec.encodeToBytes(mWeatherVO);
+        mWeatherVO.setCityName("Berlin");
+        final byte[] second = WeatherSnapshotCodec.encodeToBytes(mWeatherVO);
+        final ByteBuffer buffer = ByteBuffer.allocate(first.length + second.length);
+        buffer.put(first).put(second).flip();
+
+        assertThat("First snapshot should be decoded",
+                WeatherSnapshotCodec.decode(buffer).getCityName(), is("Shuzenji"));
+        assertThat("Second snapshot should be decoded",
+                WeatherSnapshotCodec.decode(buffer).getCityName(), is("Berlin"));
+        assertThat("Buffer should be consumed", buffer.hasRemaining(), is(false));
+    }
+
+    public void testFieldsOfNewerVersionSkipped() {
+        final byte[] snapshot = WeatherSnapshotCodec.encodeToBytes(mWeatherVO);
+        // Newer version appends a field to the end of the payload
+        final ByteBuffer buffer = ByteBuffer.allocate(snapshot.length + 8 + 1);
+        buffer.put(snapshot).putLong(42).put((byte) 7).flip();
+        buffer.putShort(2, (short) (WeatherSnapshotCodec.VERSION + 1));
+        buffer.putInt(4, buffer.getInt(4) + 8);
+
+        final CurrentWeatherVO weatherVO = WeatherSnapshotCodec.decode(buffer);
+
+        assertThat("Snapshot of the newer version should be decoded",
+                weatherVO.getCityName(), is("Shuzenji"));
+        assertThat("Unknown fields should be skipped", buffer.remaining(), is(1));
+    }
+
+    public void testDirectBufferDecoded() {
+        final byte[] snapshot = WeatherSnapshotCodec.encodeToBytes(mWeatherVO);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(snapshot.length);
+        buffer.put(snapshot).flip();
+
+        assertThat("Snapshot should be decoded from the direct buffer",
+                WeatherSnapshotCodec.decode(buffer).getCityName(), is("Shuzenji"));
+    }
+
+    public void testTruncatedSnapshotNotDecoded() {
+        final byte[] snapshot = WeatherSnapshotCodec.encodeToBytes(mWeatherVO);
+        final ByteBuffer buffer = ByteBuffer.wrap(snapshot, 0, snapshot.length - 1);
+
+        assertThat("Truncated snapshot should not be decoded",
+                WeatherSnapshotCodec.decode(buffer), nullValue());
+        assertThat("Position should not be changed", buffer.position(), is(0));
+    }
+
+    public void testMalformedPayloadNotDecoded() {
+        final ByteBuffer buffer = ByteBuffer.wrap(WeatherSnapshotCodec.encodeToBytes(mWeatherVO));
+        // Payload claims to be shorter than fields of the current version
+        buffer.putInt(4, 10);
+
+        assertThat("Malformed snapshot should not be decoded",
+                WeatherSnapshotCodec.decode(buffer), nullValue());
+    }
+
+    public void testUnknownFormatNotDecoded() {
+        assertThat("Not a snapshot should not be decoded",
+                WeatherSnapshotCodec.decode(ResponseFixtures.RAW_RESPONSE.getBytes()),
+                nullValue());
+        assertThat("Empty bytes should not be decoded",
+                WeatherSnapshotCodec.decode(new byte[0]), nullValue());
+        assertThat("Null bytes should not be decoded",
+                WeatherSnapshotCodec.decode((byte[]) null), nullValue());
+    }
+
+    public void testSnapshotSmallerThanSerializedAndJSON() throws Exception {
+        assertSnapshotSmallerThanSerializedAndJSON(ResponseFixtures.RAW_RESPONSE);
+        assertSnapshotSmallerThanSerializedAndJSON(
+                ResponseFixtures.RAW_RESPONSE_WITH_UNKNOWN_FIELDS
+        );
+    }
+
+    private static void assertSnapshotSmallerThanSerializedAndJSON(final String response)
+            throws Exception {
+        final byte[] json = response.getBytes("UTF-8");
+        final CurrentWeatherVO weatherVO = new JSONStreamDataParserImpl().parseCurrentWeather(json);
+        final int snapshotSize = WeatherSnapshotCodec.encodeToBytes(weatherVO).length;
+        final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+        final ObjectOutputStream outputStream = new ObjectOutputStream(byteStream);
+        outputStream.writeObject(weatherVO);
+        outputStream.close();
+
+        assertThat("Snapshot of " + weatherVO.getCityName()
+                        + " should be smaller than serialized form",
+                snapshotSize, lessThan(byteStream.size()));
+        assertThat("Snapshot of " + weatherVO.getCityName() + " should be smaller than JSON",
+                snapshotSize, lessThan(json.length));
+    }
+}
@@ -58,4 +58,13 @@ public class CloudsVOTest extends TestCase {
     public void testGettersShouldReturnCorrectValues() {
         assertThat("Cloudiness should be same as original", mCloudsVO.getAll(), is(ALL));
     }
+
+    public void testWriteReadRoundTrip() {
+        final ValueQueue values = new ValueQueue();
+        mCloudsVO.writeTo(values);
+        final CloudsVO cloudsVO = CloudsVO.readFrom(values);
+
+        assertThat("Cloudiness should be same as original", cloudsVO.getAll(), is(ALL));
+        assertThat("All values should be read", values.size(), is(0));
+    }
 }
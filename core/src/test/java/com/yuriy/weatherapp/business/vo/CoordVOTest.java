@@ -68,4 +68,14 @@ public class CoordVOTest extends TestCase {
         assertThat("Latitude should be same as original", mCoordVO.getLat(), is(LAT));
         assertThat("Longitude should be same as original", mCoordVO.getLon(), is(LON));
     }
+
+    public void testWriteReadRoundTrip() {
+        final ValueQueue values = new ValueQueue();
+        mCoordVO.writeTo(values);
+        final CoordVO coordVO = CoordVO.readFrom(values);
+
+        assertThat("Latitude should be same as original", coordVO.getLat(), is(LAT));
+        assertThat("Longitude should be same as original", coordVO.getLon(), is(LON));
+        assertThat("All values should be read", values.size(), is(0));
+    }
 }
@@ -1,5 +1,8 @@
 package com.yuriy.weatherapp.business.vo;
 
+import com.yuriy.weatherapp.ResponseFixtures;
+import com.yuriy.weatherapp.business.JSONStreamDataParserImpl;
+
 import junit.framework.TestCase;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -314,4 +317,50 @@ public class CurrentWeatherVOTest extends TestCase {
         assertThat("City Name should be default",
                 mWeatherVO.getCod(), is(CurrentWeatherVO.DEFAULT_COD));
     }
+
+    public void testWriteReadRoundTrip() {
+        mWeatherVO = new JSONStreamDataParserImpl().parseCurrentWeather(
+                ResponseFixtures.RAW_RESPONSE.getBytes()
+        );
+        final ValueQueue values = new ValueQueue();
+        mWeatherVO.writeTo(values);
+        final CurrentWeatherVO weatherVO = CurrentWeatherVO.readFrom(values);
+
+        assertThat("All values should be read", values.size(), is(0));
+        assertThat("City name should be same as original",
+                weatherVO.getCityName(), is(mWeatherVO.getCityName()));
+        assertThat("City id should be same as original",
+                weatherVO.getCityId(), is(mWeatherVO.getCityId()));
+        assertThat("Time should be same as original", weatherVO.getDt(), is(mWeatherVO.getDt()));
+        assertThat("Code should be same as original", weatherVO.getCod(), is(mWeatherVO.getCod()));
+        assertThat("Latitude should be same as original",
+                weatherVO.getCoordVO().getLat(), is(mWeatherVO.getCoordVO().getLat()));
+        assertThat("Country should be same as original",
+                weatherVO.getSysVO().getCountry(), is(mWeatherVO.getSysVO().getCountry()));
+        assertThat("Temperature should be same as original",
+                weatherVO.getMainVO().getTemperature(),
+                is(mWeatherVO.getMainVO().getTemperature()));
+        assertThat("Wind speed should be same as original",
+                weatherVO.getWindVO().getSpeed(), is(mWeatherVO.getWindVO().getSpeed()));
+        assertThat("Cloudiness should be same as original",
+                weatherVO.getCloudsVO().getAll(), is(mWeatherVO.getCloudsVO().getAll()));
+        assertThat("Rain should be same as original",
+                weatherVO.getRainVO().get3h(), is(mWeatherVO.getRainVO().get3h()));
+        assertThat("Weather items size should be same as original",
+                weatherVO.getWeatherItemsSize(), is(mWeatherVO.getWeatherItemsSize()));
+        assertThat("Weather icon should be same as original",
+                weatherVO.getWeatherItemAt(0).getIcon(),
+                is(mWeatherVO.getWeatherItemAt(0).getIcon()));
+    }
+
+    public void testWriteReadDefaultInstance() {
+        final ValueQueue values = new ValueQueue();
+        mWeatherVO.writeTo(values);
+        final CurrentWeatherVO weatherVO = CurrentWeatherVO.readFrom(values);
+
+        assertThat("All values should be read", values.size(), is(0));
+        assertThat("City name should be default",
+                weatherVO.getCityName(), is(CurrentWeatherVO.DEFAULT_CITY_NAME));
+        assertThat("Weather items should be empty", weatherVO.getWeatherItemsSize(), is(0));
+    }
 }
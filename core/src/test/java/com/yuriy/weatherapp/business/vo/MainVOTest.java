@@ -71,4 +71,22 @@ public class MainVOTest extends TestCase {
         assertThat("Min Temperature should be same as original",
                 mMainVO.getMinTemperature(), is(MIN_TEMPERATURE));
     }
+
+    public void testWriteReadRoundTrip() {
+        final ValueQueue values = new ValueQueue();
+        mMainVO.writeTo(values);
+        final MainVO mainVO = MainVO.readFrom(values);
+
+        assertThat("Temperature should be same as original",
+                mainVO.getTemperature(), is(mMainVO.getTemperature()));
+        assertThat("Humidity should be same as original",
+                mainVO.getHumidity(), is(mMainVO.getHumidity()));
+        assertThat("Pressure should be same as original",
+                mainVO.getPressure(), is(mMainVO.getPressure()));
+        assertThat("Min temperature should be same as original",
+                mainVO.getMinTemperature(), is(mMainVO.getMinTemperature()));
+        assertThat("Max temperature should be same as original",
+                mainVO.getMaxTemperature(), is(mMainVO.getMaxTemperature()));
+        assertThat("All values should be read", values.size(), is(0));
+    }
 }
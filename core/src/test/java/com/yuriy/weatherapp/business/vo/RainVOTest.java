@@ -49,4 +49,13 @@ public class RainVOTest extends TestCase {
     public void testGettersShouldReturnCorrectValues() {
         assertThat("Precipitation should be same as original", mRainVO.get3h(), is(_3H));
     }
+
+    public void testWriteReadRoundTrip() {
+        final ValueQueue values = new ValueQueue();
+        mRainVO.writeTo(values);
+        final RainVO rainVO = RainVO.readFrom(values);
+
+        assertThat("Precipitation should be same as original", rainVO.get3h(), is(_3H));
+        assertThat("All values should be read", values.size(), is(0));
+    }
 }
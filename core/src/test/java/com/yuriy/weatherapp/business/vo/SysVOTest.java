@@ -61,4 +61,16 @@ public class SysVOTest extends TestCase {
         assertThat("Sunrise time should be same as original", mSysVO.getSunrise(), is(SUNRISE));
         assertThat("sunset should be same as original", mSysVO.getSunset(), is(SUNSET));
     }
+
+    public void testWriteReadRoundTrip() {
+        final ValueQueue values = new ValueQueue();
+        mSysVO.writeTo(values);
+        final SysVO sysVO = SysVO.readFrom(values);
+
+        assertThat("Country should be same as original",
+                sysVO.getCountry(), is(COUNTRY_ABBREVIATION));
+        assertThat("Sunrise should be same as original", sysVO.getSunrise(), is(SUNRISE));
+        assertThat("Sunset should be same as original", sysVO.getSunset(), is(SUNSET));
+        assertThat("All values should be read", values.size(), is(0));
+    }
 }
@@ -0,0 +1,66 @@
+package com.yuriy.weatherapp.business.vo;
+
+import java.util.LinkedList;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * In-memory FIFO of the written values, stands for the Android Parcel in tests.
+ * Reading of the value of the another type than written one fails.
+ */
+public class ValueQueue implements ValueWriter, ValueReader {
+
+    private final LinkedList<Object> mValues = new LinkedList<Object>();
+
+    @Override
+    public void writeInt(final int value) {
+        mValues.add(value);
+    }
+
+    @Override
+    public void writeLong(final long value) {
+        mValues.add(value);
+    }
+
+    @Override
+    public void writeDouble(final double value) {
+        mValues.add(value);
+    }
+
+    @Override
+    public void writeString(final String value) {
+        mValues.add(value);
+    }
+
+    @Override
+    public int readInt() {
+        return (Integer) mValues.removeFirst();
+    }
+
+    @Override
+    public long readLong() {
+        return (Long) mValues.removeFirst();
+    }
+
+    @Override
+    public double readDouble() {
+        return (Double) mValues.removeFirst();
+    }
+
+    @Override
+    public String readString() {
+        return (String) mValues.removeFirst();
+    }
+
+    /**
+     * @return Number of the values which are not read yet.
+     */
+    public int size() {
+        return mValues.size();
+    }
+}
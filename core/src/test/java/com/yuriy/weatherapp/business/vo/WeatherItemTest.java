@@ -67,4 +67,17 @@ public class WeatherItemTest extends TestCase {
                 mWeatherItem.getDescription(), is(DESCRIPTION));
         assertThat("Icon should be same as original", mWeatherItem.getIcon(), is(ICON));
     }
+
+    public void testWriteReadRoundTrip() {
+        final ValueQueue values = new ValueQueue();
+        mWeatherItem.writeTo(values);
+        final WeatherItem weatherItem = WeatherItem.readFrom(values);
+
+        assertThat("Id should be same as original", weatherItem.getId(), is(ID));
+        assertThat("Main should be same as original", weatherItem.getMain(), is(MAIN));
+        assertThat("Description should be same as original",
+                weatherItem.getDescription(), is(DESCRIPTION));
+        assertThat("Icon should be same as original", weatherItem.getIcon(), is(ICON));
+        assertThat("All values should be read", values.size(), is(0));
+    }
 }
@@ -53,4 +53,14 @@ public class WindVOTest extends TestCase {
         assertThat("Wind speed should be same as original", mWindVO.getSpeed(), is(WIND));
         assertThat("Longitude should be same as original", mWindVO.getDeg(), is(DEG));
     }
+
+    public void testWriteReadRoundTrip() {
+        final ValueQueue values = new ValueQueue();
+        mWindVO.writeTo(values);
+        final WindVO windVO = WindVO.readFrom(values);
+
+        assertThat("Speed should be same as original", windVO.getSpeed(), is(WIND));
+        assertThat("Direction should be same as original", windVO.getDeg(), is(DEG));
+        assertThat("All values should be read", values.size(), is(0));
+    }
 }
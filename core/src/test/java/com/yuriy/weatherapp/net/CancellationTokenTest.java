@@ -0,0 +1,66 @@
+package com.yuriy.weatherapp.net;
+
+import junit.framework.TestCase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class CancellationTokenTest extends TestCase {
+
+    private CancellationToken mToken;
+
+    private AtomicInteger mCancelCalls;
+
+    private Runnable mListener;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mToken = CancellationToken.getInstance();
+        mCancelCalls = new AtomicInteger();
+        mListener = new Runnable() {
+
+            @Override
+            public void run() {
+                mCancelCalls.incrementAndGet();
+            }
+        };
+    }
+
+    public void testNewTokenNotCanceled() {
+        assertThat("New token should not be canceled", mToken.isCanceled(), is(false));
+    }
+
+    public void testListenerCalledOnceOnCancel() {
+        mToken.setOnCancelListener(mListener);
+        mToken.cancel();
+        mToken.cancel();
+
+        assertThat("Token should be canceled", mToken.isCanceled(), is(true));
+        assertThat("Listener should be called once", mCancelCalls.get(), is(1));
+    }
+
+    public void testListenerCalledImmediatelyWhenCanceled() {
+        mToken.cancel();
+        mToken.setOnCancelListener(mListener);
+
+        assertThat("Listener should be called immediately", mCancelCalls.get(), is(1));
+    }
+
+    public void testRemovedListenerNotCalled() {
+        mToken.setOnCancelListener(mListener);
+        mToken.setOnCancelListener(null);
+        mToken.cancel();
+
+        assertThat("Removed listener should not be called", mCancelCalls.get(), is(0));
+    }
+}
@@ -0,0 +1,143 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.ResponseFixtures;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/23/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class DiskResponseCacheTest extends TestCase {
+
+    private static final String KEY = "http://api.openweathermap.org/data/2.5/weather?q=London,uk";
+
+    private static final String ANOTHER_KEY
+            = "http://api.openweathermap.org/data/2.5/weather?q=Kyiv,ua";
+
+    private static final long FETCH_TIME = 1416600000000L;
+
+    private File mDirectory;
+
+    private DiskResponseCache mCache;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mDirectory = File.createTempFile("responses", "");
+        assertTrue(mDirectory.delete());
+        mCache = new DiskResponseCache(mDirectory, DiskResponseCache.DEFAULT_MAX_SIZE_BYTES);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        mCache.clear();
+        mDirectory.delete();
+
+        super.tearDown();
+    }
+
+    public void testPutAndGet() throws Exception {
+        mCache.put(KEY, createResponse(ResponseFixtures.RAW_RESPONSE, FETCH_TIME));
+
+        final CachedResponse response = mCache.get(KEY);
+
+        assertThat("Response should be cached", response, notNullValue());
+        assertThat("Body should be same as original",
+                new String(response.getBody(), "UTF-8"), is(ResponseFixtures.RAW_RESPONSE));
+        assertThat("Fetch time should be same as original",
+                response.getFetchTime(), is(FETCH_TIME));
+        assertThat("Validator should be same as original",
+                response.getValidator(), is(CacheValidator.getInstance("\"abc\"", "")));
+    }
+
+    public void testResponseSurvivesNewInstance() throws Exception {
+        mCache.put(KEY, createResponse(ResponseFixtures.RAW_RESPONSE, FETCH_TIME));
+
+        final DiskResponseCache cache = new DiskResponseCache(
+                mDirectory, DiskResponseCache.DEFAULT_MAX_SIZE_BYTES
+        );
+
+        assertThat("Response should be read by the new instance of the cache",
+                cache.get(KEY), notNullValue());
+    }
+
+    public void testGetMissing() {
+        assertThat("Missing response should be null", mCache.get(KEY), nullValue());
+        assertThat("Response of the null key should be null", mCache.get(null), nullValue());
+    }
+
+    public void testRevalidateKeepsBody() throws Exception {
+        mCache.put(KEY, createResponse(ResponseFixtures.RAW_RESPONSE, FETCH_TIME));
+
+        final CacheValidator validator = CacheValidator.getInstance("\"def\"", "");
+        mCache.revalidate(KEY, validator, FETCH_TIME + 1000);
+
+        final CachedResponse response = mCache.get(KEY);
+        assertThat("Body should be kept",
+                new String(response.getBody(), "UTF-8"), is(ResponseFixtures.RAW_RESPONSE));
+        assertThat("Fetch time should be updated",
+                response.getFetchTime(), is(FETCH_TIME + 1000));
+        assertThat("Validator should be updated", response.getValidator(), is(validator));
+    }
+
+    public void testRevalidateMissingDoesNothing() {
+        mCache.revalidate(KEY, CacheValidator.getDefaultInstance(), FETCH_TIME);
+
+        assertThat("Missing response should not be created", mCache.get(KEY), nullValue());
+    }
+
+    public void testRemove() throws Exception {
+        mCache.put(KEY, createResponse(ResponseFixtures.RAW_RESPONSE, FETCH_TIME));
+        mCache.remove(KEY);
+
+        assertThat("Removed response should be null", mCache.get(KEY), nullValue());
+        assertThat("Size should be 0", mCache.getSize(), is(0L));
+    }
+
+    public void testLeastRecentlyUsedEvicted() throws Exception {
+        mCache.put(KEY, createResponse(ResponseFixtures.RAW_RESPONSE, FETCH_TIME));
+        final long size = mCache.getSize();
+
+        // Room for only one response
+        mCache = new DiskResponseCache(mDirectory, size + size / 2);
+        assertTrue(mDirectory.listFiles()[0].setLastModified(FETCH_TIME));
+        mCache.put(ANOTHER_KEY, createResponse(ResponseFixtures.RAW_RESPONSE, FETCH_TIME));
+
+        assertThat("Least recently used response should be evicted",
+                mCache.get(KEY), nullValue());
+        assertThat("Most recently used response should be kept",
+                mCache.get(ANOTHER_KEY), notNullValue());
+        assertThat("Size should be within maximum", mCache.getSize() <= size + size / 2, is(true));
+    }
+
+    public void testCorruptedFileRemoved() throws Exception {
+        mCache.put(KEY, createResponse(ResponseFixtures.RAW_RESPONSE, FETCH_TIME));
+
+        final File file = mDirectory.listFiles()[0];
+        final FileOutputStream outputStream = new FileOutputStream(file);
+        outputStream.write(new byte[]{1, 2, 3});
+        outputStream.close();
+
+        assertThat("Corrupted response should be null", mCache.get(KEY), nullValue());
+        assertThat("Corrupted file should be removed", file.exists(), is(false));
+    }
+
+    private static CachedResponse createResponse(final String body, final long fetchTime)
+            throws Exception {
+        return CachedResponse.getInstance(
+                body.getBytes("UTF-8"), CacheValidator.getInstance("\"abc\"", null), fetchTime
+        );
+    }
+}
@@ -0,0 +1,132 @@
+package com.yuriy.weatherapp.net;
+
+import junit.framework.TestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class DownloadExecutorTest extends TestCase {
+
+    private DownloadExecutor mExecutor;
+
+    private CountDownLatch mRelease;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mExecutor = new DownloadExecutor(1, 1, 1, 1);
+        mRelease = new CountDownLatch(1);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        mRelease.countDown();
+        mExecutor.shutdown();
+        mExecutor.awaitTermination(5, TimeUnit.SECONDS);
+
+        super.tearDown();
+    }
+
+    public void testSlowIconDoesNotDelayData() throws Exception {
+        final CountDownLatch iconStarted = new CountDownLatch(1);
+        mExecutor.execute(DownloadExecutor.Lane.ICON, new BlockingDownload(iconStarted));
+        assertThat("Icon download should be started",
+                iconStarted.await(5, TimeUnit.SECONDS), is(true));
+
+        final CountDownLatch dataDone = new CountDownLatch(1);
+        mExecutor.execute(DownloadExecutor.Lane.DATA, new Runnable() {
+
+            @Override
+            public void run() {
+                dataDone.countDown();
+            }
+        });
+
+        assertThat("Data download should be completed while icon download is blocked",
+                dataDone.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    public void testFullQueueRejectsDownload() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        assertThat("Download should be accepted",
+                mExecutor.execute(DownloadExecutor.Lane.ICON, new BlockingDownload(started)),
+                is(true));
+        assertThat("Download should be started", started.await(5, TimeUnit.SECONDS), is(true));
+
+        assertThat("Pending download should be accepted",
+                mExecutor.execute(DownloadExecutor.Lane.ICON, new BlockingDownload(null)),
+                is(true));
+        assertThat("Queue depth should be 1",
+                mExecutor.getQueueDepth(DownloadExecutor.Lane.ICON), is(1));
+        assertThat("Download should be rejected when queue is full",
+                mExecutor.execute(DownloadExecutor.Lane.ICON, new BlockingDownload(null)),
+                is(false));
+        assertThat("Other lane should accept download",
+                mExecutor.execute(DownloadExecutor.Lane.DATA, new BlockingDownload(null)),
+                is(true));
+    }
+
+    public void testShutdownCompletesPendingDownloads() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final Runnable download = new Runnable() {
+
+            @Override
+            public void run() {
+                count.incrementAndGet();
+            }
+        };
+        mExecutor = new DownloadExecutor(1, 4, 1, 4);
+        for (int i = 0; i < 4; i++) {
+            mExecutor.execute(DownloadExecutor.Lane.DATA, download);
+        }
+        mExecutor.shutdown();
+
+        assertThat("All downloads should be completed",
+                mExecutor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+        assertThat("All downloads should be executed", count.get(), is(4));
+        assertThat("Download should be rejected after shutdown",
+                mExecutor.execute(DownloadExecutor.Lane.DATA, download), is(false));
+    }
+
+    public void testNullDownloadRejected() {
+        assertThat("Null download should be rejected",
+                mExecutor.execute(DownloadExecutor.Lane.DATA, null), is(false));
+        assertThat("Download without lane should be rejected",
+                mExecutor.execute(null, new BlockingDownload(null)), is(false));
+    }
+
+    /**
+     * Download which is blocked until test is finished.
+     */
+    private final class BlockingDownload implements Runnable {
+
+        private final CountDownLatch mStarted;
+
+        private BlockingDownload(final CountDownLatch started) {
+            mStarted = started;
+        }
+
+        @Override
+        public void run() {
+            if (mStarted != null) {
+                mStarted.countDown();
+            }
+            try {
+                mRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
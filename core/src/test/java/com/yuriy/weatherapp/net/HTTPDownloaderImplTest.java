@@ -0,0 +1,420 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.ResponseFixtures;
+
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class HTTPDownloaderImplTest extends TestCase {
+
+    private static final String PATH_WEATHER = "/data/2.5/weather";
+
+    private static final String ETAG = "\"5a1c-4f2e\"";
+
+    private static final String LAST_MODIFIED = "Sat, 22 Nov 2014 10:00:00 GMT";
+
+    private LocalHttpServer mServer;
+
+    private Downloader mDownloader;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mServer = new LocalHttpServer();
+        mServer.start();
+
+        mDownloader = new HTTPDownloaderImpl();
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        mServer.stop();
+
+        super.tearDown();
+    }
+
+    public void testValidatorsExtractedFromResponse() throws Exception {
+        setWeatherResponse(ETAG, LAST_MODIFIED);
+
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Result should be OK", result.isOk(), is(true));
+        assertThat("Response should be same as original",
+                new String(result.getData(), "UTF-8"), is(ResponseFixtures.RAW_RESPONSE));
+        assertThat("ETag should be same as original",
+                result.getValidator().getETag(), is(ETAG));
+        assertThat("Last-Modified should be same as original",
+                result.getValidator().getLastModified(), is(LAST_MODIFIED));
+    }
+
+    public void testNotConditionalRequestWithEmptyValidator() throws Exception {
+        setWeatherResponse(ETAG, LAST_MODIFIED);
+
+        mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+        );
+
+        final LocalHttpServer.RecordedRequest request = mServer.getRequests().get(0);
+        assertThat("If-None-Match should not be sent",
+                request.getHeader("If-None-Match"), nullValue());
+        assertThat("If-Modified-Since should not be sent",
+                request.getHeader("If-Modified-Since"), nullValue());
+    }
+
+    public void testNotModifiedByETag() throws Exception {
+        setWeatherResponse(ETAG, null);
+
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getInstance(ETAG, null)
+        );
+
+        assertThat("Result should be Not Modified", result.isNotModified(), is(true));
+        assertThat("Data should be empty", result.getData().length, is(0));
+        assertThat("ETag should be kept", result.getValidator().getETag(), is(ETAG));
+        assertThat("If-None-Match should be sent",
+                mServer.getRequests().get(0).getHeader("If-None-Match"), is(ETAG));
+    }
+
+    public void testNotModifiedByLastModified() throws Exception {
+        setWeatherResponse(null, LAST_MODIFIED);
+
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getInstance(null, LAST_MODIFIED)
+        );
+
+        assertThat("Result should be Not Modified", result.isNotModified(), is(true));
+        assertThat("Last-Modified should be kept",
+                result.getValidator().getLastModified(), is(LAST_MODIFIED));
+        assertThat("If-Modified-Since should be sent",
+                mServer.getRequests().get(0).getHeader("If-Modified-Since"), is(LAST_MODIFIED));
+    }
+
+    public void testChangedDataDownloadedWithNewValidator() throws Exception {
+        setWeatherResponse("\"new\"", null);
+
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getInstance(ETAG, null)
+        );
+
+        assertThat("Result should be OK", result.isOk(), is(true));
+        assertThat("Response should be same as original",
+                new String(result.getData(), "UTF-8"), is(ResponseFixtures.RAW_RESPONSE));
+        assertThat("ETag should be updated", result.getValidator().getETag(), is("\"new\""));
+    }
+
+    public void testStreamHandlerNotCalledWhenNotModified() throws Exception {
+        setWeatherResponse(ETAG, null);
+        final int[] streamCalls = new int[1];
+
+        final DownloadResult<String> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER),
+                CacheValidator.getInstance(ETAG, null),
+                new ResponseStreamHandler<String>() {
+
+                    @Override
+                    public String onResponseStream(final InputStream inputStream)
+                            throws IOException {
+                        streamCalls[0]++;
+                        return "";
+                    }
+
+                    @Override
+                    public String onResponseFailed() {
+                        return "DEFAULT";
+                    }
+                }
+        );
+
+        assertThat("Result should be Not Modified", result.isNotModified(), is(true));
+        assertThat("Data should be default one", result.getData(), is("DEFAULT"));
+        assertThat("Stream handler should not be called", streamCalls[0], is(0));
+    }
+
+    public void testFailedRequest() {
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                mServer.getUri("/missing"), CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Result should be Failed",
+                result.getStatus(), is(DownloadResult.Status.FAILED));
+        assertThat("Data should be empty", result.getData().length, is(0));
+        assertThat("Validator should be empty", result.getValidator().isEmpty(), is(true));
+    }
+
+    public void testTooManyRequests() {
+        mServer.setResponse(PATH_WEATHER, new LocalHttpServer.Response(429, new byte[0])
+                .addHeader("Retry-After", "30"));
+
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Result should be Rate Limited",
+                result.getStatus(), is(DownloadResult.Status.RATE_LIMITED));
+        assertThat("Retry delay should be taken from response",
+                result.getRetryAfterMs(), is(30000L));
+        assertThat("Data should be empty", result.getData().length, is(0));
+    }
+
+    public void testTooManyRequestsWithDateRetryAfter() {
+        mServer.setResponse(PATH_WEATHER, new LocalHttpServer.Response(429, new byte[0])
+                .addHeader("Retry-After", LAST_MODIFIED));
+
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Result should be Rate Limited", result.isRateLimited(), is(true));
+        assertThat("Retry delay should be unknown", result.getRetryAfterMs(), is(0L));
+    }
+
+    public void testNullUri() {
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                null, CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Result should be Failed",
+                result.getStatus(), is(DownloadResult.Status.FAILED));
+    }
+
+    public void testPlainDownloadIsNotConditional() throws Exception {
+        setWeatherResponse(ETAG, LAST_MODIFIED);
+
+        final byte[] data = mDownloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+        mDownloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+
+        assertThat("Response should be same as original",
+                new String(data, "UTF-8"), is(ResponseFixtures.RAW_RESPONSE));
+        final List<LocalHttpServer.RecordedRequest> requests = mServer.getRequests();
+        assertThat("If-None-Match should not be sent",
+                requests.get(1).getHeader("If-None-Match"), nullValue());
+    }
+
+    public void testAcceptEncodingSent() {
+        mDownloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+
+        assertThat("Accept-Encoding should be sent",
+                mServer.getRequests().get(0).getHeader("Accept-Encoding"), is("gzip, deflate"));
+    }
+
+    public void testNotEncodedResponseStats() throws Exception {
+        setWeatherResponse(null, null);
+        final int length = ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8").length;
+
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Content encoding should be empty",
+                result.getTransferStats().getContentEncoding(), is(""));
+        assertThat("Compressed bytes should be same as body length",
+                result.getTransferStats().getCompressedBytes(), is((long) length));
+        assertThat("Uncompressed bytes should be same as body length",
+                result.getTransferStats().getUncompressedBytes(), is((long) length));
+    }
+
+    public void testGzipResponseDecoded() throws Exception {
+        final byte[] body = gzip(ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8"));
+        setEncodedWeatherResponse("gzip", body);
+
+        assertEncodedResponseDecoded("gzip", body.length);
+    }
+
+    public void testDeflateResponseDecoded() throws Exception {
+        final byte[] body = deflate(ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8"), false);
+        setEncodedWeatherResponse("deflate", body);
+
+        assertEncodedResponseDecoded("deflate", body.length);
+    }
+
+    public void testRawDeflateResponseDecoded() throws Exception {
+        final byte[] body = deflate(ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8"), true);
+        setEncodedWeatherResponse("deflate", body);
+
+        assertEncodedResponseDecoded("deflate", body.length);
+    }
+
+    public void testGzipResponseDecodedForStreamHandler() throws Exception {
+        setEncodedWeatherResponse(
+                "gzip", gzip(ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8"))
+        );
+
+        final String data = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER),
+                new ResponseStreamHandler<String>() {
+
+                    @Override
+                    public String onResponseStream(final InputStream inputStream)
+                            throws IOException {
+                        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                        int value;
+                        while ((value = inputStream.read()) != -1) {
+                            outputStream.write(value);
+                        }
+                        return outputStream.toString("UTF-8");
+                    }
+
+                    @Override
+                    public String onResponseFailed() {
+                        return "";
+                    }
+                }
+        );
+
+        assertThat("Stream should be decoded", data, is(ResponseFixtures.RAW_RESPONSE));
+    }
+
+    private void assertEncodedResponseDecoded(final String encoding, final int encodedLength)
+            throws Exception {
+        final byte[] original = ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8");
+
+        final DownloadResult<byte[]> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Result should be OK", result.isOk(), is(true));
+        assertThat("Response should be decoded",
+                new String(result.getData(), "UTF-8"), is(ResponseFixtures.RAW_RESPONSE));
+        assertThat("Content encoding should be same as original",
+                result.getTransferStats().getContentEncoding(), is(encoding));
+        assertThat("Compressed bytes should be same as encoded body length",
+                result.getTransferStats().getCompressedBytes(), is((long) encodedLength));
+        assertThat("Uncompressed bytes should be same as original length",
+                result.getTransferStats().getUncompressedBytes(), is((long) original.length));
+    }
+
+    public void testCanceledRequestNotExecuted() throws Exception {
+        setWeatherResponse(ETAG, LAST_MODIFIED);
+        final CancellationToken token = CancellationToken.getInstance();
+        token.cancel();
+
+        final DownloadResult<String> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance(),
+                new StringStreamHandler(null), token
+        );
+
+        assertThat("Result should be Failed",
+                result.getStatus(), is(DownloadResult.Status.FAILED));
+        assertThat("Data should be default one", result.getData(), is("DEFAULT"));
+        assertThat("Request should not be sent", mServer.getRequests().size(), is(0));
+    }
+
+    public void testCancelAbortsResponseStream() throws Exception {
+        // Response is much larger than buffers of the client
+        mServer.setResponse(PATH_WEATHER, new LocalHttpServer.Response(200, new byte[256 * 1024]));
+        final CancellationToken token = CancellationToken.getInstance();
+
+        final DownloadResult<String> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance(),
+                new StringStreamHandler(token), token
+        );
+
+        assertThat("Result should be Failed",
+                result.getStatus(), is(DownloadResult.Status.FAILED));
+        assertThat("Data should be default one", result.getData(), is("DEFAULT"));
+    }
+
+    public void testNotCanceledRequestCompleted() throws Exception {
+        setWeatherResponse(ETAG, LAST_MODIFIED);
+        final CancellationToken token = CancellationToken.getInstance();
+
+        final DownloadResult<String> result = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance(),
+                new StringStreamHandler(null), token
+        );
+        // Cancel after completion has no effect
+        token.cancel();
+
+        assertThat("Result should be OK", result.isOk(), is(true));
+        assertThat("Response should be same as original",
+                result.getData(), is(ResponseFixtures.RAW_RESPONSE));
+    }
+
+    private void setEncodedWeatherResponse(final String encoding, final byte[] body) {
+        mServer.setResponse(PATH_WEATHER,
+                new LocalHttpServer.Response(200, body).addHeader("Content-Encoding", encoding));
+    }
+
+    private static byte[] gzip(final byte[] data) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream);
+        gzipStream.write(data);
+        gzipStream.close();
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] deflate(final byte[] data, final boolean isRaw) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, isRaw);
+        final DeflaterOutputStream deflateStream = new DeflaterOutputStream(outputStream, deflater);
+        deflateStream.write(data);
+        deflateStream.close();
+        deflater.end();
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Reads response stream into the String, optionally cancels provided token before read.
+     */
+    private static final class StringStreamHandler implements ResponseStreamHandler<String> {
+
+        private final CancellationToken mToken;
+
+        private StringStreamHandler(final CancellationToken token) {
+            mToken = token;
+        }
+
+        @Override
+        public String onResponseStream(final InputStream inputStream) throws IOException {
+            if (mToken != null) {
+                mToken.cancel();
+            }
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, count);
+            }
+            return outputStream.toString("UTF-8");
+        }
+
+        @Override
+        public String onResponseFailed() {
+            return "DEFAULT";
+        }
+    }
+
+    private void setWeatherResponse(final String eTag, final String lastModified)
+            throws Exception {
+        final LocalHttpServer.Response response = new LocalHttpServer.Response(
+                200, ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8")
+        );
+        if (eTag != null) {
+            response.addHeader("ETag", eTag);
+        }
+        if (lastModified != null) {
+            response.addHeader("Last-Modified", lastModified);
+        }
+        mServer.setResponse(PATH_WEATHER, response);
+    }
+}
@@ -0,0 +1,187 @@
+package com.yuriy.weatherapp.net;
+
+import junit.framework.TestCase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class LatestRequestsTest extends TestCase {
+
+    private static final String REQUESTER = "MainActivity";
+
+    private static final String FLIGHT_KEY = "q:london,uk";
+
+    private LatestRequests<String> mRequests;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mRequests = new LatestRequests<String>();
+    }
+
+    public void testNewRequestCancelsPrevious() {
+        final CountingAction first = new CountingAction();
+        final CountingAction second = new CountingAction();
+
+        mRequests.start(REQUESTER, first);
+        mRequests.start(REQUESTER, second);
+
+        assertThat("Previous request should be canceled", first.mCalls.get(), is(1));
+        assertThat("New request should not be canceled", second.mCalls.get(), is(0));
+        assertThat("Superseded request should not be finished",
+                mRequests.finish(REQUESTER, first), is(false));
+        assertThat("Latest request should be finished",
+                mRequests.finish(REQUESTER, second), is(true));
+        assertThat("No requests should be left", mRequests.size(), is(0));
+    }
+
+    public void testRequestsOfAnotherRequesterNotCanceled() {
+        final CountingAction first = new CountingAction();
+
+        mRequests.start(REQUESTER, first);
+        mRequests.start("Widget", new CountingAction());
+
+        assertThat("Request of another requester should not be canceled",
+                first.mCalls.get(), is(0));
+        assertThat("Two requests should be registered", mRequests.size(), is(2));
+    }
+
+    public void testFinishedRequestNotCanceled() {
+        final CountingAction first = new CountingAction();
+
+        mRequests.start(REQUESTER, first);
+        mRequests.finish(REQUESTER, first);
+        mRequests.start(REQUESTER, new CountingAction());
+
+        assertThat("Finished request should not be canceled", first.mCalls.get(), is(0));
+    }
+
+    public void testOnlyLatestNotFinishedRequestIsLatest() {
+        final CountingAction first = new CountingAction();
+        final CountingAction second = new CountingAction();
+
+        mRequests.start(REQUESTER, first);
+
+        assertThat("Started request should be latest",
+                mRequests.isLatest(REQUESTER, first), is(true));
+
+        mRequests.start(REQUESTER, second);
+
+        assertThat("Superseded request should not be latest",
+                mRequests.isLatest(REQUESTER, first), is(false));
+
+        mRequests.finish(REQUESTER, second);
+
+        assertThat("Finished request should not be latest",
+                mRequests.isLatest(REQUESTER, second), is(false));
+    }
+
+    public void testReplaceDoesNotCancelPrevious() {
+        final CountingAction first = new CountingAction();
+        final CountingAction second = new CountingAction();
+        mRequests.start(REQUESTER, first);
+
+        final Runnable superseded = mRequests.replace(REQUESTER, second);
+
+        assertThat("Previous request should be returned", superseded == first, is(true));
+        assertThat("Previous request should not be canceled yet", first.mCalls.get(), is(0));
+        assertThat("Previous request should not be latest",
+                mRequests.isLatest(REQUESTER, first), is(false));
+        assertThat("Replaced same request should not be returned",
+                mRequests.replace(REQUESTER, second) == null, is(true));
+    }
+
+    public void testFlightCompletedWhileRequesterAttachesIsDelivered() {
+        final CompletingFlights flights = new CompletingFlights();
+        final FlightRequest first = new FlightRequest(flights);
+        final CancellationToken token = first.start();
+        flights.mToken = token;
+
+        // Download completes right after the second request joins it
+        final FlightRequest second = new FlightRequest(flights);
+        assertThat("Second request should attach to download in flight",
+                second.start() == null, is(true));
+
+        assertThat("Superseded request should not receive result", first.mResult, is(""));
+        assertThat("Attached request should receive result", second.mResult, is("London"));
+        assertThat("Download should not be canceled", token.isCanceled(), is(false));
+        assertThat("No requests should be left", mRequests.size(), is(0));
+    }
+
+    /**
+     * Request which is attached to the download in flight and superseded by the next one,
+     * in the same way as requests of the WeatherService.
+     */
+    private final class FlightRequest implements SingleFlight.Callback<String> {
+
+        private final SingleFlight<String, String> mFlights;
+
+        private final Runnable mCancelAction = new Runnable() {
+
+            @Override
+            public void run() {
+                mFlights.leave(FLIGHT_KEY, FlightRequest.this);
+            }
+        };
+
+        private String mResult = "";
+
+        private FlightRequest(final SingleFlight<String, String> flights) {
+            mFlights = flights;
+        }
+
+        private CancellationToken start() {
+            final Runnable supersededAction = mRequests.replace(REQUESTER, mCancelAction);
+            final CancellationToken token = mFlights.join(FLIGHT_KEY, this);
+            if (supersededAction != null) {
+                supersededAction.run();
+            }
+            return token;
+        }
+
+        @Override
+        public void onResult(final String result) {
+            if (mRequests.finish(REQUESTER, mCancelAction)) {
+                mResult = result;
+            }
+        }
+    }
+
+    /**
+     * Downloads in flight which complete the download as soon as requester attaches to it,
+     * as download thread may do.
+     */
+    private static final class CompletingFlights extends SingleFlight<String, String> {
+
+        private CancellationToken mToken;
+
+        @Override
+        public synchronized CancellationToken join(final String key,
+                                                   final Callback<String> callback) {
+            final CancellationToken token = super.join(key, callback);
+            if (token == null && mToken != null) {
+                complete(key, mToken, "London");
+            }
+            return token;
+        }
+    }
+
+    private static final class CountingAction implements Runnable {
+
+        private final AtomicInteger mCalls = new AtomicInteger();
+
+        @Override
+        public void run() {
+            mCalls.incrementAndGet();
+        }
+    }
+}
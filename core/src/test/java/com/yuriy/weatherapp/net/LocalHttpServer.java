@@ -0,0 +1,277 @@
+package com.yuriy.weatherapp.net;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+
+/**
+ * {@link com.yuriy.weatherapp.net.LocalHttpServer} is a local stand-in of the weather service.
+ * It returns pre-defined responses per path and records every received request together
+ * with the remote port of the connection it was received on, so that tests can verify
+ * connection re-use and headers of the requests.
+ * Conditional requests which match ETag or Last-Modified of the pre-defined response are
+ * answered with "304 Not Modified".
+ */
+public class LocalHttpServer {
+
+    /**
+     * Pre-defined response.
+     */
+    public static final class Response {
+
+        /**
+         * HTTP status code.
+         */
+        public final int mStatus;
+
+        /**
+         * Body of the response, may be empty.
+         */
+        public final byte[] mBody;
+
+        /**
+         * Headers of the response.
+         */
+        public final Map<String, String> mHeaders = new LinkedHashMap<String, String>();
+
+        /**
+         * Constructor.
+         *
+         * @param status HTTP status code.
+         * @param body   Body of the response.
+         */
+        public Response(final int status, final byte[] body) {
+            mStatus = status;
+            mBody = body == null ? new byte[0] : body;
+        }
+
+        /**
+         * Add header to the response.
+         *
+         * @param name  Name of the header.
+         * @param value Value of the header.
+         * @return This response.
+         */
+        public Response addHeader(final String name, final String value) {
+            mHeaders.put(name, value);
+            return this;
+        }
+    }
+
+    /**
+     * Request which is received by the server.
+     */
+    public static final class RecordedRequest {
+
+        /**
+         * Path of the request.
+         */
+        public final String mPath;
+
+        /**
+         * Remote port of the connection, same port means same connection.
+         */
+        public final int mRemotePort;
+
+        /**
+         * Headers of the request.
+         */
+        private final Headers mHeaders;
+
+        /**
+         * Constructor.
+         *
+         * @param path       Path of the request.
+         * @param remotePort Remote port of the connection.
+         * @param headers    Headers of the request.
+         */
+        private RecordedRequest(final String path, final int remotePort, final Headers headers) {
+            mPath = path;
+            mRemotePort = remotePort;
+            mHeaders = headers;
+        }
+
+        /**
+         * @param name Name of the header.
+         * @return Value of the header or null.
+         */
+        public String getHeader(final String name) {
+            return mHeaders.getFirst(name);
+        }
+    }
+
+    /**
+     * Pre-defined responses per path.
+     */
+    private final Map<String, Response> mResponses = new HashMap<String, Response>();
+
+    /**
+     * Received requests.
+     */
+    private final List<RecordedRequest> mRequests
+            = Collections.synchronizedList(new ArrayList<RecordedRequest>());
+
+    /**
+     * Time, in milliseconds, the server waits before it sends every response.
+     */
+    private volatile long mResponseDelayMs;
+
+    /**
+     * Server itself.
+     */
+    private HttpServer mServer;
+
+    /**
+     * Start server on the free local port.
+     *
+     * @throws IOException
+     */
+    public void start() throws IOException {
+        mServer = HttpServer.create(
+                new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0), 0
+        );
+        mServer.createContext("/", new HttpHandler() {
+
+            @Override
+            public void handle(final HttpExchange exchange) throws IOException {
+                handleExchange(exchange);
+            }
+        });
+        mServer.start();
+    }
+
+    /**
+     * Stop server.
+     */
+    public void stop() {
+        if (mServer != null) {
+            mServer.stop(0);
+        }
+    }
+
+    /**
+     * Set response for the provided path.
+     *
+     * @param path     Path of the request.
+     * @param response {@link Response}.
+     */
+    public void setResponse(final String path, final Response response) {
+        synchronized (mResponses) {
+            mResponses.put(path, response);
+        }
+    }
+
+    /**
+     * Set time the server waits before it sends every response, so that requests overlap.
+     *
+     * @param delayMs Delay, in milliseconds.
+     */
+    public void setResponseDelay(final long delayMs) {
+        mResponseDelayMs = delayMs;
+    }
+
+    /**
+     * @param path Path of the request.
+     * @return {@link java.net.URI} of the provided path on this server.
+     */
+    public URI getUri(final String path) {
+        return URI.create("http://127.0.0.1:" + mServer.getAddress().getPort() + path);
+    }
+
+    /**
+     * @return Copy of the list of the received requests.
+     */
+    public List<RecordedRequest> getRequests() {
+        synchronized (mRequests) {
+            return new ArrayList<RecordedRequest>(mRequests);
+        }
+    }
+
+    /**
+     * Record request and send pre-defined response, 404 if there is no response for the path.
+     *
+     * @param exchange {@link com.sun.net.httpserver.HttpExchange}.
+     * @throws IOException
+     */
+    private void handleExchange(final HttpExchange exchange) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        mRequests.add(
+                new RecordedRequest(
+                        path, exchange.getRemoteAddress().getPort(), exchange.getRequestHeaders()
+                )
+        );
+
+        // Drain the request body, if any
+        final InputStream inputStream = exchange.getRequestBody();
+        while (inputStream.read() != -1) {
+            // Skip
+        }
+        inputStream.close();
+
+        if (mResponseDelayMs > 0) {
+            try {
+                Thread.sleep(mResponseDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Response response;
+        synchronized (mResponses) {
+            response = mResponses.get(path);
+        }
+        if (response == null) {
+            response = new Response(404, "Not Found".getBytes("UTF-8"));
+        }
+        for (Map.Entry<String, String> header : response.mHeaders.entrySet()) {
+            exchange.getResponseHeaders().add(header.getKey(), header.getValue());
+        }
+        if (isNotModified(exchange.getRequestHeaders(), response)) {
+            exchange.sendResponseHeaders(304, -1);
+        } else if (response.mBody.length == 0) {
+            exchange.sendResponseHeaders(response.mStatus, -1);
+        } else {
+            exchange.sendResponseHeaders(response.mStatus, response.mBody.length);
+            final OutputStream outputStream = exchange.getResponseBody();
+            outputStream.write(response.mBody);
+            outputStream.close();
+        }
+        exchange.close();
+    }
+
+    /**
+     * @param requestHeaders Headers of the request.
+     * @param response       Pre-defined response.
+     * @return True if validators of the request match validators of the response.
+     */
+    private static boolean isNotModified(final Headers requestHeaders, final Response response) {
+        final String eTag = response.mHeaders.get("ETag");
+        if (eTag != null && eTag.equals(requestHeaders.getFirst("If-None-Match"))) {
+            return true;
+        }
+        final String lastModified = response.mHeaders.get("Last-Modified");
+        return lastModified != null
+                && lastModified.equals(requestHeaders.getFirst("If-Modified-Since"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.yuriy.weatherapp.net;
+
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class LruFileStoreTest extends TestCase {
+
+    private static final String FILE_EXTENSION = ".cache";
+
+    private static final byte[] CONTENT = new byte[]{1, 2, 3, 4, 5, 6, 7, 8};
+
+    private static final long LAST_MODIFIED = 1416600000000L;
+
+    private File mDirectory;
+
+    private LruFileStore mStore;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mDirectory = File.createTempFile("store", "");
+        assertTrue(mDirectory.delete());
+        mStore = new LruFileStore(mDirectory, FILE_EXTENSION, CONTENT.length * 10);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        final File[] files = mDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        mDirectory.delete();
+
+        super.tearDown();
+    }
+
+    public void testPutAndGetFile() {
+        final File file = mStore.put("first", makeWriter(true));
+
+        assertThat("File should be stored", file, notNullValue());
+        assertThat("File should be named with extension",
+                file.getName(), is("first" + FILE_EXTENSION));
+        assertThat("Stored file should be same as named one",
+                mStore.getFile("first"), is(file));
+        assertThat("Size should be same as content", mStore.getSize(), is((long) CONTENT.length));
+    }
+
+    public void testFailedWriteLeavesNoFiles() {
+        assertThat("File should not be stored", mStore.put("first", makeWriter(false)),
+                nullValue());
+        assertThat("Temporary file should be deleted", mDirectory.listFiles().length, is(0));
+    }
+
+    public void testLeastRecentlyUsedEvictedAndStoredKept() {
+        mStore = new LruFileStore(mDirectory, FILE_EXTENSION, CONTENT.length + CONTENT.length / 2);
+        final File first = mStore.put("first", makeWriter(true));
+        assertTrue(first.setLastModified(LAST_MODIFIED));
+
+        final File second = mStore.put("second", makeWriter(true));
+
+        assertThat("Least recently used file should be evicted", first.exists(), is(false));
+        assertThat("Just stored file should be kept", second.exists(), is(true));
+    }
+
+    public void testMarkUsedProtectsFromEviction() {
+        mStore = new LruFileStore(
+                mDirectory, FILE_EXTENSION, CONTENT.length * 2 + CONTENT.length / 2
+        );
+        final File first = mStore.put("first", makeWriter(true));
+        final File second = mStore.put("second", makeWriter(true));
+        assertTrue(first.setLastModified(LAST_MODIFIED));
+        assertTrue(second.setLastModified(LAST_MODIFIED + 1000));
+        mStore.markUsed(first);
+
+        mStore.put("third", makeWriter(true));
+
+        assertThat("Recently used file should be kept", first.exists(), is(true));
+        assertThat("Least recently used file should be evicted", second.exists(), is(false));
+    }
+
+    public void testStaleTemporaryFilesDeletedOnOpen() throws Exception {
+        assertTrue(mDirectory.mkdirs());
+        final File tempFile = new File(mDirectory, "first" + FILE_EXTENSION + ".tmp");
+        writeContent(tempFile);
+        final File storedFile = new File(mDirectory, "second" + FILE_EXTENSION);
+        writeContent(storedFile);
+
+        assertThat("Temporary file should not be counted",
+                mStore.getSize(), is((long) CONTENT.length));
+        assertThat("Stale temporary file should be deleted", tempFile.exists(), is(false));
+        assertThat("Stored file should be kept", storedFile.exists(), is(true));
+    }
+
+    public void testClear() {
+        mStore.put("first", makeWriter(true));
+        mStore.put("second", makeWriter(true));
+
+        mStore.clear();
+
+        assertThat("Size should be 0", mStore.getSize(), is(0L));
+    }
+
+    private static LruFileStore.ContentWriter makeWriter(final boolean isSuccessful) {
+        return new LruFileStore.ContentWriter() {
+
+            @Override
+            public boolean write(final File file) {
+                try {
+                    writeContent(file);
+                } catch (IOException e) {
+                    return false;
+                }
+                return isSuccessful;
+            }
+        };
+    }
+
+    private static void writeContent(final File file) throws IOException {
+        final FileOutputStream outputStream = new FileOutputStream(file);
+        outputStream.write(CONTENT);
+        outputStream.close();
+    }
+}
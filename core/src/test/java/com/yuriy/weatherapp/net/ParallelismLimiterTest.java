@@ -0,0 +1,104 @@
+package com.yuriy.weatherapp.net;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class ParallelismLimiterTest extends TestCase {
+
+    private ParallelismLimiter mLimiter;
+
+    private List<Integer> mStarted;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mLimiter = new ParallelismLimiter(2);
+        mStarted = new ArrayList<Integer>();
+    }
+
+    public void testRequestsBeyondLimitQueued() {
+        for (int i = 0; i < 5; i++) {
+            mLimiter.submit(new StartRequest(i));
+        }
+
+        assertThat("Only two requests should be started", mStarted.size(), is(2));
+        assertThat("Two requests should be running", mLimiter.getRunningCount(), is(2));
+        assertThat("Three requests should be pending", mLimiter.getPendingCount(), is(3));
+    }
+
+    public void testReleaseStartsNextInOrder() {
+        for (int i = 0; i < 4; i++) {
+            mLimiter.submit(new StartRequest(i));
+        }
+
+        mLimiter.release();
+
+        assertThat("Next request should be started", mStarted.size(), is(3));
+        assertThat("Requests should be started in order", mStarted.get(2), is(2));
+        assertThat("Running count should not change", mLimiter.getRunningCount(), is(2));
+
+        mLimiter.release();
+        mLimiter.release();
+        mLimiter.release();
+
+        assertThat("All requests should be started", mStarted.size(), is(4));
+        assertThat("No requests should be running", mLimiter.getRunningCount(), is(0));
+        assertThat("No requests should be pending", mLimiter.getPendingCount(), is(0));
+    }
+
+    public void testSynchronouslyFinishedRequestsDoNotStall() {
+        for (int i = 0; i < 10; i++) {
+            final int position = i;
+            mLimiter.submit(new Runnable() {
+
+                @Override
+                public void run() {
+                    mStarted.add(position);
+                    // For example download is rejected
+                    mLimiter.release();
+                }
+            });
+        }
+
+        assertThat("All requests should be started", mStarted.size(), is(10));
+        assertThat("No requests should be running", mLimiter.getRunningCount(), is(0));
+    }
+
+    public void testNonPositiveLimitRejected() {
+        try {
+            new ParallelismLimiter(0);
+            fail("Zero parallelism should be rejected");
+        } catch (IllegalArgumentException e) {
+            assertThat("Message should contain value", e.getMessage().endsWith("0"), is(true));
+        }
+    }
+
+    /**
+     * Request which records its start and keeps running.
+     */
+    private final class StartRequest implements Runnable {
+
+        private final int mPosition;
+
+        private StartRequest(final int position) {
+            mPosition = position;
+        }
+
+        @Override
+        public void run() {
+            mStarted.add(mPosition);
+        }
+    }
+}
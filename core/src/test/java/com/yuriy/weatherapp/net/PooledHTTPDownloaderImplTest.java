@@ -0,0 +1,231 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.ResponseFixtures;
+
+import junit.framework.TestCase;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.conn.params.ConnManagerParams;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.DefaultHttpRoutePlanner;
+import org.apache.http.protocol.BasicHttpContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/22/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class PooledHTTPDownloaderImplTest extends TestCase {
+
+    private static final String PATH_WEATHER = "/data/2.5/weather";
+
+    private static final String PATH_MISSING = "/missing";
+
+    private LocalHttpServer mServer;
+
+    private PooledHTTPDownloaderImpl mDownloader;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mServer = new LocalHttpServer();
+        mServer.start();
+        mServer.setResponse(PATH_WEATHER, new LocalHttpServer.Response(
+                200, ResponseFixtures.RAW_RESPONSE.getBytes("UTF-8")
+        ));
+
+        // Single connection per route, so that any leaked connection blocks next request
+        mDownloader = new PooledHTTPDownloaderImpl(2, 1, 30 * 1000, 1000);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        mDownloader.shutdown();
+        mServer.stop();
+
+        super.tearDown();
+    }
+
+    public void testConnectionReusedForBytesDownload() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            final byte[] data = mDownloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+            assertThat("Response should be same as original",
+                    new String(data, "UTF-8"), is(ResponseFixtures.RAW_RESPONSE));
+        }
+
+        assertAllOnSameConnection(mServer.getRequests(), 5);
+    }
+
+    public void testConnectionReusedForStreamDownload() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            final String data = mDownloader.downloadDataFromUri(
+                    mServer.getUri(PATH_WEATHER), new StringHandler()
+            );
+            assertThat("Response should be same as original",
+                    data, is(ResponseFixtures.RAW_RESPONSE));
+        }
+
+        assertAllOnSameConnection(mServer.getRequests(), 5);
+    }
+
+    public void testUnsuccessfulResponseReleasesConnection() throws Exception {
+        final byte[] missing = mDownloader.downloadDataFromUri(mServer.getUri(PATH_MISSING));
+        assertThat("Response of the unsuccessful request should be empty",
+                missing.length, is(0));
+
+        // With one connection per route this request waits for the pool if 404 leaked it
+        final byte[] data = mDownloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+        assertThat("Response should be same as original",
+                new String(data, "UTF-8"), is(ResponseFixtures.RAW_RESPONSE));
+
+        assertAllOnSameConnection(mServer.getRequests(), 2);
+    }
+
+    public void testUnsuccessfulResponseCallsFailedHandler() {
+        final String data = mDownloader.downloadDataFromUri(
+                mServer.getUri(PATH_MISSING), new StringHandler()
+        );
+
+        assertThat("Failed handler should be called", data, is(StringHandler.FAILED));
+    }
+
+    public void testIdleConnectionsEvicted() throws Exception {
+        mDownloader.shutdown();
+        mDownloader = new PooledHTTPDownloaderImpl(2, 1, 1, 1000);
+
+        mDownloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+        Thread.sleep(50);
+        mDownloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+
+        final List<LocalHttpServer.RecordedRequest> requests = mServer.getRequests();
+        assertThat("Server should receive 2 requests", requests.size(), is(2));
+        assertThat("Idle connection should be evicted and new one opened",
+                requests.get(1).mRemotePort, not(requests.get(0).mRemotePort));
+    }
+
+    public void testNotPooledDownloaderOpensNewConnections() throws Exception {
+        final Downloader downloader = new HTTPDownloaderImpl();
+        downloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+        downloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+
+        final List<LocalHttpServer.RecordedRequest> requests = mServer.getRequests();
+        assertThat("Server should receive 2 requests", requests.size(), is(2));
+        assertThat("Every request should use its own connection",
+                requests.get(1).mRemotePort, not(requests.get(0).mRemotePort));
+    }
+
+    public void testMaxConnectionsPerRouteOverride() throws Exception {
+        final int maxConnections = 2;
+        final int count = maxConnections + 1;
+        // Total limit does not restrict the route, default route limit is single connection
+        final PooledHTTPDownloaderImpl downloader
+                = new PooledHTTPDownloaderImpl(10, 1, 30 * 1000, 5000);
+        downloader.setMaxConnectionsPerRoute(mServer.getUri(PATH_WEATHER), maxConnections);
+        downloader.setMaxConnectionsPerRoute(null, maxConnections);
+        mServer.setResponseDelay(200);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(count);
+        final AtomicInteger succeeded = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        final byte[] data
+                                = downloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+                        if (data.length > 0) {
+                            succeeded.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            }).start();
+        }
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        downloader.shutdown();
+
+        final Set<Integer> ports = new HashSet<Integer>();
+        for (LocalHttpServer.RecordedRequest request : mServer.getRequests()) {
+            ports.add(request.mRemotePort);
+        }
+        assertThat("All requests should succeed", succeeded.get(), is(count));
+        assertThat("Concurrent requests should use connections up to the route limit",
+                ports.size(), is(maxConnections));
+    }
+
+    public void testMaxConnectionsPerRouteOverrideForUriWithoutPort() throws Exception {
+        final URI uri = URI.create("http://api.openweathermap.org/data/2.5/weather?q=London");
+        mDownloader.setMaxConnectionsPerRoute(uri, 3);
+
+        // Route is planned in the same way as client does for the request target
+        final HttpClient client = mDownloader.getHttpClient();
+        final HttpRoute route = new DefaultHttpRoutePlanner(
+                client.getConnectionManager().getSchemeRegistry()
+        ).determineRoute(
+                new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme()),
+                new HttpGet(uri), new BasicHttpContext()
+        );
+        assertThat("Route limit should apply to the URI without port",
+                ConnManagerParams.getMaxConnectionsPerRoute(client.getParams())
+                        .getMaxForRoute(route), is(3));
+    }
+
+    private static void assertAllOnSameConnection(
+            final List<LocalHttpServer.RecordedRequest> requests, final int expectedCount) {
+        assertThat("Server should receive all requests", requests.size(), is(expectedCount));
+        for (LocalHttpServer.RecordedRequest request : requests) {
+            assertThat("All requests should be received on the same connection",
+                    request.mRemotePort, is(requests.get(0).mRemotePort));
+        }
+    }
+
+    /**
+     * Reads whole response stream into the String.
+     */
+    private static final class StringHandler implements ResponseStreamHandler<String> {
+
+        private static final String FAILED = "FAILED";
+
+        @Override
+        public String onResponseStream(final InputStream inputStream) throws IOException {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            int count;
+            while ((count = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, count);
+            }
+            return outputStream.toString("UTF-8");
+        }
+
+        @Override
+        public String onResponseFailed() {
+            return FAILED;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.yuriy.weatherapp.net;
+
+import com.yuriy.weatherapp.ResponseFixtures;
+
+import junit.framework.TestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class RateLimitedDownloaderTest extends TestCase {
+
+    private static final String PATH_WEATHER = "/data/2.5/weather";
+
+    private LocalHttpServer mServer;
+
+    private RateLimiter mRateLimiter;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mServer = new LocalHttpServer();
+        mServer.start();
+
+        // Budget of two requests, one of them is reserved for the user, no waiting
+        mRateLimiter = new RateLimiter(1, 2, 1, 0);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        mServer.stop();
+
+        super.tearDown();
+    }
+
+    public void testRequestSentWithinBudget() throws Exception {
+        setWeatherResponse(200);
+        final Downloader downloader = makeDownloader(RateLimiter.Priority.USER);
+
+        final DownloadResult<byte[]> result = downloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Result should be OK", result.isOk(), is(true));
+        assertThat("Response should be same as original",
+                new String(result.getData(), "UTF-8"), is(ResponseFixtures.RAW_RESPONSE));
+        assertThat("Budget should be taken", mRateLimiter.getRemainingBudget(), is(1));
+    }
+
+    public void testRequestShedWhenBudgetExhausted() {
+        setWeatherResponse(200);
+        final Downloader downloader = makeDownloader(RateLimiter.Priority.USER);
+        downloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+        downloader.downloadDataFromUri(mServer.getUri(PATH_WEATHER));
+
+        final DownloadResult<byte[]> result = downloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Result should be Rate Limited", result.isRateLimited(), is(true));
+        assertThat("Data should be empty", result.getData().length, is(0));
+        assertThat("Shed request should not be sent", mServer.getRequests().size(), is(2));
+    }
+
+    public void testBackgroundRequestShedAtReserve() {
+        setWeatherResponse(200);
+        final Downloader background = makeDownloader(RateLimiter.Priority.BACKGROUND);
+
+        assertThat("First background request should be OK",
+                background.downloadDataFromUri(
+                        mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+                ).isOk(), is(true));
+        assertThat("Second background request should be shed",
+                background.downloadDataFromUri(
+                        mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+                ).isRateLimited(), is(true));
+        assertThat("User request should take the reserve",
+                makeDownloader(RateLimiter.Priority.USER).downloadDataFromUri(
+                        mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+                ).isOk(), is(true));
+    }
+
+    public void testServerRateLimitEmptiesBudget() {
+        mServer.setResponse(PATH_WEATHER, new LocalHttpServer.Response(429, new byte[0])
+                .addHeader("Retry-After", "60"));
+        final Downloader downloader = makeDownloader(RateLimiter.Priority.USER);
+
+        final DownloadResult<byte[]> result = downloader.downloadDataFromUri(
+                mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+        );
+
+        assertThat("Result should be Rate Limited", result.isRateLimited(), is(true));
+        assertThat("Budget should be exhausted", mRateLimiter.getRemainingBudget(), is(0));
+        assertThat("Next request should be shed without sending",
+                downloader.downloadDataFromUri(
+                        mServer.getUri(PATH_WEATHER), CacheValidator.getDefaultInstance()
+                ).isRateLimited(), is(true));
+        assertThat("Only first request should be sent", mServer.getRequests().size(), is(1));
+    }
+
+    private Downloader makeDownloader(final RateLimiter.Priority priority) {
+        return new RateLimitedDownloader(new HTTPDownloaderImpl(), mRateLimiter, priority);
+    }
+
+    private void setWeatherResponse(final int status) {
+        mServer.setResponse(PATH_WEATHER, new LocalHttpServer.Response(
+                status, ResponseFixtures.RAW_RESPONSE.getBytes()
+        ));
+    }
+}
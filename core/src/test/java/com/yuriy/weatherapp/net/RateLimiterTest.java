@@ -0,0 +1,162 @@
+package com.yuriy.weatherapp.net;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class RateLimiterTest extends TestCase {
+
+    private static final int REQUESTS_PER_MINUTE = 60;
+
+    private static final int CAPACITY = 5;
+
+    private static final int BACKGROUND_RESERVE = 2;
+
+    private static final long MAX_WAIT_MS = 3000;
+
+    private ManualClockRateLimiter mLimiter;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mLimiter = new ManualClockRateLimiter();
+    }
+
+    public void testBurstAllowedWithoutWait() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat("Request of the burst should be allowed",
+                    mLimiter.acquire(RateLimiter.Priority.USER, null), is(true));
+        }
+
+        assertThat("Requests should not wait", mLimiter.mWaits.size(), is(0));
+        assertThat("Budget should be exhausted", mLimiter.getRemainingBudget(), is(0));
+    }
+
+    public void testUserRequestsQueuedInOrderAndShedBeyondMaxWait() {
+        exhaustBudget();
+
+        assertThat("First queued request should be allowed",
+                mLimiter.acquire(RateLimiter.Priority.USER, null), is(true));
+        assertThat("Second queued request should be allowed",
+                mLimiter.acquire(RateLimiter.Priority.USER, null), is(true));
+        assertThat("Third queued request should be allowed",
+                mLimiter.acquire(RateLimiter.Priority.USER, null), is(true));
+        assertThat("Request beyond max wait should be shed",
+                mLimiter.acquire(RateLimiter.Priority.USER, null), is(false));
+
+        assertThat("Queued requests should wait one token period after another",
+                mLimiter.mWaits.toString(), is("[1000, 2000, 3000]"));
+    }
+
+    public void testBackgroundRequestLeavesReserve() {
+        for (int i = 0; i < CAPACITY - BACKGROUND_RESERVE - 1; i++) {
+            mLimiter.acquire(RateLimiter.Priority.USER, null);
+        }
+
+        assertThat("Background request should be allowed above reserve",
+                mLimiter.acquire(RateLimiter.Priority.BACKGROUND, null), is(true));
+        assertThat("Background request should be shed at reserve",
+                mLimiter.acquire(RateLimiter.Priority.BACKGROUND, null), is(false));
+        assertThat("User request should take the reserve",
+                mLimiter.acquire(RateLimiter.Priority.USER, null), is(true));
+        assertThat("Background requests should never wait", mLimiter.mWaits.size(), is(0));
+    }
+
+    public void testBudgetRefilledUpToCapacity() {
+        exhaustBudget();
+
+        mLimiter.mNow += 2000;
+
+        assertThat("Two tokens should be refilled", mLimiter.getRemainingBudget(), is(2));
+
+        mLimiter.mNow += 60 * 1000;
+
+        assertThat("Budget should not exceed capacity",
+                mLimiter.getRemainingBudget(), is(CAPACITY));
+    }
+
+    public void testServerRateLimitEmptiesBudget() {
+        mLimiter.onRateLimited(10000);
+
+        assertThat("Budget should be exhausted", mLimiter.getRemainingBudget(), is(0));
+        assertThat("User request should be shed until retry delay elapses",
+                mLimiter.acquire(RateLimiter.Priority.USER, null), is(false));
+
+        mLimiter.mNow += 10000;
+
+        assertThat("User request should wait for the next token after retry delay",
+                mLimiter.acquire(RateLimiter.Priority.USER, null), is(true));
+        assertThat("Request should wait one token period",
+                mLimiter.mWaits.toString(), is("[1000]"));
+    }
+
+    public void testCanceledRequestReturnsToken() {
+        exhaustBudget();
+        final CancellationToken token = CancellationToken.getInstance();
+        token.cancel();
+
+        assertThat("Canceled request should not be allowed",
+                mLimiter.acquire(RateLimiter.Priority.USER, token), is(false));
+        assertThat("Next request should wait as if canceled one was not queued",
+                mLimiter.acquire(RateLimiter.Priority.USER, null), is(true));
+        assertThat("Both requests should wait one token period",
+                mLimiter.mWaits.toString(), is("[1000, 1000]"));
+    }
+
+    public void testInvalidConfigurationRejected() {
+        try {
+            new RateLimiter(0, CAPACITY, 0, MAX_WAIT_MS);
+            fail("Zero rate should be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        try {
+            new RateLimiter(REQUESTS_PER_MINUTE, CAPACITY, CAPACITY, MAX_WAIT_MS);
+            fail("Reserve of the whole capacity should be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    private void exhaustBudget() {
+        for (int i = 0; i < CAPACITY; i++) {
+            mLimiter.acquire(RateLimiter.Priority.USER, null);
+        }
+    }
+
+    /**
+     * Rate limiter with the manual clock, waits are recorded but do not advance the clock.
+     */
+    private static final class ManualClockRateLimiter extends RateLimiter {
+
+        private final List<Long> mWaits = new ArrayList<Long>();
+
+        private long mNow = 1000;
+
+        private ManualClockRateLimiter() {
+            super(REQUESTS_PER_MINUTE, CAPACITY, BACKGROUND_RESERVE, MAX_WAIT_MS);
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return mNow;
+        }
+
+        @Override
+        protected boolean waitFor(final long delayMs, final CancellationToken token) {
+            mWaits.add(delayMs);
+            return token == null || !token.isCanceled();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.yuriy.weatherapp.net;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class SingleFlightTest extends TestCase {
+
+    private static final String KEY = "q:london,uk";
+
+    private SingleFlight<String, String> mFlights;
+
+    private List<String> mResults;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        mFlights = new SingleFlight<String, String>();
+        mResults = Collections.synchronizedList(new ArrayList<String>());
+    }
+
+    public void testFirstRequesterPerformsRequest() {
+        assertThat("First requester should perform request",
+                mFlights.join(KEY, new ResultCallback()), notNullValue());
+        assertThat("Second requester should attach to request in flight",
+                mFlights.join(KEY, new ResultCallback()), nullValue());
+        assertThat("Requester with another key should perform request",
+                mFlights.join("q:kyiv,ua", new ResultCallback()), notNullValue());
+        assertThat("Two requests should be in flight", mFlights.size(), is(2));
+    }
+
+    public void testAllRequestersReceiveResult() {
+        final CancellationToken token = mFlights.join(KEY, new ResultCallback());
+        mFlights.join(KEY, new ResultCallback());
+        mFlights.join(KEY, new ResultCallback());
+
+        mFlights.complete(KEY, token, "London");
+
+        assertThat("Every requester should receive result", mResults.size(), is(3));
+        for (String result : mResults) {
+            assertThat("Every requester should receive same result", result, is("London"));
+        }
+        assertThat("Request should not be in flight", mFlights.isInFlight(KEY), is(false));
+    }
+
+    public void testRequestPerformedAgainAfterComplete() {
+        final CancellationToken token = mFlights.join(KEY, new ResultCallback());
+        mFlights.complete(KEY, token, null);
+
+        assertThat("Failed result should be delivered", mResults.size(), is(1));
+        assertThat("Request should be performed again after complete",
+                mFlights.join(KEY, new ResultCallback()), notNullValue());
+    }
+
+    public void testCompleteNotInFlightIgnored() {
+        mFlights.complete(KEY, CancellationToken.getInstance(), "London");
+
+        assertThat("No result should be delivered", mResults.size(), is(0));
+    }
+
+    public void testLeftRequesterDoesNotReceiveResult() {
+        final ResultCallback leaving = new ResultCallback();
+        final CancellationToken token = mFlights.join(KEY, leaving);
+        mFlights.join(KEY, new ResultCallback());
+
+        mFlights.leave(KEY, leaving);
+
+        assertThat("Request should not be canceled while it is needed",
+                token.isCanceled(), is(false));
+        mFlights.complete(KEY, token, "London");
+        assertThat("Only attached requester should receive result", mResults.size(), is(1));
+    }
+
+    public void testLastRequesterLeaveCancelsRequest() {
+        final ResultCallback leaving = new ResultCallback();
+        final CancellationToken token = mFlights.join(KEY, leaving);
+
+        mFlights.leave(KEY, leaving);
+
+        assertThat("Request should be canceled", token.isCanceled(), is(true));
+        assertThat("Request should not be in flight", mFlights.isInFlight(KEY), is(false));
+    }
+
+    public void testCanceledRequestDoesNotCompleteNewOne() {
+        final ResultCallback leaving = new ResultCallback();
+        final CancellationToken canceled = mFlights.join(KEY, leaving);
+        mFlights.leave(KEY, leaving);
+        final CancellationToken token = mFlights.join(KEY, new ResultCallback());
+
+        mFlights.complete(KEY, canceled, "Kyiv");
+
+        assertThat("Result of the canceled request should be dropped", mResults.size(), is(0));
+        assertThat("New request should be in flight", mFlights.isInFlight(KEY), is(true));
+        mFlights.complete(KEY, token, "London");
+        assertThat("Result of the new request should be delivered",
+                mResults.get(0), is("London"));
+    }
+
+    public void testUserRequesterRaisesPriorityOfBackgroundRequest() {
+        final CancellationToken token = mFlights.join(
+                KEY, new ResultCallback(), RateLimiter.Priority.BACKGROUND
+        );
+        mFlights.join(KEY, new ResultCallback(), RateLimiter.Priority.BACKGROUND);
+
+        assertThat("Background request should keep its priority",
+                mFlights.getPriority(KEY, token), is(RateLimiter.Priority.BACKGROUND));
+
+        mFlights.join(KEY, new ResultCallback());
+
+        assertThat("Request should be raised to user priority",
+                mFlights.getPriority(KEY, token), is(RateLimiter.Priority.USER));
+
+        mFlights.join(KEY, new ResultCallback(), RateLimiter.Priority.BACKGROUND);
+
+        assertThat("Request should not be lowered by background requester",
+                mFlights.getPriority(KEY, token), is(RateLimiter.Priority.USER));
+
+        mFlights.complete(KEY, token, "London");
+
+        assertThat("Completed request should be background",
+                mFlights.getPriority(KEY, token), is(RateLimiter.Priority.BACKGROUND));
+    }
+
+    public void testConcurrentRequestersShareOneRequest() throws Exception {
+        final int count = 8;
+        final AtomicInteger performed = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch joined = new CountDownLatch(count);
+        final CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    final CancellationToken token = mFlights.join(
+                            KEY, new SingleFlight.Callback<String>() {
+
+                                @Override
+                                public void onResult(final String result) {
+                                    mResults.add(result);
+                                    done.countDown();
+                                }
+                            }
+                    );
+                    joined.countDown();
+                    if (token != null) {
+                        performed.incrementAndGet();
+                        try {
+                            // Wait until all requesters are attached
+                            joined.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        mFlights.complete(KEY, token, "London");
+                    }
+                }
+            }).start();
+        }
+        start.countDown();
+
+        assertThat("All requesters should receive result",
+                done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat("Only one request should be performed", performed.get(), is(1));
+        assertThat("Every requester should receive result", mResults.size(), is(count));
+    }
+
+    private final class ResultCallback implements SingleFlight.Callback<String> {
+
+        @Override
+        public void onResult(final String result) {
+            mResults.add(result);
+        }
+    }
+}
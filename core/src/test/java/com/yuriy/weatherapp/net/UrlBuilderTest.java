@@ -0,0 +1,51 @@
+package com.yuriy.weatherapp.net;
+
+import junit.framework.TestCase;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Created by Yuriy Chernyshov
+ * At Android Studio
+ * On 11/24/14
+ * E-Mail: chernyshov.yuriy@gmail.com
+ */
+public class UrlBuilderTest extends TestCase {
+
+    private static final String GROUP_URL = "http://api.openweathermap.org/data/2.5/group?id=";
+
+    public void testGroupUrlOfSeveralCities() {
+        final List<String> urls
+                = UrlBuilder.getWeatherGroupUrlsByCityIds(new int[]{524901, 703448, 2643743});
+
+        assertThat("Single request should be made", urls.size(), is(1));
+        assertThat("All cities should be requested",
+                urls.get(0), is(GROUP_URL + "524901,703448,2643743"));
+    }
+
+    public void testCitiesSplitIntoGroups() {
+        final int[] cityIds = new int[UrlBuilder.MAX_GROUP_SIZE * 2 + 1];
+        for (int i = 0; i < cityIds.length; i++) {
+            cityIds[i] = i + 1;
+        }
+
+        final List<String> urls = UrlBuilder.getWeatherGroupUrlsByCityIds(cityIds);
+
+        assertThat("ceil(N / group size) requests should be made", urls.size(), is(3));
+        assertThat("Group should start after the previous one",
+                urls.get(1).startsWith(GROUP_URL + (UrlBuilder.MAX_GROUP_SIZE + 1) + ","),
+                is(true));
+        assertThat("Group should be of the maximum size",
+                urls.get(1).split(",").length, is(UrlBuilder.MAX_GROUP_SIZE));
+        assertThat("Last group should contain the rest",
+                urls.get(2), is(GROUP_URL + cityIds.length));
+    }
+
+    public void testNoCitiesNoUrls() {
+        assertThat("No requests should be made",
+                UrlBuilder.getWeatherGroupUrlsByCityIds(new int[0]).size(), is(0));
+    }
+}